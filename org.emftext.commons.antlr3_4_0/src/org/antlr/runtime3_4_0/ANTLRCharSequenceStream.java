@@ -0,0 +1,89 @@
+package org.antlr.runtime3_4_0;
+
+import org.antlr.runtime3_4_0.misc.CharSequenceSlice;
+
+/**
+ * A CharStream that reads the characters directly from a
+ * {@link CharSequence}, e.g. a String, instead of copying them into a char
+ * array first. The stream is an {@link ANTLRStringStream}, so it can be used
+ * wherever lexers expect one, but its <code>data</code> array is never
+ * allocated.
+ *
+ * The characters of the sequence must not change while the stream is in use.
+ */
+public class ANTLRCharSequenceStream extends ANTLRStringStream {
+
+	/**
+	 * The characters being scanned.
+	 */
+	protected CharSequence chars;
+
+	public ANTLRCharSequenceStream(CharSequence chars) {
+		super();
+		setCharSequence(chars);
+	}
+
+	/**
+	 * Replaces the characters of this stream and resets it. This allows to
+	 * reuse the stream for another input.
+	 */
+	public void setCharSequence(CharSequence chars) {
+		this.chars = chars;
+		this.n = chars.length();
+		reset();
+	}
+
+	/**
+	 * Returns the characters of this stream.
+	 */
+	public CharSequence getCharSequence() {
+		return chars;
+	}
+
+	@Override
+	public void consume() {
+		if (p < n) {
+			charPositionInLine++;
+			if (chars.charAt(p) == '\n') {
+				line++;
+				charPositionInLine = 0;
+			}
+			p++;
+		}
+	}
+
+	@Override
+	public int LA(int i) {
+		if (i == 0) {
+			return 0; // undefined
+		}
+		if (i < 0) {
+			i++;
+			if ((p + i - 1) < 0) {
+				return CharStream.EOF;
+			}
+		}
+		if ((p + i - 1) >= n) {
+			return CharStream.EOF;
+		}
+		return chars.charAt(p + i - 1);
+	}
+
+	@Override
+	public String substring(int start, int stop) {
+		return chars.subSequence(start, stop + 1).toString();
+	}
+
+	/**
+	 * Returns a view of the characters between the given indexes (both
+	 * inclusive) that does not copy them.
+	 */
+	public CharSequence slice(int start, int stop) {
+		return new CharSequenceSlice(chars, start, stop + 1);
+	}
+
+	@Override
+	public String toString() {
+		return chars.toString();
+	}
+}
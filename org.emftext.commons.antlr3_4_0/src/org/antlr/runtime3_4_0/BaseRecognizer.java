@@ -86,6 +86,9 @@ public abstract class BaseRecognizer {
 		state.syntaxErrors = 0;
 		// wack everything related to backtracking and memoization
 		state.backtracking = 0;
+		if ( state.ruleMemoTable!=null ) { // wipe cache
+			state.ruleMemoTable.clear();
+		}
 		for (int i = 0; state.ruleMemo!=null && i < state.ruleMemo.length; i++) { // wipe cache
 			state.ruleMemo[i] = null;
 		}
@@ -792,11 +795,14 @@ public abstract class BaseRecognizer {
 	 *  start index before, then return where the rule stopped parsing.
 	 *  It returns the index of the last token matched by the rule.
 	 *
-	 *  For now we use a hashtable and just the slow Object-based one.
-	 *  Later, we can make a special one for ints and also one that
-	 *  tosses out data after we commit past input position i.
+	 *  The lookup is a single array access if the memoization table was
+	 *  created by initializeRuleMemo(), otherwise one int hashtable per
+	 *  rule is used.
 	 */
 	public int getRuleMemoization(int ruleIndex, int ruleStartIndex) {
+		if ( state.ruleMemoTable!=null ) {
+			return state.ruleMemoTable.get(ruleIndex, ruleStartIndex);
+		}
 		if ( state.ruleMemo[ruleIndex]==null ) {
 			state.ruleMemo[ruleIndex] = new IntToIntHashMap();
 			state.ruleMemo[ruleIndex].setValueForMissingEntries(MEMO_RULE_UNKNOWN);
@@ -836,6 +842,10 @@ public abstract class BaseRecognizer {
 		if (clearMemoizationCounter > 0) {
 			return;
 		}
+		if ( state.ruleMemoTable!=null ) {
+			state.ruleMemoTable.removeEntries(tokenIndex);
+			return;
+		}
 		for (IntToIntHashMap map : state.ruleMemo) {
 			if (map == null) {
 				continue;
@@ -852,6 +862,10 @@ public abstract class BaseRecognizer {
 						int ruleStartIndex)
 	{
 		int stopTokenIndex = state.failed?MEMO_RULE_FAILED:input.index()-1;
+		if ( state.ruleMemoTable!=null ) {
+			state.ruleMemoTable.put(ruleIndex, ruleStartIndex, stopTokenIndex);
+			return;
+		}
 		if ( state.ruleMemo==null ) {
 			System.err.println("!!!!!!!!! memo array is null for "+ getGrammarFileName());
 		}
@@ -870,6 +884,9 @@ public abstract class BaseRecognizer {
 	 */
 	public int getRuleMemoizationCacheSize() {
 		int n = 0;
+		if ( state.ruleMemoTable!=null ) {
+			n += state.ruleMemoTable.size();
+		}
 		for (int i = 0; state.ruleMemo!=null && i < state.ruleMemo.length; i++) {
 			IntToIntHashMap ruleMap = state.ruleMemo[i];
 			if ( ruleMap!=null ) {
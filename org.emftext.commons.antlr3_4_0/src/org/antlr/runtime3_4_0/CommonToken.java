@@ -107,6 +107,31 @@ public class CommonToken implements Token, Serializable {
 		}
 	}
 
+	/** Like getText(), but doesn't copy the characters if the token was read
+	 *  from an ANTLRCharSequenceStream.  The view is only valid as long as
+	 *  the characters of the stream don't change.
+	 */
+	public CharSequence getTextView() {
+		if ( text!=null ) {
+			return text;
+		}
+		if ( !(input instanceof ANTLRCharSequenceStream) ) {
+			return getText();
+		}
+		int n = input.size();
+		if ( start<n && stop<n) {
+			return ((ANTLRCharSequenceStream)input).slice(start,stop);
+		}
+		else {
+			return "<EOF>";
+		}
+	}
+
+	/** The number of characters of this token in the input buffer. */
+	public int getLength() {
+		return stop-start+1;
+	}
+
 	/** Override the text for this token.  getText() will return this text
 	 *  rather than pulling from the buffer.  Note that this does not mean
 	 *  that start/stop indexes are not valid.  It means that that input
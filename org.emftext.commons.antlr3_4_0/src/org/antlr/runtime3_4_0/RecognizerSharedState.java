@@ -27,6 +27,7 @@
  */package org.antlr.runtime3_4_0;
 
 import org.antlr.runtime3_4_0.misc.IntToIntHashMap;
+import org.antlr.runtime3_4_0.misc.RuleMemoTable;
 
 /** The set of fields needed by an abstract recognizer to recognize input
  *  and recover from errors etc...  As a separate state object, it can be
@@ -75,10 +76,19 @@ public class RecognizerSharedState {
 	 *  the memoization table for ruleIndex.  For key ruleStartIndex, you
 	 *  get back the stop token for associated rule or MEMO_RULE_FAILED.
 	 *
-	 *  This is only used if rule memoization is on (which it is by default).
+	 *  This is only used if rule memoization is on (which it is by default)
+	 *  and the table was not created by initializeRuleMemo(). Once
+	 *  initializeRuleMemo() has been called it is intentionally null, all
+	 *  memoization goes through ruleMemoTable then.
 	 */
 	public IntToIntHashMap[] ruleMemo;
 
+	/** The memoization table for all rules, indexed by rule and start
+	 *  token. It replaces ruleMemo if created by initializeRuleMemo(), so
+	 *  it can be cleared in constant time.
+	 */
+	public RuleMemoTable ruleMemoTable;
+
 
 	// LEXER FIELDS (must be in same state object to avoid casting
 	//               constantly in generated code and Lexer object) :(
@@ -134,6 +144,7 @@ public class RecognizerSharedState {
             this.ruleMemo = new IntToIntHashMap[state.ruleMemo.length];
             System.arraycopy(state.ruleMemo, 0, this.ruleMemo, 0, state.ruleMemo.length);
         }
+        this.ruleMemoTable = state.ruleMemoTable;
         this.token = state.token;
         this.tokenStartCharIndex = state.tokenStartCharIndex;
         this.tokenStartCharPositionInLine = state.tokenStartCharPositionInLine;
@@ -143,6 +154,8 @@ public class RecognizerSharedState {
     }
     
     public void initializeRuleMemo(int size) {
-        this.ruleMemo = new IntToIntHashMap[size];
+        this.ruleMemoTable = new RuleMemoTable(size, BaseRecognizer.MEMO_RULE_UNKNOWN);
+        // the maps are replaced by the table, see ruleMemo
+        this.ruleMemo = null;
     }
 }
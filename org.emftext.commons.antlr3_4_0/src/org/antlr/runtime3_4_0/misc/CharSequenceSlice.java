@@ -0,0 +1,87 @@
+package org.antlr.runtime3_4_0.misc;
+
+/**
+ * A read-only view of a range of characters of another
+ * {@link CharSequence}. Creating a slice or a sub sequence of a slice does
+ * not copy any characters, only {@link #toString()} does.
+ *
+ * Slices are compared by identity like other CharSequences. Use
+ * {@link #contentEquals(CharSequence)} to compare the characters.
+ */
+public class CharSequenceSlice implements CharSequence {
+
+	private final CharSequence chars;
+
+	private final int start;
+
+	private final int end;
+
+	/**
+	 * Creates a view of the characters from <code>start</code> (inclusive) to
+	 * <code>end</code> (exclusive).
+	 */
+	public CharSequenceSlice(CharSequence chars, int start, int end) {
+		super();
+		if (start < 0 || end > chars.length() || start > end) {
+			throw new IndexOutOfBoundsException("start " + start + ", end "
+					+ end + ", length " + chars.length());
+		}
+		this.chars = chars;
+		this.start = start;
+		this.end = end;
+	}
+
+	/**
+	 * Returns the index of the first character in the underlying sequence.
+	 */
+	public int getOffset() {
+		return start;
+	}
+
+	public int length() {
+		return end - start;
+	}
+
+	public char charAt(int index) {
+		if (index < 0 || index >= end - start) {
+			throw new IndexOutOfBoundsException("index " + index
+					+ ", length " + (end - start));
+		}
+		return chars.charAt(start + index);
+	}
+
+	public CharSequence subSequence(int start, int end) {
+		if (start < 0 || end > this.end - this.start || start > end) {
+			throw new IndexOutOfBoundsException("start " + start + ", end "
+					+ end + ", length " + (this.end - this.start));
+		}
+		return new CharSequenceSlice(chars, this.start + start, this.start
+				+ end);
+	}
+
+	/**
+	 * Returns whether this slice contains the same characters as the given
+	 * sequence, without creating a string.
+	 */
+	public boolean contentEquals(CharSequence other) {
+		int length = end - start;
+		if (other.length() != length) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			if (chars.charAt(start + i) != other.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		if (chars instanceof String) {
+			return ((String) chars).substring(start, end);
+		}
+		return new StringBuilder(end - start).append(chars, start, end)
+				.toString();
+	}
+}
@@ -0,0 +1,169 @@
+package org.antlr.runtime3_4_0.misc;
+
+import java.util.Arrays;
+
+/**
+ * This class stores the rule memoization of a recognizer in a flat array that
+ * is indexed by the start token and the rule. Every entry is stamped with a
+ * generation, so {@link #clear()} only needs to start a new generation instead
+ * of wiping or reallocating the table. This allows to reuse the table across
+ * parses.
+ *
+ * The array grows with the number of tokens. Start tokens beyond
+ * {@link #MAX_DENSE_TOKENS} are stored in one {@link IntToIntHashMap} per rule,
+ * because the table would become too large for long inputs.
+ */
+public class RuleMemoTable {
+
+	/**
+	 * The number of start tokens that are stored in the flat array.
+	 */
+	public static final int MAX_DENSE_TOKENS = 1024;
+
+	private static final int INITIAL_TOKEN_CAPACITY = 8;
+
+	private final int numberOfRules;
+
+	private final int valueForMissingEntries;
+
+	/**
+	 * The entries at <code>tokenIndex * numberOfRules + ruleIndex</code>. The
+	 * high word holds the generation, the low word the stop token index. An
+	 * entry is only valid if its generation is the current one.
+	 */
+	private long[] entries;
+
+	private int generation = 1;
+
+	/**
+	 * The number of valid entries in the flat array.
+	 */
+	private int entryCount;
+
+	/**
+	 * The maps for start tokens beyond {@link #MAX_DENSE_TOKENS}, created on
+	 * demand.
+	 */
+	private IntToIntHashMap[] sparseEntries;
+
+	public RuleMemoTable(int numberOfRules, int valueForMissingEntries) {
+		super();
+		this.numberOfRules = numberOfRules;
+		this.valueForMissingEntries = valueForMissingEntries;
+		this.entries = new long[INITIAL_TOKEN_CAPACITY * numberOfRules];
+	}
+
+	public int get(int ruleIndex, int tokenIndex) {
+		if (tokenIndex < 0) {
+			// the token stream has not been started
+			return valueForMissingEntries;
+		}
+		if (tokenIndex >= MAX_DENSE_TOKENS) {
+			return getSparse(ruleIndex, tokenIndex);
+		}
+		int index = tokenIndex * numberOfRules + ruleIndex;
+		if (index >= entries.length) {
+			return valueForMissingEntries;
+		}
+		long entry = entries[index];
+		if ((int) (entry >>> 32) != generation) {
+			return valueForMissingEntries;
+		}
+		return (int) entry;
+	}
+
+	public void put(int ruleIndex, int tokenIndex, int stopTokenIndex) {
+		if (tokenIndex < 0) {
+			return;
+		}
+		if (tokenIndex >= MAX_DENSE_TOKENS) {
+			putSparse(ruleIndex, tokenIndex, stopTokenIndex);
+			return;
+		}
+		int index = tokenIndex * numberOfRules + ruleIndex;
+		if (index >= entries.length) {
+			expand(tokenIndex);
+		}
+		if ((int) (entries[index] >>> 32) != generation) {
+			entryCount++;
+		}
+		entries[index] = ((long) generation << 32) | (stopTokenIndex & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Removes all entries. This takes constant time unless the generation
+	 * counter overflows.
+	 */
+	public void clear() {
+		generation++;
+		if (generation == 0) {
+			// the old stamps could become valid again
+			Arrays.fill(entries, 0L);
+			generation = 1;
+		}
+		entryCount = 0;
+		sparseEntries = null;
+	}
+
+	/**
+	 * Removes the entries for start tokens below the given index from the
+	 * maps of the long inputs. The flat array is not affected, since its size
+	 * is bounded.
+	 */
+	public void removeEntries(int maxTokenIndex) {
+		if (sparseEntries == null) {
+			return;
+		}
+		for (IntToIntHashMap map : sparseEntries) {
+			if (map != null) {
+				map.removeEntries(maxTokenIndex);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of rule/start token pairs that are stored.
+	 */
+	public int size() {
+		int size = entryCount;
+		if (sparseEntries != null) {
+			for (IntToIntHashMap map : sparseEntries) {
+				if (map != null) {
+					size += map.size();
+				}
+			}
+		}
+		return size;
+	}
+
+	private void expand(int tokenIndex) {
+		int tokenCapacity = entries.length / numberOfRules;
+		while (tokenCapacity <= tokenIndex) {
+			tokenCapacity *= 2;
+		}
+		tokenCapacity = Math.min(tokenCapacity, MAX_DENSE_TOKENS);
+		long[] newEntries = new long[tokenCapacity * numberOfRules];
+		System.arraycopy(entries, 0, newEntries, 0, entries.length);
+		entries = newEntries;
+	}
+
+	private int getSparse(int ruleIndex, int tokenIndex) {
+		if (sparseEntries == null || sparseEntries[ruleIndex] == null) {
+			return valueForMissingEntries;
+		}
+		return sparseEntries[ruleIndex].get(tokenIndex);
+	}
+
+	private void putSparse(int ruleIndex, int tokenIndex, int stopTokenIndex) {
+		if (sparseEntries == null) {
+			sparseEntries = new IntToIntHashMap[numberOfRules];
+		}
+		IntToIntHashMap map = sparseEntries[ruleIndex];
+		if (map == null) {
+			map = new IntToIntHashMap();
+			map.setValueForMissingEntries(valueForMissingEntries);
+			sparseEntries[ruleIndex] = map;
+		}
+		map.put(tokenIndex, stopTokenIndex);
+	}
+}
@@ -0,0 +1,34 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs all benchmarks of this package with the GC profiler, which reports the
+ * allocation rate and the bytes allocated per operation next to the time. A
+ * regular expression can be passed to select benchmarks, e.g.
+ * <code>Xpath3ParserBenchmark</code>.
+ */
+public class Xpath3Benchmarks {
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0]
+                : Xpath3Benchmarks.class.getPackage().getName() + ".*";
+        Options options = new OptionsBuilder().include(include)
+                .addProfiler(GCProfiler.class).build();
+        new Runner(options).run();
+    }
+}
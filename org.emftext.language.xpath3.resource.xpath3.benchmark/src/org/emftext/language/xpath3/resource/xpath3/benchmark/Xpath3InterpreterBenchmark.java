@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.benchmark;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.EObject;
+import org.emftext.language.xpath3.resource.xpath3.util.AbstractXpath3Interpreter;
+import org.emftext.language.xpath3.resource.xpath3.util.AbstractXpath3Visitor;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3ResourceUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Dispatches every node of the parsed expressions to an interpreter and to a
+ * visitor that don't override any methods, i.e. measures the cost of finding
+ * the methods of a node.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Xpath3InterpreterBenchmark {
+
+    @Param({ Xpath3BenchmarkExpressions.CORPUS,
+            Xpath3BenchmarkExpressions.DEEP, Xpath3BenchmarkExpressions.WIDE })
+    public String expressions;
+
+    private EObject[] nodes;
+
+    private final AbstractXpath3Interpreter<Object, Object> interpreter =
+            new AbstractXpath3Interpreter<Object, Object>();
+
+    private final AbstractXpath3Visitor<Object, Object> visitor =
+            new AbstractXpath3Visitor<Object, Object>() {
+            };
+
+    @Setup
+    public void setUp() {
+        List<EObject> nodes = new ArrayList<EObject>();
+        for (String text : Xpath3BenchmarkExpressions.get(expressions)) {
+            EObject root = Xpath3ResourceUtil.getResourceContent(text);
+            nodes.add(root);
+            for (Iterator<EObject> it = root.eAllContents(); it.hasNext();) {
+                nodes.add(it.next());
+            }
+        }
+        this.nodes = nodes.toArray(new EObject[nodes.size()]);
+    }
+
+    @Benchmark
+    public void interprete(Blackhole blackhole) {
+        for (EObject node : nodes) {
+            blackhole.consume(interpreter.interprete(node, null));
+        }
+    }
+
+    @Benchmark
+    public void visit(Blackhole blackhole) {
+        for (EObject node : nodes) {
+            blackhole.consume(visitor.visit(node, null));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.antlr.runtime3_4_0.ANTLRStringStream;
+import org.antlr.runtime3_4_0.Token;
+import org.antlr.runtime3_4_0.TokenSource;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3Lexer;
+import org.emftext.language.xpath3.resource.xpath3.parser.Xpath3FastLexer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Splits the expressions into tokens with the generated {@link Xpath3Lexer}
+ * and with the hand-written {@link Xpath3FastLexer}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Xpath3LexerBenchmark {
+
+    @Param({ Xpath3BenchmarkExpressions.CORPUS,
+            Xpath3BenchmarkExpressions.DEEP, Xpath3BenchmarkExpressions.WIDE })
+    public String expressions;
+
+    private String[] texts;
+
+    @Setup
+    public void setUp() {
+        texts = Xpath3BenchmarkExpressions.get(expressions);
+    }
+
+    @Benchmark
+    public void generatedLexer(Blackhole blackhole) {
+        for (String text : texts) {
+            consumeTokens(new Xpath3Lexer(new ANTLRStringStream(text)),
+                    blackhole);
+        }
+    }
+
+    @Benchmark
+    public void fastLexer(Blackhole blackhole) {
+        for (String text : texts) {
+            consumeTokens(new Xpath3FastLexer(new ANTLRStringStream(text)),
+                    blackhole);
+        }
+    }
+
+    private static void consumeTokens(TokenSource lexer, Blackhole blackhole) {
+        Token token;
+        do {
+            token = lexer.nextToken();
+            blackhole.consume(token);
+        } while (token.getType() != Token.EOF);
+    }
+}
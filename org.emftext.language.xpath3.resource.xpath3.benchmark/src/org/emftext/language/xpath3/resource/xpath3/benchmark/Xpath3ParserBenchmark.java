@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.benchmark;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.antlr.runtime3_4_0.ANTLRStringStream;
+import org.antlr.runtime3_4_0.CommonTokenStream;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3AntlrParser;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3Lexer;
+import org.emftext.language.xpath3.resource.xpath3.parser.Xpath3BatchParser;
+import org.emftext.language.xpath3.resource.xpath3.parser.Xpath3ExprParser;
+import org.emftext.language.xpath3.resource.xpath3.parser.Xpath3ParserPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parses the expressions with the generated parser, with a pooled generated
+ * parser and with the non-backtracking {@link Xpath3ExprParser}. No resource
+ * is involved, so this measures the lexer, the parser and the model creation.
+ * The {@link Xpath3BatchParser} parses all expressions at once with one thread
+ * per available processor.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Xpath3ParserBenchmark {
+
+    @Param({ Xpath3BenchmarkExpressions.CORPUS,
+            Xpath3BenchmarkExpressions.DEEP, Xpath3BenchmarkExpressions.WIDE })
+    public String expressions;
+
+    private String[] texts;
+
+    private Xpath3ParserPool pool;
+
+    private Xpath3BatchParser batchParser;
+
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp() {
+        texts = Xpath3BenchmarkExpressions.get(expressions);
+        pool = new Xpath3ParserPool();
+        int threadCount = Runtime.getRuntime().availableProcessors();
+        batchParser = new Xpath3BatchParser(null, threadCount);
+        executor = Executors.newFixedThreadPool(threadCount);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public void generatedParser(Blackhole blackhole) {
+        for (String text : texts) {
+            Xpath3AntlrParser parser = new Xpath3AntlrParser(
+                    new CommonTokenStream(new Xpath3Lexer(
+                            new ANTLRStringStream(text))));
+            blackhole.consume(parser.parse());
+        }
+    }
+
+    @Benchmark
+    public void pooledParser(Blackhole blackhole) {
+        for (String text : texts) {
+            blackhole.consume(pool.parse(text));
+        }
+    }
+
+    @Benchmark
+    public void fastParser(Blackhole blackhole) {
+        for (String text : texts) {
+            Xpath3ExprParser parser = new Xpath3ExprParser(
+                    new ANTLRStringStream(text), Collections.emptyMap(), null);
+            blackhole.consume(parser.parse());
+        }
+    }
+
+    @Benchmark
+    public void batchParser(Blackhole blackhole) throws InterruptedException {
+        blackhole.consume(batchParser.parseAll(Arrays.asList(texts), executor));
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.emftext.language.xpath3.resource.xpath3.post.PostProcessor;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3ResourceUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Simplifies freshly parsed resources with
+ * {@link PostProcessor#simplifyExpressions(Resource)}. The resources are
+ * parsed before every invocation, outside of the measurement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Xpath3PostProcessorBenchmark {
+
+    @Param({ Xpath3BenchmarkExpressions.CORPUS,
+            Xpath3BenchmarkExpressions.DEEP, Xpath3BenchmarkExpressions.WIDE })
+    public String expressions;
+
+    private String[] texts;
+
+    private Resource[] resources;
+
+    @Setup
+    public void setUp() {
+        texts = Xpath3BenchmarkExpressions.get(expressions);
+        resources = new Resource[texts.length];
+    }
+
+    @Setup(Level.Invocation)
+    public void parse() {
+        for (int i = 0; i < texts.length; i++) {
+            resources[i] = Xpath3ResourceUtil.getResource(texts[i]);
+        }
+    }
+
+    @Benchmark
+    public Resource[] simplifyExpressions() {
+        for (Resource resource : resources) {
+            PostProcessor.simplifyExpressions(resource);
+        }
+        return resources;
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3TextResource;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3Printer2;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3ResourceUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Prints the parsed expressions with {@link Xpath3Printer2}, which uses the
+ * layout information recorded by the parser. Expressions with syntax errors
+ * are skipped.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Xpath3PrinterBenchmark {
+
+    @Param({ Xpath3BenchmarkExpressions.CORPUS,
+            Xpath3BenchmarkExpressions.DEEP, Xpath3BenchmarkExpressions.WIDE })
+    public String expressions;
+
+    private IXpath3TextResource[] resources;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    @Setup
+    public void setUp() {
+        List<IXpath3TextResource> parsed = new ArrayList<IXpath3TextResource>();
+        for (String text : Xpath3BenchmarkExpressions.get(expressions)) {
+            Resource resource = Xpath3ResourceUtil.getResource(text);
+            if (resource.getErrors().isEmpty()
+                    && !resource.getContents().isEmpty()) {
+                parsed.add((IXpath3TextResource) resource);
+            }
+        }
+        resources = parsed.toArray(new IXpath3TextResource[parsed.size()]);
+    }
+
+    @Benchmark
+    public int print() throws IOException {
+        int length = 0;
+        for (IXpath3TextResource resource : resources) {
+            output.reset();
+            new Xpath3Printer2(output, resource).print(resource.getContents()
+                    .get(0));
+            length += output.size();
+        }
+        return length;
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.antlr.runtime3_4_0.ANTLRStringStream;
+import org.antlr.runtime3_4_0.CommonTokenStream;
+import org.eclipse.emf.common.util.URI;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3AntlrParser;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3Lexer;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3Resource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the first parse and the first code completion in a fresh JVM,
+ * including class loading and the initialization of the parser tables. Each
+ * fork runs a single invocation.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class Xpath3StartupBenchmark {
+
+    @Benchmark
+    public void firstParse(Blackhole blackhole) {
+        for (String text : Xpath3BenchmarkExpressions
+                .get(Xpath3BenchmarkExpressions.CORPUS)) {
+            blackhole.consume(createParser(text).parse());
+        }
+    }
+
+    @Benchmark
+    public void firstCompletion(Blackhole blackhole) {
+        String text = "fn:doc(";
+        blackhole.consume(createParser(text).parseToExpectedElements(null,
+                new Xpath3Resource(URI.createURI("dummy.xpath3")),
+                text.length()));
+    }
+
+    private static Xpath3AntlrParser createParser(String text) {
+        return new Xpath3AntlrParser(new CommonTokenStream(new Xpath3Lexer(
+                new ANTLRStringStream(text))));
+    }
+}
@@ -0,0 +1,178 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.emftext.language.xpath3.resource.xpath3.parser.Xpath3FastParser;
+import org.emftext.language.xpath3.resource.xpath3.post.ConstantFolder;
+import org.emftext.language.xpath3.resource.xpath3.post.PathNormalizer;
+import org.emftext.language.xpath3.resource.xpath3.post.PostProcessor;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3ResourceUtil;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3StructuralEquality;
+import org.junit.Test;
+
+/**
+ * Parses expressions, prints them and parses the printed text again. The
+ * printed text must parse without errors into a structurally equal tree, with
+ * every parser and post-processor.
+ */
+public class Xpath3RoundTripTest {
+
+    static final String[] EXPRESSIONS = {
+            "1",
+            "-1",
+            "1 + 2 * 3",
+            "(1 + 2) * 3",
+            "4 - -3",
+            "7 idiv 2 mod 3",
+            "1.5e3 div 0.5",
+            "'a''b', \"c\"",
+            "()",
+            "(1, 2, 3)[2]",
+            "1 to 10",
+            "(1 to 100)[. mod 5 eq 0][last()]",
+            "$x",
+            "$x + $y * 2",
+            "if ($x) then 1 else 2",
+            "for $x in 1 to 3, $y in $x to 3 return $x * $y",
+            "some $x in (1, 2, 3) satisfies $x gt 2",
+            "every $x in $seq satisfies $x = 1",
+            "1 eq 1 and 2 eq 2 or 3 ne 4",
+            "(1, 2) = (2, 3)",
+            "$a is $b",
+            "$a << $b",
+            "/",
+            "/a/b/c",
+            "//b",
+            "//a[1]",
+            "//a//b[c]",
+            ".//b",
+            "a/..",
+            "a/../b",
+            "$x//b[@id = 1]",
+            "@id",
+            "a/@*",
+            "*:b/c",
+            "child :: a/descendant-or-self :: b",
+            "parent :: node()",
+            "ancestor-or-self :: *[1]",
+            "following-sibling :: c[fn:position() = 1]",
+            "a/text()",
+            "//comment()",
+            "processing-instruction('x')",
+            "element(a)/attribute(b)",
+            "document-node(element(book))",
+            "a | b except c intersect d",
+            "fn:count(//b)",
+            "concat('a', 'b', 'c')",
+            "fn:doc(\"bib.xml\")/books/book[fn:count(./author) > 1]",
+            "'5' castable as xs:integer",
+            "$x cast as xs:integer?",
+            "(1, 2) instance of xs:integer+",
+            "$x treat as element()*",
+            "-($a + $b)",
+            "1, 2, 3",
+    };
+
+    @Test
+    public void testGeneratedParser() {
+        assertRoundTrip(Collections.emptyMap());
+    }
+
+    @Test
+    public void testFastParser() {
+        Map<Object, Object> options = new HashMap<Object, Object>();
+        options.put(Xpath3FastParser.USE_FAST_PARSER, Boolean.TRUE);
+        assertRoundTrip(options);
+    }
+
+    @Test
+    public void testCollapsingFastParser() {
+        Map<Object, Object> options = new HashMap<Object, Object>();
+        options.put(Xpath3FastParser.USE_FAST_PARSER, Boolean.TRUE);
+        options.put(Xpath3FastParser.COLLAPSE_EXPRESSIONS, Boolean.TRUE);
+        options.putAll(new PostProcessor().getOptions());
+        assertRoundTrip(options);
+    }
+
+    @Test
+    public void testPostProcessor() {
+        assertRoundTrip(new PostProcessor().getOptions());
+    }
+
+    @Test
+    public void testConstantFolder() {
+        assertRoundTrip(postProcessors(new ConstantFolder()));
+    }
+
+    @Test
+    public void testPathNormalizer() {
+        assertRoundTrip(postProcessors(new PathNormalizer()));
+    }
+
+    @Test
+    public void testAllPostProcessors() {
+        Map<Object, Object> options = postProcessors(new ConstantFolder(),
+                new PathNormalizer());
+        assertRoundTrip(options);
+        options.put(Xpath3FastParser.USE_FAST_PARSER, Boolean.TRUE);
+        options.put(Xpath3FastParser.COLLAPSE_EXPRESSIONS, Boolean.TRUE);
+        assertRoundTrip(options);
+    }
+
+    /**
+     * Returns the load options to run the given processors after the
+     * {@link PostProcessor}. They would leave a shorter chain of expressions
+     * than parsing their result in an unsimplified tree.
+     */
+    private static Map<Object, Object> postProcessors(
+            IXpath3ResourcePostProcessorProvider... providers) {
+        List<IXpath3ResourcePostProcessorProvider> list =
+                new ArrayList<IXpath3ResourcePostProcessorProvider>();
+        list.add(new PostProcessor());
+        list.addAll(Arrays.asList(providers));
+        Map<Object, Object> options = new HashMap<Object, Object>();
+        options.put(IXpath3Options.RESOURCE_POSTPROCESSOR_PROVIDER, list);
+        return options;
+    }
+
+    private static void assertRoundTrip(Map<?, ?> options) {
+        for (String text : EXPRESSIONS) {
+            EObject expr = parse(text, options);
+            String printed = Xpath3ResourceUtil.getText(expr);
+            EObject reparsed = parse(printed, options);
+            assertTrue(text + " is printed as " + printed,
+                    Xpath3StructuralEquality.EXACT.equal(expr, reparsed));
+            assertEquals(text, printed, Xpath3ResourceUtil.getText(reparsed));
+        }
+    }
+
+    private static EObject parse(String text, Map<?, ?> options) {
+        Resource resource = Xpath3ResourceUtil.getResource(text,
+                new ResourceSetImpl(), options);
+        assertTrue(text + ": " + resource.getErrors(), resource.getErrors()
+                .isEmpty());
+        assertEquals(text, 1, resource.getContents().size());
+        return resource.getContents().get(0);
+    }
+}
@@ -0,0 +1,216 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.analysis;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.emftext.language.xpath3.XPath3Package;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3TokenResolver;
+import org.emftext.language.xpath3.resource.xpath3.grammar.Xpath3GrammarInformationProvider;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3TokenResolveResult;
+import org.junit.Test;
+
+/**
+ * Compares the keyword escapes of the {@link Xpath3DefaultTokenResolver} and
+ * the numeric literal resolvers to the conversions they replaced.
+ */
+public class Xpath3TokenResolverTest {
+
+    private static final String[] NUMBERS = { "0", "7", "007", "2147483647",
+            "2147483648", "99999999999", "1.5", ".5", "1.", "0.1", "0.3",
+            "3.14159", "123456.789", "1e0", "1E0", "1.5e3", "1.5E-3",
+            "1e22", "1e23", "1e-22", "1e-23", "9007199254740993",
+            "9007199254740993e0", "123456789012345678", "1234567890123456789",
+            "1e999", "1.5e999", "1e-999", "0e0", "0.0", "00.000e5",
+            "16777217.0", "1e10", "1e11", "0.00001", "4.9e-324", "1e+5",
+            "1e05", "12e00012" };
+
+    @Test
+    public void testNumericLiterals() {
+        Random random = new Random(13);
+        List<String> texts = new ArrayList<String>();
+        for (String number : NUMBERS) {
+            texts.add(number);
+        }
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder text = new StringBuilder();
+            text.append(random.nextInt(100000) / (1 + random.nextInt(1000)));
+            if (random.nextBoolean()) {
+                text.append('.').append(random.nextInt(10000));
+            }
+            if (random.nextBoolean()) {
+                text.append(random.nextBoolean() ? 'e' : 'E').append(
+                        random.nextInt(60) - 30);
+            }
+            texts.add(text.toString());
+        }
+        XPath3Package p = XPath3Package.eINSTANCE;
+        for (String text : texts) {
+            if (text.indexOf('.') < 0 && text.indexOf('e') < 0
+                    && text.indexOf('E') < 0) {
+                assertResolved(new Xpath3INTEGER_LITERALTokenResolver(), text,
+                        p.getIntegerLiteral_Value());
+            }
+            if (text.indexOf('e') < 0 && text.indexOf('E') < 0) {
+                assertResolved(new Xpath3DECIMAL_LITERALTokenResolver(), text,
+                        p.getDecimalLiteral_Value());
+            }
+            assertResolved(new Xpath3DOUBLE_LITERALTokenResolver(), text, p
+                    .getDoubleLiteral_Value());
+        }
+    }
+
+    @Test
+    public void testDoubleLiterals() {
+        IXpath3TokenResolver resolver = new Xpath3DOUBLE_LITERALTokenResolver();
+        EAttribute feature = XPath3Package.eINSTANCE.getDoubleLiteral_Value();
+        assertEquals("1.0e0", resolver.deResolve(1.0, feature, null));
+        assertEquals("1.5E-5", resolver.deResolve(1.5e-5, feature, null));
+        assertEquals("1.0E22", resolver.deResolve(1e22, feature, null));
+        assertEquals("-0.0e0", resolver.deResolve(-0.0, feature, null));
+        // infinite values are printed as literals that overflow
+        assertEquals("1.0E309", resolver.deResolve(Double.POSITIVE_INFINITY,
+                feature, null));
+        assertEquals("-1.0E309", resolver.deResolve(Double.NEGATIVE_INFINITY,
+                feature, null));
+        assertEquals(Double.valueOf(Double.POSITIVE_INFINITY), resolve(
+                resolver, "1.0E309", feature));
+        Random random = new Random(17);
+        for (int i = 0; i < 10000; i++) {
+            double value = Math.abs(Double.longBitsToDouble(random.nextLong()));
+            if (Double.isNaN(value)) {
+                continue;
+            }
+            assertEquals(Double.valueOf(value), resolve(resolver, resolver
+                    .deResolve(value, feature, null), feature));
+        }
+    }
+
+    @Test
+    public void testDecimalLiterals() {
+        IXpath3TokenResolver resolver =
+                new Xpath3DECIMAL_LITERALTokenResolver();
+        EAttribute feature = XPath3Package.eINSTANCE.getDecimalLiteral_Value();
+        assertEquals("1.5", resolver.deResolve(1.5f, feature, null));
+        // decimal literals can't have an exponent
+        assertEquals("0.000010", resolver.deResolve(1e-5f, feature, null));
+        assertEquals("12345677800", resolver.deResolve(1.2345678e10f,
+                feature, null));
+        Random random = new Random(19);
+        for (int i = 0; i < 10000; i++) {
+            float value = Math.abs(Float.intBitsToFloat(random.nextInt()));
+            if (Float.isNaN(value) || Float.isInfinite(value)) {
+                continue;
+            }
+            assertEquals(Float.valueOf(value), resolve(resolver, resolver
+                    .deResolve(value, feature, null), feature));
+        }
+    }
+
+    @Test
+    public void testKeywordEscapes() {
+        List<String> texts = new ArrayList<String>();
+        for (String keyword : Xpath3GrammarInformationProvider.INSTANCE
+                .getKeywords()) {
+            texts.add(keyword);
+            texts.add("_" + keyword);
+            texts.add("__" + keyword);
+            texts.add("x" + keyword);
+            texts.add("_x" + keyword);
+            texts.add("_" + keyword + "x");
+            if (keyword.length() > 1) {
+                texts.add("_" + keyword.substring(1));
+                texts.add("_" + keyword.substring(0, keyword.length() - 1));
+            }
+        }
+        texts.add("");
+        texts.add("_");
+        texts.add("___");
+        texts.add("x_y");
+        Xpath3DefaultTokenResolver resolver = new Xpath3DefaultTokenResolver(
+                true);
+        EStructuralFeature feature = XPath3Package.eINSTANCE
+                .getStringLiteral_Value();
+        for (String text : texts) {
+            Xpath3TokenResolveResult result = new Xpath3TokenResolveResult();
+            resolver.resolve(text, feature, result, null, null, null);
+            assertEquals(text, unescape(text), result.getResolvedToken());
+            assertEquals(text, escape(text), resolver.deResolve(text, feature,
+                    null, null, null, null));
+        }
+    }
+
+    /**
+     * Asserts that the resolver gives the same value or error as the default
+     * token resolver, which all numeric literals used to go through.
+     */
+    private static void assertResolved(IXpath3TokenResolver resolver,
+            String text, EAttribute feature) {
+        Xpath3TokenResolveResult expected = new Xpath3TokenResolveResult();
+        new Xpath3DefaultTokenResolver(true).resolve(text, feature, expected,
+                null, null, null);
+        Object expectedValue = expected.getResolvedToken();
+        assertEquals(feature.getEContainingClass().getName() + " " + text,
+                expectedValue != null ? expectedValue : expected
+                        .getErrorMessage(), resolve(resolver, text, feature));
+    }
+
+    private static Object resolve(IXpath3TokenResolver resolver, String text,
+            EAttribute feature) {
+        Xpath3TokenResolveResult result = new Xpath3TokenResolveResult();
+        resolver.resolve(text, feature, result);
+        Object resolved = result.getResolvedToken();
+        return resolved != null ? resolved : result.getErrorMessage();
+    }
+
+    /**
+     * Removes the escape of a keyword like the resolver did with regular
+     * expressions.
+     */
+    private static String unescape(String lexem) {
+        if (lexem.startsWith("_")) {
+            for (String keyword : Xpath3GrammarInformationProvider.INSTANCE
+                    .getKeywords()) {
+                if (lexem.endsWith(keyword)) {
+                    String keywordPrefix = lexem.substring(0, lexem.length()
+                            - keyword.length());
+                    if (keywordPrefix.matches("_+")) {
+                        return lexem.substring(1);
+                    }
+                }
+            }
+        }
+        return lexem;
+    }
+
+    /**
+     * Escapes a keyword like the resolver did with regular expressions.
+     */
+    private static String escape(String text) {
+        for (String keyword : Xpath3GrammarInformationProvider.INSTANCE
+                .getKeywords()) {
+            if (text.endsWith(keyword)) {
+                String keywordPrefix = text.substring(0, text.length()
+                        - keyword.length());
+                if (keywordPrefix.matches("_*")) {
+                    return "_" + text;
+                }
+            }
+        }
+        return text;
+    }
+}
@@ -0,0 +1,190 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.ast;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.emftext.language.xpath3.ForwardAxisKind;
+import org.emftext.language.xpath3.ReverseAxisKind;
+import org.emftext.language.xpath3.UnaryOp;
+import org.emftext.language.xpath3.resource.xpath3.post.PostProcessor;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3ResourceUtil;
+import org.junit.Test;
+
+/**
+ * Builds {@link Xpath3AstNode}s from raw and collapsed models and checks
+ * that the printed trees parse to equal trees.
+ */
+public class Xpath3AstBuilderTest {
+
+    private static final String[] EXPRESSIONS = {
+            "1 + 2 * 3",
+            "1 - 2 - 3",
+            "1 - (2 - 3)",
+            "-(1 - -2) idiv 3",
+            "--1",
+            "'it''s', \"a \"\"b\"\"\"",
+            "1.5, 1.5e3, .5",
+            "()",
+            "(1 to 100)[. mod 5 eq 0][last()]",
+            "for $x in 1 to 3, $y in $x to 3 return $x * $y",
+            "some $x in (1, 2) satisfies every $y in $x satisfies $y",
+            "if ($x) then 1 else ()",
+            "$a or $b and $c",
+            "($a or $b) and $c",
+            "$a = 1, $a eq 1, $a is $b, $a << $b",
+            "//a[@id = '2']/b[1]/text()",
+            "/",
+            "/a",
+            "(/) * 5",
+            "../a/.",
+            "child :: a/parent :: b/ancestor-or-self :: node()",
+            "following-sibling :: *:a/preceding :: b",
+            "element(a, xs:string)/attribute(*)/document-node()",
+            "processing-instruction(x), comment(), schema-element(a)",
+            "a | b union c except d intersect e",
+            "$x instance of xs:integer+, $x treat as item()?",
+            "$x castable as xs:integer?, $x cast as xs:string",
+            "$x instance of empty-sequence()",
+            "fn:concat('a', 'b'), f()",
+            "p:a/q:b",
+    };
+
+    @Test
+    public void testRawAndCollapsedModels() {
+        Xpath3AstBuilder builder = new Xpath3AstBuilder();
+        for (String text : EXPRESSIONS) {
+            Xpath3AstNode raw = builder.build(load(text, Collections
+                    .emptyMap()));
+            Xpath3AstNode collapsed = builder.build(load(text,
+                    new PostProcessor().getOptions()));
+            assertEquals(text, raw, collapsed);
+            assertEquals(text, raw.hashCode(), collapsed.hashCode());
+            assertEquals(text, raw, builder.parse(text));
+        }
+    }
+
+    @Test
+    public void testPrintedTextParsesToEqualTree() {
+        Xpath3AstBuilder builder = new Xpath3AstBuilder();
+        for (String text : EXPRESSIONS) {
+            Xpath3AstNode node = builder.parse(text);
+            String printed = node.toString();
+            assertEquals(text + " -> " + printed, node, builder
+                    .parse(printed));
+            assertEquals(text, printed, builder.parse(printed).toString());
+        }
+    }
+
+    @Test
+    public void testShapes() {
+        Xpath3AstBuilder builder = new Xpath3AstBuilder();
+        // operator chains are left associative
+        Xpath3AstNode node = builder.parse("1 - 2 - 3");
+        assertEquals(Xpath3AstKind.ADDITIVE, node.getKind());
+        assertEquals(Xpath3AstKind.ADDITIVE, node.getChild(0).getKind());
+        assertEquals(Xpath3AstKind.INTEGER_LITERAL, node.getChild(1)
+                .getKind());
+        // parentheses are skipped
+        assertEquals(builder.parse("1"), builder.parse("((1))"));
+        // repeated signs are reduced to one
+        node = builder.parse("--1");
+        assertEquals(Xpath3AstKind.UNARY, node.getKind());
+        assertEquals(UnaryOp.PLUS, node.getValue());
+        // abbreviated steps are expanded
+        assertEquals(builder.parse("parent :: node()"), builder.parse(".."));
+        assertEquals(builder.parse("attribute :: a"), builder.parse("@a"));
+        node = builder.parse("//a");
+        assertEquals(Xpath3AstKind.PATH, node.getKind());
+        assertEquals(3, node.getChildCount());
+        assertEquals(Xpath3AstKind.ROOT, node.getChild(0).getKind());
+        assertEquals(ForwardAxisKind.DESCENDANT_OR_SELF, node.getChild(1)
+                .getValue());
+        assertEquals(ReverseAxisKind.ANCESTOR, builder.parse(
+                "ancestor :: a").getValue());
+        // string literals lose their quotes
+        node = builder.parse("'it''s'");
+        assertEquals(Xpath3AstKind.STRING_LITERAL, node.getKind());
+        assertEquals("it's", node.getValue());
+        assertEquals(0, node.getChildCount());
+    }
+
+    @Test
+    public void testSharedLeaves() {
+        Xpath3AstBuilder builder = new Xpath3AstBuilder();
+        Xpath3AstNode first = builder.parse("$x + 1");
+        Xpath3AstNode second = builder.parse("1 * $x");
+        assertSame(first.getChild(0), second.getChild(1));
+        assertSame(first.getChild(1), second.getChild(0));
+        assertSame(builder.parse(".").getKind(), Xpath3AstKind.CONTEXT_ITEM);
+        assertSame(builder.parse(". + 1").getChild(0), builder.parse(
+                ". * 2").getChild(0));
+        // other builders have tables of their own
+        Xpath3AstNode other = new Xpath3AstBuilder().parse("$x + 1");
+        assertEquals(first, other);
+        assertFalse(first.getChild(0) == other.getChild(0));
+    }
+
+    @Test
+    public void testPrefixes() {
+        Xpath3AstBuilder builder = new Xpath3AstBuilder();
+        // the names are not resolved, so the prefixes differ
+        assertFalse(builder.parse("p:a").equals(builder.parse("q:a")));
+        assertFalse(builder.parse("$p:x").equals(builder.parse("$x")));
+        assertEquals(builder.parse("p:a"), builder.parse("p:a"));
+    }
+
+    @Test
+    public void testImmutableChildren() {
+        Xpath3AstNode node = new Xpath3AstBuilder().parse("1 + 2");
+        try {
+            node.getChildren().clear();
+            fail("children are modifiable");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        assertEquals(2, node.getChildCount());
+    }
+
+    @Test
+    public void testErrors() {
+        Xpath3AstBuilder builder = new Xpath3AstBuilder();
+        assertNull(builder.parse("1 +"));
+        assertNull(builder.parse(""));
+        assertNotNull(builder.parse("1"));
+        try {
+            builder.build(null);
+            fail("build(null)");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    private static EObject load(String text, Map<?, ?> options) {
+        Resource resource = Xpath3ResourceUtil.getResource(text,
+                new ResourceSetImpl(), options);
+        assertTrue(text + ": " + resource.getErrors(), resource.getErrors()
+                .isEmpty());
+        return resource.getContents().get(0);
+    }
+}
@@ -0,0 +1,223 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.eval;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.emftext.language.xpath3.resource.xpath3.post.PostProcessor;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3ResourceUtil;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+import org.xml.sax.InputSource;
+
+/**
+ * Compares the results and the errors of compiled expressions to the ones of
+ * the {@link Xpath3Evaluator}.
+ */
+public class Xpath3CompilerTest {
+
+    private static final String DOCUMENT = "<r xmlns:p='urn:p'>"
+            + "<a id='1'><b>x</b><b>y</b></a>"
+            + "<a id='2'><b>z</b><c/><p:d/></a>"
+            + "<!--k-->"
+            + "</r>";
+
+    private static final String[] EXPRESSIONS = {
+            "(1 to 100)[. mod 5 eq 0][last()]",
+            "count((1 to 100)[. mod 5 eq 0])",
+            "xs:integer(\"12\") + 1",
+            "/r/a/b",
+            "//b/text()",
+            "/r/a[@id = '2']/b",
+            "//b[2]",
+            "(//b)[2]/string()",
+            "for $i in 1 to 3 return $i * 2",
+            "some $i in (1, 2, 3) satisfies $i gt 2",
+            "every $i in (1, 2, 3) satisfies $i gt 2",
+            "if (//c) then 'yes' else 'no'",
+            "1 div 2",
+            "7 idiv 2",
+            "7 mod -2",
+            "-3 + 1",
+            "1.5 * 2",
+            "1e0 + 1",
+            "1 div 0",
+            "1e0 div 0",
+            "'a''b'",
+            "//b[. = 'y']/../@id/string()",
+            "//a[last()]/@id = 2",
+            "count(//b | //c)",
+            "count(//* except //b)",
+            "count(//a intersect /r/*)",
+            "//b/parent :: a/@id/string()",
+            "/descendant :: b[3]/string()",
+            "//b[..[@id = 1]][last()]/string()",
+            "//c/../b/string()",
+            "//comment()/string()",
+            "count(//node())",
+            "//a/b[1]/name()",
+            "//p:d/local-name()",
+            "//*:d/namespace-uri()",
+            "'5' castable as xs:integer",
+            "'x' cast as xs:integer?",
+            "() cast as xs:integer?",
+            "(1, 2) instance of xs:integer+",
+            "$v treat as xs:integer",
+            "(//b)[1] << //c",
+            "//c is //a[2]/c",
+            "sum(//a/@id)",
+            "string-join(//b, '-')",
+            "exists(/r/a[1]/b[5])",
+            "3 = (1, 2, 3)",
+            "1 eq 'a'",
+            "$v + 1",
+            "$undefined",
+            "unknown()",
+            "//b[position() > 1]/string()",
+            "ancestor-or-self :: node()",
+            "for $a in //a, $b in $a/b return concat($a/@id, $b)",
+    };
+
+    private static final Map<?, ?> UNPROCESSED = Collections.emptyMap();
+
+    private static final Map<?, ?> SIMPLIFIED = new PostProcessor()
+            .getOptions();
+
+    @Test
+    public void testSameResults() throws Exception {
+        Xpath3EvaluationContext context = createContext().withVariable("v",
+                41);
+        for (Map<?, ?> options : Arrays.asList(UNPROCESSED, SIMPLIFIED)) {
+            for (String text : EXPRESSIONS) {
+                EObject expr = load(text, options);
+                assertEquals(text, evaluate(expr, context), evaluate(
+                        new Xpath3Compiler().compile(expr, context), context));
+            }
+        }
+    }
+
+    @Test
+    public void testDynamicContext() throws Exception {
+        Xpath3EvaluationContext context = createContext();
+        Xpath3CompiledExpression compiled = new Xpath3Compiler().compile(load(
+                "count(b) + $v", SIMPLIFIED), context);
+        List<Object> elements = new Xpath3Evaluator().evaluate(
+                load("//a", SIMPLIFIED), context).toList();
+        assertEquals("INTEGER 3", evaluate(compiled, context.withContextItem(
+                elements.get(0)).withVariable("v", 1)));
+        assertEquals("INTEGER 11", evaluate(compiled, context
+                .withContextItem(elements.get(1)).withVariable("v", 10)));
+    }
+
+    @Test
+    public void testStaticNamespaces() throws Exception {
+        Xpath3EvaluationContext context = createContext();
+        Xpath3CompiledExpression compiled = new Xpath3Compiler().compile(load(
+                "count(//q:d)", SIMPLIFIED), context.withNamespace("q",
+                "urn:p"));
+        // the prefix is resolved when the expression is compiled
+        assertEquals("INTEGER 1", evaluate(compiled, context));
+    }
+
+    @Test
+    public void testExecutor() throws Exception {
+        Xpath3EvaluationContext context = createContext();
+        EObject expr = load("count(//b) * $v", SIMPLIFIED);
+        Xpath3Executor executor = new Xpath3Executor(expr, context, 2);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i >= 3, executor.isCompiled());
+            assertEquals("INTEGER " + 3 * i, evaluate(executor,
+                    context.withVariable("v", i)));
+        }
+        assertTrue(executor.isCompiled());
+        assertFalse(new Xpath3Executor(expr, context).isCompiled());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeThreshold() {
+        new Xpath3Executor(load("1", SIMPLIFIED), new Xpath3EvaluationContext(
+                new Xpath3DomNodeModel()), -1);
+    }
+
+    private static Xpath3EvaluationContext createContext() throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        Document document = factory.newDocumentBuilder().parse(
+                new InputSource(new StringReader(DOCUMENT)));
+        return new Xpath3EvaluationContext(new Xpath3DomNodeModel())
+                .withContextItem(document);
+    }
+
+    private static String evaluate(EObject expr,
+            Xpath3EvaluationContext context) {
+        try {
+            return toString(new Xpath3Evaluator().evaluate(expr, context));
+        } catch (Xpath3EvaluationException e) {
+            return e.getErrorCode();
+        }
+    }
+
+    private static String evaluate(Xpath3CompiledExpression compiled,
+            Xpath3EvaluationContext context) {
+        try {
+            return toString(compiled.evaluate(context));
+        } catch (Xpath3EvaluationException e) {
+            return e.getErrorCode();
+        }
+    }
+
+    private static String evaluate(Xpath3Executor executor,
+            Xpath3EvaluationContext context) {
+        return toString(executor.evaluate(context));
+    }
+
+    /**
+     * Returns the items of the sequence, nodes by their identity and atomic
+     * values by their type and string value.
+     */
+    private static String toString(Xpath3Sequence sequence) {
+        StringBuilder result = new StringBuilder();
+        for (Object item : sequence) {
+            if (result.length() > 0) {
+                result.append(", ");
+            }
+            if (item instanceof Node) {
+                result.append("node@").append(System.identityHashCode(item));
+            } else {
+                result.append(Xpath3AtomicType.typeOf(item)).append(' ')
+                        .append(Xpath3AtomicType.getStringValue(item));
+            }
+        }
+        return result.toString();
+    }
+
+    private static EObject load(String text, Map<?, ?> options) {
+        Resource resource = Xpath3ResourceUtil.getResource(text,
+                new ResourceSetImpl(), options);
+        assertTrue(text + ": " + resource.getErrors(), resource.getErrors()
+                .isEmpty());
+        return resource.getContents().get(0);
+    }
+}
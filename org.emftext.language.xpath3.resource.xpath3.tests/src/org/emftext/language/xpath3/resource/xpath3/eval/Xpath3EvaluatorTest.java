@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.eval;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.emftext.language.xpath3.resource.xpath3.post.PostProcessor;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3ResourceUtil;
+import org.junit.Test;
+
+/**
+ * Evaluates expressions of unprocessed and of simplified models. The
+ * expressions with a billion items only finish if the evaluator stops after
+ * the item selected by an integer literal predicate.
+ */
+public class Xpath3EvaluatorTest {
+
+    private static final Map<?, ?> UNPROCESSED = Collections.emptyMap();
+
+    private static final Map<?, ?> SIMPLIFIED = new PostProcessor()
+            .getOptions();
+
+    @Test
+    public void testPositionalPredicates() {
+        for (Map<?, ?> options : Arrays.asList(UNPROCESSED, SIMPLIFIED)) {
+            assertResult("(1 to 10)[3]", options, 3);
+            assertResult("(1 to 10)[(3)]", options, 3);
+            assertResult("(1 to 10)[11]", options);
+            assertResult("(1 to 10)[0]", options);
+            assertResult("(1 to 10)[. mod 4 eq 0][2]", options, 8);
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testEarlyStopUnprocessed() {
+        assertEarlyStop(UNPROCESSED);
+    }
+
+    @Test(timeout = 10000)
+    public void testEarlyStopSimplified() {
+        assertEarlyStop(SIMPLIFIED);
+    }
+
+    private static void assertEarlyStop(Map<?, ?> options) {
+        assertResult("(1 to 1000000000)[1]", options, 1);
+        assertResult("(1 to 1000000000)[(2)]", options, 2);
+        assertResult("(1 to 1000000000)[. mod 2 eq 0][3]", options, 6);
+        assertResult("for $i in 1 to 3 return (1 to 1000000000)[1]",
+                options, 1, 1, 1);
+    }
+
+    private static void assertResult(String text, Map<?, ?> options,
+            Object... expected) {
+        Xpath3EvaluationContext context = new Xpath3EvaluationContext(
+                new Xpath3DomNodeModel());
+        List<Object> actual = new Xpath3Evaluator().evaluate(
+                load(text, options), context).toList();
+        assertEquals(text, toStrings(Arrays.asList(expected)),
+                toStrings(actual));
+    }
+
+    private static String toStrings(List<Object> items) {
+        StringBuilder result = new StringBuilder();
+        for (Object item : items) {
+            result.append(Xpath3AtomicType.getStringValue(item)).append(' ');
+        }
+        return result.toString();
+    }
+
+    private static EObject load(String text, Map<?, ?> options) {
+        Resource resource = Xpath3ResourceUtil.getResource(text,
+                new ResourceSetImpl(), options);
+        assertTrue(text + ": " + resource.getErrors(), resource.getErrors()
+                .isEmpty());
+        return resource.getContents().get(0);
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.eval;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.emftext.language.xpath3.AdditiveExpr;
+import org.emftext.language.xpath3.IntegerLiteral;
+import org.emftext.language.xpath3.resource.xpath3.post.PostProcessor;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3ResourceUtil;
+import org.junit.Test;
+
+/**
+ * Checks which subexpressions are hoisted out of loops and predicates, and
+ * that integer literal predicates of compiled expressions still stop early.
+ */
+public class Xpath3HoistingTest {
+
+    private static final Map<?, ?> UNPROCESSED = Collections.emptyMap();
+
+    private static final Map<?, ?> SIMPLIFIED = new PostProcessor()
+            .getOptions();
+
+    @Test
+    public void testLoopInvariant() {
+        for (Map<?, ?> options : Arrays.asList(UNPROCESSED, SIMPLIFIED)) {
+            EObject expr = load("for $i in 1 to 3 return $i * ($x + 1)",
+                    options);
+            Xpath3Hoisting hoisting = new Xpath3Hoisting(expr);
+            EObject sum = find(expr, AdditiveExpr.class, 2);
+            assertNotNull(hoisting.getVariable(sum));
+        }
+    }
+
+    @Test
+    public void testLiteralsAreNotHoisted() {
+        for (Map<?, ?> options : Arrays.asList(UNPROCESSED, SIMPLIFIED)) {
+            EObject expr = load("for $i in 1 to 3 return $x[1]", options);
+            Xpath3Hoisting hoisting = new Xpath3Hoisting(expr);
+            // neither the literal nor the wrappers around it
+            EObject wrapper = find(expr, IntegerLiteral.class, 0);
+            while (wrapper.eContents().size() <= 1) {
+                assertNull(wrapper.eClass().getName(), hoisting
+                        .getVariable(wrapper));
+                wrapper = wrapper.eContainer();
+            }
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testEarlyStop() {
+        String[] texts = {
+                "(1 to 1000000000)[1]",
+                "for $i in 1 to 3 return (1 to 1000000000)[1]",
+                "((1 to 1000000000)[1], (1 to 1000000000)[1])",
+                "for $i in 1 to 3 return (1 to 1000000000)[$x][1]",
+        };
+        Xpath3EvaluationContext context = new Xpath3EvaluationContext(
+                new Xpath3DomNodeModel()).withVariable("x", true);
+        for (Map<?, ?> options : Arrays.asList(UNPROCESSED, SIMPLIFIED)) {
+            for (String text : texts) {
+                EObject expr = load(text, options);
+                Xpath3CompiledExpression compiled = new Xpath3Compiler()
+                        .compile(expr, context);
+                assertEquals(text, new Xpath3Evaluator().evaluate(expr,
+                        context).toList(), compiled.evaluate(context).toList());
+            }
+        }
+    }
+
+    /**
+     * Returns the first expression of the given type with the given number
+     * of children.
+     */
+    private static EObject find(EObject expr, Class<?> type, int size) {
+        for (Iterator<EObject> i = expr.eAllContents(); i.hasNext();) {
+            EObject next = i.next();
+            if (type.isInstance(next) && next.eContents().size() == size) {
+                return next;
+            }
+        }
+        throw new AssertionError(type.getSimpleName());
+    }
+
+    private static EObject load(String text, Map<?, ?> options) {
+        Resource resource = Xpath3ResourceUtil.getResource(text,
+                new ResourceSetImpl(), options);
+        assertTrue(text + ": " + resource.getErrors(), resource.getErrors()
+                .isEmpty());
+        return resource.getContents().get(0);
+    }
+}
@@ -0,0 +1,346 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.eval;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.emftext.language.xpath3.AnyExpr;
+import org.emftext.language.xpath3.SequenceType;
+import org.emftext.language.xpath3.resource.xpath3.eval.Xpath3StaticType.Cardinality;
+import org.emftext.language.xpath3.resource.xpath3.post.PostProcessor;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3ResourceUtil;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+
+/**
+ * Checks the types that the {@link Xpath3TypeChecker} infers and that the
+ * values of expressions match them.
+ */
+public class Xpath3TypeCheckerTest {
+
+    private static final String DOCUMENT = "<r xmlns:p='urn:p'>"
+            + "<a id='1'><b>x</b><b>y</b></a>"
+            + "<a id='2'><b>z</b><c/><p:d/></a>"
+            + "<!--k-->"
+            + "</r>";
+
+    /**
+     * The expressions and their types.
+     */
+    private static final String[][] TYPES = {
+            { "1", "xs:integer" },
+            { "1 + 2", "xs:integer" },
+            { "-1", "xs:integer" },
+            { "1.5 * 2", "xs:decimal" },
+            { "1 div 2", "xs:decimal" },
+            { "7 idiv 2", "xs:integer" },
+            { "1e0 + 1", "xs:double" },
+            { "$x + 1", "xs:anyAtomicType?" },
+            { "'a'", "xs:string" },
+            { "()", "empty-sequence()" },
+            { "(1, 2)", "xs:integer*" },
+            { "1 to 3", "xs:integer*" },
+            { "(1, 2)[1]", "xs:integer?" },
+            { "if (1) then 1 else 'a'", "xs:anyAtomicType" },
+            { "if (1) then 1 else ()", "xs:integer?" },
+            { "if (1) then 1 else 2.5", "xs:decimal" },
+            { "for $i in (1, 2) return $i", "xs:integer*" },
+            { "for $i in 1 return $i", "xs:integer" },
+            { "some $i in $x satisfies $i", "xs:boolean" },
+            { "1 = 2", "xs:boolean" },
+            { "$x eq 1", "xs:boolean?" },
+            { "$x instance of xs:integer", "xs:boolean" },
+            { "$x treat as xs:string?", "xs:string?" },
+            { "'1' cast as xs:integer", "xs:integer" },
+            { "//a", "element()*" },
+            { "/", "document-node()" },
+            { "@a", "attribute()*" },
+            { "//b/text()", "text()*" },
+            { "..", "node()?" },
+            { "a | b", "element()*" },
+            { "$x", "item()*" },
+            { ".", "item()" },
+            { "count($x)", "xs:integer" },
+            { "string(a)", "xs:string" },
+            { "data(a)", "xs:untypedAtomic*" },
+            { "unknown()", "item()*" },
+    };
+
+    private static final String[] EXPRESSIONS = {
+            "(1 to 100)[. mod 5 eq 0][last()]",
+            "count((1 to 100)[. mod 5 eq 0])",
+            "xs:integer(\"12\") + 1",
+            "/r/a/b",
+            "//b/text()",
+            "/r/a[@id = '2']/b",
+            "(//b)[2]/string()",
+            "for $i in 1 to 3 return $i * 2",
+            "some $i in (1, 2, 3) satisfies $i gt 2",
+            "if (//c) then 'yes' else 'no'",
+            "if (//c) then 1 else ()",
+            "1 div 2",
+            "1.5 * 2",
+            "1e0 + 1",
+            "//b[. = 'y']/../@id",
+            "//a[last()]/@id = 2",
+            "//a[1]/@id + 1",
+            "//* except //b",
+            "//b/parent :: a",
+            "//comment()",
+            "//comment()/string()",
+            "//node()",
+            "/r/node()",
+            "//a/b[1]/name()",
+            "'5' castable as xs:integer",
+            "() cast as xs:integer?",
+            "(1, 2) instance of xs:integer+",
+            "$v treat as xs:integer",
+            "(//b)[1] << //c",
+            "sum(//a/@id)",
+            "data(//a/@id)",
+            "3 = (1, 2, 3)",
+            "$v + 1",
+            "ancestor-or-self :: node()",
+            "for $a in //a, $b in $a/b return concat($a/@id, $b)",
+            "(1, 'a', //c)",
+    };
+
+    private static final Map<?, ?> UNPROCESSED = Collections.emptyMap();
+
+    private static final Map<?, ?> SIMPLIFIED = new PostProcessor()
+            .getOptions();
+
+    @Test
+    public void testTypes() {
+        Xpath3EvaluationContext context = new Xpath3EvaluationContext(
+                new Xpath3DomNodeModel());
+        for (Map<?, ?> options : Arrays.asList(UNPROCESSED, SIMPLIFIED)) {
+            for (String[] type : TYPES) {
+                assertEquals(type[0], type[1], new Xpath3TypeChecker(context)
+                        .check(load(type[0], options)).toString());
+            }
+        }
+    }
+
+    @Test
+    public void testSubexpressions() {
+        Xpath3EvaluationContext context = new Xpath3EvaluationContext(
+                new Xpath3DomNodeModel());
+        Xpath3TypeChecker checker = new Xpath3TypeChecker(context);
+        EObject expr = load("for $i in (1, 2) return $i * 2.5", UNPROCESSED);
+        assertEquals("xs:decimal*", checker.check(expr).toString());
+        for (Iterator<EObject> i = expr.eAllContents(); i.hasNext();) {
+            EObject next = i.next();
+            if (next instanceof AnyExpr) {
+                assertNotNull(next.eClass().getName(), checker.getType(next));
+            }
+        }
+        assertNull(checker.getType(load("1", UNPROCESSED)));
+    }
+
+    /**
+     * The values of the expressions must be instances of their static types.
+     */
+    @Test
+    public void testValuesMatchTypes() throws Exception {
+        Xpath3EvaluationContext context = createContext().withVariable("v",
+                41);
+        for (Map<?, ?> options : Arrays.asList(UNPROCESSED, SIMPLIFIED)) {
+            for (String text : EXPRESSIONS) {
+                EObject expr = load(text, options);
+                Xpath3StaticType type = new Xpath3TypeChecker(context)
+                        .check(expr);
+                List<Object> items = new Xpath3Evaluator().evaluate(expr,
+                        context).toList();
+                assertMatches(text + " as " + type, type, items, context);
+            }
+        }
+    }
+
+    @Test
+    public void testIsInstance() {
+        Xpath3TypeChecker checker = new Xpath3TypeChecker(
+                new Xpath3EvaluationContext(new Xpath3DomNodeModel()));
+        assertInstance(checker, Xpath3StaticType.INTEGER, "xs:integer", true);
+        assertInstance(checker, Xpath3StaticType.INTEGER, "xs:decimal", true);
+        assertInstance(checker, Xpath3StaticType.INTEGER, "xs:integer?",
+                true);
+        assertInstance(checker, Xpath3StaticType.INTEGER, "xs:integer+",
+                true);
+        assertInstance(checker, Xpath3StaticType.INTEGER, "item()", true);
+        assertInstance(checker, Xpath3StaticType.INTEGER, "xs:string", false);
+        assertInstance(checker, Xpath3StaticType.INTEGER, "node()", false);
+        assertInstance(checker, Xpath3StaticType.INTEGER,
+                "empty-sequence()", false);
+        assertInstance(checker, Xpath3StaticType.DOUBLE, "xs:integer", false);
+        Xpath3StaticType integers = Xpath3StaticType.INTEGER
+                .withCardinality(Cardinality.MANY);
+        assertInstance(checker, integers, "xs:integer*", true);
+        assertInstance(checker, integers, "xs:integer+", false);
+        assertInstance(checker, integers, "xs:integer?", false);
+        assertInstance(checker, Xpath3StaticType.EMPTY, "empty-sequence()",
+                true);
+        assertInstance(checker, Xpath3StaticType.EMPTY, "xs:integer?", true);
+        assertInstance(checker, Xpath3StaticType.EMPTY, "xs:integer", false);
+        Xpath3StaticType elements = Xpath3StaticType.node(
+                Xpath3NodeKind.ELEMENT, Cardinality.ONE);
+        assertInstance(checker, elements, "element()", true);
+        assertInstance(checker, elements, "node()", true);
+        assertInstance(checker, elements, "element(a)", false);
+        assertInstance(checker, elements, "attribute()", false);
+        assertInstance(checker, Xpath3StaticType.ITEM, "item()", true);
+        assertInstance(checker, Xpath3StaticType.ITEM, "node()", false);
+    }
+
+    @Test
+    public void testCardinalities() {
+        Cardinality[] values = Cardinality.values();
+        String[] unions = { "EMPTY ZERO_OR_ONE ZERO_OR_ONE MANY",
+                "ZERO_OR_ONE ONE ZERO_OR_ONE MANY",
+                "ZERO_OR_ONE ZERO_OR_ONE ZERO_OR_ONE MANY",
+                "MANY MANY MANY MANY" };
+        String[] concats = { "EMPTY ONE ZERO_OR_ONE MANY",
+                "ONE MANY MANY MANY", "ZERO_OR_ONE MANY MANY MANY",
+                "MANY MANY MANY MANY" };
+        String[] products = { "EMPTY EMPTY EMPTY EMPTY",
+                "EMPTY ONE ZERO_OR_ONE MANY",
+                "EMPTY ZERO_OR_ONE ZERO_OR_ONE MANY",
+                "EMPTY MANY MANY MANY" };
+        for (int i = 0; i < values.length; i++) {
+            StringBuilder union = new StringBuilder();
+            StringBuilder concat = new StringBuilder();
+            StringBuilder product = new StringBuilder();
+            for (Cardinality value : values) {
+                union.append(' ').append(values[i].union(value));
+                concat.append(' ').append(values[i].concat(value));
+                product.append(' ').append(values[i].multiply(value));
+            }
+            assertEquals(unions[i], union.substring(1));
+            assertEquals(concats[i], concat.substring(1));
+            assertEquals(products[i], product.substring(1));
+        }
+        assertEquals(Cardinality.ZERO_OR_ONE, Cardinality.MANY.toOptional());
+        assertEquals(Cardinality.ONE, Cardinality.ONE.toOptional());
+        assertFalse(Cardinality.ONE.allowsEmpty());
+        assertTrue(Cardinality.MANY.allowsMany());
+    }
+
+    @Test
+    public void testStaticTypes() {
+        Xpath3StaticType decimal = Xpath3StaticType.atomic(
+                Xpath3AtomicType.DECIMAL, Cardinality.ONE);
+        assertEquals("xs:decimal", Xpath3StaticType.INTEGER.union(decimal)
+                .toString());
+        assertEquals("xs:decimal*", decimal.concat(Xpath3StaticType.INTEGER)
+                .toString());
+        assertEquals("xs:anyAtomicType", Xpath3StaticType.STRING.union(
+                Xpath3StaticType.DOUBLE).toString());
+        assertEquals("xs:integer?", Xpath3StaticType.INTEGER.union(
+                Xpath3StaticType.EMPTY).toString());
+        assertEquals("xs:string", Xpath3StaticType.EMPTY.concat(
+                Xpath3StaticType.STRING).toString());
+        Xpath3StaticType element = Xpath3StaticType.node(
+                Xpath3NodeKind.ELEMENT, Cardinality.ONE);
+        Xpath3StaticType comment = Xpath3StaticType.node(
+                Xpath3NodeKind.COMMENT, Cardinality.ZERO_OR_ONE);
+        assertEquals("node()?", element.union(comment).toString());
+        assertEquals("item()*", element.concat(Xpath3StaticType.STRING)
+                .toString());
+        assertEquals("xs:untypedAtomic", element.atomize().toString());
+        assertEquals("xs:string?", comment.atomize().toString());
+        assertEquals("xs:anyAtomicType*", Xpath3StaticType.ANY.atomize()
+                .toString());
+        assertEquals(element, Xpath3StaticType.node(Xpath3NodeKind.ELEMENT,
+                Cardinality.MANY).withCardinality(Cardinality.ONE));
+        assertEquals(element.hashCode(), Xpath3StaticType.node(
+                Xpath3NodeKind.ELEMENT, Cardinality.ONE).hashCode());
+        assertFalse(element.equals(comment));
+        assertTrue(decimal.isNumeric());
+        assertFalse(element.isNumeric());
+    }
+
+    private static void assertMatches(String message, Xpath3StaticType type,
+            List<Object> items, Xpath3EvaluationContext context) {
+        Cardinality cardinality = type.getCardinality();
+        if (items.isEmpty()) {
+            assertTrue(message, cardinality.allowsEmpty());
+        } else {
+            assertFalse(message, cardinality == Cardinality.EMPTY);
+        }
+        if (items.size() > 1) {
+            assertTrue(message, cardinality.allowsMany());
+        }
+        for (Object item : items) {
+            if (item instanceof org.w3c.dom.Node) {
+                assertFalse(message, type.isAtomic());
+                if (type.getNodeKind() != null) {
+                    assertEquals(message, type.getNodeKind(), context
+                            .getNodeModel().getKind(item));
+                }
+            } else {
+                assertFalse(message, type.isNode());
+                if (type.isAtomic()) {
+                    assertTrue(message, Xpath3AtomicType.typeOf(item)
+                            .isSubtypeOf(type.getAtomicType()));
+                }
+            }
+        }
+    }
+
+    private static void assertInstance(Xpath3TypeChecker checker,
+            Xpath3StaticType type, String sequenceType, boolean expected) {
+        EObject expr = load("$x instance of " + sequenceType, UNPROCESSED);
+        SequenceType parsedType = null;
+        for (Iterator<EObject> i = expr.eAllContents(); i.hasNext();) {
+            EObject next = i.next();
+            if (next instanceof SequenceType) {
+                parsedType = (SequenceType) next;
+                break;
+            }
+        }
+        assertEquals(type + " instance of " + sequenceType, expected, checker
+                .isInstance(type, parsedType));
+    }
+
+    private static Xpath3EvaluationContext createContext() throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        Document document = factory.newDocumentBuilder().parse(
+                new InputSource(new StringReader(DOCUMENT)));
+        return new Xpath3EvaluationContext(new Xpath3DomNodeModel())
+                .withContextItem(document);
+    }
+
+    private static EObject load(String text, Map<?, ?> options) {
+        Resource resource = Xpath3ResourceUtil.getResource(text,
+                new ResourceSetImpl(), options);
+        assertTrue(text + ": " + resource.getErrors(), resource.getErrors()
+                .isEmpty());
+        return resource.getContents().get(0);
+    }
+}
@@ -0,0 +1,183 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.grammar;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3TextParser;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ExpectedTerminal;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3MetaInformation;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3Resource;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3StreamUtil;
+import org.junit.Test;
+
+/**
+ * Checks the resource that is read by {@link Xpath3CompletionTables}. EMFText
+ * can't generate the follow sets during the build, so the resource is
+ * compared with the tables of the classes in the build instead. Once
+ * <code>Xpath3ExpectationConstants</code> and {@link Xpath3FollowSetProvider}
+ * are generated again, {@link #testResourceMatchesTables()} fails until the
+ * resource is written anew.
+ */
+public class Xpath3CompletionTablesTest {
+
+    /**
+     * The terminals that were proposed for an empty text when the follow sets
+     * were still built by the generated classes.
+     */
+    private static final String[] EMPTY_TEXT_TERMINALS = { "CsString \"$\"",
+            "CsString \"(\"", "CsString \"*\"", "CsString \".\"",
+            "CsString \"/\"", "CsString \"//\"", "CsString \"attribute\"",
+            "CsString \"comment\"", "CsString \"document-node\"",
+            "CsString \"element\"", "CsString \"for\"", "CsString \"if\"",
+            "CsString \"node\"", "CsString \"processing-instruction\"",
+            "CsString \"schema-attribute\"", "CsString \"schema-element\"",
+            "CsString \"text\"", "EFeature DecimalLiteral.value",
+            "EFeature DoubleLiteral.value", "EFeature FunctionCall.name",
+            "EFeature IntegerLiteral.value",
+            "EFeature LocalNameWildcard.namespace", "EFeature QNameTest.name",
+            "EFeature StringLiteral.value", "EnumTerminal \"axis[]\"",
+            "EnumTerminal \"kind[]\"", "EnumTerminal \"operator[]\"",
+            "EnumTerminal \"quantifier[]\"" };
+
+    /**
+     * The terminals that were proposed after <code>some $x </code>.
+     */
+    private static final String[] QUANTIFIER_TERMINALS = { "CsString \"$\"",
+            "CsString \"(\"", "CsString \")\"", "CsString \"*\"",
+            "CsString \",\"", "CsString \".\"", "CsString \"/\"",
+            "CsString \"//\"", "CsString \"]\"", "CsString \"attribute\"",
+            "CsString \"comment\"", "CsString \"document-node\"",
+            "CsString \"element\"", "CsString \"for\"", "CsString \"if\"",
+            "CsString \"in\"", "CsString \"node\"",
+            "CsString \"processing-instruction\"", "CsString \"satisfies\"",
+            "CsString \"schema-attribute\"", "CsString \"schema-element\"",
+            "CsString \"text\"", "EFeature DecimalLiteral.value",
+            "EFeature DoubleLiteral.value", "EFeature FunctionCall.name",
+            "EFeature IntegerLiteral.value", "EFeature Iterator.varName",
+            "EFeature LocalNameWildcard.namespace", "EFeature QNameTest.name",
+            "EFeature StringLiteral.value", "EnumTerminal \"axis[]\"",
+            "EnumTerminal \"kind[]\"", "EnumTerminal \"operator[]\"",
+            "EnumTerminal \"quantifier[]\"" };
+
+    @Test
+    public void testResourceMatchesTables() throws IOException {
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        InputStream inputStream = Xpath3CompletionTables.class
+                .getResourceAsStream("Xpath3CompletionTables.bin");
+        assertNotNull(inputStream);
+        try {
+            Xpath3StreamUtil.copy(inputStream, expected);
+        } finally {
+            inputStream.close();
+        }
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        Xpath3CompletionTables.write(actual);
+        assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+    }
+
+    @Test
+    public void testTablesMatchMetamodel() {
+        Xpath3CompletionTables tables = Xpath3CompletionTables.getInstance();
+        EStructuralFeature[] features = Xpath3FollowSetProvider.FEATURES;
+        for (int i = 0; i < features.length; i++) {
+            assertNotNull("feature " + i, features[i]);
+            assertTrue(features[i].getName(), features[i] instanceof EReference
+                    && ((EReference) features[i]).isContainment());
+        }
+        int[] links = tables.getLinks();
+        for (int i = 0; i < links.length; i += 2) {
+            assertTrue("link " + i / 2, links[i + 1] < features.length);
+            // the container class is the class of the contained object
+            Xpath3ContainedFeature link = Xpath3FollowSetProvider.LINKS[i / 2];
+            EClass type = (EClass) link.getFeature().getEType();
+            assertTrue(link.toString(), type.isSuperTypeOf(link
+                    .getContainerClass()));
+        }
+        int terminals = Xpath3FollowSetProvider.TERMINALS.length;
+        for (int[] follower : tables.getFollowers()) {
+            String message = Arrays.toString(follower);
+            assertTrue(message, follower[0] < terminals
+                    && follower[1] < terminals);
+            for (int i = 2; i < follower.length; i++) {
+                assertTrue(message, follower[i] < links.length / 2);
+            }
+        }
+        for (int[] expectation : tables.getExpectations()) {
+            String message = Arrays.toString(expectation);
+            assertTrue(message, expectation[0] < terminals);
+            for (int i = 2; i < expectation.length; i++) {
+                assertTrue(message, expectation[i] < links.length / 2);
+            }
+        }
+    }
+
+    /**
+     * The paths start with the innermost link, so the object of each link must
+     * be contained in the object of the next one.
+     */
+    @Test
+    public void testPathsAreConnected() {
+        Xpath3ContainedFeature[] links = Xpath3FollowSetProvider.LINKS;
+        for (int[] follower : Xpath3CompletionTables.getInstance()
+                .getFollowers()) {
+            for (int i = 3; i < follower.length; i++) {
+                Xpath3ContainedFeature link = links[follower[i - 1]];
+                Xpath3ContainedFeature next = links[follower[i]];
+                assertTrue(Arrays.toString(follower), next.getContainerClass()
+                        .getEAllStructuralFeatures()
+                        .contains(link.getFeature()));
+            }
+        }
+    }
+
+    @Test
+    public void testProposals() {
+        assertProposals("", 91, EMPTY_TEXT_TERMINALS);
+        assertProposals("some $x ", 290, QUANTIFIER_TERMINALS);
+    }
+
+    /**
+     * Asserts the number of expected terminals at the end of the text and the
+     * distinct terminals among them.
+     */
+    private static void assertProposals(String text, int count,
+            String[] terminals) {
+        IXpath3TextParser parser = new Xpath3MetaInformation().createParser(
+                new ByteArrayInputStream(text.getBytes()), null);
+        List<Xpath3ExpectedTerminal> expected = parser
+                .parseToExpectedElements(null, new Xpath3Resource(URI
+                        .createURI("dummy.xpath3")), text.length());
+        TreeSet<String> actual = new TreeSet<String>();
+        for (Xpath3ExpectedTerminal terminal : expected) {
+            actual.add(terminal.getTerminal().toString());
+        }
+        assertEquals(text, count, expected.size());
+        assertEquals(text, new TreeSet<String>(Arrays.asList(terminals)),
+                actual);
+    }
+}
@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.mopp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.emftext.language.xpath3.XPath3Factory;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3ResourceUtil;
+import org.junit.Test;
+
+/**
+ * Compares the interval index of the {@link Xpath3LocationMap} to the linear
+ * search over all elements it replaced.
+ */
+public class Xpath3LocationMapTest {
+
+    private static final String TEXT =
+            "for $x in //a[@id = 1]/b return ($x/c, $x + 1 * 2)";
+
+    @Test
+    public void testParsedModel() {
+        Xpath3Resource resource = (Xpath3Resource) Xpath3ResourceUtil
+                .getResource(TEXT, new ResourceSetImpl(), null);
+        Xpath3LocationMap map = (Xpath3LocationMap) resource.getLocationMap();
+        List<EObject> elements = new ArrayList<EObject>();
+        for (Iterator<EObject> i = resource.getAllContents(); i.hasNext();) {
+            elements.add(i.next());
+        }
+        assertSameElements(map, elements, TEXT.length());
+    }
+
+    @Test
+    public void testRandomSpans() {
+        Random random = new Random(1);
+        for (int round = 0; round < 200; round++) {
+            Xpath3LocationMap map = new Xpath3LocationMap();
+            List<EObject> elements = new ArrayList<EObject>();
+            int count = 1 + random.nextInt(30);
+            for (int i = 0; i < count; i++) {
+                EObject element = XPath3Factory.eINSTANCE.createExpr();
+                int start = random.nextInt(40);
+                map.setCharStart(element, start);
+                // some elements end before they start
+                map.setCharEnd(element, start + random.nextInt(20) - 5);
+                elements.add(element);
+            }
+            assertSameElements(map, elements, 45);
+        }
+    }
+
+    @Test
+    public void testInvertedSpans() {
+        Xpath3LocationMap map = new Xpath3LocationMap();
+        EObject element = XPath3Factory.eINSTANCE.createExpr();
+        map.setCharStart(element, 10);
+        map.setCharEnd(element, 5);
+        assertTrue(map.getElementsAt(7).isEmpty());
+        assertTrue(map.getElementsAt(10).isEmpty());
+        assertEquals(Collections.singletonList(element),
+                map.getElementsBetween(3, 7));
+        assertTrue(map.getElementsBetween(11, 20).isEmpty());
+    }
+
+    private static void assertSameElements(Xpath3LocationMap map,
+            List<EObject> elements, int length) {
+        for (int offset = -1; offset <= length + 1; offset++) {
+            assertSameElements(map, "at " + offset, getElementsAt(map,
+                    elements, offset), map.getElementsAt(offset), true);
+            for (int end = offset - 2; end <= length + 1; end++) {
+                assertSameElements(map, "between " + offset + " and " + end,
+                        getElementsBetween(map, elements, offset, end), map
+                                .getElementsBetween(offset, end), false);
+            }
+        }
+    }
+
+    /**
+     * Asserts that both lists have the same elements and the same sequence of
+     * lengths. Elements of the same length may be in any order, unless
+     * <code>childrenFirst</code> is set and one contains the other.
+     */
+    private static void assertSameElements(Xpath3LocationMap map,
+            String message, List<EObject> expected, List<EObject> actual,
+            boolean childrenFirst) {
+        assertEquals(message, expected.size(), actual.size());
+        assertEquals(message, new HashSet<EObject>(expected),
+                new HashSet<EObject>(actual));
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(message, getLength(map, expected.get(i)), getLength(
+                    map, actual.get(i)));
+            for (int j = i + 1; childrenFirst && j < actual.size(); j++) {
+                assertTrue(message, !EcoreUtil.isAncestor(actual.get(i),
+                        actual.get(j))
+                        || getLength(map, actual.get(i)) < getLength(map,
+                                actual.get(j)));
+            }
+        }
+    }
+
+    private static List<EObject> getElementsAt(Xpath3LocationMap map,
+            List<EObject> elements, int offset) {
+        List<EObject> result = new ArrayList<EObject>();
+        for (EObject element : elements) {
+            if (hasLocation(map, element)
+                    && map.getCharStart(element) <= offset
+                    && map.getCharEnd(element) >= offset) {
+                result.add(element);
+            }
+        }
+        return sortByLength(map, result);
+    }
+
+    private static List<EObject> getElementsBetween(Xpath3LocationMap map,
+            List<EObject> elements, int startOffset, int endOffset) {
+        List<EObject> result = new ArrayList<EObject>();
+        for (EObject element : elements) {
+            if (hasLocation(map, element)
+                    && map.getCharStart(element) >= startOffset
+                    && map.getCharEnd(element) <= endOffset) {
+                result.add(element);
+            }
+        }
+        return sortByLength(map, result);
+    }
+
+    private static List<EObject> sortByLength(final Xpath3LocationMap map,
+            List<EObject> elements) {
+        Collections.sort(elements, new Comparator<EObject>() {
+            public int compare(EObject objectA, EObject objectB) {
+                return getLength(map, objectA) - getLength(map, objectB);
+            }
+        });
+        return elements;
+    }
+
+    /**
+     * Returns whether the element has a start and an end. Negative positions
+     * are ignored by the map, -1 means that a position is not set.
+     */
+    private static boolean hasLocation(Xpath3LocationMap map, EObject element) {
+        return map.getCharStart(element) != -1
+                && map.getCharEnd(element) != -1;
+    }
+
+    private static int getLength(Xpath3LocationMap map, EObject element) {
+        return map.getCharEnd(element) - map.getCharStart(element);
+    }
+}
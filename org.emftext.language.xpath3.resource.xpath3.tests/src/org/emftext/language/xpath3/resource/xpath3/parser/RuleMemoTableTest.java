@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import org.antlr.runtime3_4_0.ANTLRStringStream;
+import org.antlr.runtime3_4_0.BaseRecognizer;
+import org.antlr.runtime3_4_0.CommonTokenStream;
+import org.antlr.runtime3_4_0.misc.RuleMemoTable;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3AntlrParser;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3Lexer;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3StructuralEquality;
+import org.junit.Test;
+
+/**
+ * Compares the {@link RuleMemoTable} of the parsers to a map and parses long
+ * inputs, whose start tokens don't fit into the flat array, with a reused
+ * parser.
+ */
+public class RuleMemoTableTest {
+
+    private static final int RULES = 7;
+
+    private static final int MISSING = BaseRecognizer.MEMO_RULE_UNKNOWN;
+
+    @Test
+    public void testRandomOperations() {
+        Random random = new Random(3);
+        RuleMemoTable table = new RuleMemoTable(RULES, MISSING);
+        Map<Long, Integer> expected = new HashMap<Long, Integer>();
+        int maxToken = RuleMemoTable.MAX_DENSE_TOKENS * 2;
+        for (int i = 0; i < 200000; i++) {
+            int rule = random.nextInt(RULES);
+            int token = random.nextInt(maxToken + 2) - 2;
+            int operation = random.nextInt(1000);
+            if (operation < 2) {
+                table.clear();
+                expected.clear();
+            } else if (operation < 4) {
+                int maxTokenIndex = random.nextInt(maxToken);
+                table.removeEntries(maxTokenIndex);
+                removeEntries(expected, maxTokenIndex);
+            } else if (operation < 500) {
+                // like a recognizer, only memoizes rules that are unknown
+                if (token < 0 || !expected.containsKey(getKey(rule, token))) {
+                    int stop = random.nextInt(maxToken + 2) - 2;
+                    table.put(rule, token, stop);
+                    if (token >= 0) {
+                        expected.put(getKey(rule, token), stop);
+                    }
+                }
+            } else {
+                Integer stop = expected.get(getKey(rule, token));
+                assertEquals(rule + "@" + token, stop == null ? MISSING
+                        : stop.intValue(), table.get(rule, token));
+            }
+            if (operation < 4) {
+                assertEquals(expected.size(), table.size());
+            }
+        }
+        assertEquals(expected.size(), table.size());
+    }
+
+    @Test
+    public void testClear() {
+        RuleMemoTable table = new RuleMemoTable(RULES, MISSING);
+        for (int i = 0; i < 3; i++) {
+            table.put(2, 5, 9);
+            table.put(1, RuleMemoTable.MAX_DENSE_TOKENS + 5, 9);
+            assertEquals(2, table.size());
+            table.clear();
+            assertEquals(0, table.size());
+            assertEquals(MISSING, table.get(2, 5));
+            assertEquals(MISSING, table.get(1,
+                    RuleMemoTable.MAX_DENSE_TOKENS + 5));
+        }
+    }
+
+    @Test
+    public void testNegativeStartIndex() {
+        RuleMemoTable table = new RuleMemoTable(RULES, MISSING);
+        table.put(0, -1, BaseRecognizer.MEMO_RULE_FAILED);
+        assertEquals(MISSING, table.get(0, -1));
+        assertEquals(0, table.size());
+    }
+
+    @Test
+    public void testLongInput() {
+        StringBuilder text = new StringBuilder("(");
+        for (int i = 0; i < 2000; i++) {
+            text.append(i == 0 ? "" : ", ").append("//a[b = ").append(i)
+                    .append("]");
+        }
+        text.append(")");
+        Xpath3ReusableParser parser = new Xpath3ReusableParser();
+        String[] texts = { text.toString(), "1 + 2", text.toString() };
+        for (String each : texts) {
+            parser.reset(each);
+            Xpath3AntlrParser expected = new Xpath3AntlrParser(
+                    new CommonTokenStream(new Xpath3Lexer(
+                            new ANTLRStringStream(each))));
+            assertTrue(Xpath3StructuralEquality.EXACT.equal(expected.parse()
+                    .getRoot(), parser.parse().getRoot()));
+            assertTrue(parser.isReusable());
+        }
+    }
+
+    private static void removeEntries(Map<Long, Integer> entries,
+            int maxTokenIndex) {
+        // only the start tokens beyond the flat array are removed
+        for (Iterator<Long> i = entries.keySet().iterator(); i.hasNext();) {
+            int token = (int) (i.next() / RULES);
+            if (token >= RuleMemoTable.MAX_DENSE_TOKENS
+                    && token <= maxTokenIndex) {
+                i.remove();
+            }
+        }
+    }
+
+    private static Long getKey(int rule, int token) {
+        return Long.valueOf((long) token * RULES + rule);
+    }
+}
@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3LocalizedMessage;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3StructuralEquality;
+import org.junit.Test;
+
+/**
+ * Compares the results of the {@link Xpath3BatchParser} to the ones of a
+ * single {@link Xpath3HeadlessParser}.
+ */
+public class Xpath3BatchParserTest {
+
+    private static final String[] EXPRESSIONS = {
+            "1 + 2 * 3",
+            "(1 to 100)[. mod 5 eq 0][last()]",
+            "for $x in 1 to 3, $y in $x to 3 return $x * $y",
+            "//a[@id = '2']/b[1]/text()",
+            "child :: a/parent :: b/ancestor-or-self :: node()",
+            "1 +",
+            "'it''s', \"a \"\"b\"\"\"",
+            "(1, 2",
+            "/ * 5",
+    };
+
+    @Test
+    public void testSameResults() throws InterruptedException {
+        List<String> texts = createTexts(500);
+        Xpath3HeadlessParser parser = new Xpath3HeadlessParser();
+        for (int threadCount = 1; threadCount <= 4; threadCount++) {
+            Xpath3BatchParseResult result = new Xpath3BatchParser(null,
+                    threadCount).parseAll(texts);
+            assertEquals(texts.size(), result.size());
+            assertEquals(threadCount, result.getThreadCount());
+            int errorCount = 0;
+            for (int i = 0; i < texts.size(); i++) {
+                String text = texts.get(i);
+                Xpath3HeadlessParseResult expected = parser.parse(text);
+                Xpath3HeadlessParseResult actual = result.get(i);
+                assertEquals(text, toString(expected.getErrors()),
+                        toString(actual.getErrors()));
+                if (expected.hasErrors()) {
+                    errorCount++;
+                } else {
+                    assertTrue(text, Xpath3StructuralEquality.EXACT.equal(
+                            expected.getRoot(), actual.getRoot()));
+                }
+            }
+            assertEquals(errorCount, result.getErrorCount());
+            assertTrue(result.hasErrors());
+        }
+    }
+
+    @Test
+    public void testExecutor() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Xpath3BatchParser parser = new Xpath3BatchParser(null, 3);
+            for (int i = 0; i < 3; i++) {
+                Xpath3BatchParseResult result = parser.parseAll(
+                        createTexts(100), executor);
+                assertEquals(100, result.size());
+                assertFalse(executor.isShutdown());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testFewExpressions() throws InterruptedException {
+        Xpath3BatchParser parser = new Xpath3BatchParser(null, 4);
+        Xpath3BatchParseResult result = parser.parseAll(Collections
+                .<String> emptyList());
+        assertEquals(0, result.size());
+        assertEquals(0, result.getThreadCount());
+        assertFalse(result.hasErrors());
+        // one chunk is parsed by one thread
+        result = parser.parseAll(createTexts(3));
+        assertEquals(3, result.size());
+        assertEquals(1, result.getThreadCount());
+    }
+
+    /**
+     * An expression that overflows the stack of the parser must not affect
+     * the other expressions.
+     */
+    @Test
+    public void testDeepExpression() throws InterruptedException {
+        StringBuilder deep = new StringBuilder();
+        for (int i = 0; i < 200000; i++) {
+            deep.append('(');
+        }
+        deep.append('1');
+        for (int i = 0; i < 200000; i++) {
+            deep.append(')');
+        }
+        List<CharSequence> texts = new ArrayList<CharSequence>();
+        texts.add("1");
+        texts.add(deep);
+        texts.add("2");
+        Xpath3BatchParseResult result = new Xpath3BatchParser(null, 1)
+                .parseAll(texts);
+        assertFalse(result.get(0).hasErrors());
+        assertTrue(result.get(1).hasErrors());
+        assertNull(result.get(1).getRoot());
+        assertFalse(result.get(2).hasErrors());
+        assertEquals(1, result.getErrorCount());
+    }
+
+    @Test
+    public void testInvalidThreadCount() {
+        try {
+            new Xpath3BatchParser(null, 0);
+            fail("threadCount 0");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    private static List<String> createTexts(int count) {
+        List<String> texts = new ArrayList<String>();
+        for (int i = 0; i < count; i++) {
+            texts.add(EXPRESSIONS[i % EXPRESSIONS.length]
+                    + (i % 3 == 0 ? "" : ", " + i));
+        }
+        return texts;
+    }
+
+    private static List<String> toString(
+            List<Xpath3LocalizedMessage> messages) {
+        List<String> result = new ArrayList<String>();
+        for (Xpath3LocalizedMessage message : messages) {
+            result.add(message.getMessage() + " at " + message.getLine() + ":"
+                    + message.getColumn());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,197 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.antlr.runtime3_4_0.ANTLRCharSequenceStream;
+import org.antlr.runtime3_4_0.ANTLRStringStream;
+import org.antlr.runtime3_4_0.CommonToken;
+import org.antlr.runtime3_4_0.Token;
+import org.antlr.runtime3_4_0.misc.CharSequenceSlice;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.emftext.language.xpath3.StringLiteral;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3Lexer;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3ResourceUtil;
+import org.junit.Test;
+
+/**
+ * Compares the {@link ANTLRCharSequenceStream} to the
+ * {@link ANTLRStringStream} and checks that strings are parsed without being
+ * encoded.
+ */
+public class Xpath3CharSequenceStreamTest {
+
+    private static final String[] TEXTS = { "", "a", "for $x in 1 to 3\n"
+            + "return $x", "\n\n(1,\r\n 2)\n", "'\u00E9\u20AC', \"\"" };
+
+    @Test
+    public void testSameAsStringStream() {
+        Random random = new Random(5);
+        for (String text : TEXTS) {
+            for (int round = 0; round < 50; round++) {
+                ANTLRStringStream expected = new ANTLRStringStream(text);
+                ANTLRCharSequenceStream actual = new ANTLRCharSequenceStream(
+                        new StringBuilder(text));
+                for (int i = 0; i < 40; i++) {
+                    int operation = random.nextInt(6);
+                    if (operation == 0) {
+                        int marker = expected.mark();
+                        assertEquals(text, marker, actual.mark());
+                    } else if (operation == 1 && expected.mark() > 0) {
+                        actual.mark();
+                        expected.rewind(1);
+                        actual.rewind(1);
+                    } else if (operation == 2) {
+                        int index = random.nextInt(text.length() + 1);
+                        expected.seek(index);
+                        actual.seek(index);
+                    } else {
+                        expected.consume();
+                        actual.consume();
+                    }
+                    assertSameState(text, expected, actual);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSetCharSequence() {
+        ANTLRCharSequenceStream stream = new ANTLRCharSequenceStream("ab\nc");
+        stream.consume();
+        stream.consume();
+        stream.consume();
+        assertEquals(2, stream.getLine());
+        stream.setCharSequence("xyz");
+        assertSameState("xyz", new ANTLRStringStream("xyz"), stream);
+        assertEquals("xyz", stream.getCharSequence());
+        assertEquals("yz", stream.substring(1, 2));
+    }
+
+    @Test
+    public void testTokenTextViews() {
+        for (String text : TEXTS) {
+            Xpath3Lexer lexer = new Xpath3Lexer(new ANTLRCharSequenceStream(
+                    text));
+            Xpath3Lexer expectedLexer = new Xpath3Lexer(new ANTLRStringStream(
+                    text));
+            while (true) {
+                CommonToken token = (CommonToken) lexer.nextToken();
+                Token expected = expectedLexer.nextToken();
+                assertEquals(text, expected.getText(), token.getText());
+                assertEquals(text, expected.getText(), token.getTextView()
+                        .toString());
+                if (token.getType() == Token.EOF) {
+                    break;
+                }
+                assertTrue(token.getTextView() instanceof CharSequenceSlice);
+                assertEquals(text, token.getText().length(), token
+                        .getLength());
+            }
+        }
+    }
+
+    @Test
+    public void testSlices() {
+        CharSequenceSlice slice = new CharSequenceSlice("for $x in", 4, 9);
+        assertEquals("$x in", slice.toString());
+        assertEquals(4, slice.getOffset());
+        assertEquals('x', slice.charAt(1));
+        assertEquals("x i", slice.subSequence(1, 4).toString());
+        assertEquals("in", new CharSequenceSlice(new StringBuilder(
+                "for $x in"), 7, 9).toString());
+        assertTrue(slice.contentEquals("$x in"));
+        assertFalse(slice.contentEquals("$x i"));
+        assertFalse(slice.contentEquals("$y in"));
+        assertEquals("", slice.subSequence(5, 5).toString());
+        assertOutOfBounds(slice, -1, 2);
+        assertOutOfBounds(slice, 2, 6);
+        assertOutOfBounds(slice, 3, 2);
+        try {
+            slice.charAt(5);
+            fail("charAt(5)");
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Strings used to be encoded with the platform encoding, which lost the
+     * characters that it can't represent.
+     */
+    @Test
+    public void testStringsAreNotEncoded() {
+        // the value of a string literal keeps its quotes
+        String value = "'\u00E9\u20AC\u4E2D\uD83D\uDE00'";
+        Resource resource = Xpath3ResourceUtil.getResource(value,
+                new ResourceSetImpl(), null);
+        assertTrue(resource.getErrors().toString(), resource.getErrors()
+                .isEmpty());
+        List<String> values = new ArrayList<String>();
+        for (Iterator<EObject> i = resource.getAllContents(); i.hasNext();) {
+            EObject next = i.next();
+            if (next instanceof StringLiteral) {
+                values.add(((StringLiteral) next).getValue());
+            }
+        }
+        assertEquals(Collections.singletonList(value), values);
+    }
+
+    @Test
+    public void testTextInputStreamBytes() throws IOException {
+        Xpath3TextInputStream stream = new Xpath3TextInputStream("1 + 2");
+        assertEquals("1 + 2", stream.getText());
+        byte[] buffer = new byte[16];
+        assertEquals(5, stream.read(buffer, 0, buffer.length));
+        assertEquals("1 + 2", new String(buffer, 0, 5));
+        assertEquals(-1, stream.read());
+    }
+
+    private static void assertSameState(String text,
+            ANTLRStringStream expected, ANTLRCharSequenceStream actual) {
+        assertEquals(text, expected.index(), actual.index());
+        assertEquals(text, expected.size(), actual.size());
+        assertEquals(text, expected.getLine(), actual.getLine());
+        assertEquals(text, expected.getCharPositionInLine(), actual
+                .getCharPositionInLine());
+        for (int i = -2; i <= 2; i++) {
+            assertEquals(text + " LA(" + i + ")", expected.LA(i), actual
+                    .LA(i));
+        }
+        if (expected.index() > 0) {
+            assertEquals(text, expected.substring(0, expected.index() - 1),
+                    actual.substring(0, actual.index() - 1));
+        }
+    }
+
+    private static void assertOutOfBounds(CharSequence chars, int start,
+            int end) {
+        try {
+            chars.subSequence(start, end);
+            fail("subSequence(" + start + ", " + end + ")");
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+}
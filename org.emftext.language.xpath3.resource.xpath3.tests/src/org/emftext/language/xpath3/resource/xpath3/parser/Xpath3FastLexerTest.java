@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.parser;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.antlr.runtime3_4_0.ANTLRStringStream;
+import org.antlr.runtime3_4_0.CommonToken;
+import org.antlr.runtime3_4_0.Token;
+import org.antlr.runtime3_4_0.TokenSource;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3Lexer;
+import org.junit.Test;
+
+/**
+ * Compares the tokens of the {@link Xpath3FastLexer} to the ones of the
+ * generated {@link Xpath3Lexer}, token for token.
+ */
+public class Xpath3FastLexerTest {
+
+    private static final String[] CORPUS = {
+            "fn:doc(fn:document-uri($Nq))",
+            "($x div $y) + xs:decimal($z)",
+            "fn:error(xs:QName(\"app:err057\"), \"Unexpected value\", "
+                    + "fn:string($v))",
+            "some $x in $expr1 satisfies $x = 47",
+            "//product[id = 47]",
+            "$N[@x castable as xs:date]"
+                    + "[xs:date(@x) gt xs:date(\"2000-01-01\")]",
+            "xs:integer(\"12\")",
+            "(1 to 100)[. mod 5 eq 0]",
+            "child::div1/child::para",
+            "/*5",
+            "4 + (/) * 5",
+            "attribute::abc:href",
+            "*:NCName",
+            "attribute(*, xs:decimal)",
+            "document-node(element(book))",
+            "(ancestor::*)[1]",
+            "$book/(chapter | appendix)[fn:last()]",
+            "($arg1 div $arg2) cast as xs:integer?",
+            "-($bellcost + $whistlecost)",
+            "/transactions/purchase[parcel=\"28-451\"]\n"
+                    + "   << /transactions/sale[parcel=\"33-870\"]",
+            "for $i in (10, 20),\n    $j in (1, 2)\nreturn ($i + $j)",
+            "xs:decimal($floatvalue * 0.2E-5)",
+            "1.5e3 div .5 idiv 1. mod 1e-3",
+            "'it''s', \"a \"\"b\"\"\"",
+            "a != b >= c <= d >> e << f",
+            "child :: a/ancestor-or-self :: node()/..",
+            "processing-instruction('x')",
+            "a_b-c.d\u00B7e\u0300 \u00C0x",
+            "\r\n\t 1",
+    };
+
+    /**
+     * The characters and words the random inputs are made of, including the
+     * prefixes at which the generated lexer commits to a rule.
+     */
+    private static final String CHARACTERS =
+            "ab1290.eE+-:/<>=!$()*,[]@?|'\" \n\tx_\u00B7\u0300\u00C0";
+
+    private static final String[] WORDS = { "for", "node",
+            "ancestor-or-self", "ancestor", "div", "and", "a:b", "1.5e3",
+            ".5", "1.", ".", "..", "'x''y'", "\"q\"\"\"", "child::", "<<",
+            ">>", "!=", "e", "E", "-", "1e", "1e+", "1.e5", ".e5", "x:1",
+            "x:", " ", "processing-instruction", "union", "x.y", "\r\n" };
+
+    @Test
+    public void testCorpus() {
+        for (String text : CORPUS) {
+            assertSameTokens(text);
+        }
+    }
+
+    @Test
+    public void testRandomInputs() {
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder text = new StringBuilder();
+            int length = random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                if (random.nextBoolean()) {
+                    text.append(WORDS[random.nextInt(WORDS.length)]);
+                } else {
+                    text.append(CHARACTERS.charAt(random.nextInt(CHARACTERS
+                            .length())));
+                }
+            }
+            assertSameTokens(text.toString());
+        }
+    }
+
+    /**
+     * Asserts that both lexers fail on the given text, or that they produce
+     * the same tokens.
+     */
+    private static void assertSameTokens(String text) {
+        Xpath3Lexer expectedLexer = new Xpath3Lexer(new ANTLRStringStream(
+                text));
+        List<String> expected = getTokens(expectedLexer);
+        Xpath3FastLexer actualLexer = new Xpath3FastLexer(
+                new ANTLRStringStream(text));
+        List<String> actual = getTokens(actualLexer);
+        boolean failed = !expectedLexer.lexerExceptions.isEmpty();
+        assertEquals(text, failed, actualLexer.getNumberOfErrors() > 0);
+        if (!failed) {
+            assertEquals(text, expected, actual);
+        }
+    }
+
+    private static List<String> getTokens(TokenSource lexer) {
+        List<String> tokens = new ArrayList<String>();
+        while (true) {
+            CommonToken token = (CommonToken) lexer.nextToken();
+            tokens.add(token.getType() + "/" + token.getChannel() + " "
+                    + token.getStartIndex() + "-" + token.getStopIndex() + " "
+                    + token.getLine() + ":" + token.getCharPositionInLine()
+                    + " " + token.getText());
+            if (token.getType() == Token.EOF) {
+                return tokens;
+            }
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource.Diagnostic;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3LocationMap;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3TextParser;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3AntlrParser;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3Resource;
+import org.emftext.language.xpath3.resource.xpath3.post.PostProcessor;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3ResourceUtil;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3StructuralEquality;
+import org.junit.Test;
+
+/**
+ * Compares the resources loaded with the {@link Xpath3FastParser} to the
+ * ones loaded with the generated parser.
+ */
+public class Xpath3FastParserTest {
+
+    private static final String[] EXPRESSIONS = {
+            "1 + 2 * 3",
+            "-(1 - -2) idiv 3",
+            "1.5e3 div .5",
+            "'it''s', \"a \"\"b\"\"\"",
+            "(1 to 100)[. mod 5 eq 0][last()]",
+            "for $x in 1 to 3, $y in $x to 3 return $x * $y",
+            "some $x in (1, 2) satisfies every $y in $x satisfies $y",
+            "if ($x) then 1 else ()",
+            "$a eq 1 and $b != 2 or $c << $d",
+            "//a[@id = '2']/b[1]/text()",
+            "/a/../b",
+            ".//b",
+            "child :: a/parent :: b/ancestor-or-self :: node()",
+            "@*/*:b",
+            "element(a, xs:string)/attribute(*)",
+            "document-node(element(book))",
+            "processing-instruction(x)",
+            "$x instance of xs:integer+",
+            "$x treat as item()?",
+            "'5' castable as xs:integer?",
+            "a | b union c except d intersect e",
+            "fn:doc(\"bib.xml\")/books/book[fn:count(./author) > 1]",
+            // Input that the fast path leaves to the generated parser
+            "/",
+            "/ * 5",
+            "(/) * 5",
+            "4 + /",
+            "1,\n  2,\n\t3",
+    };
+
+    private static final String[] INVALID_EXPRESSIONS = {
+            "",
+            "1 +",
+            "1 2",
+            "//a[",
+            "for $x in",
+            "(1, 2",
+            "$",
+            "1 + )",
+            "child:: a",
+            "if",
+            "a/div",
+    };
+
+    @Test
+    public void testSameModel() {
+        for (String text : EXPRESSIONS) {
+            Xpath3Resource expected = load(text, false);
+            Xpath3Resource actual = load(text, true);
+            assertTrue(text + ": " + expected.getErrors(), expected
+                    .getErrors().isEmpty());
+            assertTrue(text + ": " + actual.getErrors(), actual.getErrors()
+                    .isEmpty());
+            assertModel(text, expected, actual);
+        }
+    }
+
+    @Test
+    public void testSameModelWithPostProcessor() {
+        for (String text : EXPRESSIONS) {
+            Map<Object, Object> options = new HashMap<Object, Object>(
+                    new PostProcessor().getOptions());
+            Xpath3Resource expected = load(text, options);
+            options.put(Xpath3FastParser.USE_FAST_PARSER, Boolean.TRUE);
+            Xpath3Resource actual = load(text, options);
+            assertModel(text, expected, actual);
+            options.put(Xpath3FastParser.COLLAPSE_EXPRESSIONS, Boolean.TRUE);
+            Xpath3Resource collapsed = load(text, options);
+            assertTrue(text, Xpath3StructuralEquality.EXACT.equal(
+                    expected.getContents().get(0),
+                    collapsed.getContents().get(0)));
+        }
+    }
+
+    @Test
+    public void testSameErrors() {
+        for (String text : INVALID_EXPRESSIONS) {
+            Xpath3Resource expected = load(text, false);
+            Xpath3Resource actual = load(text, true);
+            assertFalse(text, expected.getErrors().isEmpty());
+            assertEquals(text, toString(expected.getErrors()),
+                    toString(actual.getErrors()));
+            assertEquals(text, expected.getContents().size(), actual
+                    .getContents().size());
+        }
+    }
+
+    @Test
+    public void testCodeCompletion() {
+        for (String text : EXPRESSIONS) {
+            for (int offset = 0; offset <= text.length(); offset++) {
+                String prefix = text.substring(0, offset);
+                Xpath3Resource resource = new Xpath3Resource(
+                        URI.createURI("dummy.xpath3"));
+                IXpath3TextParser expected = new Xpath3AntlrParser()
+                        .createInstance(toStream(prefix), null);
+                Xpath3FastParser actual = new Xpath3FastParser(
+                        toStream(prefix), null);
+                actual.setOptions(Collections.singletonMap(
+                        Xpath3FastParser.USE_FAST_PARSER, Boolean.TRUE));
+                assertEquals(prefix, toString(expected
+                        .parseToExpectedElements(null, resource, offset)),
+                        toString(actual.parseToExpectedElements(null,
+                                resource, offset)));
+            }
+        }
+    }
+
+    /**
+     * Asserts that both resources contain the same tree at the same
+     * locations.
+     */
+    private static void assertModel(String text, Xpath3Resource expected,
+            Xpath3Resource actual) {
+        EObject expectedRoot = expected.getContents().get(0);
+        EObject actualRoot = actual.getContents().get(0);
+        assertTrue(text, Xpath3StructuralEquality.EXACT.equal(expectedRoot,
+                actualRoot));
+        IXpath3LocationMap expectedLocations = expected.getLocationMap();
+        IXpath3LocationMap actualLocations = actual.getLocationMap();
+        Iterator<EObject> expectedElements = expected.getAllContents();
+        Iterator<EObject> actualElements = actual.getAllContents();
+        while (expectedElements.hasNext()) {
+            EObject expectedElement = expectedElements.next();
+            EObject actualElement = actualElements.next();
+            String element = text + ": " + expectedElement.eClass().getName();
+            assertEquals(element, expectedLocations.getCharStart(
+                    expectedElement), actualLocations.getCharStart(
+                    actualElement));
+            assertEquals(element, expectedLocations.getCharEnd(
+                    expectedElement), actualLocations.getCharEnd(
+                    actualElement));
+            assertEquals(element, expectedLocations.getLine(expectedElement),
+                    actualLocations.getLine(actualElement));
+            assertEquals(element, expectedLocations.getColumn(
+                    expectedElement), actualLocations.getColumn(
+                    actualElement));
+        }
+        assertFalse(text, actualElements.hasNext());
+    }
+
+    private static Xpath3Resource load(String text, boolean fast) {
+        Map<Object, Object> options = new HashMap<Object, Object>();
+        if (fast) {
+            options.put(Xpath3FastParser.USE_FAST_PARSER, Boolean.TRUE);
+        }
+        return load(text, options);
+    }
+
+    private static Xpath3Resource load(String text, Map<?, ?> options) {
+        return (Xpath3Resource) Xpath3ResourceUtil.getResource(toBytes(text),
+                new ResourceSetImpl(), options);
+    }
+
+    private static ByteArrayInputStream toStream(String text) {
+        return new ByteArrayInputStream(toBytes(text));
+    }
+
+    private static byte[] toBytes(String text) {
+        try {
+            return text.getBytes("UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<String> toString(List<?> items) {
+        List<String> result = new ArrayList<String>();
+        for (Object item : items) {
+            if (item instanceof Diagnostic) {
+                Diagnostic diagnostic = (Diagnostic) item;
+                result.add(diagnostic.getMessage() + " at "
+                        + diagnostic.getLine() + ":" + diagnostic.getColumn());
+            } else {
+                result.add(String.valueOf(item));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,207 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource.Diagnostic;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3LocationMap;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3LocalizedMessage;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3Resource;
+import org.emftext.language.xpath3.resource.xpath3.post.PostProcessor;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3ResourceUtil;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3StructuralEquality;
+import org.junit.Test;
+
+/**
+ * Compares the models of the {@link Xpath3HeadlessParser} to the ones of
+ * loaded resources.
+ */
+public class Xpath3HeadlessParserTest {
+
+    private static final String[] EXPRESSIONS = {
+            "1 + 2 * 3",
+            "-(1 - -2) idiv 3",
+            "'it''s', \"a \"\"b\"\"\"",
+            "(1 to 100)[. mod 5 eq 0][last()]",
+            "for $x in 1 to 3, $y in $x to 3 return $x * $y",
+            "some $x in (1, 2) satisfies every $y in $x satisfies $y",
+            "if ($x) then 1 else ()",
+            "//a[@id = '2']/b[1]/text()",
+            "child :: a/parent :: b/ancestor-or-self :: node()",
+            "element(a, xs:string)/attribute(*)",
+            "processing-instruction(x)",
+            "$x treat as item()?",
+            "a | b union c except d intersect e",
+            // Input that the fast path leaves to the generated parser
+            "/",
+            "/ * 5",
+            "(/) * 5",
+            "1,\n  2,\n\t3",
+    };
+
+    private static final String[] INVALID_EXPRESSIONS = {
+            "",
+            "1 +",
+            "1 2",
+            "//a[",
+            "(1, 2",
+            "1 + )",
+            "child:: a",
+    };
+
+    @Test
+    public void testSameModel() {
+        Xpath3HeadlessParser parser = new Xpath3HeadlessParser();
+        for (String text : EXPRESSIONS) {
+            Xpath3HeadlessParseResult result = parser.parse(text);
+            assertFalse(text + ": " + result.getErrors(), result.hasErrors());
+            assertNull(text, result.getLocationMap());
+            assertTrue(text, Xpath3StructuralEquality.EXACT.equal(load(text,
+                    Collections.emptyMap()).getContents().get(0), result
+                    .getRoot()));
+        }
+    }
+
+    @Test
+    public void testSimplifiedModel() {
+        Xpath3HeadlessParser parser = new Xpath3HeadlessParser(Collections
+                .singletonMap(Xpath3FastParser.COLLAPSE_EXPRESSIONS,
+                        Boolean.TRUE));
+        for (String text : EXPRESSIONS) {
+            Xpath3HeadlessParseResult result = parser.parse(text);
+            assertTrue(text, Xpath3StructuralEquality.EXACT.equal(load(text,
+                    new PostProcessor().getOptions()).getContents().get(0),
+                    result.getRoot()));
+            assertNull(text, result.getRoot().eResource());
+        }
+    }
+
+    @Test
+    public void testLocations() {
+        Xpath3HeadlessParser parser = new Xpath3HeadlessParser();
+        for (String text : EXPRESSIONS) {
+            Xpath3Resource expected = load(text, Collections.emptyMap());
+            IXpath3LocationMap expectedLocations = expected.getLocationMap();
+            Xpath3HeadlessParseResult result = parser.parse(text, true);
+            IXpath3LocationMap actualLocations = result.getLocationMap();
+            Iterator<EObject> expectedElements = expected.getAllContents();
+            List<EObject> actualElements = new ArrayList<EObject>();
+            actualElements.add(result.getRoot());
+            for (Iterator<EObject> i = result.getRoot().eAllContents(); i
+                    .hasNext();) {
+                actualElements.add(i.next());
+            }
+            for (EObject actualElement : actualElements) {
+                EObject expectedElement = expectedElements.next();
+                String element = text + ": "
+                        + expectedElement.eClass().getName();
+                assertEquals(element, expectedLocations
+                        .getCharStart(expectedElement), actualLocations
+                        .getCharStart(actualElement));
+                assertEquals(element, expectedLocations
+                        .getCharEnd(expectedElement), actualLocations
+                        .getCharEnd(actualElement));
+                assertEquals(element, expectedLocations
+                        .getLine(expectedElement), actualLocations
+                        .getLine(actualElement));
+            }
+            assertFalse(text, expectedElements.hasNext());
+        }
+    }
+
+    @Test
+    public void testErrors() {
+        Xpath3HeadlessParser parser = new Xpath3HeadlessParser();
+        for (String text : INVALID_EXPRESSIONS) {
+            Xpath3Resource expected = load(text, Collections.emptyMap());
+            Xpath3HeadlessParseResult result = parser.parse(text);
+            assertTrue(text, result.hasErrors());
+            List<String> expectedErrors = new ArrayList<String>();
+            for (Diagnostic diagnostic : expected.getErrors()) {
+                expectedErrors.add(diagnostic.getMessage() + " at "
+                        + diagnostic.getLine() + ":" + diagnostic.getColumn());
+            }
+            List<String> actualErrors = new ArrayList<String>();
+            for (Xpath3LocalizedMessage message : result.getErrors()) {
+                actualErrors.add(message.getMessage() + " at "
+                        + message.getLine() + ":" + message.getColumn());
+            }
+            assertEquals(text, expectedErrors, actualErrors);
+        }
+    }
+
+    /**
+     * The parser reuses a generated parser per thread, so a parser that
+     * failed must not leave errors behind for the next text.
+     */
+    @Test
+    public void testReuse() {
+        Xpath3HeadlessParser parser = new Xpath3HeadlessParser();
+        for (int i = 0; i < 3; i++) {
+            for (String text : INVALID_EXPRESSIONS) {
+                assertTrue(text, parser.parse(text).hasErrors());
+                assertFalse(text, parser.parse("/ * 5").hasErrors());
+            }
+        }
+    }
+
+    @Test
+    public void testThreads() throws Exception {
+        final Xpath3HeadlessParser parser = new Xpath3HeadlessParser();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<Future<?>>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(new Callable<Void>() {
+                    public Void call() {
+                        for (int j = 0; j < 20; j++) {
+                            for (String text : EXPRESSIONS) {
+                                assertFalse(text, parser.parse(text)
+                                        .hasErrors());
+                            }
+                            for (String text : INVALID_EXPRESSIONS) {
+                                assertTrue(text, parser.parse(text)
+                                        .hasErrors());
+                            }
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static Xpath3Resource load(String text, Map<?, ?> options) {
+        return (Xpath3Resource) Xpath3ResourceUtil.getResource(text,
+                new ResourceSetImpl(), options);
+    }
+}
@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.antlr.runtime3_4_0.ANTLRStringStream;
+import org.antlr.runtime3_4_0.CommonTokenStream;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3AntlrParser;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ExpectedTerminal;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3Lexer;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3Resource;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3StructuralEquality;
+import org.junit.Test;
+
+/**
+ * Compares a {@link Xpath3ReusableParser} that is reset between the texts to
+ * new generated parsers and checks which parsers the
+ * {@link Xpath3ParserPool} reuses.
+ */
+public class Xpath3ReusableParserTest {
+
+    private static final String[] EXPRESSIONS = {
+            "1 + 2 * 3",
+            "(1 to 100)[. mod 5 eq 0][last()]",
+            "for $x in 1 to 3, $y in $x to 3 return $x * $y",
+            "some $x in (1, 2) satisfies every $y in $x satisfies $y",
+            "//a[@id = '2']/b[1]/text()",
+            "child :: a/parent :: b/ancestor-or-self :: node()",
+            "'it''s', \"a \"\"b\"\"\"",
+            "/ * 5",
+            "1,\n  2,\n\t3",
+    };
+
+    @Test
+    public void testReset() {
+        Xpath3ReusableParser parser = new Xpath3ReusableParser();
+        for (int i = 0; i < 3; i++) {
+            for (String text : EXPRESSIONS) {
+                parser.reset(text);
+                EObject actual = parser.parse().getRoot();
+                assertTrue(text, Xpath3StructuralEquality.EXACT.equal(
+                        createParser(text).parse().getRoot(), actual));
+                assertTrue(text, parser.isReusable());
+            }
+        }
+    }
+
+    @Test
+    public void testSyntaxError() {
+        Xpath3ReusableParser parser = new Xpath3ReusableParser();
+        parser.reset("1 +");
+        parser.parse();
+        assertFalse(parser.isReusable());
+        try {
+            parser.reset("1");
+            fail("reset after a syntax error");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testCodeCompletion() {
+        Xpath3ReusableParser parser = new Xpath3ReusableParser();
+        for (String text : EXPRESSIONS) {
+            for (int offset = 0; offset <= text.length(); offset += 3) {
+                String prefix = text.substring(0, offset);
+                Xpath3Resource resource = new Xpath3Resource(URI
+                        .createURI("dummy.xpath3"));
+                parser.reset(prefix);
+                assertEquals(prefix, toString(createParser(prefix)
+                        .parseToExpectedElements(null, resource, offset)),
+                        toString(parser.parseToExpectedElements(null,
+                                resource, offset)));
+                assertTrue(prefix, parser.isReusable());
+            }
+        }
+    }
+
+    @Test
+    public void testPoolReusesParsers() {
+        Xpath3ParserPool pool = new Xpath3ParserPool();
+        Xpath3ReusableParser parser = pool.acquire("1");
+        // a nested parse gets a parser of its own
+        Xpath3ReusableParser nested = pool.acquire("2");
+        assertNotSame(parser, nested);
+        pool.release(nested);
+        pool.release(parser);
+        assertSame(nested, pool.acquire("3"));
+        for (String text : EXPRESSIONS) {
+            assertNotNull(text, pool.parse(text).getRoot());
+        }
+    }
+
+    @Test
+    public void testPoolDropsFailedParsers() {
+        Xpath3ParserPool pool = new Xpath3ParserPool();
+        Xpath3ReusableParser parser = pool.acquire("1 +");
+        parser.parse();
+        pool.release(parser);
+        Xpath3ReusableParser next = pool.acquire("1");
+        assertNotSame(parser, next);
+        assertTrue(next.isReusable());
+        assertNotNull(next.parse().getRoot());
+    }
+
+    @Test
+    public void testPoolPerThread() throws Exception {
+        final Xpath3ParserPool pool = new Xpath3ParserPool();
+        Xpath3ReusableParser parser = pool.acquire("1");
+        pool.release(parser);
+        final Xpath3ReusableParser[] other = new Xpath3ReusableParser[1];
+        Thread thread = new Thread() {
+            @Override
+            public void run() {
+                other[0] = pool.acquire("1");
+                pool.release(other[0]);
+            }
+        };
+        thread.start();
+        thread.join();
+        assertNotSame(parser, other[0]);
+        assertSame(parser, pool.acquire("1"));
+    }
+
+    private static Xpath3AntlrParser createParser(String text) {
+        return new Xpath3AntlrParser(new CommonTokenStream(new Xpath3Lexer(
+                new ANTLRStringStream(text))));
+    }
+
+    private static List<String> toString(List<Xpath3ExpectedTerminal> items) {
+        List<String> result = new ArrayList<String>();
+        for (Xpath3ExpectedTerminal item : items) {
+            result.add(String.valueOf(item));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,156 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.post;
+
+import static org.emftext.language.xpath3.resource.xpath3.post.PostProcessorFixture.assertProcessed;
+import static org.emftext.language.xpath3.resource.xpath3.post.PostProcessorFixture.load;
+import static org.emftext.language.xpath3.resource.xpath3.post.PostProcessorFixture.processOptions;
+import static org.emftext.language.xpath3.resource.xpath3.post.PostProcessorFixture.simplifyOptions;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Map;
+
+import org.eclipse.emf.ecore.EObject;
+import org.emftext.language.xpath3.resource.xpath3.eval.Xpath3AtomicType;
+import org.emftext.language.xpath3.resource.xpath3.eval.Xpath3DomNodeModel;
+import org.emftext.language.xpath3.resource.xpath3.eval.Xpath3EvaluationContext;
+import org.emftext.language.xpath3.resource.xpath3.eval.Xpath3EvaluationException;
+import org.emftext.language.xpath3.resource.xpath3.eval.Xpath3Evaluator;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3ResourceUtil;
+import org.junit.Test;
+
+public class ConstantFolderTest {
+
+    private static final String[] EXPRESSIONS = {
+            "1 + 2 * 3",
+            "-1 - -1",
+            "7 idiv 2 + 7 mod 2",
+            "0.1 + 0.2",
+            "1.5 * 2",
+            "1e0 + 1",
+            "1 div 3",
+            "1 div 0",
+            "1 idiv 0",
+            "1e0 div 0",
+            "2147483647 + 1",
+            "1.5e999",
+            "1.5e999 * 0",
+            "-0e0 + 0",
+            "1 eq 1",
+            "1 = 2",
+            "'a' lt 'b'",
+            "1 eq 'a'",
+            "if (1 eq 1) then 'yes' else 1 div 0",
+            "5 to 5",
+            "5 to 4",
+            "count((1 + 1) to 2 * 2)",
+            "(1, 2, 3)[1 + 1]",
+            "---(2)",
+            "((4))",
+    };
+
+    @Test
+    public void testArithmetic() {
+        assertFolded("1 + 2", "3");
+        assertFolded("1 + 2 * 3", "7");
+        assertFolded("(1 + 2) * $x", "3 * $x");
+        assertFolded("-1 - -1", "0");
+        assertFolded("7 mod 2", "1");
+        assertFolded("0.1 + 0.2", "0.3");
+        assertFolded("1e0 + 1", "2.0e0");
+        assertFolded("$x[1 + 1]", "$x[2]");
+    }
+
+    @Test
+    public void testIdentities() {
+        assertFolded("($x + 1) * 1", "($x + 1)");
+        assertFolded("--$x", "+$x");
+        assertFolded("---$x", "-$x");
+        // $x may be a string, which is not a numeric
+        assertNotFolded("$x * 1");
+        // -0e0 + 0 is positive zero
+        assertNotFolded("$x + 0");
+    }
+
+    @Test
+    public void testComparisons() {
+        assertFolded("1 eq 1", "true()");
+        assertFolded("1 = 2", "false()");
+        assertFolded("'a' lt 'b'", "true()");
+        assertFolded("1 lt 2 and $x", "true() and $x");
+        assertNotFolded("'a' = ('a', 'b')");
+    }
+
+    @Test
+    public void testConditionalsAndRanges() {
+        assertFolded("if (1 eq 1) then $a else $b", "$a");
+        assertFolded("5 to 5", "5");
+        assertFolded("5 to 4", "()");
+        assertFolded("(1)", "1");
+        assertNotFolded("(($x))");
+    }
+
+    @Test
+    public void testErrorsAndUnrepresentableValues() {
+        assertNotFolded("1 div 0");
+        assertNotFolded("1 idiv 0");
+        assertNotFolded("1e0 div 0");
+        assertNotFolded("2147483647 + 1");
+        assertNotFolded("1.5e999 * 0");
+    }
+
+    @Test
+    public void testOverflowingDoubleKeepsItsText() {
+        assertEquals("1.5e999", fold("1.5e999"));
+        assertEquals("(1.5e999)", fold("(1.5e999)"));
+    }
+
+    @Test
+    public void testSameValues() {
+        Xpath3EvaluationContext context = new Xpath3EvaluationContext(
+                new Xpath3DomNodeModel());
+        for (String text : EXPRESSIONS) {
+            assertEquals(text, evaluate(load(text, simplifyOptions()), context),
+                    evaluate(load(text, foldOptions()), context));
+        }
+    }
+
+    private static void assertFolded(String text, String expected) {
+        assertProcessed(text, expected, foldOptions());
+    }
+
+    private static void assertNotFolded(String text) {
+        assertFolded(text, text);
+    }
+
+    private static String fold(String text) {
+        return Xpath3ResourceUtil.getText(load(text, foldOptions()));
+    }
+
+    private static String evaluate(EObject expr,
+            Xpath3EvaluationContext context) {
+        StringBuilder result = new StringBuilder();
+        try {
+            for (Object item : new Xpath3Evaluator().evaluate(expr, context)) {
+                result.append(Xpath3AtomicType.typeOf(item)).append(' ')
+                        .append(Xpath3AtomicType.getStringValue(item))
+                        .append(", ");
+            }
+        } catch (Xpath3EvaluationException e) {
+            result.append(e.getErrorCode());
+        }
+        return result.toString();
+    }
+
+    private static Map<Object, Object> foldOptions() {
+        return processOptions(new ConstantFolder());
+    }
+}
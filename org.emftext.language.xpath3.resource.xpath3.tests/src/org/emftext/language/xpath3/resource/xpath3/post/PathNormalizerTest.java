@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.post;
+
+import static org.emftext.language.xpath3.resource.xpath3.post.PostProcessorFixture.assertProcessed;
+import static org.emftext.language.xpath3.resource.xpath3.post.PostProcessorFixture.load;
+import static org.emftext.language.xpath3.resource.xpath3.post.PostProcessorFixture.processOptions;
+import static org.emftext.language.xpath3.resource.xpath3.post.PostProcessorFixture.simplifyOptions;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringReader;
+import java.util.Map;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.eclipse.emf.ecore.EObject;
+import org.emftext.language.xpath3.resource.xpath3.eval.Xpath3DomNodeModel;
+import org.emftext.language.xpath3.resource.xpath3.eval.Xpath3EvaluationContext;
+import org.emftext.language.xpath3.resource.xpath3.eval.Xpath3Evaluator;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3ResourceUtil;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3StructuralEquality;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+
+public class PathNormalizerTest {
+
+    private static final String DOCUMENT = "<r>"
+            + "<a id='1'><b>x</b><b id='1'>y</b></a>"
+            + "<a id='2'><b>z<b>w</b></b><c/></a>"
+            + "<!--k-->"
+            + "</r>";
+
+    private static final String[] EXPRESSIONS = {
+            "//b",
+            "//b[@id]",
+            "//b[@id = 1]",
+            "//b[1]",
+            "//b[last()]",
+            "//b[position() > 1]",
+            "//b[b]",
+            "//b[. = 'y']",
+            "/r//b",
+            "//a//b",
+            "//a/b",
+            "//text()",
+            "//comment()",
+            "//@id",
+            ".//b",
+            "$x//b",
+            "$x//b[@id = 1]",
+            "//b/..",
+            "//b/../@id",
+            "//b[b]/b/..",
+            "r/a/..",
+            "//c/../b",
+            "./r/./a/.",
+            "count(//b)",
+            "//b/string()",
+    };
+
+    @Test
+    public void testDescendantSteps() {
+        assertNormalized("//b", "/descendant :: b");
+        assertNormalized("//a/b", "/descendant :: a/b");
+        assertNormalized("/a//b", "/a/descendant :: b");
+        assertNormalized(".//b", "descendant :: b");
+        assertNormalized("//text()", "/descendant :: text()");
+        assertNormalized("//a[@id = 1]", "/descendant :: a[@id = 1]");
+        assertNormalized("$x//b[@id = 1]", "$x/descendant :: b[@id = 1]");
+    }
+
+    @Test
+    public void testPositionalPredicates() {
+        assertNotNormalized("//a[1]");
+        assertNotNormalized("//a[last()]");
+        assertNotNormalized("//b[position() > 1]");
+        assertNotNormalized("//b[$n]");
+    }
+
+    @Test
+    public void testParentSteps() {
+        assertNormalized("a/..", "self :: node()[a]");
+        assertNormalized("a/../b", "self :: node()[a]/b");
+        assertNormalized("//b[c]/d/..", "/descendant :: b[c][d]");
+    }
+
+    @Test
+    public void testSelfSteps() {
+        assertNormalized("a/.", "a");
+        assertNormalized("./a", "a");
+    }
+
+    @Test
+    public void testReparse() {
+        for (String text : EXPRESSIONS) {
+            EObject normalized = load(text, normalizeOptions());
+            String printed = Xpath3ResourceUtil.getText(normalized);
+            assertTrue(text + " is printed as " + printed,
+                    Xpath3StructuralEquality.EXACT.equal(normalized, load(
+                            printed, simplifyOptions())));
+        }
+    }
+
+    @Test
+    public void testSameNodes() throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        Document document = factory.newDocumentBuilder().parse(
+                new InputSource(new StringReader(DOCUMENT)));
+        Xpath3EvaluationContext context = new Xpath3EvaluationContext(
+                new Xpath3DomNodeModel()).withContextItem(document)
+                .withVariable("x", document.getDocumentElement());
+        Xpath3Evaluator evaluator = new Xpath3Evaluator();
+        for (String text : EXPRESSIONS) {
+            assertEquals(text, evaluator.evaluate(
+                    load(text, simplifyOptions()), context).toList(),
+                    evaluator.evaluate(load(text, normalizeOptions()),
+                            context).toList());
+        }
+    }
+
+    private static void assertNormalized(String text, String expected) {
+        assertProcessed(text, expected, normalizeOptions());
+    }
+
+    private static void assertNotNormalized(String text) {
+        assertNormalized(text, text);
+    }
+
+    private static Map<Object, Object> normalizeOptions() {
+        return processOptions(new PathNormalizer());
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.post;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3Options;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3ResourcePostProcessorProvider;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3ResourceUtil;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3StructuralEquality;
+
+/**
+ * Loads expressions with the post-processors that are chained after the
+ * {@link PostProcessor} and compares the results with simplified models.
+ */
+final class PostProcessorFixture {
+
+    private PostProcessorFixture() {
+    }
+
+    /**
+     * Returns the options that only run the {@link PostProcessor}.
+     */
+    static Map<Object, Object> simplifyOptions() {
+        return new HashMap<Object, Object>(new PostProcessor().getOptions());
+    }
+
+    /**
+     * Returns the options that run the given post-processor after the
+     * {@link PostProcessor}.
+     */
+    static Map<Object, Object> processOptions(
+            IXpath3ResourcePostProcessorProvider provider) {
+        Map<Object, Object> options = new HashMap<Object, Object>();
+        options.put(IXpath3Options.RESOURCE_POSTPROCESSOR_PROVIDER, Arrays
+                .asList(new PostProcessor(), provider));
+        return options;
+    }
+
+    /**
+     * Asserts that the text is processed to the same model as the simplified
+     * expected text.
+     */
+    static void assertProcessed(String text, String expected,
+            Map<?, ?> options) {
+        EObject actual = load(text, options);
+        assertTrue(text + " is processed to "
+                + Xpath3ResourceUtil.getText(actual),
+                Xpath3StructuralEquality.EXACT.equal(load(expected,
+                        simplifyOptions()), actual));
+    }
+
+    static EObject load(String text, Map<?, ?> options) {
+        Resource resource = Xpath3ResourceUtil.getResource(text,
+                new ResourceSetImpl(), options);
+        assertTrue(text + ": " + resource.getErrors(), resource.getErrors()
+                .isEmpty());
+        return resource.getContents().get(0);
+    }
+}
@@ -0,0 +1,174 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Stack;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.emftext.language.xpath3.IntegerLiteral;
+import org.emftext.language.xpath3.Literal;
+import org.emftext.language.xpath3.PrimaryExpr;
+import org.emftext.language.xpath3.StringLiteral;
+import org.emftext.language.xpath3.XPath3Package;
+import org.junit.Test;
+
+/**
+ * Checks that the {@link AbstractXpath3Interpreter} calls the interprete_*
+ * methods of the types of an object in the order of the instanceof checks
+ * that it used before.
+ */
+public class AbstractXpath3InterpreterTest {
+
+    /**
+     * Overrides the methods of some classes and their super types.
+     */
+    private static class LiteralInterpreter extends
+            AbstractXpath3Interpreter<String, Void> {
+
+        @Override
+        public String interprete_org_emftext_language_xpath3_StringLiteral(
+                StringLiteral stringLiteral, Void context) {
+            return "StringLiteral";
+        }
+
+        @Override
+        public String interprete_org_emftext_language_xpath3_IntegerLiteral(
+                IntegerLiteral integerLiteral, Void context) {
+            return "IntegerLiteral";
+        }
+
+        @Override
+        public String interprete_org_emftext_language_xpath3_Literal(
+                Literal literal, Void context) {
+            return "Literal";
+        }
+
+        @Override
+        public String interprete_org_emftext_language_xpath3_PrimaryExpr(
+                PrimaryExpr primaryExpr, Void context) {
+            return "PrimaryExpr";
+        }
+    }
+
+    @Test
+    public void testOrder() {
+        LiteralInterpreter interpreter = new LiteralInterpreter();
+        XPath3Package p = XPath3Package.eINSTANCE;
+        assertEquals("StringLiteral", interpret(interpreter, p
+                .getStringLiteral()));
+        // Literal was checked before IntegerLiteral
+        assertEquals("Literal", interpret(interpreter, p.getIntegerLiteral()));
+        assertEquals("Literal", interpret(interpreter, p.getDoubleLiteral()));
+        assertEquals("PrimaryExpr", interpret(interpreter, p.getVarRef()));
+        assertEquals("PrimaryExpr", interpret(interpreter, p
+                .getContextItemExpr()));
+        assertNull(interpret(interpreter, p.getIfExpr()));
+    }
+
+    @Test
+    public void testAllClasses() {
+        AbstractXpath3Interpreter<String, Void> interpreter =
+                new AbstractXpath3Interpreter<String, Void>();
+        LiteralInterpreter literalInterpreter = new LiteralInterpreter();
+        for (EClassifier classifier : XPath3Package.eINSTANCE
+                .getEClassifiers()) {
+            if (!(classifier instanceof EClass)
+                    || ((EClass) classifier).isAbstract()
+                    || ((EClass) classifier).isInterface()) {
+                continue;
+            }
+            EClass eClass = (EClass) classifier;
+            assertNull(eClass.getName(), interpret(interpreter, eClass));
+            String result = interpret(literalInterpreter, eClass);
+            if (XPath3Package.eINSTANCE.getPrimaryExpr().isSuperTypeOf(
+                    eClass)) {
+                assertTrue(eClass.getName(), result != null);
+            } else {
+                assertNull(eClass.getName(), result);
+            }
+        }
+    }
+
+    /**
+     * Objects of classes of other packages are interpreted like their first
+     * super type.
+     */
+    @Test
+    public void testOtherPackages() {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName("other");
+        ePackage.setNsURI("http://example.org/other");
+        EClass subClass = EcoreFactory.eINSTANCE.createEClass();
+        subClass.setName("SubLiteral");
+        subClass.getESuperTypes().add(
+                XPath3Package.eINSTANCE.getStringLiteral());
+        EClass otherClass = EcoreFactory.eINSTANCE.createEClass();
+        otherClass.setName("Other");
+        ePackage.getEClassifiers().add(subClass);
+        ePackage.getEClassifiers().add(otherClass);
+        LiteralInterpreter interpreter = new LiteralInterpreter();
+        assertEquals("StringLiteral", interpret(interpreter, subClass));
+        assertNull(interpret(interpreter, otherClass));
+    }
+
+    @Test
+    public void testInterpretationStack() {
+        Resource resource = Xpath3ResourceUtil.getResource("if ($x) then 'a'"
+                + " else 1", new ResourceSetImpl(), null);
+        final List<String> interpreted = new ArrayList<String>();
+        LiteralInterpreter interpreter = new LiteralInterpreter() {
+
+            @Override
+            public String interprete(EObject object, Void context) {
+                interpreted.add(object.eClass().getName());
+                return super.interprete(object, context);
+            }
+
+            @Override
+            public boolean continueInterpretation(Void context,
+                    String result) {
+                return !"StringLiteral".equals(result);
+            }
+        };
+        EObject root = resource.getContents().get(0);
+        interpreter.addObjectTreeToInterpreteTopDown(root);
+        Stack<EObject> stack = interpreter.getInterpretationStack();
+        int size = stack.size();
+        assertEquals(root, stack.peek());
+        assertEquals("StringLiteral", interpreter.interprete((Void) null));
+        assertEquals("StringLiteral", interpreted
+                .get(interpreted.size() - 1));
+        assertEquals(size - interpreted.size(), stack.size());
+        assertTrue(interpreted.contains("IfExpr"));
+        interpreter.terminate();
+        assertTrue(stack.isEmpty());
+        assertNull(interpreter.interprete((Void) null));
+    }
+
+    private static String interpret(
+            AbstractXpath3Interpreter<String, Void> interpreter,
+            EClass eClass) {
+        return interpreter.interprete(EcoreUtil.create(eClass), null);
+    }
+}
@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Iterator;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.emftext.language.xpath3.IntegerLiteral;
+import org.emftext.language.xpath3.StringLiteral;
+import org.emftext.language.xpath3.XPath3Package;
+import org.junit.Test;
+
+/**
+ * Checks that the {@link AbstractXpath3Visitor} dispatches the nodes of all
+ * classes to their visit methods.
+ */
+public class AbstractXpath3VisitorTest {
+
+    /**
+     * Returns the name of the class of the visited node, or the name of the
+     * method for the overridden ones.
+     */
+    private static class NameVisitor extends
+            AbstractXpath3Visitor<String, Void> {
+
+        @Override
+        protected String defaultVisit(EObject object, Void context) {
+            return object.eClass().getName();
+        }
+
+        @Override
+        public String visitStringLiteral(StringLiteral stringLiteral,
+                Void context) {
+            return "visitStringLiteral";
+        }
+    }
+
+    /**
+     * Visits the children of every node and sums the integer literals.
+     */
+    private static class SumVisitor extends
+            AbstractXpath3Visitor<Integer, Void> {
+
+        @Override
+        protected Integer defaultVisit(EObject object, Void context) {
+            int sum = 0;
+            for (EObject child : object.eContents()) {
+                sum += visit(child, context);
+            }
+            return sum;
+        }
+
+        @Override
+        public Integer visitIntegerLiteral(IntegerLiteral integerLiteral,
+                Void context) {
+            return integerLiteral.getValue();
+        }
+    }
+
+    @Test
+    public void testAllClasses() throws NoSuchMethodException {
+        NameVisitor visitor = new NameVisitor();
+        for (EClassifier classifier : XPath3Package.eINSTANCE
+                .getEClassifiers()) {
+            if (!(classifier instanceof EClass)
+                    || ((EClass) classifier).isAbstract()
+                    || ((EClass) classifier).isInterface()) {
+                continue;
+            }
+            EClass eClass = (EClass) classifier;
+            // every concrete class has a method of its own
+            Xpath3Visitor.class.getMethod("visit" + eClass.getName(), eClass
+                    .getInstanceClass(), Object.class);
+            String expected = eClass == XPath3Package.eINSTANCE
+                    .getStringLiteral() ? "visitStringLiteral" : eClass
+                    .getName();
+            assertEquals(expected, visitor.visit(EcoreUtil.create(eClass),
+                    null));
+        }
+    }
+
+    @Test
+    public void testChildren() {
+        String text = "for $x in (1, 2) return $x + 3 * (4 - 5)[1]";
+        Resource resource = Xpath3ResourceUtil.getResource(text,
+                new ResourceSetImpl(), null);
+        EObject root = resource.getContents().get(0);
+        int expected = 0;
+        for (Iterator<EObject> i = root.eAllContents(); i.hasNext();) {
+            EObject next = i.next();
+            if (next instanceof IntegerLiteral) {
+                expected += ((IntegerLiteral) next).getValue();
+            }
+        }
+        assertEquals(16, expected);
+        assertEquals(Integer.valueOf(expected), new SumVisitor().visit(root,
+                null));
+    }
+
+    /**
+     * Nodes of classes of other packages are visited like their first super
+     * type.
+     */
+    @Test
+    public void testOtherPackages() {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName("other");
+        ePackage.setNsURI("http://example.org/other");
+        EClass subClass = EcoreFactory.eINSTANCE.createEClass();
+        subClass.setName("SubLiteral");
+        subClass.getESuperTypes().add(
+                XPath3Package.eINSTANCE.getStringLiteral());
+        EClass otherClass = EcoreFactory.eINSTANCE.createEClass();
+        otherClass.setName("Other");
+        ePackage.getEClassifiers().add(subClass);
+        ePackage.getEClassifiers().add(otherClass);
+        NameVisitor visitor = new NameVisitor();
+        assertEquals("visitStringLiteral", visitor.visit(EcoreUtil
+                .create(subClass), null));
+        assertEquals("Other", visitor.visit(EcoreUtil.create(otherClass),
+                null));
+    }
+}
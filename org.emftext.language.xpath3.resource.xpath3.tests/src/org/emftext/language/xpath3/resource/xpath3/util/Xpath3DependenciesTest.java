@@ -0,0 +1,192 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.namespace.QName;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.emftext.language.xpath3.AnyExpr;
+import org.emftext.language.xpath3.resource.xpath3.post.PostProcessor;
+import org.junit.Test;
+
+/**
+ * Checks the dependencies that {@link Xpath3Dependencies} finds in raw and
+ * collapsed models.
+ */
+public class Xpath3DependenciesTest {
+
+    @Test
+    public void testFreeVariables() {
+        assertVariables("1");
+        assertVariables("$x + $y * $x", "x", "y");
+        assertVariables("for $x in $s return $x + $y", "s", "y");
+        assertVariables("for $x in 1, $y in $x return $y");
+        // a variable isn't bound in its own iterator
+        assertVariables("for $x in $x return $x", "x");
+        assertVariables("some $x in 1 satisfies $x = $z", "z");
+        assertVariables("(for $x in 1 return $x), $x", "x");
+        assertVariables("$p:x, $q:x, $x", "p:x", "q:x", "x");
+        assertVariables("f($a)[$b]/c[$d]", "a", "b", "d");
+    }
+
+    @Test
+    public void testFocus() {
+        assertFocus("1", false, false, false);
+        assertFocus(". + 1", true, false, false);
+        assertFocus("a/b", true, false, false);
+        assertFocus("//a", true, false, false);
+        assertFocus("/", true, false, false);
+        assertFocus("@a", true, false, false);
+        assertFocus("$x/b", false, false, false);
+        // predicates and steps after the first have a focus of their own
+        assertFocus("$x[. = 1]", false, false, false);
+        assertFocus("$x[position() = last()]", false, false, false);
+        assertFocus("$x/.[1]", false, false, false);
+        assertFocus("position()", false, true, false);
+        assertFocus("last()", false, false, true);
+        assertFocus("fn:last() + 1", false, false, true);
+        assertFocus("p:last()", false, false, false);
+        assertFocus("name()", true, false, false);
+        assertFocus("name($x)", false, false, false);
+        assertFocus("id('a')", true, false, false);
+        assertFocus("id('a', $x)", false, false, false);
+        assertFocus("for $x in 1 return .", true, false, false);
+        assertFocus("(1, 2)[. = position()]", false, false, false);
+    }
+
+    @Test
+    public void testDocuments() {
+        Xpath3Dependencies dependencies = analyze("doc('a.xml'), "
+                + "doc('b.xml')/x, fn:doc(\"a.xml\"), unparsed-text('c')");
+        assertEquals(Arrays.asList("a.xml", "b.xml", "c"),
+                new ArrayList<String>(dependencies.getDocumentURIs()));
+        assertTrue(dependencies.getCollectionURIs().isEmpty());
+        assertFalse(dependencies.hasUnknownDocuments());
+        dependencies = analyze("collection('c'), uri-collection('d')");
+        assertEquals(new LinkedHashSet<String>(Arrays.asList("c", "d")),
+                dependencies.getCollectionURIs());
+        assertFalse(dependencies.hasUnknownDocuments());
+        assertTrue(analyze("doc($uri)").hasUnknownDocuments());
+        assertTrue(analyze("doc(concat('a', 'b'))").hasUnknownDocuments());
+        assertTrue(analyze("collection()").hasUnknownDocuments());
+        dependencies = analyze("p:doc('a.xml')");
+        assertTrue(dependencies.getDocumentURIs().isEmpty());
+        assertFalse(dependencies.hasUnknownDocuments());
+    }
+
+    @Test
+    public void testAttachedDependencies() {
+        EObject root = parse("for $x in $s return $x/a[1]", null);
+        Xpath3Dependencies dependencies = Xpath3Dependencies.analyze(root);
+        assertSame(dependencies, Xpath3Dependencies.get(root));
+        for (Iterator<EObject> i = root.eAllContents(); i.hasNext();) {
+            EObject next = i.next();
+            if (next instanceof AnyExpr) {
+                assertNotNull(next.eClass().getName(), Xpath3Dependencies
+                        .get(next));
+            }
+        }
+        // a new analysis replaces the old dependencies
+        Xpath3Dependencies again = Xpath3Dependencies.analyze(root);
+        assertSame(again, Xpath3Dependencies.get(root));
+        int count = 0;
+        for (Object adapter : root.eAdapters()) {
+            if (adapter instanceof Xpath3Dependencies) {
+                count++;
+            }
+        }
+        assertEquals(1, count);
+        assertEquals(dependencies.toString(), again.toString());
+    }
+
+    @Test
+    public void testDependenciesInMap() {
+        EObject root = parse("$x + 1", null);
+        Map<EObject, Xpath3Dependencies> results =
+                new HashMap<EObject, Xpath3Dependencies>();
+        Xpath3Dependencies dependencies = Xpath3Dependencies.analyze(root,
+                results);
+        assertSame(dependencies, results.get(root));
+        assertNull(Xpath3Dependencies.get(root));
+        for (EObject expr : results.keySet()) {
+            assertTrue(expr instanceof AnyExpr);
+            assertNull(Xpath3Dependencies.get(expr));
+        }
+    }
+
+    @Test
+    public void testToString() {
+        assertEquals("Xpath3Dependencies(variables=[x], contextItem=true, "
+                + "position=false, size=true, documents=[a], collections=[]"
+                + ", unknownDocuments)", analyze(
+                "$x, a, last(), doc('a'), doc($x)").toString());
+    }
+
+    private static void assertVariables(String text, String... names) {
+        List<String> actual = new ArrayList<String>();
+        for (QName name : analyze(text).getFreeVariables()) {
+            actual.add(name.getPrefix().length() == 0 ? name.getLocalPart()
+                    : name.getPrefix() + ":" + name.getLocalPart());
+        }
+        assertEquals(text, Arrays.asList(names), actual);
+        assertEquals(text, names.length > 0, analyze(text)
+                .hasFreeVariables());
+    }
+
+    private static void assertFocus(String text, boolean contextItem,
+            boolean position, boolean size) {
+        Xpath3Dependencies dependencies = analyze(text);
+        assertEquals(text, contextItem, dependencies.usesContextItem());
+        assertEquals(text, position, dependencies.usesPosition());
+        assertEquals(text, size, dependencies.usesSize());
+        assertEquals(text, contextItem || position || size, dependencies
+                .usesFocus());
+    }
+
+    /**
+     * Analyzes the raw and the collapsed model of the text, which must have
+     * the same dependencies.
+     */
+    private static Xpath3Dependencies analyze(String text) {
+        Xpath3Dependencies raw = Xpath3Dependencies.analyze(parse(text,
+                Collections.emptyMap()));
+        Xpath3Dependencies collapsed = Xpath3Dependencies.analyze(parse(text,
+                new PostProcessor().getOptions()));
+        assertEquals(text, raw.toString(), collapsed.toString());
+        return raw;
+    }
+
+    private static EObject parse(String text, Map<?, ?> options) {
+        Resource resource = Xpath3ResourceUtil.getResource(text,
+                new ResourceSetImpl(), options);
+        assertTrue(text + ": " + resource.getErrors(), resource.getErrors()
+                .isEmpty());
+        return resource.getContents().get(0);
+    }
+}
@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.emftext.language.xpath3.AnyExpr;
+import org.emftext.language.xpath3.IntegerLiteral;
+import org.emftext.language.xpath3.resource.xpath3.post.PostProcessor;
+import org.junit.Test;
+
+public class Xpath3ExpressionCacheTest {
+
+    @Test
+    public void testShared() {
+        Xpath3ExpressionCache cache = new Xpath3ExpressionCache();
+        AnyExpr expr = cache.getShared("1 + 2");
+        assertNotNull(expr);
+        assertNull(expr.eResource());
+        assertNull(expr.eContainer());
+        assertSame(expr, cache.getShared("1 + 2"));
+        assertNotSame(expr, cache.getShared("1 +2"));
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void testSameTreeAsResourceUtil() {
+        Xpath3ExpressionCache cache = new Xpath3ExpressionCache();
+        String text = "for $x in //a[@id] return $x/b";
+        assertTrue(Xpath3StructuralEquality.EXACT.equal(
+                Xpath3ResourceUtil.getResourceContent(text),
+                cache.getShared(text)));
+    }
+
+    @Test
+    public void testOptions() {
+        Xpath3ExpressionCache cache = new Xpath3ExpressionCache();
+        Map<?, ?> options = new PostProcessor().getOptions();
+        AnyExpr plain = cache.getShared("1");
+        AnyExpr simplified = cache.getShared("1", options);
+        assertNotSame(plain, simplified);
+        assertTrue(simplified instanceof IntegerLiteral);
+        assertSame(simplified, cache.getShared("1",
+                new HashMap<Object, Object>(options)));
+        assertSame(plain, cache.getShared("1",
+                Collections.<Object, Object> emptyMap()));
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void testCopy() {
+        Xpath3ExpressionCache cache = new Xpath3ExpressionCache();
+        AnyExpr shared = cache.getShared("(1, 2)[2]");
+        AnyExpr copy = cache.getCopy("(1, 2)[2]");
+        assertNotSame(shared, copy);
+        assertNull(copy.eResource());
+        assertTrue(Xpath3StructuralEquality.EXACT.equal(shared, copy));
+        assertNotSame(copy, cache.getCopy("(1, 2)[2]"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testSyntaxErrors() {
+        Xpath3ExpressionCache cache = new Xpath3ExpressionCache();
+        String[] texts = { "1 +", "//a[", "for $x in", "1 2", "" };
+        for (String text : texts) {
+            assertNull(text, cache.getShared(text));
+            assertNull(text, cache.getCopy(text));
+        }
+        // the failures are cached as well
+        assertEquals(texts.length, cache.getMissCount());
+        assertEquals(texts.length, cache.getHitCount());
+    }
+
+    @Test
+    public void testEviction() {
+        Xpath3ExpressionCache cache = new Xpath3ExpressionCache(2);
+        AnyExpr one = cache.getShared("1");
+        cache.getShared("2");
+        // "1" is now used more recently than "2"
+        assertSame(one, cache.getShared("1"));
+        cache.getShared("3");
+        assertEquals(2, cache.size());
+        assertSame(one, cache.getShared("1"));
+        long misses = cache.getMissCount();
+        cache.getShared("2");
+        assertEquals(misses + 1, cache.getMissCount());
+    }
+
+    @Test
+    public void testClear() {
+        Xpath3ExpressionCache cache = new Xpath3ExpressionCache();
+        AnyExpr expr = cache.getShared("1");
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNotSame(expr, cache.getShared("1"));
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaximumSize() {
+        new Xpath3ExpressionCache(0);
+    }
+
+    @Test
+    public void testConcurrentMisses() throws Exception {
+        final Xpath3ExpressionCache cache = new Xpath3ExpressionCache();
+        final CountDownLatch start = new CountDownLatch(1);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<AnyExpr>> results = new ArrayList<Future<AnyExpr>>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(new Callable<AnyExpr>() {
+                    @Override
+                    public AnyExpr call() throws Exception {
+                        start.await();
+                        return cache.getShared("//a[b]/c");
+                    }
+                }));
+            }
+            start.countDown();
+            AnyExpr expr = results.get(0).get();
+            assertNotNull(expr);
+            for (Future<AnyExpr> result : results) {
+                assertSame(expr, result.get());
+            }
+            assertEquals(1, cache.getMissCount());
+            assertEquals(threads - 1, cache.getHitCount());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
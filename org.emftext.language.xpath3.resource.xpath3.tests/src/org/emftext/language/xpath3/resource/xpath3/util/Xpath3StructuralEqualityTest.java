@@ -0,0 +1,241 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.emftext.language.xpath3.resource.xpath3.post.PostProcessor;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3StructuralEquality.Key;
+import org.junit.Test;
+
+/**
+ * Compares expression trees with {@link Xpath3StructuralEquality} and
+ * checks that its hash codes are consistent with it.
+ */
+public class Xpath3StructuralEqualityTest {
+
+    private static final String[] EXPRESSIONS = {
+            "1 + 2",
+            "1 - 2",
+            "2 + 1",
+            "1 + 2 + 3",
+            "-1",
+            "'a'",
+            "'b'",
+            "$x",
+            "$y",
+            "a",
+            "child :: a",
+            "descendant :: a",
+            "@a",
+            "..",
+            "//a[1]",
+            "/a[1]",
+            "(1, 2)",
+            "(2, 1)",
+            "for $x in 1 return $x",
+            "some $x in 1 satisfies $x",
+            "every $x in 1 satisfies $x",
+            "if (1) then 2 else 3",
+            "f(1)",
+            "f(1, 2)",
+            "$x instance of xs:integer",
+            "$x instance of xs:integer?",
+            "$x cast as xs:string",
+            "a union b",
+            "a intersect b",
+            "a = b",
+            "a eq b",
+    };
+
+    @Test
+    public void testReparse() {
+        for (String text : EXPRESSIONS) {
+            EObject expr = parse(text);
+            EObject copy = parse(text);
+            for (Xpath3StructuralEquality equality : getEqualities()) {
+                assertTrue(text, equality.equal(expr, copy));
+                assertTrue(text, equality.equal(expr, expr));
+                assertEquals(text, equality.hash(expr), equality.hash(copy));
+            }
+            EObject collapsed = parse(text, new PostProcessor().getOptions());
+            assertTrue(text, Xpath3StructuralEquality.EXACT.equal(collapsed,
+                    parse(text, new PostProcessor().getOptions())));
+        }
+    }
+
+    /**
+     * Trees of different texts are equal exactly if
+     * {@link EcoreUtil#equals(EObject, EObject)} finds them equal.
+     */
+    @Test
+    public void testSameAsEcoreUtil() {
+        for (String text1 : EXPRESSIONS) {
+            for (String text2 : EXPRESSIONS) {
+                EObject expr1 = parse(text1);
+                EObject expr2 = parse(text2);
+                assertEquals(text1 + " = " + text2, EcoreUtil.equals(expr1,
+                        expr2), Xpath3StructuralEquality.EXACT.equal(expr1,
+                        expr2));
+            }
+        }
+    }
+
+    @Test
+    public void testLayoutIsIgnored() {
+        assertEqual("1+2", "1 +\n\t2");
+        assertEqual("for $x in 1 return $x", "for  $x  in  1\nreturn  $x");
+        assertEqual("(1,2)", "( 1 , 2 )");
+    }
+
+    @Test
+    public void testLiterals() {
+        assertEqual("'a'", "\"a\"");
+        assertEqual("'it''s'", "\"it's\"");
+        assertEqual("007", "7");
+        assertEqual("1.50", "1.5");
+        assertEqual("1.0e0", "1e0");
+        assertNotEqual("1", "1.0");
+        assertNotEqual("1.0", "1.0e0");
+    }
+
+    /**
+     * Names are also compared by prefix, unlike by
+     * {@link javax.xml.namespace.QName#equals(Object)}, because the prefixes
+     * aren't resolved in the tree.
+     */
+    @Test
+    public void testPrefixes() {
+        assertNotEqual("p:a", "q:a");
+        assertNotEqual("p:a", "a");
+        assertNotEqual("$p:x", "$q:x");
+        assertEqual("p:a", "p:a");
+    }
+
+    @Test
+    public void testAlphaRenaming() {
+        assertAlphaEqual("for $x in a return $x", "for $y in a return $y");
+        assertAlphaEqual("some $x in a satisfies $x = $z",
+                "some $y in a satisfies $y = $z");
+        assertAlphaEqual("for $x in 1, $y in $x return $x + $y",
+                "for $y in 1, $x in $y return $y + $x");
+        // an inner iterator hides the outer one
+        assertAlphaEqual("for $x in 1 return for $x in 2 return $x",
+                "for $a in 1 return for $b in 2 return $b");
+        // free variables are compared by name
+        assertNotEqual(Xpath3StructuralEquality.ALPHA_RENAMING,
+                "for $x in a return $z", "for $x in a return $w");
+        assertNotEqual(Xpath3StructuralEquality.ALPHA_RENAMING,
+                "for $x in a return $x", "for $y in a return $x");
+        assertNotEqual(Xpath3StructuralEquality.ALPHA_RENAMING,
+                "for $x in 1, $y in 2 return $x",
+                "for $a in 1, $b in 2 return $b");
+        assertNotEqual(Xpath3StructuralEquality.ALPHA_RENAMING, "$x", "$y");
+        assertTrue(Xpath3StructuralEquality.ALPHA_RENAMING.isAlphaRenaming());
+        assertFalse(Xpath3StructuralEquality.EXACT.isAlphaRenaming());
+    }
+
+    @Test
+    public void testNull() {
+        EObject expr = parse("1");
+        for (Xpath3StructuralEquality equality : getEqualities()) {
+            assertTrue(equality.equal(null, null));
+            assertFalse(equality.equal(expr, null));
+            assertFalse(equality.equal(null, expr));
+        }
+    }
+
+    @Test
+    public void testKeys() {
+        Map<Key, String> texts = new HashMap<Key, String>();
+        for (String text : EXPRESSIONS) {
+            texts.put(Xpath3StructuralEquality.EXACT.key(parse(text)), text);
+        }
+        assertEquals(EXPRESSIONS.length, texts.size());
+        for (String text : EXPRESSIONS) {
+            assertEquals(text, texts.get(Xpath3StructuralEquality.EXACT
+                    .key(parse(text))));
+        }
+        assertEquals("'a'", texts.get(Xpath3StructuralEquality.EXACT
+                .key(parse("\"a\""))));
+        EObject expr = parse("1");
+        Key key = Xpath3StructuralEquality.ALPHA_RENAMING.key(expr);
+        assertSame(expr, key.getExpression());
+        // keys of different equalities are never equal
+        assertFalse(key.equals(Xpath3StructuralEquality.EXACT.key(expr)));
+        assertTrue(Xpath3StructuralEquality.ALPHA_RENAMING.key(
+                parse("for $x in 1 return $x")).equals(
+                Xpath3StructuralEquality.ALPHA_RENAMING
+                        .key(parse("for $y in 1 return $y"))));
+    }
+
+    private static void assertEqual(String text1, String text2) {
+        for (Xpath3StructuralEquality equality : getEqualities()) {
+            EObject expr1 = parse(text1);
+            EObject expr2 = parse(text2);
+            assertTrue(text1 + " = " + text2, equality.equal(expr1, expr2));
+            assertEquals(text1 + " = " + text2, equality.hash(expr1), equality
+                    .hash(expr2));
+        }
+    }
+
+    private static void assertAlphaEqual(String text1, String text2) {
+        EObject expr1 = parse(text1);
+        EObject expr2 = parse(text2);
+        Xpath3StructuralEquality equality =
+                Xpath3StructuralEquality.ALPHA_RENAMING;
+        assertTrue(text1 + " = " + text2, equality.equal(expr1, expr2));
+        assertTrue(text2 + " = " + text1, equality.equal(expr2, expr1));
+        assertEquals(text1 + " = " + text2, equality.hash(expr1), equality
+                .hash(expr2));
+        assertNotEqual(Xpath3StructuralEquality.EXACT, text1, text2);
+    }
+
+    private static void assertNotEqual(String text1, String text2) {
+        for (Xpath3StructuralEquality equality : getEqualities()) {
+            assertNotEqual(equality, text1, text2);
+        }
+    }
+
+    private static void assertNotEqual(Xpath3StructuralEquality equality,
+            String text1, String text2) {
+        assertFalse(text1 + " = " + text2, equality.equal(parse(text1),
+                parse(text2)));
+    }
+
+    private static Xpath3StructuralEquality[] getEqualities() {
+        return new Xpath3StructuralEquality[] {
+                Xpath3StructuralEquality.EXACT,
+                Xpath3StructuralEquality.ALPHA_RENAMING };
+    }
+
+    private static EObject parse(String text) {
+        return parse(text, null);
+    }
+
+    private static EObject parse(String text, Map<?, ?> options) {
+        Resource resource = Xpath3ResourceUtil.getResource(text,
+                new ResourceSetImpl(), options);
+        assertTrue(text + ": " + resource.getErrors(), resource.getErrors()
+                .isEmpty());
+        return resource.getContents().get(0);
+    }
+}
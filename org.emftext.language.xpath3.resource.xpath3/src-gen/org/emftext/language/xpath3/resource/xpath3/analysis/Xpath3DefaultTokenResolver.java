@@ -10,6 +10,10 @@
  */
 package org.emftext.language.xpath3.resource.xpath3.analysis;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EClassifier;
@@ -74,16 +78,8 @@ public class Xpath3DefaultTokenResolver implements org.emftext.language.xpath3.r
 	
 	public void resolve(String lexem, EStructuralFeature feature, org.emftext.language.xpath3.resource.xpath3.IXpath3TokenResolveResult result, String suffix, String prefix, String escapeCharacter) {
 		// Step 1: unescape keywords if required
-		if (escapeKeywords && lexem.startsWith("_")) {
-			for (String keyword : org.emftext.language.xpath3.resource.xpath3.grammar.Xpath3GrammarInformationProvider.INSTANCE.getKeywords()) {
-				if (lexem.endsWith(keyword)) {
-					String keywordPrefix = lexem.substring(0, lexem.length() - keyword.length());
-					if (keywordPrefix.matches("_+")) {
-						lexem = lexem.substring(1);
-						break;
-					}
-				}
-			}
+		if (escapeKeywords && lexem.startsWith("_") && KeywordTrie.INSTANCE.matches(lexem, 1)) {
+			lexem = lexem.substring(1);
 		}
 		
 		// Step 2: remove prefix, suffix and unescape escaped suffixes
@@ -178,17 +174,8 @@ public class Xpath3DefaultTokenResolver implements org.emftext.language.xpath3.r
 		}
 		
 		// Step 3: escape keywords if required
-		if (escapeKeywords && result != null) {
-			// Escape keywords if required
-			for (String keyword : org.emftext.language.xpath3.resource.xpath3.grammar.Xpath3GrammarInformationProvider.INSTANCE.getKeywords()) {
-				if (result.endsWith(keyword)) {
-					String keywordPrefix = result.substring(0, result.length() - keyword.length());
-					if (keywordPrefix.matches("_*")) {
-						result = "_" + result;
-						break;
-					}
-				}
-			}
+		if (escapeKeywords && result != null && KeywordTrie.INSTANCE.matches(result, 0)) {
+			result = "_" + result;
 		}
 		return result;
 	}
@@ -209,4 +196,99 @@ public class Xpath3DefaultTokenResolver implements org.emftext.language.xpath3.r
 		return options;
 	}
 	
+	/**
+	 * An immutable trie of the reversed keywords of the syntax. It finds out whether a
+	 * text consists of underscores followed by a keyword by reading the text
+	 * backwards, without creating substrings or using regular expressions.
+	 */
+	private static final class KeywordTrie {
+		
+		public static final KeywordTrie INSTANCE = new KeywordTrie(org.emftext.language.xpath3.resource.xpath3.grammar.Xpath3GrammarInformationProvider.INSTANCE.getKeywords());
+		
+		/**
+		 * Whether the suffix that leads to this node is a keyword.
+		 */
+		private final boolean keyword;
+		
+		/**
+		 * The characters that precede the suffix of this node in longer keywords,
+		 * sorted.
+		 */
+		private final char[] characters;
+		
+		private final KeywordTrie[] children;
+		
+		private KeywordTrie(Collection<String> keywords) {
+			this(keywords, 0);
+		}
+		
+		/**
+		 * Creates the node for keywords that share a suffix of the given length.
+		 */
+		private KeywordTrie(Collection<String> keywords, int depth) {
+			boolean isKeyword = false;
+			List<String> longer = new ArrayList<String>();
+			for (String keyword : keywords) {
+				if (keyword.length() == depth) {
+					isKeyword = true;
+				} else {
+					longer.add(keyword);
+				}
+			}
+			this.keyword = isKeyword;
+			char[] distinct = new char[longer.size()];
+			int count = 0;
+			for (String keyword : longer) {
+				char c = keyword.charAt(keyword.length() - 1 - depth);
+				if (Arrays.binarySearch(distinct, 0, count, c) < 0) {
+					distinct[count++] = c;
+					Arrays.sort(distinct, 0, count);
+				}
+			}
+			this.characters = Arrays.copyOf(distinct, count);
+			this.children = new KeywordTrie[count];
+			for (int i = 0; i < count; i++) {
+				List<String> group = new ArrayList<String>();
+				for (String keyword : longer) {
+					if (keyword.charAt(keyword.length() - 1 - depth) == characters[i]) {
+						group.add(keyword);
+					}
+				}
+				children[i] = new KeywordTrie(group, depth + 1);
+			}
+		}
+		
+		/**
+		 * Returns whether the text consists of at least the given number of
+		 * underscores followed by a keyword.
+		 */
+		public boolean matches(String text, int minimumUnderscores) {
+			int length = text.length();
+			int underscores = 0;
+			while (underscores < length && text.charAt(underscores) == '_') {
+				underscores++;
+			}
+			if (underscores < minimumUnderscores) {
+				return false;
+			}
+			KeywordTrie node = this;
+			// the text from index on is the suffix of the current node
+			int index = length;
+			while (true) {
+				if (node.keyword && index <= underscores && index >= minimumUnderscores) {
+					return true;
+				}
+				if (index == 0) {
+					return false;
+				}
+				index--;
+				int child = Arrays.binarySearch(node.characters, text.charAt(index));
+				if (child < 0) {
+					return false;
+				}
+				node = node.children[child];
+			}
+		}
+	}
+	
 }
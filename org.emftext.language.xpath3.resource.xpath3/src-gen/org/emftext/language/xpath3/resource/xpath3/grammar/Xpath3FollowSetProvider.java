@@ -10,22 +10,28 @@
  */
 package org.emftext.language.xpath3.resource.xpath3.grammar;
 
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EStructuralFeature;
 
 /**
  * This class provides the follow sets for all terminals of the grammar. These
  * sets are used during code completion.
+ * 
+ * The features, the links and the followers of the terminals are read from
+ * org.emftext.language.xpath3.resource.xpath3.grammar.Xpath3CompletionTables
+ * when this class is initialized, which only happens when the parser is used for
+ * code completion.
  */
 public class Xpath3FollowSetProvider {
 	
+	private final static org.emftext.language.xpath3.resource.xpath3.grammar.Xpath3CompletionTables TABLES = org.emftext.language.xpath3.resource.xpath3.grammar.Xpath3CompletionTables.getInstance();
+	
 	public static int terminalsIndex;
 	public final static org.emftext.language.xpath3.resource.xpath3.IXpath3ExpectedElement TERMINALS[] = new org.emftext.language.xpath3.resource.xpath3.IXpath3ExpectedElement[148];
 	
-	public static int featureIndex;
-	public final static EStructuralFeature[] FEATURES = new EStructuralFeature[50];
+	public final static EStructuralFeature[] FEATURES = new EStructuralFeature[TABLES.getFeatures().length / 2];
 	
-	public static int linkIndex;
-	public final static org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] LINKS = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[197];
+	public final static org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] LINKS = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[TABLES.getLinks().length / 2];
 	
 	public final static org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] EMPTY_LINK_ARRAY = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[0];
 	
@@ -184,365 +190,35 @@ public class Xpath3FollowSetProvider {
 		initializeTerminals0();
 	}
 	
-	public static void initializeFeatures0() {
-		featureIndex = 0;
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.EXPR__EXPR);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.CAST_EXPR__OPERAND);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.CASTABLE_EXPR__OPERAND);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.TREAT_EXPR__OPERAND);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.INSTANCEOF_EXPR__OPERAND);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.INTERSECT_EXCEPT_EXPR__OPERAND);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.UNION_EXPR__OPERAND);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.MULTIPLICATIVE_EXPR__OPERAND);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.ADDITIVE_EXPR__OPERAND);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.RANGE_EXPR__FROM);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.COMPARISON_EXPR__LEFT);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.AND_EXPR__OPERAND);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.OR_EXPR__OPERAND);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFilterExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.FILTER_EXPR__PRIMARY_EXPR);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.PATH_EXPR__STEP);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.UNARY_EXPR__OPERAND);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.SELF_STEP_EXPR__STEP);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.NODE_KIND_TEST__TEST);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.ABBREV_FORWARD_STEP__NODE_TEST);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getForExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.FOR_EXPR__ITERATOR);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getForExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.FOR_EXPR__RETURN);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getQuantifiedExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.QUANTIFIED_EXPR__ITERATOR);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getQuantifiedExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.QUANTIFIED_EXPR__SATISFIES);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIterator().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.ITERATOR__LIST);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIfExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.IF_EXPR__TEST);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIfExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.IF_EXPR__THEN);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIfExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.IF_EXPR__ELSE);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.RANGE_EXPR__TO);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.INSTANCEOF_EXPR__TYPE);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getItemKindTest().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.ITEM_KIND_TEST__TEST);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getItemSequenceType().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.ITEM_SEQUENCE_TYPE__ITEM_TYPE);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAtomicItemType().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.ATOMIC_ITEM_TYPE__TYPE);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.TREAT_EXPR__TYPE);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSingleType().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.SINGLE_TYPE__TYPE);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.CASTABLE_EXPR__TYPE);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.CAST_EXPR__TYPE);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFunctionCall().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.FUNCTION_CALL__ARG);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFilterExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.FILTER_EXPR__PREDICATE);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.COMPARISON_EXPR__OPERATOR);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getChildStepExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.CHILD_STEP_EXPR__STEP);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getDescOrSelfStepExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.DESC_OR_SELF_STEP_EXPR__STEP);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getGeneralForwardStep().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.GENERAL_FORWARD_STEP__NODE_TEST);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getGeneralReverseStep().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.GENERAL_REVERSE_STEP__NODE_TEST);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAxisStep().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.AXIS_STEP__PREDICATE);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPredicate().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.PREDICATE__EXPR);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getParenthesizedExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.PARENTHESIZED_EXPR__EXPR);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getDocumentTest().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.DOCUMENT_TEST__TEST);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getWildcardElementTest().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.WILDCARD_ELEMENT_TEST__TYPE);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNameElementTest().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.NAME_ELEMENT_TEST__TYPE);
-		FEATURES[featureIndex++] = org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr().getEStructuralFeature(org.emftext.language.xpath3.XPath3Package.COMPARISON_EXPR__RIGHT);
-	}
-	
 	public static void initializeFeatures() {
-		initializeFeatures0();
-	}
-	
-	public static void initializeLinks0() {
-		linkIndex = 0;
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIfExpr(), FEATURES[0]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getForExpr(), FEATURES[0]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getQuantifiedExpr(), FEATURES[0]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFunctionCall(), FEATURES[13]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFilterExpr(), FEATURES[14]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getVarRef(), FEATURES[13]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getParenthesizedExpr(), FEATURES[13]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getContextItemExpr(), FEATURES[13]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntegerLiteral(), FEATURES[13]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getDecimalLiteral(), FEATURES[13]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getDoubleLiteral(), FEATURES[13]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getStringLiteral(), FEATURES[13]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFunctionCall(), FEATURES[14]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getChildStepExpr(), FEATURES[14]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getDescOrSelfStepExpr(), FEATURES[14]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRootStepExpr(), FEATURES[14]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFilterExpr(), FEATURES[16]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFunctionCall(), FEATURES[16]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getGeneralForwardStep(), FEATURES[16]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[16]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAnyKindTest(), FEATURES[17]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[18]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getDocumentTest(), FEATURES[17]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTextTest(), FEATURES[17]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCommentTest(), FEATURES[17]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPITest(), FEATURES[17]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNCNamePITest(), FEATURES[17]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getStringLiteralPITest(), FEATURES[17]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAttributeTest(), FEATURES[17]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getWildcardAttributeTest(), FEATURES[17]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNameAttributeTest(), FEATURES[17]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSchemaAttributeTest(), FEATURES[17]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getElementTest(), FEATURES[17]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getWildcardElementTest(), FEATURES[17]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNameElementTest(), FEATURES[17]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSchemaElementTest(), FEATURES[17]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getQNameTest(), FEATURES[18]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAnyWildcard(), FEATURES[18]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getLocalNameWildcard(), FEATURES[18]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNamespaceWildcard(), FEATURES[18]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getGeneralReverseStep(), FEATURES[16]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevReverseStep(), FEATURES[16]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getVarRef(), FEATURES[16]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getParenthesizedExpr(), FEATURES[16]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getContextItemExpr(), FEATURES[16]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntegerLiteral(), FEATURES[16]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getDecimalLiteral(), FEATURES[16]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getDoubleLiteral(), FEATURES[16]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getStringLiteral(), FEATURES[16]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getGeneralForwardStep(), FEATURES[14]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[14]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getGeneralReverseStep(), FEATURES[14]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevReverseStep(), FEATURES[14]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getVarRef(), FEATURES[14]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getParenthesizedExpr(), FEATURES[14]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getContextItemExpr(), FEATURES[14]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntegerLiteral(), FEATURES[14]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getDecimalLiteral(), FEATURES[14]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getDoubleLiteral(), FEATURES[14]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getStringLiteral(), FEATURES[14]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIterator(), FEATURES[19]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getForExpr(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getQuantifiedExpr(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIfExpr(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFilterExpr(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFunctionCall(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getChildStepExpr(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getDescOrSelfStepExpr(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRootStepExpr(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getGeneralForwardStep(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getGeneralReverseStep(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevReverseStep(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getVarRef(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getParenthesizedExpr(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getContextItemExpr(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntegerLiteral(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getDecimalLiteral(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getDoubleLiteral(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getStringLiteral(), FEATURES[20]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIterator(), FEATURES[21]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIfExpr(), FEATURES[22]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getForExpr(), FEATURES[22]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getQuantifiedExpr(), FEATURES[22]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[22]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIfExpr(), FEATURES[23]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getForExpr(), FEATURES[23]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getQuantifiedExpr(), FEATURES[23]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[23]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getExpr(), FEATURES[24]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIfExpr(), FEATURES[24]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getForExpr(), FEATURES[24]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getQuantifiedExpr(), FEATURES[24]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[24]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIfExpr(), FEATURES[25]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getForExpr(), FEATURES[25]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getQuantifiedExpr(), FEATURES[25]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[25]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIfExpr(), FEATURES[26]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getForExpr(), FEATURES[26]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getQuantifiedExpr(), FEATURES[26]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[26]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getGeneralComp(), FEATURES[38]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getValueComp(), FEATURES[38]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeComp(), FEATURES[38]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[49]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[27]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getEmptySequenceType(), FEATURES[28]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAnyKindTest(), FEATURES[29]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getItemKindTest(), FEATURES[30]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getItemSequenceType(), FEATURES[28]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getDocumentTest(), FEATURES[29]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTextTest(), FEATURES[29]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCommentTest(), FEATURES[29]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPITest(), FEATURES[29]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNCNamePITest(), FEATURES[29]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getStringLiteralPITest(), FEATURES[29]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAttributeTest(), FEATURES[29]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getWildcardAttributeTest(), FEATURES[29]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNameAttributeTest(), FEATURES[29]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSchemaAttributeTest(), FEATURES[29]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getElementTest(), FEATURES[29]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getWildcardElementTest(), FEATURES[29]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNameElementTest(), FEATURES[29]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSchemaElementTest(), FEATURES[29]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAnyItemType(), FEATURES[30]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAtomicType(), FEATURES[31]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAtomicItemType(), FEATURES[30]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getEmptySequenceType(), FEATURES[32]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getItemSequenceType(), FEATURES[32]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAtomicType(), FEATURES[33]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSingleType(), FEATURES[34]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSingleType(), FEATURES[35]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPredicate(), FEATURES[37]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIfExpr(), FEATURES[36]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getForExpr(), FEATURES[36]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getQuantifiedExpr(), FEATURES[36]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[36]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFilterExpr(), FEATURES[39]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getGeneralForwardStep(), FEATURES[39]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[39]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getGeneralReverseStep(), FEATURES[39]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevReverseStep(), FEATURES[39]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFilterExpr(), FEATURES[40]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getGeneralForwardStep(), FEATURES[40]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[40]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getGeneralReverseStep(), FEATURES[40]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevReverseStep(), FEATURES[40]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[41]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getQNameTest(), FEATURES[41]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAnyWildcard(), FEATURES[41]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getLocalNameWildcard(), FEATURES[41]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNamespaceWildcard(), FEATURES[41]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPredicate(), FEATURES[43]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[42]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getQNameTest(), FEATURES[42]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAnyWildcard(), FEATURES[42]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getLocalNameWildcard(), FEATURES[42]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNamespaceWildcard(), FEATURES[42]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getExpr(), FEATURES[44]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getExpr(), FEATURES[45]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getElementTest(), FEATURES[46]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getWildcardElementTest(), FEATURES[46]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNameElementTest(), FEATURES[46]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSchemaElementTest(), FEATURES[46]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOptionalAtomicType(), FEATURES[47]);
-		LINKS[linkIndex++] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOptionalAtomicType(), FEATURES[48]);
+		int[] features = TABLES.getFeatures();
+		for (int i = 0; i < FEATURES.length; i++) {
+			FEATURES[i] = getEClass(features[2 * i]).getEStructuralFeature(features[2 * i + 1]);
+		}
 	}
 	
 	public static void initializeLinks() {
-		initializeLinks0();
+		int[] links = TABLES.getLinks();
+		for (int i = 0; i < LINKS.length; i++) {
+			LINKS[i] = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(getEClass(links[2 * i]), FEATURES[links[2 * i + 1]]);
+		}
 	}
 	
-	public static void wire0() {
-		TERMINALS[40].addFollower(TERMINALS[0], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIfExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[1], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getForExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[2], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getQuantifiedExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[3], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[4], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFunctionCall(), FEATURES[13]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFilterExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[5], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFunctionCall(), FEATURES[13]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFilterExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[6], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getVarRef(), FEATURES[13]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFilterExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[7], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getParenthesizedExpr(), FEATURES[13]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFilterExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[8], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getContextItemExpr(), FEATURES[13]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFilterExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[9], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntegerLiteral(), FEATURES[13]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFilterExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[10], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getDecimalLiteral(), FEATURES[13]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFilterExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[11], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getDoubleLiteral(), FEATURES[13]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFilterExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[12], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getStringLiteral(), FEATURES[13]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFilterExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[4], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFunctionCall(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[5], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFunctionCall(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[13], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getChildStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[14], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getDescOrSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[15], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRootStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[4], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFunctionCall(), FEATURES[13]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFilterExpr(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[5], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFunctionCall(), FEATURES[13]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFilterExpr(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[6], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getVarRef(), FEATURES[13]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFilterExpr(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[7], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getParenthesizedExpr(), FEATURES[13]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFilterExpr(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[8], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getContextItemExpr(), FEATURES[13]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFilterExpr(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[9], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntegerLiteral(), FEATURES[13]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFilterExpr(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[10], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getDecimalLiteral(), FEATURES[13]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFilterExpr(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[11], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getDoubleLiteral(), FEATURES[13]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFilterExpr(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[12], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getStringLiteral(), FEATURES[13]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFilterExpr(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[4], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFunctionCall(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[5], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getFunctionCall(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[16], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getGeneralForwardStep(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[17], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[18], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAnyKindTest(), FEATURES[17]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[19], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getDocumentTest(), FEATURES[17]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[20], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTextTest(), FEATURES[17]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[21], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCommentTest(), FEATURES[17]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[22], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPITest(), FEATURES[17]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[23], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNCNamePITest(), FEATURES[17]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[24], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getStringLiteralPITest(), FEATURES[17]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[25], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAttributeTest(), FEATURES[17]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[26], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getWildcardAttributeTest(), FEATURES[17]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[27], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNameAttributeTest(), FEATURES[17]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[28], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSchemaAttributeTest(), FEATURES[17]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[29], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getElementTest(), FEATURES[17]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[30], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getWildcardElementTest(), FEATURES[17]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[31], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNameElementTest(), FEATURES[17]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[32], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSchemaElementTest(), FEATURES[17]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[33], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getQNameTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[34], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getQNameTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[35], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAnyWildcard(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[36], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getLocalNameWildcard(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[37], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNamespaceWildcard(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[38], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getGeneralReverseStep(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[39], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevReverseStep(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[6], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getVarRef(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[7], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getParenthesizedExpr(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[8], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getContextItemExpr(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[9], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntegerLiteral(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[10], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getDecimalLiteral(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[11], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getDoubleLiteral(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[12], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getStringLiteral(), FEATURES[16]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSelfStepExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[16], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getGeneralForwardStep(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[17], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[18], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAnyKindTest(), FEATURES[17]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[19], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getDocumentTest(), FEATURES[17]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[20], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTextTest(), FEATURES[17]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[21], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCommentTest(), FEATURES[17]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[22], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPITest(), FEATURES[17]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[23], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNCNamePITest(), FEATURES[17]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[24], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getStringLiteralPITest(), FEATURES[17]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[25], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAttributeTest(), FEATURES[17]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[26], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getWildcardAttributeTest(), FEATURES[17]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[27], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNameAttributeTest(), FEATURES[17]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[28], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSchemaAttributeTest(), FEATURES[17]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[29], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getElementTest(), FEATURES[17]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[30], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getWildcardElementTest(), FEATURES[17]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[31], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNameElementTest(), FEATURES[17]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[32], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getSchemaElementTest(), FEATURES[17]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNodeKindTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[33], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getQNameTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[34], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getQNameTest(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[35], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAnyWildcard(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[36], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getLocalNameWildcard(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[37], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getNamespaceWildcard(), FEATURES[18]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevForwardStep(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[38], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getGeneralReverseStep(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[39], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAbbrevReverseStep(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[6], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getVarRef(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[7], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getParenthesizedExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[8], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getContextItemExpr(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[9], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntegerLiteral(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[10], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getDecimalLiteral(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[11], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getDoubleLiteral(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
-		TERMINALS[40].addFollower(TERMINALS[12], new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] {new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getStringLiteral(), FEATURES[14]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getPathExpr(), FEATURES[15]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnaryExpr(), FEATURES[1]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastExpr(), FEATURES[2]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getCastableExpr(), FEATURES[3]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getTreatExpr(), FEATURES[4]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getInstanceofExpr(), FEATURES[5]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getIntersectExceptExpr(), FEATURES[6]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getUnionExpr(), FEATURES[7]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getMultiplicativeExpr(), FEATURES[8]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAdditiveExpr(), FEATURES[9]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getRangeExpr(), FEATURES[10]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getComparisonExpr(), FEATURES[11]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getAndExpr(), FEATURES[12]), new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature(org.emftext.language.xpath3.XPath3Package.eINSTANCE.getOrExpr(), FEATURES[0]), });
+	public static void wire() {
+		for (int[] follower : TABLES.getFollowers()) {
+			org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[] path = EMPTY_LINK_ARRAY;
+			if (follower.length > 2) {
+				path = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature[follower.length - 2];
+				for (int i = 2; i < follower.length; i++) {
+					path[i - 2] = LINKS[follower[i]];
+				}
+			}
+			TERMINALS[follower[0]].addFollower(TERMINALS[follower[1]], path);
+		}
 	}
 	
-	public static void wire() {
-		wire0();
+	private static EClass getEClass(int classifierID) {
+		return (EClass) org.emftext.language.xpath3.XPath3Package.eINSTANCE.getEClassifiers().get(classifierID);
 	}
 	
 	static {
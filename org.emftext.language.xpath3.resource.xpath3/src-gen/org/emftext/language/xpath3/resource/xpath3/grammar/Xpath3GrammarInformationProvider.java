@@ -11,6 +11,7 @@
 package org.emftext.language.xpath3.resource.xpath3.grammar;
 
 import java.lang.reflect.Field;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Set;
 import org.eclipse.emf.ecore.EClass;
@@ -26,7 +27,7 @@ public class Xpath3GrammarInformationProvider {
 	
 	public final static Xpath3GrammarInformationProvider INSTANCE = new Xpath3GrammarInformationProvider();
 	
-	private Set<String> keywords;
+	private volatile Set<String> keywords;
 	
 	public final static org.emftext.language.xpath3.resource.xpath3.grammar.Xpath3Containment XPATH3_0_0_0_0 = INSTANCE.getXPATH3_0_0_0_0();
 	private org.emftext.language.xpath3.resource.xpath3.grammar.Xpath3Containment getXPATH3_0_0_0_0() {
@@ -3193,16 +3194,21 @@ public class Xpath3GrammarInformationProvider {
 	
 	/**
 	 * Returns all keywords of the grammar. This includes all literals for boolean and
-	 * enumeration terminals.
+	 * enumeration terminals. The set is computed once and can't be modified, so it
+	 * can be shared between threads.
 	 */
 	public Set<String> getKeywords() {
-		if (this.keywords == null) {
-			this.keywords = new LinkedHashSet<String>();
+		Set<String> result = this.keywords;
+		if (result == null) {
+			Set<String> newKeywords = new LinkedHashSet<String>();
 			for (org.emftext.language.xpath3.resource.xpath3.grammar.Xpath3Rule rule : RULES) {
-				findKeywords(rule, this.keywords);
+				findKeywords(rule, newKeywords);
 			}
+			// concurrent callers may compute equal sets, any of them can be kept
+			result = Collections.unmodifiableSet(newKeywords);
+			this.keywords = result;
 		}
-		return keywords;
+		return result;
 	}
 	
 	/**
@@ -3222,7 +3228,7 @@ public class Xpath3GrammarInformationProvider {
 			}
 		}
 		for (org.emftext.language.xpath3.resource.xpath3.grammar.Xpath3SyntaxElement child : element.getChildren()) {
-			findKeywords(child, this.keywords);
+			findKeywords(child, keywords);
 		}
 	}
 	
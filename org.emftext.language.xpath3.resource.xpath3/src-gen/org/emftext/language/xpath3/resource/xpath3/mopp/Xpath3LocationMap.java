@@ -4,25 +4,28 @@
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
  * http://www.eclipse.org/legal/epl-v10.html
- * 
+ *
  * Contributors:
  *    Denis Nikiforov - initial API and implementation
  */
 package org.emftext.language.xpath3.resource.xpath3.mopp;
 
+import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.eclipse.emf.ecore.EObject;
-import org.eclipse.emf.ecore.util.EcoreUtil;
 
 /**
  * <p>
- * A basic implementation of the ILocationMap interface. Instances store
- * information about element locations using four maps.
+ * A basic implementation of the ILocationMap interface. Every element gets a
+ * dense id from an identity hash table and its line, column, start and end are
+ * stored at that id in a single int array, so no values are boxed.
  * </p>
  * <p>
  * <p>
@@ -48,9 +51,41 @@ import org.eclipse.emf.ecore.util.EcoreUtil;
  * <p>
  * End:    The highest of all sources is used for target<br>
  * </p>
+ * <p>
+ * <p>
+ * </p>
+ * <p>
+ * The queries for elements use an interval index that is built on the first
+ * query after the locations have changed. It is immutable and searched without
+ * holding the lock of the map, so a query takes O(log n + k) for the k
+ * elements found (plus sorting them) and doesn't block the parser or other
+ * queries.
+ * </p>
+ * <p>
+ * <p>
+ * </p>
+ * <p>
+ * The map must be thread-safe. The parser of a background (re)load writes the
+ * locations while other threads, e.g., the UI thread of an editor, query the
+ * map of the same resource. The identity hash table is rehashed in place and
+ * its arrays are replaced when it grows, so unsynchronized reads could see the
+ * keys of one table and the ids of another. Therefore all access to the table
+ * holds the lock of the map. The lock is uncontended while a resource is
+ * parsed or queried by a single thread.
+ * </p>
  */
 public class Xpath3LocationMap implements org.emftext.language.xpath3.resource.xpath3.IXpath3LocationMap {
-	
+
+	private static final int UNSET = -1;
+
+	private static final int LINE = 0;
+	private static final int COLUMN = 1;
+	private static final int CHAR_START = 2;
+	private static final int CHAR_END = 3;
+	private static final int FIELDS = 4;
+
+	private static final int INITIAL_CAPACITY = 64;
+
 	/**
 	 * A basic interface that can be implemented to select EObjects based of their
 	 * location in a text resource.
@@ -58,118 +93,224 @@ public class Xpath3LocationMap implements org.emftext.language.xpath3.resource.x
 	public interface ISelector {
 		boolean accept(int startOffset, int endOffset);
 	}
-	
-	protected Map<EObject, Integer> columnMap = new IdentityHashMap<EObject, Integer>();
-	protected Map<EObject, Integer> lineMap = new IdentityHashMap<EObject, Integer>();
-	protected Map<EObject, Integer> charStartMap = new IdentityHashMap<EObject, Integer>();
-	protected Map<EObject, Integer> charEndMap = new IdentityHashMap<EObject, Integer>();
-	
+
+	/**
+	 * A live view of the columns.
+	 * 
+	 * @deprecated the locations are stored in int arrays, use the get- and
+	 * set-methods instead
+	 */
+	@Deprecated
+	protected final Map<EObject, Integer> columnMap = new PositionMap(COLUMN);
+
+	/**
+	 * A live view of the lines.
+	 * 
+	 * @deprecated the locations are stored in int arrays, use the get- and
+	 * set-methods instead
+	 */
+	@Deprecated
+	protected final Map<EObject, Integer> lineMap = new PositionMap(LINE);
+
+	/**
+	 * A live view of the start offsets.
+	 * 
+	 * @deprecated the locations are stored in int arrays, use the get- and
+	 * set-methods instead
+	 */
+	@Deprecated
+	protected final Map<EObject, Integer> charStartMap = new PositionMap(CHAR_START);
+
+	/**
+	 * A live view of the end offsets.
+	 * 
+	 * @deprecated the locations are stored in int arrays, use the get- and
+	 * set-methods instead
+	 */
+	@Deprecated
+	protected final Map<EObject, Integer> charEndMap = new PositionMap(CHAR_END);
+
+	/**
+	 * The keys of the identity hash table (open addressing, linear probing).
+	 */
+	private EObject[] keys = new EObject[INITIAL_CAPACITY * 2];
+
+	/**
+	 * The ids of the keys at the same slot.
+	 */
+	private int[] slotIds = new int[INITIAL_CAPACITY * 2];
+
+	/**
+	 * The elements by id.
+	 */
+	private EObject[] elements = new EObject[INITIAL_CAPACITY];
+
+	/**
+	 * The line, column, start and end of the elements at
+	 * <code>id * FIELDS</code>, <code>UNSET</code> if missing.
+	 */
+	private int[] positions = newPositions(INITIAL_CAPACITY);
+
+	private int size;
+
+	/**
+	 * The index for the current positions, <code>null</code> if it has to be
+	 * rebuilt.
+	 */
+	private volatile IntervalIndex index;
+
 	public void setLine(EObject element, int line) {
-		setMapValueToMin(lineMap, element, line);
+		setValueToMin(element, LINE, line);
 	}
-	
+
 	public int getLine(EObject element) {
-		return getMapValue(lineMap, element);
+		return getValue(element, LINE);
 	}
-	
+
 	public void setColumn(EObject element, int column) {
-		setMapValueToMin(columnMap, element, column);
+		setValueToMin(element, COLUMN, column);
 	}
-	
+
 	public int getColumn(EObject element) {
-		return getMapValue(columnMap, element);
+		return getValue(element, COLUMN);
 	}
-	
+
 	public void setCharStart(EObject element, int charStart) {
-		setMapValueToMin(charStartMap, element, charStart);
+		setValueToMin(element, CHAR_START, charStart);
 	}
-	
+
 	public int getCharStart(EObject element) {
-		return getMapValue(charStartMap, element);
+		return getValue(element, CHAR_START);
 	}
-	
+
 	public void setCharEnd(EObject element, int charEnd) {
-		setMapValueToMax(charEndMap, element, charEnd);
+		setValueToMax(element, CHAR_END, charEnd);
 	}
-	
+
 	public int getCharEnd(EObject element) {
-		return getMapValue(charEndMap, element);
-	}
-	
-	private int getMapValue(Map<EObject, Integer> map, EObject element) {
-		if (!map.containsKey(element)) return -1;
-		Integer value = map.get(element);
-		return value == null ? -1 : value.intValue();
-	}
-	
-	private void setMapValueToMin(Map<EObject, Integer> map, EObject element, int value) {
-		// We need to synchronize the write access, because other threads may iterate over
-		// the map concurrently.
-		synchronized (this) {
-			if (element == null || value < 0) return;
-			if (map.containsKey(element) && map.get(element) < value) return;
-			map.put(element, value);
-		}
+		return getValue(element, CHAR_END);
 	}
-	
-	private void setMapValueToMax(Map<EObject, Integer> map, EObject element, int value) {
-		// We need to synchronize the write access, because other threads may iterate over
-		// the map concurrently.
-		synchronized (this) {
-			if (element == null || value < 0) return;
-			if (map.containsKey(element) && map.get(element) > value) return;
-			map.put(element, value);
+
+	private synchronized int getValue(EObject element, int field) {
+		int id = findId(element);
+		return id < 0 ? UNSET : positions[id * FIELDS + field];
+	}
+
+	private synchronized void setValueToMin(EObject element, int field, int value) {
+		if (element == null || value < 0) return;
+		int i = getOrCreateId(element) * FIELDS + field;
+		int current = positions[i];
+		if (current != UNSET && current < value) return;
+		setPosition(i, field, value);
+	}
+
+	private synchronized void setValueToMax(EObject element, int field, int value) {
+		if (element == null || value < 0) return;
+		int i = getOrCreateId(element) * FIELDS + field;
+		int current = positions[i];
+		if (current != UNSET && current > value) return;
+		setPosition(i, field, value);
+	}
+
+	private void setPosition(int i, int field, int value) {
+		if (positions[i] == value) return;
+		positions[i] = value;
+		if (field == CHAR_START || field == CHAR_END) {
+			index = null;
 		}
 	}
-	
-	public List<EObject> getElementsAt(final int documentOffset) {
-		List<EObject> result = getElements(new ISelector() {
-			public boolean accept(int start, int end) {
-				return start <= documentOffset && end >= documentOffset;
+
+	private int findId(EObject element) {
+		if (element == null) return -1;
+		int mask = keys.length - 1;
+		for (int slot = hash(element) & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+			if (keys[slot] == element) {
+				return slotIds[slot];
 			}
-		});
-		// sort elements according to containment hierarchy
-		Collections.sort(result, new Comparator<EObject>() {
-			public int compare(EObject objectA, EObject objectB) {
-				if (EcoreUtil.isAncestor(objectA, objectB)) {
-					return 1;
-				} else {
-					if (EcoreUtil.isAncestor(objectB, objectA)) {
-						return -1;
-					} else {
-						return 0;
-					}
-				}
+		}
+		return -1;
+	}
+
+	private int getOrCreateId(EObject element) {
+		int mask = keys.length - 1;
+		int slot = hash(element) & mask;
+		for (; keys[slot] != null; slot = (slot + 1) & mask) {
+			if (keys[slot] == element) {
+				return slotIds[slot];
 			}
-		});
-		return result;
+		}
+		int id = size++;
+		if (id == elements.length) {
+			int capacity = elements.length * 2;
+			elements = Arrays.copyOf(elements, capacity);
+			int[] newPositions = newPositions(capacity);
+			System.arraycopy(positions, 0, newPositions, 0, positions.length);
+			positions = newPositions;
+		}
+		elements[id] = element;
+		keys[slot] = element;
+		slotIds[slot] = id;
+		// keep the load factor of the table at most 1/2
+		if (size * 2 > keys.length) {
+			rehash(keys.length * 2);
+		}
+		return id;
 	}
-	
-	public List<EObject> getElementsBetween(final int startOffset, final int endOffset) {
-		List<EObject> result = getElements(new ISelector() {
-			public boolean accept(int start, int end) {
-				return start >= startOffset && end <= endOffset;
+
+	private void rehash(int capacity) {
+		EObject[] newKeys = new EObject[capacity];
+		int[] newSlotIds = new int[capacity];
+		int mask = capacity - 1;
+		for (int id = 0; id < size; id++) {
+			int slot = hash(elements[id]) & mask;
+			while (newKeys[slot] != null) {
+				slot = (slot + 1) & mask;
 			}
-		});
-		return result;
+			newKeys[slot] = elements[id];
+			newSlotIds[slot] = id;
+		}
+		keys = newKeys;
+		slotIds = newSlotIds;
+	}
+
+	private static int hash(EObject element) {
+		int h = System.identityHashCode(element);
+		// spread the bits, identity hash codes are not uniform in the lower bits
+		return h ^ (h >>> 16);
+	}
+
+	private static int[] newPositions(int capacity) {
+		int[] positions = new int[capacity * FIELDS];
+		Arrays.fill(positions, UNSET);
+		return positions;
+	}
+
+	public List<EObject> getElementsAt(int documentOffset) {
+		// There might be more than one element at the given offset. The index
+		// returns them sorted by length and by depth, i.e., the children first.
+		return getIndex().getElementsAt(documentOffset);
 	}
-	
-	private List<EObject> getElements(ISelector s) {
-		// There might be more than one element at the given offset. Thus, we collect all
-		// of them and sort them afterwards.
+
+	public List<EObject> getElementsBetween(int startOffset, int endOffset) {
+		return getIndex().getElementsBetween(startOffset, endOffset);
+	}
+
+	/**
+	 * Returns the elements whose start and end are accepted by the given
+	 * selector, sorted by length. Unlike <code>getElementsAt()</code> and
+	 * <code>getElementsBetween()</code>, this checks every element.
+	 */
+	protected List<EObject> getElements(ISelector s) {
 		List<EObject> result = new ArrayList<EObject>();
-		
-		// We need to synchronize the write access, because other threads may iterate over
-		// the map concurrently.
 		synchronized (this) {
-			for (EObject next : charStartMap.keySet()) {
-				Integer start = charStartMap.get(next);
-				Integer end = charEndMap.get(next);
-				if (start == null || end == null) {
+			for (int id = 0; id < size; id++) {
+				int start = positions[id * FIELDS + CHAR_START];
+				int end = positions[id * FIELDS + CHAR_END];
+				if (start == UNSET || end == UNSET) {
 					continue;
 				}
 				if (s.accept(start, end)) {
-					result.add(next);
+					result.add(elements[id]);
 				}
 			}
 		}
@@ -182,4 +323,359 @@ public class Xpath3LocationMap implements org.emftext.language.xpath3.resource.x
 		});
 		return result;
 	}
+
+	private IntervalIndex getIndex() {
+		IntervalIndex index = this.index;
+		if (index != null) {
+			return index;
+		}
+		synchronized (this) {
+			if (this.index == null) {
+				this.index = new IntervalIndex(elements, positions, size);
+			}
+			return this.index;
+		}
+	}
+
+	/**
+	 * A map view of one field of the positions. Reads and writes go to the
+	 * arrays, the entries are a snapshot that can't be modified.
+	 */
+	private final class PositionMap extends AbstractMap<EObject, Integer> {
+
+		private final int field;
+
+		public PositionMap(int field) {
+			this.field = field;
+		}
+
+		@Override
+		public Integer get(Object key) {
+			if (!(key instanceof EObject)) {
+				return null;
+			}
+			int value = getValue((EObject) key, field);
+			return value == UNSET ? null : value;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return get(key) != null;
+		}
+
+		@Override
+		public Integer put(EObject key, Integer value) {
+			if (key == null || value == null) {
+				throw new NullPointerException();
+			}
+			synchronized (Xpath3LocationMap.this) {
+				Integer previous = get(key);
+				setPosition(getOrCreateId(key) * FIELDS + field, field, value.intValue());
+				return previous;
+			}
+		}
+
+		@Override
+		public Integer remove(Object key) {
+			synchronized (Xpath3LocationMap.this) {
+				Integer previous = get(key);
+				if (previous != null) {
+					setPosition(findId((EObject) key) * FIELDS + field, field, UNSET);
+				}
+				return previous;
+			}
+		}
+
+		@Override
+		public Set<Map.Entry<EObject, Integer>> entrySet() {
+			Set<Map.Entry<EObject, Integer>> entries = new LinkedHashSet<Map.Entry<EObject, Integer>>();
+			synchronized (Xpath3LocationMap.this) {
+				for (int id = 0; id < size; id++) {
+					int value = positions[id * FIELDS + field];
+					if (value != UNSET) {
+						entries.add(new SimpleImmutableEntry<EObject, Integer>(elements[id], value));
+					}
+				}
+			}
+			return Collections.unmodifiableSet(entries);
+		}
+	}
+
+	/**
+	 * <p>
+	 * An immutable snapshot of the elements that have a start and an end.
+	 * </p>
+	 * <p>
+	 * The elements at an offset are found with a centered interval tree: every
+	 * node stores the intervals that contain its center, sorted by start and by
+	 * end, the intervals left and right of the center are stored in the subtrees.
+	 * The elements between two offsets are found by a binary search over the
+	 * intervals sorted by start. Since the locations of a model are nested, only
+	 * the containers of the elements at the end of the range are visited in vain.
+	 * </p>
+	 * <p>
+	 * Elements that end before they start contain no offset. They are kept out of
+	 * the tree and checked one by one for the elements between two offsets.
+	 * </p>
+	 */
+	private static final class IntervalIndex {
+
+		private final EObject[] elements;
+
+		private final int[] starts;
+
+		private final int[] ends;
+
+		/**
+		 * The intervals that don't end before they start, sorted by start.
+		 */
+		private final int[] byStart;
+
+		/**
+		 * The intervals that end before they start.
+		 */
+		private final int[] inverted;
+
+		private int[] centers;
+		private int[] lefts;
+		private int[] rights;
+		private int[][] nodesByStart;
+		private int[][] nodesByEnd;
+		private int nodeCount;
+
+		private final int root;
+
+		public IntervalIndex(EObject[] allElements, int[] positions, int size) {
+			int count = 0;
+			for (int id = 0; id < size; id++) {
+				if (positions[id * FIELDS + CHAR_START] != UNSET && positions[id * FIELDS + CHAR_END] != UNSET) {
+					count++;
+				}
+			}
+			elements = new EObject[count];
+			starts = new int[count];
+			ends = new int[count];
+			int n = 0;
+			for (int id = 0; id < size; id++) {
+				int start = positions[id * FIELDS + CHAR_START];
+				int end = positions[id * FIELDS + CHAR_END];
+				if (start != UNSET && end != UNSET) {
+					elements[n] = allElements[id];
+					starts[n] = start;
+					ends[n] = end;
+					n++;
+				}
+			}
+			int invertedCount = 0;
+			for (int i = 0; i < count; i++) {
+				if (ends[i] < starts[i]) {
+					invertedCount++;
+				}
+			}
+			byStart = new int[count - invertedCount];
+			inverted = new int[invertedCount];
+			int intervalCount = 0;
+			invertedCount = 0;
+			for (int i = 0; i < count; i++) {
+				if (ends[i] < starts[i]) {
+					inverted[invertedCount++] = i;
+				} else {
+					byStart[intervalCount++] = i;
+				}
+			}
+			sortByStart(byStart, intervalCount);
+			int capacity = Math.max(intervalCount, 1);
+			centers = new int[capacity];
+			lefts = new int[capacity];
+			rights = new int[capacity];
+			nodesByStart = new int[capacity][];
+			nodesByEnd = new int[capacity][];
+			root = build(byStart, intervalCount);
+		}
+
+		/**
+		 * Builds the subtree for the given intervals, which are sorted by start.
+		 */
+		private int build(int[] intervals, int count) {
+			if (count == 0) {
+				return -1;
+			}
+			int center = starts[intervals[count / 2]];
+			int[] left = new int[count];
+			int[] right = new int[count];
+			int[] middle = new int[count];
+			int leftCount = 0;
+			int rightCount = 0;
+			int middleCount = 0;
+			for (int i = 0; i < count; i++) {
+				int interval = intervals[i];
+				if (ends[interval] < center) {
+					left[leftCount++] = interval;
+				} else if (starts[interval] > center) {
+					right[rightCount++] = interval;
+				} else {
+					middle[middleCount++] = interval;
+				}
+			}
+			int node = nodeCount++;
+			centers[node] = center;
+			nodesByStart[node] = Arrays.copyOf(middle, middleCount);
+			int[] byEnd = Arrays.copyOf(middle, middleCount);
+			sortByEndDescending(byEnd, middleCount);
+			nodesByEnd[node] = byEnd;
+			// the interval at the center is in the middle, so both halves are
+			// smaller and the tree has a depth of O(log n)
+			lefts[node] = build(left, leftCount);
+			rights[node] = build(right, rightCount);
+			return node;
+		}
+
+		public List<EObject> getElementsAt(int offset) {
+			int[] found = new int[8];
+			int count = 0;
+			int node = root;
+			while (node >= 0) {
+				int center = centers[node];
+				if (offset < center) {
+					for (int interval : nodesByStart[node]) {
+						if (starts[interval] > offset) break;
+						found = add(found, count++, interval);
+					}
+					node = lefts[node];
+				} else if (offset > center) {
+					for (int interval : nodesByEnd[node]) {
+						if (ends[interval] < offset) break;
+						found = add(found, count++, interval);
+					}
+					node = rights[node];
+				} else {
+					for (int interval : nodesByStart[node]) {
+						found = add(found, count++, interval);
+					}
+					break;
+				}
+			}
+			return toSortedList(found, count, true);
+		}
+
+		public List<EObject> getElementsBetween(int startOffset, int endOffset) {
+			int[] found = new int[8];
+			int count = 0;
+			// find the first interval that starts at or after the start offset
+			int low = 0;
+			int high = byStart.length;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (starts[byStart[middle]] < startOffset) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			for (int i = low; i < byStart.length; i++) {
+				int interval = byStart[i];
+				if (starts[interval] > endOffset) break;
+				if (ends[interval] <= endOffset) {
+					found = add(found, count++, interval);
+				}
+			}
+			for (int interval : inverted) {
+				if (starts[interval] >= startOffset && ends[interval] <= endOffset) {
+					found = add(found, count++, interval);
+				}
+			}
+			return toSortedList(found, count, false);
+		}
+
+		/**
+		 * Sorts the intervals by length. If <code>deepestFirst</code> is set,
+		 * intervals of the same length are sorted by the depth of their elements
+		 * in the containment hierarchy, children first.
+		 */
+		private List<EObject> toSortedList(int[] intervals, int count, boolean deepestFirst) {
+			long[] keys = new long[count];
+			for (int i = 0; i < count; i++) {
+				int interval = intervals[i];
+				keys[i] = ((long) (ends[interval] - starts[interval]) << 32) + interval;
+			}
+			Arrays.sort(keys);
+			EObject[] sorted = new EObject[count];
+			for (int i = 0; i < count; i++) {
+				sorted[i] = elements[(int) keys[i]];
+			}
+			if (deepestFirst) {
+				for (int from = 0; from < count;) {
+					int to = from + 1;
+					while (to < count && (keys[to] >> 32) == (keys[from] >> 32)) {
+						to++;
+					}
+					if (to - from > 1) {
+						sortByDepthDescending(sorted, from, to);
+					}
+					from = to;
+				}
+			}
+			List<EObject> result = new ArrayList<EObject>(count);
+			Collections.addAll(result, sorted);
+			return result;
+		}
+
+		private static void sortByDepthDescending(EObject[] sorted, int from, int to) {
+			int[] depths = new int[to - from];
+			for (int i = from; i < to; i++) {
+				depths[i - from] = getDepth(sorted[i]);
+			}
+			// an insertion sort, elements of the same length are rare
+			for (int i = from + 1; i < to; i++) {
+				EObject element = sorted[i];
+				int depth = depths[i - from];
+				int j = i - 1;
+				while (j >= from && depths[j - from] < depth) {
+					sorted[j + 1] = sorted[j];
+					depths[j + 1 - from] = depths[j - from];
+					j--;
+				}
+				sorted[j + 1] = element;
+				depths[j + 1 - from] = depth;
+			}
+		}
+
+		private static int getDepth(EObject element) {
+			int depth = 0;
+			for (EObject container = element.eContainer(); container != null; container = container.eContainer()) {
+				depth++;
+			}
+			return depth;
+		}
+
+		private void sortByStart(int[] intervals, int count) {
+			long[] keys = new long[count];
+			for (int i = 0; i < count; i++) {
+				keys[i] = ((long) starts[intervals[i]] << 32) | intervals[i];
+			}
+			Arrays.sort(keys);
+			for (int i = 0; i < count; i++) {
+				intervals[i] = (int) keys[i];
+			}
+		}
+
+		private void sortByEndDescending(int[] intervals, int count) {
+			long[] keys = new long[count];
+			for (int i = 0; i < count; i++) {
+				keys[i] = ((long) (Integer.MAX_VALUE - ends[intervals[i]]) << 32) | intervals[i];
+			}
+			Arrays.sort(keys);
+			for (int i = 0; i < count; i++) {
+				intervals[i] = (int) keys[i];
+			}
+		}
+
+		private static int[] add(int[] array, int index, int value) {
+			if (index == array.length) {
+				array = Arrays.copyOf(array, index * 2);
+			}
+			array[index] = value;
+			return array;
+		}
+	}
 }
@@ -33,7 +33,9 @@ public class Xpath3MetaInformation implements org.emftext.language.xpath3.resour
 	}
 	
 	public org.emftext.language.xpath3.resource.xpath3.IXpath3TextParser createParser(InputStream inputStream, String encoding) {
-		return new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3Parser().createInstance(inputStream, encoding);
+		// the fast parser delegates to Xpath3Parser unless it is enabled by the
+		// USE_FAST_PARSER load option
+		return new org.emftext.language.xpath3.resource.xpath3.parser.Xpath3FastParser(inputStream, encoding);
 	}
 	
 	public org.emftext.language.xpath3.resource.xpath3.IXpath3TextPrinter createPrinter(OutputStream outputStream, org.emftext.language.xpath3.resource.xpath3.IXpath3TextResource resource) {
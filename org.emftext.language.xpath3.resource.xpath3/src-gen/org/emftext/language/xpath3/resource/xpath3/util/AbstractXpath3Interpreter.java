@@ -11,11 +11,14 @@
 package org.emftext.language.xpath3.resource.xpath3.util;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EmptyStackException;
 import java.util.List;
 import java.util.Stack;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
 import org.eclipse.emf.ecore.EObject;
 import org.emftext.language.xpath3.AbbrevForwardStep;
 import org.emftext.language.xpath3.AbbrevReverseStep;
@@ -120,6 +123,7 @@ import org.emftext.language.xpath3.VarRef;
 import org.emftext.language.xpath3.Wildcard;
 import org.emftext.language.xpath3.WildcardAttributeTest;
 import org.emftext.language.xpath3.WildcardElementTest;
+import org.emftext.language.xpath3.XPath3Package;
 
 /**
  * This class provides basic infrastructure to interpret models. To implement
@@ -135,6 +139,119 @@ import org.emftext.language.xpath3.WildcardElementTest;
  */
 public class AbstractXpath3Interpreter<ResultType, ContextType> {
 	
+	/**
+	 * The classifier IDs of the types that have an interprete_* method. If an object
+	 * is an instance of several of them, the methods are called in this order until
+	 * one returns a result.
+	 */
+	private static final int[] INTERPRETATION_ORDER = {
+		XPath3Package.EXPR,
+		XPath3Package.FOR_EXPR,
+		XPath3Package.QUANTIFIED_EXPR,
+		XPath3Package.IF_EXPR,
+		XPath3Package.OR_EXPR,
+		XPath3Package.AND_EXPR,
+		XPath3Package.COMPARISON_EXPR,
+		XPath3Package.RANGE_EXPR,
+		XPath3Package.ADDITIVE_EXPR,
+		XPath3Package.MULTIPLICATIVE_EXPR,
+		XPath3Package.UNION_EXPR,
+		XPath3Package.INTERSECT_EXCEPT_EXPR,
+		XPath3Package.INSTANCEOF_EXPR,
+		XPath3Package.TREAT_EXPR,
+		XPath3Package.INSTANCEOF_EXPR_CHILD,
+		XPath3Package.INTERSECT_EXCEPT_EXPR_CHILD,
+		XPath3Package.UNION_EXPR_CHILD,
+		XPath3Package.MULTIPLICATIVE_EXPR_CHILD,
+		XPath3Package.ADDITIVE_EXPR_CHILD,
+		XPath3Package.RANGE_EXPR_CHILD,
+		XPath3Package.COMPARISON_EXPR_CHILD,
+		XPath3Package.AND_EXPR_CHILD,
+		XPath3Package.OR_EXPR_CHILD,
+		XPath3Package.EXPR_SINGLE,
+		XPath3Package.ANY_EXPR,
+		XPath3Package.ITERATOR,
+		XPath3Package.CASTABLE_EXPR,
+		XPath3Package.CAST_EXPR,
+		XPath3Package.UNARY_EXPR,
+		XPath3Package.PATH_EXPR,
+		XPath3Package.VALUE_EXPR,
+		XPath3Package.ROOT_STEP_EXPR,
+		XPath3Package.CHILD_STEP_EXPR,
+		XPath3Package.DESC_OR_SELF_STEP_EXPR,
+		XPath3Package.SELF_STEP_EXPR,
+		XPath3Package.FILTER_EXPR,
+		XPath3Package.REVERSE_STEP,
+		XPath3Package.ABBREV_FORWARD_STEP,
+		XPath3Package.ABBREV_REVERSE_STEP,
+		XPath3Package.STEP_EXPR,
+		XPath3Package.FILTER_EXPR_CHILD,
+		XPath3Package.GENERAL_FORWARD_STEP,
+		XPath3Package.FORWARD_STEP,
+		XPath3Package.GENERAL_REVERSE_STEP,
+		XPath3Package.AXIS_STEP,
+		XPath3Package.SELF_STEP_EXPR_CHILD,
+		XPath3Package.PATH_EXPR_CHILD,
+		XPath3Package.UNARY_EXPR_CHILD,
+		XPath3Package.CAST_EXPR_CHILD,
+		XPath3Package.CASTABLE_EXPR_CHILD,
+		XPath3Package.TREAT_EXPR_CHILD,
+		XPath3Package.NODE_KIND_TEST,
+		XPath3Package.QNAME_TEST,
+		XPath3Package.ANY_WILDCARD,
+		XPath3Package.LOCAL_NAME_WILDCARD,
+		XPath3Package.NAMESPACE_WILDCARD,
+		XPath3Package.WILDCARD,
+		XPath3Package.NAME_TEST,
+		XPath3Package.NODE_TEST,
+		XPath3Package.PREDICATE,
+		XPath3Package.STRING_LITERAL,
+		XPath3Package.DECIMAL_LITERAL,
+		XPath3Package.LITERAL,
+		XPath3Package.VAR_REF,
+		XPath3Package.PARENTHESIZED_EXPR,
+		XPath3Package.CONTEXT_ITEM_EXPR,
+		XPath3Package.FUNCTION_CALL,
+		XPath3Package.INTEGER_LITERAL,
+		XPath3Package.DOUBLE_LITERAL,
+		XPath3Package.NUMERIC_LITERAL,
+		XPath3Package.PRIMARY_EXPR,
+		XPath3Package.PARENTHESIZED_EXPR_CHILD,
+		XPath3Package.GENERAL_COMP,
+		XPath3Package.VALUE_COMP,
+		XPath3Package.NODE_COMP,
+		XPath3Package.COMP,
+		XPath3Package.SINGLE_TYPE,
+		XPath3Package.ATOMIC_TYPE,
+		XPath3Package.OPTIONAL_ATOMIC_TYPE,
+		XPath3Package.EMPTY_SEQUENCE_TYPE,
+		XPath3Package.ITEM_SEQUENCE_TYPE,
+		XPath3Package.SEQUENCE_TYPE,
+		XPath3Package.ITEM_KIND_TEST,
+		XPath3Package.ANY_ITEM_TYPE,
+		XPath3Package.ATOMIC_ITEM_TYPE,
+		XPath3Package.ITEM_TYPE,
+		XPath3Package.DOCUMENT_TEST,
+		XPath3Package.NAME_ELEMENT_TEST,
+		XPath3Package.WILDCARD_ELEMENT_TEST,
+		XPath3Package.ELEMENT_TEST,
+		XPath3Package.NAME_ATTRIBUTE_TEST,
+		XPath3Package.WILDCARD_ATTRIBUTE_TEST,
+		XPath3Package.ATTRIBUTE_TEST,
+		XPath3Package.SCHEMA_ELEMENT_TEST,
+		XPath3Package.SCHEMA_ATTRIBUTE_TEST,
+		XPath3Package.NC_NAME_PI_TEST,
+		XPath3Package.STRING_LITERAL_PI_TEST,
+		XPath3Package.PI_TEST,
+		XPath3Package.COMMENT_TEST,
+		XPath3Package.TEXT_TEST,
+		XPath3Package.ANY_KIND_TEST,
+		XPath3Package.KIND_TEST,
+		XPath3Package.COMMENT
+	};
+	
+	private static final int[][] INTERPRETED_TYPES = createInterpretedTypes();
+	
 	private Stack<EObject> interpretationStack = new Stack<EObject>();
 	private List<org.emftext.language.xpath3.resource.xpath3.IXpath3InterpreterListener> listeners = new ArrayList<org.emftext.language.xpath3.resource.xpath3.IXpath3InterpreterListener>();
 	private EObject nextObjectToInterprete;
@@ -172,626 +289,264 @@ public class AbstractXpath3Interpreter<ResultType, ContextType> {
 	}
 	
 	public ResultType interprete(EObject object, ContextType context) {
-		ResultType result = null;
-		if (object instanceof org.emftext.language.xpath3.Expr) {
-			result = interprete_org_emftext_language_xpath3_Expr((org.emftext.language.xpath3.Expr) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.ForExpr) {
-			result = interprete_org_emftext_language_xpath3_ForExpr((org.emftext.language.xpath3.ForExpr) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.QuantifiedExpr) {
-			result = interprete_org_emftext_language_xpath3_QuantifiedExpr((org.emftext.language.xpath3.QuantifiedExpr) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.IfExpr) {
-			result = interprete_org_emftext_language_xpath3_IfExpr((org.emftext.language.xpath3.IfExpr) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.OrExpr) {
-			result = interprete_org_emftext_language_xpath3_OrExpr((org.emftext.language.xpath3.OrExpr) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.AndExpr) {
-			result = interprete_org_emftext_language_xpath3_AndExpr((org.emftext.language.xpath3.AndExpr) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.ComparisonExpr) {
-			result = interprete_org_emftext_language_xpath3_ComparisonExpr((org.emftext.language.xpath3.ComparisonExpr) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.RangeExpr) {
-			result = interprete_org_emftext_language_xpath3_RangeExpr((org.emftext.language.xpath3.RangeExpr) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.AdditiveExpr) {
-			result = interprete_org_emftext_language_xpath3_AdditiveExpr((org.emftext.language.xpath3.AdditiveExpr) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.MultiplicativeExpr) {
-			result = interprete_org_emftext_language_xpath3_MultiplicativeExpr((org.emftext.language.xpath3.MultiplicativeExpr) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.UnionExpr) {
-			result = interprete_org_emftext_language_xpath3_UnionExpr((org.emftext.language.xpath3.UnionExpr) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.IntersectExceptExpr) {
-			result = interprete_org_emftext_language_xpath3_IntersectExceptExpr((org.emftext.language.xpath3.IntersectExceptExpr) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.InstanceofExpr) {
-			result = interprete_org_emftext_language_xpath3_InstanceofExpr((org.emftext.language.xpath3.InstanceofExpr) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.TreatExpr) {
-			result = interprete_org_emftext_language_xpath3_TreatExpr((org.emftext.language.xpath3.TreatExpr) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.InstanceofExprChild) {
-			result = interprete_org_emftext_language_xpath3_InstanceofExprChild((org.emftext.language.xpath3.InstanceofExprChild) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.IntersectExceptExprChild) {
-			result = interprete_org_emftext_language_xpath3_IntersectExceptExprChild((org.emftext.language.xpath3.IntersectExceptExprChild) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.UnionExprChild) {
-			result = interprete_org_emftext_language_xpath3_UnionExprChild((org.emftext.language.xpath3.UnionExprChild) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.MultiplicativeExprChild) {
-			result = interprete_org_emftext_language_xpath3_MultiplicativeExprChild((org.emftext.language.xpath3.MultiplicativeExprChild) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.AdditiveExprChild) {
-			result = interprete_org_emftext_language_xpath3_AdditiveExprChild((org.emftext.language.xpath3.AdditiveExprChild) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.RangeExprChild) {
-			result = interprete_org_emftext_language_xpath3_RangeExprChild((org.emftext.language.xpath3.RangeExprChild) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.ComparisonExprChild) {
-			result = interprete_org_emftext_language_xpath3_ComparisonExprChild((org.emftext.language.xpath3.ComparisonExprChild) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.AndExprChild) {
-			result = interprete_org_emftext_language_xpath3_AndExprChild((org.emftext.language.xpath3.AndExprChild) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.OrExprChild) {
-			result = interprete_org_emftext_language_xpath3_OrExprChild((org.emftext.language.xpath3.OrExprChild) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.ExprSingle) {
-			result = interprete_org_emftext_language_xpath3_ExprSingle((org.emftext.language.xpath3.ExprSingle) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.AnyExpr) {
-			result = interprete_org_emftext_language_xpath3_AnyExpr((org.emftext.language.xpath3.AnyExpr) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.Iterator) {
-			result = interprete_org_emftext_language_xpath3_Iterator((org.emftext.language.xpath3.Iterator) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.CastableExpr) {
-			result = interprete_org_emftext_language_xpath3_CastableExpr((org.emftext.language.xpath3.CastableExpr) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.CastExpr) {
-			result = interprete_org_emftext_language_xpath3_CastExpr((org.emftext.language.xpath3.CastExpr) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.UnaryExpr) {
-			result = interprete_org_emftext_language_xpath3_UnaryExpr((org.emftext.language.xpath3.UnaryExpr) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.PathExpr) {
-			result = interprete_org_emftext_language_xpath3_PathExpr((org.emftext.language.xpath3.PathExpr) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.ValueExpr) {
-			result = interprete_org_emftext_language_xpath3_ValueExpr((org.emftext.language.xpath3.ValueExpr) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.RootStepExpr) {
-			result = interprete_org_emftext_language_xpath3_RootStepExpr((org.emftext.language.xpath3.RootStepExpr) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.ChildStepExpr) {
-			result = interprete_org_emftext_language_xpath3_ChildStepExpr((org.emftext.language.xpath3.ChildStepExpr) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.DescOrSelfStepExpr) {
-			result = interprete_org_emftext_language_xpath3_DescOrSelfStepExpr((org.emftext.language.xpath3.DescOrSelfStepExpr) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.SelfStepExpr) {
-			result = interprete_org_emftext_language_xpath3_SelfStepExpr((org.emftext.language.xpath3.SelfStepExpr) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.FilterExpr) {
-			result = interprete_org_emftext_language_xpath3_FilterExpr((org.emftext.language.xpath3.FilterExpr) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.ReverseStep) {
-			result = interprete_org_emftext_language_xpath3_ReverseStep((org.emftext.language.xpath3.ReverseStep) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.AbbrevForwardStep) {
-			result = interprete_org_emftext_language_xpath3_AbbrevForwardStep((org.emftext.language.xpath3.AbbrevForwardStep) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.AbbrevReverseStep) {
-			result = interprete_org_emftext_language_xpath3_AbbrevReverseStep((org.emftext.language.xpath3.AbbrevReverseStep) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.StepExpr) {
-			result = interprete_org_emftext_language_xpath3_StepExpr((org.emftext.language.xpath3.StepExpr) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.FilterExprChild) {
-			result = interprete_org_emftext_language_xpath3_FilterExprChild((org.emftext.language.xpath3.FilterExprChild) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.GeneralForwardStep) {
-			result = interprete_org_emftext_language_xpath3_GeneralForwardStep((org.emftext.language.xpath3.GeneralForwardStep) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.ForwardStep) {
-			result = interprete_org_emftext_language_xpath3_ForwardStep((org.emftext.language.xpath3.ForwardStep) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.GeneralReverseStep) {
-			result = interprete_org_emftext_language_xpath3_GeneralReverseStep((org.emftext.language.xpath3.GeneralReverseStep) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.AxisStep) {
-			result = interprete_org_emftext_language_xpath3_AxisStep((org.emftext.language.xpath3.AxisStep) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.SelfStepExprChild) {
-			result = interprete_org_emftext_language_xpath3_SelfStepExprChild((org.emftext.language.xpath3.SelfStepExprChild) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.PathExprChild) {
-			result = interprete_org_emftext_language_xpath3_PathExprChild((org.emftext.language.xpath3.PathExprChild) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.UnaryExprChild) {
-			result = interprete_org_emftext_language_xpath3_UnaryExprChild((org.emftext.language.xpath3.UnaryExprChild) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.CastExprChild) {
-			result = interprete_org_emftext_language_xpath3_CastExprChild((org.emftext.language.xpath3.CastExprChild) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.CastableExprChild) {
-			result = interprete_org_emftext_language_xpath3_CastableExprChild((org.emftext.language.xpath3.CastableExprChild) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.TreatExprChild) {
-			result = interprete_org_emftext_language_xpath3_TreatExprChild((org.emftext.language.xpath3.TreatExprChild) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.NodeKindTest) {
-			result = interprete_org_emftext_language_xpath3_NodeKindTest((org.emftext.language.xpath3.NodeKindTest) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.QNameTest) {
-			result = interprete_org_emftext_language_xpath3_QNameTest((org.emftext.language.xpath3.QNameTest) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.AnyWildcard) {
-			result = interprete_org_emftext_language_xpath3_AnyWildcard((org.emftext.language.xpath3.AnyWildcard) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.LocalNameWildcard) {
-			result = interprete_org_emftext_language_xpath3_LocalNameWildcard((org.emftext.language.xpath3.LocalNameWildcard) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.NamespaceWildcard) {
-			result = interprete_org_emftext_language_xpath3_NamespaceWildcard((org.emftext.language.xpath3.NamespaceWildcard) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.Wildcard) {
-			result = interprete_org_emftext_language_xpath3_Wildcard((org.emftext.language.xpath3.Wildcard) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.NameTest) {
-			result = interprete_org_emftext_language_xpath3_NameTest((org.emftext.language.xpath3.NameTest) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.NodeTest) {
-			result = interprete_org_emftext_language_xpath3_NodeTest((org.emftext.language.xpath3.NodeTest) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.Predicate) {
-			result = interprete_org_emftext_language_xpath3_Predicate((org.emftext.language.xpath3.Predicate) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.StringLiteral) {
-			result = interprete_org_emftext_language_xpath3_StringLiteral((org.emftext.language.xpath3.StringLiteral) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.DecimalLiteral) {
-			result = interprete_org_emftext_language_xpath3_DecimalLiteral((org.emftext.language.xpath3.DecimalLiteral) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.Literal) {
-			result = interprete_org_emftext_language_xpath3_Literal((org.emftext.language.xpath3.Literal) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.VarRef) {
-			result = interprete_org_emftext_language_xpath3_VarRef((org.emftext.language.xpath3.VarRef) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.ParenthesizedExpr) {
-			result = interprete_org_emftext_language_xpath3_ParenthesizedExpr((org.emftext.language.xpath3.ParenthesizedExpr) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.ContextItemExpr) {
-			result = interprete_org_emftext_language_xpath3_ContextItemExpr((org.emftext.language.xpath3.ContextItemExpr) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.FunctionCall) {
-			result = interprete_org_emftext_language_xpath3_FunctionCall((org.emftext.language.xpath3.FunctionCall) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.IntegerLiteral) {
-			result = interprete_org_emftext_language_xpath3_IntegerLiteral((org.emftext.language.xpath3.IntegerLiteral) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.DoubleLiteral) {
-			result = interprete_org_emftext_language_xpath3_DoubleLiteral((org.emftext.language.xpath3.DoubleLiteral) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.NumericLiteral) {
-			result = interprete_org_emftext_language_xpath3_NumericLiteral((org.emftext.language.xpath3.NumericLiteral) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.PrimaryExpr) {
-			result = interprete_org_emftext_language_xpath3_PrimaryExpr((org.emftext.language.xpath3.PrimaryExpr) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.ParenthesizedExprChild) {
-			result = interprete_org_emftext_language_xpath3_ParenthesizedExprChild((org.emftext.language.xpath3.ParenthesizedExprChild) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.GeneralComp) {
-			result = interprete_org_emftext_language_xpath3_GeneralComp((org.emftext.language.xpath3.GeneralComp) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.ValueComp) {
-			result = interprete_org_emftext_language_xpath3_ValueComp((org.emftext.language.xpath3.ValueComp) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.NodeComp) {
-			result = interprete_org_emftext_language_xpath3_NodeComp((org.emftext.language.xpath3.NodeComp) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.Comp) {
-			result = interprete_org_emftext_language_xpath3_Comp((org.emftext.language.xpath3.Comp) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.SingleType) {
-			result = interprete_org_emftext_language_xpath3_SingleType((org.emftext.language.xpath3.SingleType) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.AtomicType) {
-			result = interprete_org_emftext_language_xpath3_AtomicType((org.emftext.language.xpath3.AtomicType) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.OptionalAtomicType) {
-			result = interprete_org_emftext_language_xpath3_OptionalAtomicType((org.emftext.language.xpath3.OptionalAtomicType) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.EmptySequenceType) {
-			result = interprete_org_emftext_language_xpath3_EmptySequenceType((org.emftext.language.xpath3.EmptySequenceType) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.ItemSequenceType) {
-			result = interprete_org_emftext_language_xpath3_ItemSequenceType((org.emftext.language.xpath3.ItemSequenceType) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.SequenceType) {
-			result = interprete_org_emftext_language_xpath3_SequenceType((org.emftext.language.xpath3.SequenceType) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.ItemKindTest) {
-			result = interprete_org_emftext_language_xpath3_ItemKindTest((org.emftext.language.xpath3.ItemKindTest) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.AnyItemType) {
-			result = interprete_org_emftext_language_xpath3_AnyItemType((org.emftext.language.xpath3.AnyItemType) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.AtomicItemType) {
-			result = interprete_org_emftext_language_xpath3_AtomicItemType((org.emftext.language.xpath3.AtomicItemType) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.ItemType) {
-			result = interprete_org_emftext_language_xpath3_ItemType((org.emftext.language.xpath3.ItemType) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.DocumentTest) {
-			result = interprete_org_emftext_language_xpath3_DocumentTest((org.emftext.language.xpath3.DocumentTest) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.NameElementTest) {
-			result = interprete_org_emftext_language_xpath3_NameElementTest((org.emftext.language.xpath3.NameElementTest) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.WildcardElementTest) {
-			result = interprete_org_emftext_language_xpath3_WildcardElementTest((org.emftext.language.xpath3.WildcardElementTest) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.ElementTest) {
-			result = interprete_org_emftext_language_xpath3_ElementTest((org.emftext.language.xpath3.ElementTest) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.NameAttributeTest) {
-			result = interprete_org_emftext_language_xpath3_NameAttributeTest((org.emftext.language.xpath3.NameAttributeTest) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.WildcardAttributeTest) {
-			result = interprete_org_emftext_language_xpath3_WildcardAttributeTest((org.emftext.language.xpath3.WildcardAttributeTest) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.AttributeTest) {
-			result = interprete_org_emftext_language_xpath3_AttributeTest((org.emftext.language.xpath3.AttributeTest) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.SchemaElementTest) {
-			result = interprete_org_emftext_language_xpath3_SchemaElementTest((org.emftext.language.xpath3.SchemaElementTest) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.SchemaAttributeTest) {
-			result = interprete_org_emftext_language_xpath3_SchemaAttributeTest((org.emftext.language.xpath3.SchemaAttributeTest) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.NCNamePITest) {
-			result = interprete_org_emftext_language_xpath3_NCNamePITest((org.emftext.language.xpath3.NCNamePITest) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.StringLiteralPITest) {
-			result = interprete_org_emftext_language_xpath3_StringLiteralPITest((org.emftext.language.xpath3.StringLiteralPITest) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.PITest) {
-			result = interprete_org_emftext_language_xpath3_PITest((org.emftext.language.xpath3.PITest) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.CommentTest) {
-			result = interprete_org_emftext_language_xpath3_CommentTest((org.emftext.language.xpath3.CommentTest) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.TextTest) {
-			result = interprete_org_emftext_language_xpath3_TextTest((org.emftext.language.xpath3.TextTest) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.AnyKindTest) {
-			result = interprete_org_emftext_language_xpath3_AnyKindTest((org.emftext.language.xpath3.AnyKindTest) object, context);
-		}
-		if (result != null) {
-			return result;
-		}
-		if (object instanceof org.emftext.language.xpath3.KindTest) {
-			result = interprete_org_emftext_language_xpath3_KindTest((org.emftext.language.xpath3.KindTest) object, context);
+		EClass eClass = object.eClass();
+		// classes of other packages are interpreted like their first super type,
+		// as XPath3Switch does
+		while (eClass.getEPackage() != XPath3Package.eINSTANCE) {
+			List<EClass> superTypes = eClass.getESuperTypes();
+			if (superTypes.isEmpty()) {
+				return null;
+			}
+			eClass = superTypes.get(0);
 		}
-		if (result != null) {
-			return result;
+		for (int classifierID : INTERPRETED_TYPES[eClass.getClassifierID()]) {
+			ResultType result = interprete(classifierID, object, context);
+			if (result != null) {
+				return result;
+			}
 		}
-		if (object instanceof org.emftext.language.xpath3.Comment) {
-			result = interprete_org_emftext_language_xpath3_Comment((org.emftext.language.xpath3.Comment) object, context);
+		return null;
+	}
+	
+	/**
+	 * Calls the interprete_* method for the type with the given classifier ID.
+	 */
+	private ResultType interprete(int classifierID, EObject object, ContextType context) {
+		switch (classifierID) {
+			case XPath3Package.EXPR:
+				return interprete_org_emftext_language_xpath3_Expr((Expr) object, context);
+			case XPath3Package.FOR_EXPR:
+				return interprete_org_emftext_language_xpath3_ForExpr((ForExpr) object, context);
+			case XPath3Package.QUANTIFIED_EXPR:
+				return interprete_org_emftext_language_xpath3_QuantifiedExpr((QuantifiedExpr) object, context);
+			case XPath3Package.IF_EXPR:
+				return interprete_org_emftext_language_xpath3_IfExpr((IfExpr) object, context);
+			case XPath3Package.OR_EXPR:
+				return interprete_org_emftext_language_xpath3_OrExpr((OrExpr) object, context);
+			case XPath3Package.AND_EXPR:
+				return interprete_org_emftext_language_xpath3_AndExpr((AndExpr) object, context);
+			case XPath3Package.COMPARISON_EXPR:
+				return interprete_org_emftext_language_xpath3_ComparisonExpr((ComparisonExpr) object, context);
+			case XPath3Package.RANGE_EXPR:
+				return interprete_org_emftext_language_xpath3_RangeExpr((RangeExpr) object, context);
+			case XPath3Package.ADDITIVE_EXPR:
+				return interprete_org_emftext_language_xpath3_AdditiveExpr((AdditiveExpr) object, context);
+			case XPath3Package.MULTIPLICATIVE_EXPR:
+				return interprete_org_emftext_language_xpath3_MultiplicativeExpr((MultiplicativeExpr) object, context);
+			case XPath3Package.UNION_EXPR:
+				return interprete_org_emftext_language_xpath3_UnionExpr((UnionExpr) object, context);
+			case XPath3Package.INTERSECT_EXCEPT_EXPR:
+				return interprete_org_emftext_language_xpath3_IntersectExceptExpr((IntersectExceptExpr) object, context);
+			case XPath3Package.INSTANCEOF_EXPR:
+				return interprete_org_emftext_language_xpath3_InstanceofExpr((InstanceofExpr) object, context);
+			case XPath3Package.TREAT_EXPR:
+				return interprete_org_emftext_language_xpath3_TreatExpr((TreatExpr) object, context);
+			case XPath3Package.INSTANCEOF_EXPR_CHILD:
+				return interprete_org_emftext_language_xpath3_InstanceofExprChild((InstanceofExprChild) object, context);
+			case XPath3Package.INTERSECT_EXCEPT_EXPR_CHILD:
+				return interprete_org_emftext_language_xpath3_IntersectExceptExprChild((IntersectExceptExprChild) object, context);
+			case XPath3Package.UNION_EXPR_CHILD:
+				return interprete_org_emftext_language_xpath3_UnionExprChild((UnionExprChild) object, context);
+			case XPath3Package.MULTIPLICATIVE_EXPR_CHILD:
+				return interprete_org_emftext_language_xpath3_MultiplicativeExprChild((MultiplicativeExprChild) object, context);
+			case XPath3Package.ADDITIVE_EXPR_CHILD:
+				return interprete_org_emftext_language_xpath3_AdditiveExprChild((AdditiveExprChild) object, context);
+			case XPath3Package.RANGE_EXPR_CHILD:
+				return interprete_org_emftext_language_xpath3_RangeExprChild((RangeExprChild) object, context);
+			case XPath3Package.COMPARISON_EXPR_CHILD:
+				return interprete_org_emftext_language_xpath3_ComparisonExprChild((ComparisonExprChild) object, context);
+			case XPath3Package.AND_EXPR_CHILD:
+				return interprete_org_emftext_language_xpath3_AndExprChild((AndExprChild) object, context);
+			case XPath3Package.OR_EXPR_CHILD:
+				return interprete_org_emftext_language_xpath3_OrExprChild((OrExprChild) object, context);
+			case XPath3Package.EXPR_SINGLE:
+				return interprete_org_emftext_language_xpath3_ExprSingle((ExprSingle) object, context);
+			case XPath3Package.ANY_EXPR:
+				return interprete_org_emftext_language_xpath3_AnyExpr((AnyExpr) object, context);
+			case XPath3Package.ITERATOR:
+				return interprete_org_emftext_language_xpath3_Iterator((Iterator) object, context);
+			case XPath3Package.CASTABLE_EXPR:
+				return interprete_org_emftext_language_xpath3_CastableExpr((CastableExpr) object, context);
+			case XPath3Package.CAST_EXPR:
+				return interprete_org_emftext_language_xpath3_CastExpr((CastExpr) object, context);
+			case XPath3Package.UNARY_EXPR:
+				return interprete_org_emftext_language_xpath3_UnaryExpr((UnaryExpr) object, context);
+			case XPath3Package.PATH_EXPR:
+				return interprete_org_emftext_language_xpath3_PathExpr((PathExpr) object, context);
+			case XPath3Package.VALUE_EXPR:
+				return interprete_org_emftext_language_xpath3_ValueExpr((ValueExpr) object, context);
+			case XPath3Package.ROOT_STEP_EXPR:
+				return interprete_org_emftext_language_xpath3_RootStepExpr((RootStepExpr) object, context);
+			case XPath3Package.CHILD_STEP_EXPR:
+				return interprete_org_emftext_language_xpath3_ChildStepExpr((ChildStepExpr) object, context);
+			case XPath3Package.DESC_OR_SELF_STEP_EXPR:
+				return interprete_org_emftext_language_xpath3_DescOrSelfStepExpr((DescOrSelfStepExpr) object, context);
+			case XPath3Package.SELF_STEP_EXPR:
+				return interprete_org_emftext_language_xpath3_SelfStepExpr((SelfStepExpr) object, context);
+			case XPath3Package.FILTER_EXPR:
+				return interprete_org_emftext_language_xpath3_FilterExpr((FilterExpr) object, context);
+			case XPath3Package.REVERSE_STEP:
+				return interprete_org_emftext_language_xpath3_ReverseStep((ReverseStep) object, context);
+			case XPath3Package.ABBREV_FORWARD_STEP:
+				return interprete_org_emftext_language_xpath3_AbbrevForwardStep((AbbrevForwardStep) object, context);
+			case XPath3Package.ABBREV_REVERSE_STEP:
+				return interprete_org_emftext_language_xpath3_AbbrevReverseStep((AbbrevReverseStep) object, context);
+			case XPath3Package.STEP_EXPR:
+				return interprete_org_emftext_language_xpath3_StepExpr((StepExpr) object, context);
+			case XPath3Package.FILTER_EXPR_CHILD:
+				return interprete_org_emftext_language_xpath3_FilterExprChild((FilterExprChild) object, context);
+			case XPath3Package.GENERAL_FORWARD_STEP:
+				return interprete_org_emftext_language_xpath3_GeneralForwardStep((GeneralForwardStep) object, context);
+			case XPath3Package.FORWARD_STEP:
+				return interprete_org_emftext_language_xpath3_ForwardStep((ForwardStep) object, context);
+			case XPath3Package.GENERAL_REVERSE_STEP:
+				return interprete_org_emftext_language_xpath3_GeneralReverseStep((GeneralReverseStep) object, context);
+			case XPath3Package.AXIS_STEP:
+				return interprete_org_emftext_language_xpath3_AxisStep((AxisStep) object, context);
+			case XPath3Package.SELF_STEP_EXPR_CHILD:
+				return interprete_org_emftext_language_xpath3_SelfStepExprChild((SelfStepExprChild) object, context);
+			case XPath3Package.PATH_EXPR_CHILD:
+				return interprete_org_emftext_language_xpath3_PathExprChild((PathExprChild) object, context);
+			case XPath3Package.UNARY_EXPR_CHILD:
+				return interprete_org_emftext_language_xpath3_UnaryExprChild((UnaryExprChild) object, context);
+			case XPath3Package.CAST_EXPR_CHILD:
+				return interprete_org_emftext_language_xpath3_CastExprChild((CastExprChild) object, context);
+			case XPath3Package.CASTABLE_EXPR_CHILD:
+				return interprete_org_emftext_language_xpath3_CastableExprChild((CastableExprChild) object, context);
+			case XPath3Package.TREAT_EXPR_CHILD:
+				return interprete_org_emftext_language_xpath3_TreatExprChild((TreatExprChild) object, context);
+			case XPath3Package.NODE_KIND_TEST:
+				return interprete_org_emftext_language_xpath3_NodeKindTest((NodeKindTest) object, context);
+			case XPath3Package.QNAME_TEST:
+				return interprete_org_emftext_language_xpath3_QNameTest((QNameTest) object, context);
+			case XPath3Package.ANY_WILDCARD:
+				return interprete_org_emftext_language_xpath3_AnyWildcard((AnyWildcard) object, context);
+			case XPath3Package.LOCAL_NAME_WILDCARD:
+				return interprete_org_emftext_language_xpath3_LocalNameWildcard((LocalNameWildcard) object, context);
+			case XPath3Package.NAMESPACE_WILDCARD:
+				return interprete_org_emftext_language_xpath3_NamespaceWildcard((NamespaceWildcard) object, context);
+			case XPath3Package.WILDCARD:
+				return interprete_org_emftext_language_xpath3_Wildcard((Wildcard) object, context);
+			case XPath3Package.NAME_TEST:
+				return interprete_org_emftext_language_xpath3_NameTest((NameTest) object, context);
+			case XPath3Package.NODE_TEST:
+				return interprete_org_emftext_language_xpath3_NodeTest((NodeTest) object, context);
+			case XPath3Package.PREDICATE:
+				return interprete_org_emftext_language_xpath3_Predicate((Predicate) object, context);
+			case XPath3Package.STRING_LITERAL:
+				return interprete_org_emftext_language_xpath3_StringLiteral((StringLiteral) object, context);
+			case XPath3Package.DECIMAL_LITERAL:
+				return interprete_org_emftext_language_xpath3_DecimalLiteral((DecimalLiteral) object, context);
+			case XPath3Package.LITERAL:
+				return interprete_org_emftext_language_xpath3_Literal((Literal) object, context);
+			case XPath3Package.VAR_REF:
+				return interprete_org_emftext_language_xpath3_VarRef((VarRef) object, context);
+			case XPath3Package.PARENTHESIZED_EXPR:
+				return interprete_org_emftext_language_xpath3_ParenthesizedExpr((ParenthesizedExpr) object, context);
+			case XPath3Package.CONTEXT_ITEM_EXPR:
+				return interprete_org_emftext_language_xpath3_ContextItemExpr((ContextItemExpr) object, context);
+			case XPath3Package.FUNCTION_CALL:
+				return interprete_org_emftext_language_xpath3_FunctionCall((FunctionCall) object, context);
+			case XPath3Package.INTEGER_LITERAL:
+				return interprete_org_emftext_language_xpath3_IntegerLiteral((IntegerLiteral) object, context);
+			case XPath3Package.DOUBLE_LITERAL:
+				return interprete_org_emftext_language_xpath3_DoubleLiteral((DoubleLiteral) object, context);
+			case XPath3Package.NUMERIC_LITERAL:
+				return interprete_org_emftext_language_xpath3_NumericLiteral((NumericLiteral) object, context);
+			case XPath3Package.PRIMARY_EXPR:
+				return interprete_org_emftext_language_xpath3_PrimaryExpr((PrimaryExpr) object, context);
+			case XPath3Package.PARENTHESIZED_EXPR_CHILD:
+				return interprete_org_emftext_language_xpath3_ParenthesizedExprChild((ParenthesizedExprChild) object, context);
+			case XPath3Package.GENERAL_COMP:
+				return interprete_org_emftext_language_xpath3_GeneralComp((GeneralComp) object, context);
+			case XPath3Package.VALUE_COMP:
+				return interprete_org_emftext_language_xpath3_ValueComp((ValueComp) object, context);
+			case XPath3Package.NODE_COMP:
+				return interprete_org_emftext_language_xpath3_NodeComp((NodeComp) object, context);
+			case XPath3Package.COMP:
+				return interprete_org_emftext_language_xpath3_Comp((Comp) object, context);
+			case XPath3Package.SINGLE_TYPE:
+				return interprete_org_emftext_language_xpath3_SingleType((SingleType) object, context);
+			case XPath3Package.ATOMIC_TYPE:
+				return interprete_org_emftext_language_xpath3_AtomicType((AtomicType) object, context);
+			case XPath3Package.OPTIONAL_ATOMIC_TYPE:
+				return interprete_org_emftext_language_xpath3_OptionalAtomicType((OptionalAtomicType) object, context);
+			case XPath3Package.EMPTY_SEQUENCE_TYPE:
+				return interprete_org_emftext_language_xpath3_EmptySequenceType((EmptySequenceType) object, context);
+			case XPath3Package.ITEM_SEQUENCE_TYPE:
+				return interprete_org_emftext_language_xpath3_ItemSequenceType((ItemSequenceType) object, context);
+			case XPath3Package.SEQUENCE_TYPE:
+				return interprete_org_emftext_language_xpath3_SequenceType((SequenceType) object, context);
+			case XPath3Package.ITEM_KIND_TEST:
+				return interprete_org_emftext_language_xpath3_ItemKindTest((ItemKindTest) object, context);
+			case XPath3Package.ANY_ITEM_TYPE:
+				return interprete_org_emftext_language_xpath3_AnyItemType((AnyItemType) object, context);
+			case XPath3Package.ATOMIC_ITEM_TYPE:
+				return interprete_org_emftext_language_xpath3_AtomicItemType((AtomicItemType) object, context);
+			case XPath3Package.ITEM_TYPE:
+				return interprete_org_emftext_language_xpath3_ItemType((ItemType) object, context);
+			case XPath3Package.DOCUMENT_TEST:
+				return interprete_org_emftext_language_xpath3_DocumentTest((DocumentTest) object, context);
+			case XPath3Package.NAME_ELEMENT_TEST:
+				return interprete_org_emftext_language_xpath3_NameElementTest((NameElementTest) object, context);
+			case XPath3Package.WILDCARD_ELEMENT_TEST:
+				return interprete_org_emftext_language_xpath3_WildcardElementTest((WildcardElementTest) object, context);
+			case XPath3Package.ELEMENT_TEST:
+				return interprete_org_emftext_language_xpath3_ElementTest((ElementTest) object, context);
+			case XPath3Package.NAME_ATTRIBUTE_TEST:
+				return interprete_org_emftext_language_xpath3_NameAttributeTest((NameAttributeTest) object, context);
+			case XPath3Package.WILDCARD_ATTRIBUTE_TEST:
+				return interprete_org_emftext_language_xpath3_WildcardAttributeTest((WildcardAttributeTest) object, context);
+			case XPath3Package.ATTRIBUTE_TEST:
+				return interprete_org_emftext_language_xpath3_AttributeTest((AttributeTest) object, context);
+			case XPath3Package.SCHEMA_ELEMENT_TEST:
+				return interprete_org_emftext_language_xpath3_SchemaElementTest((SchemaElementTest) object, context);
+			case XPath3Package.SCHEMA_ATTRIBUTE_TEST:
+				return interprete_org_emftext_language_xpath3_SchemaAttributeTest((SchemaAttributeTest) object, context);
+			case XPath3Package.NC_NAME_PI_TEST:
+				return interprete_org_emftext_language_xpath3_NCNamePITest((NCNamePITest) object, context);
+			case XPath3Package.STRING_LITERAL_PI_TEST:
+				return interprete_org_emftext_language_xpath3_StringLiteralPITest((StringLiteralPITest) object, context);
+			case XPath3Package.PI_TEST:
+				return interprete_org_emftext_language_xpath3_PITest((PITest) object, context);
+			case XPath3Package.COMMENT_TEST:
+				return interprete_org_emftext_language_xpath3_CommentTest((CommentTest) object, context);
+			case XPath3Package.TEXT_TEST:
+				return interprete_org_emftext_language_xpath3_TextTest((TextTest) object, context);
+			case XPath3Package.ANY_KIND_TEST:
+				return interprete_org_emftext_language_xpath3_AnyKindTest((AnyKindTest) object, context);
+			case XPath3Package.KIND_TEST:
+				return interprete_org_emftext_language_xpath3_KindTest((KindTest) object, context);
+			case XPath3Package.COMMENT:
+				return interprete_org_emftext_language_xpath3_Comment((Comment) object, context);
+			default:
+				return null;
 		}
-		if (result != null) {
-			return result;
+	}
+	
+	/**
+	 * Returns the classifier IDs of the types to call the interprete_* methods for,
+	 * indexed by the classifier ID of the class of the object. These are the class
+	 * and its super types in INTERPRETATION_ORDER.
+	 */
+	private static int[][] createInterpretedTypes() {
+		List<EClassifier> classifiers = XPath3Package.eINSTANCE.getEClassifiers();
+		int[][] interpretedTypes = new int[classifiers.size()][];
+		for (EClassifier classifier : classifiers) {
+			if (!(classifier instanceof EClass)) {
+				continue;
+			}
+			EClass eClass = (EClass) classifier;
+			int[] types = new int[INTERPRETATION_ORDER.length];
+			int count = 0;
+			for (int type : INTERPRETATION_ORDER) {
+				if (((EClass) classifiers.get(type)).isSuperTypeOf(eClass)) {
+					types[count++] = type;
+				}
+			}
+			interpretedTypes[eClass.getClassifierID()] = Arrays.copyOf(types, count);
 		}
-		return result;
+		return interpretedTypes;
 	}
 	
 	public ResultType interprete_org_emftext_language_xpath3_AnyExpr(AnyExpr anyExpr, ContextType context) {
@@ -15,6 +15,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -122,24 +123,33 @@ public class Xpath3ResourceUtil {
 	}
 	
 	/**
-	 * Returns the resource after parsing the given text. This method is deprecated
-	 * because it uses the default platform encoding. Use {@link #getResource(byte[])}
-	 * instead.
+	 * Returns the resource after parsing the given text. The text is not encoded,
+	 * see {@link #getResource(CharSequence, ResourceSet, Map)}.
 	 */
-	@Deprecated
 	public static Resource getResource(String text) {
 		ResourceSet resourceSet = new ResourceSetImpl();
 		return getResource(text, resourceSet);
 	}
 	
 	/**
-	 * Returns the resource after parsing the given text. This method is deprecated
-	 * because it uses the default platform encoding. Use {@link #getResource(byte[],
-	 * ResourceSet)} instead.
+	 * Returns the resource after parsing the given text. The text is not encoded,
+	 * see {@link #getResource(CharSequence, ResourceSet, Map)}.
 	 */
-	@Deprecated
 	public static Resource getResource(String text, ResourceSet resourceSet) {
-		return getResource(text.getBytes(), resourceSet);
+		return getResource(text, resourceSet, null);
+	}
+	
+	/**
+	 * Returns the resource after parsing the given text using the given load options.
+	 * The resource is loaded from a {@link
+	 * org.emftext.language.xpath3.resource.xpath3.parser.Xpath3TextInputStream}, so
+	 * the parser reads the characters directly instead of decoding the bytes of the
+	 * text, and the load encoding is ignored. Only an input stream preprocessor (see
+	 * <code>INPUT_STREAM_PREPROCESSOR_PROVIDER</code>) reads the bytes of the text in
+	 * the default platform encoding.
+	 */
+	public static Resource getResource(CharSequence text, ResourceSet resourceSet, Map<?, ?> loadOptions) {
+		return getResource(new org.emftext.language.xpath3.resource.xpath3.parser.Xpath3TextInputStream(text), resourceSet, loadOptions);
 	}
 	
 	/**
@@ -161,6 +171,10 @@ public class Xpath3ResourceUtil {
 	 * Returns the resource after parsing the given bytes using the given load options.
 	 */
 	public static Resource getResource(byte[] content, ResourceSet resourceSet, Map<?, ?> loadOptions) {
+		return getResource(new ByteArrayInputStream(content), resourceSet, loadOptions);
+	}
+	
+	private static Resource getResource(InputStream inputStream, ResourceSet resourceSet, Map<?, ?> loadOptions) {
 		org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3MetaInformation metaInformation = new org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3MetaInformation();
 		metaInformation.registerResourceFactory();
 		URI uri = URI.createURI("temp." + metaInformation.getSyntaxName());
@@ -168,7 +182,6 @@ public class Xpath3ResourceUtil {
 		if (resource == null) {
 			return null;
 		}
-		ByteArrayInputStream inputStream = new ByteArrayInputStream(content);
 		try {
 			resource.load(inputStream, loadOptions);
 		} catch (IOException ioe) {
@@ -218,7 +231,7 @@ public class Xpath3ResourceUtil {
 			loadOptions.put(org.emftext.language.xpath3.resource.xpath3.IXpath3Options.RESOURCE_CONTENT_TYPE, startEClass);
 		}
 		
-		Resource resource = getResource(text.getBytes(), new ResourceSetImpl(), loadOptions);
+		Resource resource = getResource(text, new ResourceSetImpl(), loadOptions);
 		
 		if (resource == null) {
 			return null;
@@ -19,13 +19,18 @@ public class Xpath3INTEGER_LITERALTokenResolver implements org.emftext.language.
 	private org.emftext.language.xpath3.resource.xpath3.analysis.Xpath3DefaultTokenResolver defaultTokenResolver = new org.emftext.language.xpath3.resource.xpath3.analysis.Xpath3DefaultTokenResolver(true);
 	
 	public String deResolve(Object value, EStructuralFeature feature, EObject container) {
-		// By default token de-resolving is delegated to the DefaultTokenResolver.
+		if (value instanceof Number) {
+			// numbers never need to be escaped like keywords
+			return value.toString();
+		}
 		String result = defaultTokenResolver.deResolve(value, feature, container, null, null, null);
 		return result;
 	}
 	
 	public void resolve(String lexem, EStructuralFeature feature, org.emftext.language.xpath3.resource.xpath3.IXpath3TokenResolveResult result) {
-		// By default token resolving is delegated to the DefaultTokenResolver.
+		if (Xpath3NumericLiterals.resolve(lexem, feature, result)) {
+			return;
+		}
 		defaultTokenResolver.resolve(lexem, feature, result, null, null, null);
 	}
 	
@@ -0,0 +1,265 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.analysis;
+
+import java.math.BigDecimal;
+
+import org.eclipse.emf.ecore.EStructuralFeature;
+
+/**
+ * Converts the text of <code>INTEGER_LITERAL</code>,
+ * <code>DECIMAL_LITERAL</code> and <code>DOUBLE_LITERAL</code> tokens directly
+ * into <code>int</code>, <code>float</code> and <code>double</code> values
+ * instead of going through <code>EcoreUtil.createFromString()</code>.
+ * <p>
+ * Only the common cases are handled: integers that fit into an
+ * <code>int</code>, and literals with a few significant digits and a small
+ * exponent, which can be converted exactly with a single multiplication or
+ * division. The result is the same as the one of <code>Integer.valueOf()</code>,
+ * <code>Float.valueOf()</code> or <code>Double.valueOf()</code>. All other
+ * texts are left to the default token resolver.
+ */
+final class Xpath3NumericLiterals {
+
+	/**
+	 * The powers of ten that are exact doubles.
+	 */
+	private static final double[] DOUBLE_POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3,
+			1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15,
+			1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+	/**
+	 * The powers of ten that are exact floats.
+	 */
+	private static final float[] FLOAT_POWERS_OF_TEN = { 1e0f, 1e1f, 1e2f,
+			1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f };
+
+	/**
+	 * The smallest power of ten that overflows a double.
+	 */
+	private static final String INFINITE_DOUBLE_LITERAL = "1.0E309";
+
+	/**
+	 * The largest significand that is an exact double.
+	 */
+	private static final long MAX_DOUBLE_SIGNIFICAND = 1L << 53;
+
+	/**
+	 * The largest significand that is an exact float.
+	 */
+	private static final long MAX_FLOAT_SIGNIFICAND = 1L << 24;
+
+	/**
+	 * The maximum number of significant digits, so the significand fits into
+	 * a <code>long</code>.
+	 */
+	private static final int MAX_DIGITS = 18;
+
+	/**
+	 * The maximum number of exponent digits, so the exponent fits into an
+	 * <code>int</code>.
+	 */
+	private static final int MAX_EXPONENT_DIGITS = 4;
+
+	private Xpath3NumericLiterals() {
+	}
+
+	/**
+	 * Converts the lexem into the type of the feature if it is an
+	 * <code>int</code>, <code>float</code> or <code>double</code>, and sets
+	 * the resolved token of the result.
+	 *
+	 * @return <code>false</code> if the lexem must be converted by the default
+	 *         token resolver
+	 */
+	static boolean resolve(String lexem, EStructuralFeature feature,
+			org.emftext.language.xpath3.resource.xpath3.IXpath3TokenResolveResult result) {
+		Class<?> type = feature.getEType().getInstanceClass();
+		if (type == int.class || type == Integer.class) {
+			long value = parseInt(lexem);
+			if (value < 0) {
+				return false;
+			}
+			result.setResolvedToken(Integer.valueOf((int) value));
+			return true;
+		}
+		if (type == double.class || type == Double.class) {
+			double value = parseDouble(lexem);
+			if (Double.isNaN(value)) {
+				return false;
+			}
+			result.setResolvedToken(Double.valueOf(value));
+			return true;
+		}
+		if (type == float.class || type == Float.class) {
+			float value = parseFloat(lexem);
+			if (Float.isNaN(value)) {
+				return false;
+			}
+			result.setResolvedToken(Float.valueOf(value));
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the text of a <code>DOUBLE_LITERAL</code>, which must have an
+	 * exponent, e.g. <code>1.0e0</code> instead of <code>1.0</code>. An
+	 * infinite value, which is the value of a literal that overflows, becomes
+	 * a literal that overflows as well. <code>NaN</code> can't be written as a
+	 * literal and keeps the text of <code>Double.toString()</code>.
+	 */
+	static String toDoubleLiteral(double value) {
+		if (Double.isInfinite(value)) {
+			return value > 0 ? INFINITE_DOUBLE_LITERAL : "-"
+					+ INFINITE_DOUBLE_LITERAL;
+		}
+		String text = Double.toString(value);
+		if (Double.isNaN(value)) {
+			return text;
+		}
+		return text.indexOf('E') < 0 ? text + "e0" : text;
+	}
+
+	/**
+	 * Returns the text of a <code>DECIMAL_LITERAL</code>, which must not have
+	 * an exponent, e.g. <code>0.00001</code> instead of <code>1.0E-5</code>.
+	 */
+	static String toDecimalLiteral(float value) {
+		String text = Float.toString(value);
+		return text.indexOf('E') < 0 ? text : new BigDecimal(text)
+				.toPlainString();
+	}
+
+	/**
+	 * Returns the value of a non-empty sequence of decimal digits, or
+	 * <code>-1</code> if the text contains other characters or the value
+	 * doesn't fit into an <code>int</code>.
+	 */
+	static long parseInt(String text) {
+		int length = text.length();
+		if (length == 0 || length > 10) {
+			return -1;
+		}
+		long value = 0;
+		for (int i = 0; i < length; i++) {
+			int digit = text.charAt(i) - '0';
+			if (digit < 0 || digit > 9) {
+				return -1;
+			}
+			value = value * 10 + digit;
+		}
+		return value <= Integer.MAX_VALUE ? value : -1;
+	}
+
+	/**
+	 * Returns the value of a numeric literal, or <code>NaN</code> if it can't
+	 * be converted exactly by this class.
+	 */
+	static double parseDouble(String text) {
+		return parse(text, false);
+	}
+
+	/**
+	 * Returns the value of a numeric literal, or <code>NaN</code> if it can't
+	 * be converted exactly by this class.
+	 */
+	static float parseFloat(String text) {
+		return (float) parse(text, true);
+	}
+
+	/**
+	 * Parses a literal <code>digits ('.' digits)? ([eE] [+-]? digits)?</code>
+	 * as <code>significand * 10^exponent</code> and returns its value as a
+	 * float or a double, or <code>NaN</code>.
+	 */
+	private static double parse(String text, boolean toFloat) {
+		int length = text.length();
+		int i = 0;
+		long significand = 0;
+		int significantDigits = 0;
+		int fractionDigits = 0;
+		int mantissaDigits = 0;
+		boolean fraction = false;
+		for (; i < length; i++) {
+			char c = text.charAt(i);
+			if (c == '.' && !fraction) {
+				fraction = true;
+				continue;
+			}
+			if (c < '0' || c > '9') {
+				break;
+			}
+			mantissaDigits++;
+			if (fraction) {
+				fractionDigits++;
+			}
+			if (significand == 0 && c == '0') {
+				// leading zeros are not significant
+				continue;
+			}
+			if (++significantDigits > MAX_DIGITS) {
+				return Double.NaN;
+			}
+			significand = significand * 10 + (c - '0');
+		}
+		if (mantissaDigits == 0) {
+			return Double.NaN;
+		}
+		int exponent = 0;
+		if (i < length) {
+			char c = text.charAt(i);
+			if (c != 'e' && c != 'E') {
+				return Double.NaN;
+			}
+			i++;
+			boolean negative = false;
+			if (i < length && (text.charAt(i) == '+' || text.charAt(i) == '-')) {
+				negative = text.charAt(i) == '-';
+				i++;
+			}
+			int exponentDigits = length - i;
+			if (exponentDigits == 0 || exponentDigits > MAX_EXPONENT_DIGITS) {
+				return Double.NaN;
+			}
+			for (; i < length; i++) {
+				int digit = text.charAt(i) - '0';
+				if (digit < 0 || digit > 9) {
+					return Double.NaN;
+				}
+				exponent = exponent * 10 + digit;
+			}
+			if (negative) {
+				exponent = -exponent;
+			}
+		}
+		exponent -= fractionDigits;
+		if (significand == 0) {
+			return 0.0;
+		}
+		if (toFloat) {
+			if (significand > MAX_FLOAT_SIGNIFICAND || exponent < -10
+					|| exponent > 10) {
+				return Double.NaN;
+			}
+			float value = significand;
+			return exponent >= 0 ? value * FLOAT_POWERS_OF_TEN[exponent]
+					: value / FLOAT_POWERS_OF_TEN[-exponent];
+		}
+		if (significand > MAX_DOUBLE_SIGNIFICAND || exponent < -22
+				|| exponent > 22) {
+			return Double.NaN;
+		}
+		double value = significand;
+		return exponent >= 0 ? value * DOUBLE_POWERS_OF_TEN[exponent]
+				: value / DOUBLE_POWERS_OF_TEN[-exponent];
+	}
+}
@@ -0,0 +1,705 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.ast;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.xml.namespace.QName;
+
+import org.eclipse.emf.ecore.EObject;
+import org.emftext.language.xpath3.AbbrevForwardStep;
+import org.emftext.language.xpath3.AbbrevForwardStepKind;
+import org.emftext.language.xpath3.AbbrevReverseStep;
+import org.emftext.language.xpath3.AdditiveExpr;
+import org.emftext.language.xpath3.AndExpr;
+import org.emftext.language.xpath3.AtomicItemType;
+import org.emftext.language.xpath3.AtomicType;
+import org.emftext.language.xpath3.AttributeTest;
+import org.emftext.language.xpath3.AxisStep;
+import org.emftext.language.xpath3.CastExpr;
+import org.emftext.language.xpath3.CastableExpr;
+import org.emftext.language.xpath3.ChildStepExpr;
+import org.emftext.language.xpath3.Comp;
+import org.emftext.language.xpath3.ComparisonExpr;
+import org.emftext.language.xpath3.DecimalLiteral;
+import org.emftext.language.xpath3.DescOrSelfStepExpr;
+import org.emftext.language.xpath3.DocumentTest;
+import org.emftext.language.xpath3.DoubleLiteral;
+import org.emftext.language.xpath3.Expr;
+import org.emftext.language.xpath3.FilterExpr;
+import org.emftext.language.xpath3.ForExpr;
+import org.emftext.language.xpath3.ForwardAxisKind;
+import org.emftext.language.xpath3.FunctionCall;
+import org.emftext.language.xpath3.GeneralComp;
+import org.emftext.language.xpath3.GeneralForwardStep;
+import org.emftext.language.xpath3.GeneralReverseStep;
+import org.emftext.language.xpath3.IfExpr;
+import org.emftext.language.xpath3.InstanceofExpr;
+import org.emftext.language.xpath3.IntegerLiteral;
+import org.emftext.language.xpath3.IntersectExceptExpr;
+import org.emftext.language.xpath3.ItemKindTest;
+import org.emftext.language.xpath3.ItemSequenceType;
+import org.emftext.language.xpath3.Iterator;
+import org.emftext.language.xpath3.LocalNameWildcard;
+import org.emftext.language.xpath3.MultiplicativeExpr;
+import org.emftext.language.xpath3.NCNamePITest;
+import org.emftext.language.xpath3.NameAttributeTest;
+import org.emftext.language.xpath3.NameElementTest;
+import org.emftext.language.xpath3.NamespaceWildcard;
+import org.emftext.language.xpath3.NodeComp;
+import org.emftext.language.xpath3.NodeKindTest;
+import org.emftext.language.xpath3.NodeTest;
+import org.emftext.language.xpath3.OccurrenceIndicatorKind;
+import org.emftext.language.xpath3.OptionalAtomicType;
+import org.emftext.language.xpath3.OrExpr;
+import org.emftext.language.xpath3.ParenthesizedExpr;
+import org.emftext.language.xpath3.PathExpr;
+import org.emftext.language.xpath3.Predicate;
+import org.emftext.language.xpath3.QNameTest;
+import org.emftext.language.xpath3.QuantifiedExpr;
+import org.emftext.language.xpath3.RangeExpr;
+import org.emftext.language.xpath3.ReverseAxisKind;
+import org.emftext.language.xpath3.SchemaAttributeTest;
+import org.emftext.language.xpath3.SchemaElementTest;
+import org.emftext.language.xpath3.SelfStepExpr;
+import org.emftext.language.xpath3.SingleType;
+import org.emftext.language.xpath3.StringLiteral;
+import org.emftext.language.xpath3.StringLiteralPITest;
+import org.emftext.language.xpath3.TreatExpr;
+import org.emftext.language.xpath3.UnaryExpr;
+import org.emftext.language.xpath3.UnaryOp;
+import org.emftext.language.xpath3.UnionExpr;
+import org.emftext.language.xpath3.ValueComp;
+import org.emftext.language.xpath3.VarRef;
+import org.emftext.language.xpath3.WildcardAttributeTest;
+import org.emftext.language.xpath3.WildcardElementTest;
+import org.emftext.language.xpath3.XPath3Package;
+import org.emftext.language.xpath3.resource.xpath3.parser.Xpath3FastParser;
+import org.emftext.language.xpath3.resource.xpath3.parser.Xpath3HeadlessParseResult;
+import org.emftext.language.xpath3.resource.xpath3.parser.Xpath3HeadlessParser;
+
+/**
+ * Builds the compact form of expression models, trees of
+ * {@link Xpath3AstNode}s, for callers that keep many expressions, e.g. a
+ * cache of compiled expressions.
+ * <p>
+ * The tree is built in a single pass over the model. The single operand
+ * wrappers of unprocessed models and parentheses are skipped, so a
+ * processed and an unprocessed model of the same text give equal trees.
+ * Abbreviated steps are expanded and operator chains become binary nodes,
+ * see {@link Xpath3AstKind}. Locations and layout are not kept.
+ * <p>
+ * Names, literal values and leaves are interned, so equal ones are shared by
+ * all trees built by the same builder. The tables grow with the number of
+ * distinct names and literals, so one builder should be used for all
+ * expressions of a cache and dropped together with it. Builders are
+ * thread-safe.
+ */
+public class Xpath3AstBuilder {
+
+    private static final Xpath3AstNode EMPTY_SEQUENCE = leaf(Xpath3AstKind.EMPTY_SEQUENCE);
+
+    private static final Xpath3AstNode ROOT = leaf(Xpath3AstKind.ROOT);
+
+    private static final Xpath3AstNode CONTEXT_ITEM = leaf(Xpath3AstKind.CONTEXT_ITEM);
+
+    private static final Xpath3AstNode ANY_NAME_TEST = leaf(Xpath3AstKind.ANY_NAME_TEST);
+
+    private static final Xpath3AstNode ANY_KIND_TEST = leaf(Xpath3AstKind.ANY_KIND_TEST);
+
+    private static final Xpath3AstNode TEXT_TEST = leaf(Xpath3AstKind.TEXT_TEST);
+
+    private static final Xpath3AstNode COMMENT_TEST = leaf(Xpath3AstKind.COMMENT_TEST);
+
+    private static final Xpath3AstNode PI_TEST = leaf(Xpath3AstKind.PI_TEST);
+
+    private static final Xpath3AstNode DOCUMENT_TEST = leaf(Xpath3AstKind.DOCUMENT_TEST);
+
+    private static final Xpath3AstNode ELEMENT_TEST = leaf(Xpath3AstKind.ELEMENT_TEST);
+
+    private static final Xpath3AstNode ATTRIBUTE_TEST = leaf(Xpath3AstKind.ATTRIBUTE_TEST);
+
+    private static final Xpath3AstNode EMPTY_SEQUENCE_TYPE = leaf(Xpath3AstKind.EMPTY_SEQUENCE_TYPE);
+
+    private static final Xpath3AstNode ANY_ITEM_TYPE = leaf(Xpath3AstKind.ANY_ITEM_TYPE);
+
+    /**
+     * The <code>descendant-or-self::node()</code> step of <code>//</code>.
+     */
+    private static final Xpath3AstNode DESCENDANT_OR_SELF_STEP = new Xpath3AstNode(
+            Xpath3AstKind.AXIS_STEP, ForwardAxisKind.DESCENDANT_OR_SELF,
+            new Xpath3AstNode[] { ANY_KIND_TEST });
+
+    private final ConcurrentMap<String, QName> names = new ConcurrentHashMap<String, QName>();
+
+    private final ConcurrentMap<Object, Object> values = new ConcurrentHashMap<Object, Object>();
+
+    private final ConcurrentMap<Xpath3AstNode, Xpath3AstNode> leaves = new ConcurrentHashMap<Xpath3AstNode, Xpath3AstNode>();
+
+    private final Xpath3HeadlessParser parser;
+
+    public Xpath3AstBuilder() {
+        this(null);
+    }
+
+    /**
+     * @param options
+     *            the load options of the parser used by {@link #parse(String)}
+     */
+    public Xpath3AstBuilder(Map<?, ?> options) {
+        Map<Object, Object> parserOptions = new HashMap<Object, Object>();
+        if (options != null) {
+            parserOptions.putAll(options);
+        }
+        parserOptions.put(Xpath3FastParser.COLLAPSE_EXPRESSIONS, Boolean.TRUE);
+        this.parser = new Xpath3HeadlessParser(parserOptions);
+    }
+
+    /**
+     * Parses an expression with an {@link Xpath3HeadlessParser} and builds
+     * the tree, the model is dropped right away. Returns <code>null</code>
+     * if the text has syntax errors.
+     */
+    public Xpath3AstNode parse(String text) {
+        Xpath3HeadlessParseResult result = parser.parse(text);
+        if (result.hasErrors() || result.getRoot() == null) {
+            return null;
+        }
+        return build(result.getRoot());
+    }
+
+    /**
+     * Builds the tree of an expression model.
+     *
+     * @throws IllegalArgumentException
+     *             if the model is incomplete, e.g. because it has syntax
+     *             errors
+     */
+    public Xpath3AstNode build(EObject expr) {
+        if (expr == null) {
+            throw new IllegalArgumentException("Incomplete expression");
+        }
+        if (expr.eClass().getEPackage() != XPath3Package.eINSTANCE) {
+            throw unsupported(expr);
+        }
+        switch (expr.eClass().getClassifierID()) {
+        case XPath3Package.EXPR:
+            return buildSequence(((Expr) expr).getExpr());
+        case XPath3Package.FOR_EXPR: {
+            ForExpr forExpr = (ForExpr) expr;
+            return new Xpath3AstNode(Xpath3AstKind.FOR, null, buildIterators(
+                    forExpr.getIterator(), forExpr.getReturn()));
+        }
+        case XPath3Package.QUANTIFIED_EXPR: {
+            QuantifiedExpr quantifiedExpr = (QuantifiedExpr) expr;
+            return new Xpath3AstNode(Xpath3AstKind.QUANTIFIED,
+                    quantifiedExpr.getQuantifier(), buildIterators(
+                            quantifiedExpr.getIterator(),
+                            quantifiedExpr.getSatisfies()));
+        }
+        case XPath3Package.ITERATOR: {
+            Iterator iterator = (Iterator) expr;
+            return new Xpath3AstNode(Xpath3AstKind.ITERATOR,
+                    intern(iterator.getVarName()),
+                    new Xpath3AstNode[] { build(iterator.getList()) });
+        }
+        case XPath3Package.IF_EXPR: {
+            IfExpr ifExpr = (IfExpr) expr;
+            return new Xpath3AstNode(Xpath3AstKind.IF, null,
+                    new Xpath3AstNode[] { build(ifExpr.getTest()),
+                            build(ifExpr.getThen()), build(ifExpr.getElse()) });
+        }
+        case XPath3Package.OR_EXPR:
+            return buildChain(Xpath3AstKind.OR, ((OrExpr) expr).getOperand(),
+                    null);
+        case XPath3Package.AND_EXPR:
+            return buildChain(Xpath3AstKind.AND,
+                    ((AndExpr) expr).getOperand(), null);
+        case XPath3Package.COMPARISON_EXPR:
+            return buildComparison((ComparisonExpr) expr);
+        case XPath3Package.RANGE_EXPR: {
+            RangeExpr rangeExpr = (RangeExpr) expr;
+            if (rangeExpr.getTo() == null) {
+                return build(rangeExpr.getFrom());
+            }
+            return new Xpath3AstNode(Xpath3AstKind.RANGE, null,
+                    new Xpath3AstNode[] { build(rangeExpr.getFrom()),
+                            build(rangeExpr.getTo()) });
+        }
+        case XPath3Package.ADDITIVE_EXPR:
+            return buildChain(Xpath3AstKind.ADDITIVE,
+                    ((AdditiveExpr) expr).getOperand(),
+                    ((AdditiveExpr) expr).getOperator());
+        case XPath3Package.MULTIPLICATIVE_EXPR:
+            return buildChain(Xpath3AstKind.MULTIPLICATIVE,
+                    ((MultiplicativeExpr) expr).getOperand(),
+                    ((MultiplicativeExpr) expr).getOperator());
+        case XPath3Package.UNION_EXPR:
+            return buildChain(Xpath3AstKind.UNION,
+                    ((UnionExpr) expr).getOperand(), null);
+        case XPath3Package.INTERSECT_EXCEPT_EXPR:
+            return buildChain(Xpath3AstKind.INTERSECT_EXCEPT,
+                    ((IntersectExceptExpr) expr).getOperand(),
+                    ((IntersectExceptExpr) expr).getOperator());
+        case XPath3Package.INSTANCEOF_EXPR: {
+            InstanceofExpr instanceofExpr = (InstanceofExpr) expr;
+            return buildTyped(Xpath3AstKind.INSTANCE_OF,
+                    instanceofExpr.getOperand(), instanceofExpr.getType());
+        }
+        case XPath3Package.TREAT_EXPR: {
+            TreatExpr treatExpr = (TreatExpr) expr;
+            return buildTyped(Xpath3AstKind.TREAT, treatExpr.getOperand(),
+                    treatExpr.getType());
+        }
+        case XPath3Package.CASTABLE_EXPR: {
+            CastableExpr castableExpr = (CastableExpr) expr;
+            return buildTyped(Xpath3AstKind.CASTABLE,
+                    castableExpr.getOperand(), castableExpr.getType());
+        }
+        case XPath3Package.CAST_EXPR: {
+            CastExpr castExpr = (CastExpr) expr;
+            return buildTyped(Xpath3AstKind.CAST, castExpr.getOperand(),
+                    castExpr.getType());
+        }
+        case XPath3Package.UNARY_EXPR:
+            return buildUnary((UnaryExpr) expr);
+        case XPath3Package.PATH_EXPR:
+            return buildPath(((PathExpr) expr).getStep());
+        case XPath3Package.ROOT_STEP_EXPR:
+            return ROOT;
+        case XPath3Package.CHILD_STEP_EXPR:
+        case XPath3Package.DESC_OR_SELF_STEP_EXPR:
+            return buildPath(Collections.singletonList(expr));
+        case XPath3Package.SELF_STEP_EXPR:
+            return build(((SelfStepExpr) expr).getStep());
+        case XPath3Package.FILTER_EXPR: {
+            FilterExpr filterExpr = (FilterExpr) expr;
+            List<Predicate> predicates = filterExpr.getPredicate();
+            if (predicates.isEmpty()) {
+                return build(filterExpr.getPrimaryExpr());
+            }
+            Xpath3AstNode[] children = new Xpath3AstNode[predicates.size() + 1];
+            children[0] = build(filterExpr.getPrimaryExpr());
+            buildPredicates(predicates, children);
+            return new Xpath3AstNode(Xpath3AstKind.FILTER, null, children);
+        }
+        case XPath3Package.GENERAL_FORWARD_STEP: {
+            GeneralForwardStep step = (GeneralForwardStep) expr;
+            return buildAxisStep(step.getAxis(), build(step.getNodeTest()),
+                    step);
+        }
+        case XPath3Package.ABBREV_FORWARD_STEP: {
+            AbbrevForwardStep step = (AbbrevForwardStep) expr;
+            ForwardAxisKind axis = ForwardAxisKind.CHILD;
+            if (step.getKind() == AbbrevForwardStepKind.ATTRIBUTE
+                    || isAttributeTest(step.getNodeTest())) {
+                axis = ForwardAxisKind.ATTRIBUTE;
+            }
+            return buildAxisStep(axis, build(step.getNodeTest()), step);
+        }
+        case XPath3Package.GENERAL_REVERSE_STEP: {
+            GeneralReverseStep step = (GeneralReverseStep) expr;
+            return buildAxisStep(step.getAxis(), build(step.getNodeTest()),
+                    step);
+        }
+        case XPath3Package.ABBREV_REVERSE_STEP:
+            return buildAxisStep(ReverseAxisKind.PARENT, ANY_KIND_TEST,
+                    (AbbrevReverseStep) expr);
+        case XPath3Package.NODE_KIND_TEST:
+            return build(((NodeKindTest) expr).getTest());
+        case XPath3Package.QNAME_TEST:
+            return leaf(Xpath3AstKind.NAME_TEST, ((QNameTest) expr).getName());
+        case XPath3Package.ANY_WILDCARD:
+            return ANY_NAME_TEST;
+        case XPath3Package.LOCAL_NAME_WILDCARD:
+            return leaf(Xpath3AstKind.LOCAL_NAME_WILDCARD,
+                    ((LocalNameWildcard) expr).getNamespace());
+        case XPath3Package.NAMESPACE_WILDCARD:
+            return leaf(Xpath3AstKind.NAMESPACE_WILDCARD,
+                    ((NamespaceWildcard) expr).getLocalName());
+        case XPath3Package.PARENTHESIZED_EXPR: {
+            EObject inner = ((ParenthesizedExpr) expr).getExpr();
+            return inner == null ? EMPTY_SEQUENCE : build(inner);
+        }
+        case XPath3Package.CONTEXT_ITEM_EXPR:
+            return CONTEXT_ITEM;
+        case XPath3Package.VAR_REF:
+            return leaf(Xpath3AstKind.VAR_REF,
+                    ((VarRef) expr).getVarName());
+        case XPath3Package.FUNCTION_CALL: {
+            FunctionCall functionCall = (FunctionCall) expr;
+            List<? extends EObject> args = functionCall.getArg();
+            if (args.isEmpty()) {
+                return leaf(Xpath3AstKind.FUNCTION_CALL,
+                        functionCall.getName());
+            }
+            return new Xpath3AstNode(Xpath3AstKind.FUNCTION_CALL,
+                    intern(functionCall.getName()), buildAll(args));
+        }
+        case XPath3Package.STRING_LITERAL:
+            return leaf(Xpath3AstKind.STRING_LITERAL,
+                    unquote(((StringLiteral) expr).getValue()));
+        case XPath3Package.INTEGER_LITERAL:
+            return leaf(Xpath3AstKind.INTEGER_LITERAL,
+                    BigInteger.valueOf(((IntegerLiteral) expr).getValue()));
+        case XPath3Package.DECIMAL_LITERAL:
+            // the model keeps decimals as floats, like the evaluator
+            return leaf(Xpath3AstKind.DECIMAL_LITERAL, new BigDecimal(
+                    Float.toString(((DecimalLiteral) expr).getValue())));
+        case XPath3Package.DOUBLE_LITERAL:
+            return leaf(Xpath3AstKind.DOUBLE_LITERAL,
+                    Double.valueOf(((DoubleLiteral) expr).getValue()));
+        case XPath3Package.ANY_KIND_TEST:
+            return ANY_KIND_TEST;
+        case XPath3Package.TEXT_TEST:
+            return TEXT_TEST;
+        case XPath3Package.COMMENT_TEST:
+            return COMMENT_TEST;
+        case XPath3Package.PI_TEST:
+            return PI_TEST;
+        case XPath3Package.NC_NAME_PI_TEST:
+            return leaf(Xpath3AstKind.PI_TEST, ((NCNamePITest) expr).getName());
+        case XPath3Package.STRING_LITERAL_PI_TEST: {
+            StringLiteral literal = ((StringLiteralPITest) expr).getLiteral();
+            if (literal == null || literal.getValue() == null) {
+                return PI_TEST;
+            }
+            return leaf(Xpath3AstKind.PI_TEST, unquote(literal.getValue())
+                    .trim());
+        }
+        case XPath3Package.DOCUMENT_TEST: {
+            EObject test = ((DocumentTest) expr).getTest();
+            if (test == null) {
+                return DOCUMENT_TEST;
+            }
+            return new Xpath3AstNode(Xpath3AstKind.DOCUMENT_TEST, null,
+                    new Xpath3AstNode[] { build(test) });
+        }
+        case XPath3Package.ELEMENT_TEST:
+            return ELEMENT_TEST;
+        case XPath3Package.NAME_ELEMENT_TEST: {
+            NameElementTest test = (NameElementTest) expr;
+            return buildElementTest(test.getName(), test.getType());
+        }
+        case XPath3Package.WILDCARD_ELEMENT_TEST:
+            return buildElementTest(null, ((WildcardElementTest) expr).getType());
+        case XPath3Package.ATTRIBUTE_TEST:
+            return ATTRIBUTE_TEST;
+        case XPath3Package.NAME_ATTRIBUTE_TEST: {
+            NameAttributeTest test = (NameAttributeTest) expr;
+            return buildAttributeTest(test.getName(), test.getType());
+        }
+        case XPath3Package.WILDCARD_ATTRIBUTE_TEST:
+            return buildAttributeTest(null,
+                    ((WildcardAttributeTest) expr).getType());
+        case XPath3Package.SCHEMA_ELEMENT_TEST:
+            return leaf(Xpath3AstKind.SCHEMA_ELEMENT_TEST,
+                    ((SchemaElementTest) expr).getName());
+        case XPath3Package.SCHEMA_ATTRIBUTE_TEST:
+            return leaf(Xpath3AstKind.SCHEMA_ATTRIBUTE_TEST,
+                    ((SchemaAttributeTest) expr).getName());
+        case XPath3Package.EMPTY_SEQUENCE_TYPE:
+            return EMPTY_SEQUENCE_TYPE;
+        case XPath3Package.ITEM_SEQUENCE_TYPE: {
+            ItemSequenceType type = (ItemSequenceType) expr;
+            return new Xpath3AstNode(Xpath3AstKind.SEQUENCE_TYPE,
+                    type.getOccurrence(),
+                    new Xpath3AstNode[] { build(type.getItemType()) });
+        }
+        case XPath3Package.ITEM_KIND_TEST:
+            return build(((ItemKindTest) expr).getTest());
+        case XPath3Package.ANY_ITEM_TYPE:
+            return ANY_ITEM_TYPE;
+        case XPath3Package.ATOMIC_ITEM_TYPE:
+            return build(((AtomicItemType) expr).getType());
+        case XPath3Package.ATOMIC_TYPE:
+            return leaf(Xpath3AstKind.ATOMIC_TYPE,
+                    ((AtomicType) expr).getName());
+        case XPath3Package.SINGLE_TYPE: {
+            SingleType type = (SingleType) expr;
+            return buildAtomicSequenceType(type.getType().getName(),
+                    type.isOptional());
+        }
+        case XPath3Package.OPTIONAL_ATOMIC_TYPE: {
+            OptionalAtomicType type = (OptionalAtomicType) expr;
+            return buildAtomicSequenceType(type.getName(), type.isOptional());
+        }
+        default:
+            throw unsupported(expr);
+        }
+    }
+
+    private Xpath3AstNode[] buildAll(List<? extends EObject> exprs) {
+        Xpath3AstNode[] nodes = new Xpath3AstNode[exprs.size()];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = build(exprs.get(i));
+        }
+        return nodes;
+    }
+
+    private Xpath3AstNode buildSequence(List<? extends EObject> exprs) {
+        switch (exprs.size()) {
+        case 0:
+            return EMPTY_SEQUENCE;
+        case 1:
+            return build(exprs.get(0));
+        default:
+            return new Xpath3AstNode(Xpath3AstKind.SEQUENCE, null,
+                    buildAll(exprs));
+        }
+    }
+
+    private Xpath3AstNode[] buildIterators(List<Iterator> iterators,
+            EObject body) {
+        Xpath3AstNode[] children = new Xpath3AstNode[iterators.size() + 1];
+        for (int i = 0; i < iterators.size(); i++) {
+            children[i] = build(iterators.get(i));
+        }
+        children[iterators.size()] = build(body);
+        return children;
+    }
+
+    /**
+     * Builds left associative binary nodes for an operator chain. The
+     * operators are the values of the nodes, or <code>null</code> if there is
+     * only one operator.
+     */
+    private Xpath3AstNode buildChain(Xpath3AstKind kind,
+            List<? extends EObject> operands, List<?> operators) {
+        if (operands.isEmpty()) {
+            throw new IllegalArgumentException("Incomplete expression");
+        }
+        Xpath3AstNode result = build(operands.get(0));
+        for (int i = 1; i < operands.size(); i++) {
+            Object operator = operators == null ? null : operators.get(i - 1);
+            result = new Xpath3AstNode(kind, operator, new Xpath3AstNode[] {
+                    result, build(operands.get(i)) });
+        }
+        return result;
+    }
+
+    private Xpath3AstNode buildComparison(ComparisonExpr comparisonExpr) {
+        if (comparisonExpr.getRight() == null) {
+            return build(comparisonExpr.getLeft());
+        }
+        Comp operator = comparisonExpr.getOperator();
+        Xpath3AstKind kind;
+        Object value;
+        if (operator instanceof GeneralComp) {
+            kind = Xpath3AstKind.GENERAL_COMPARISON;
+            value = ((GeneralComp) operator).getOperator();
+        } else if (operator instanceof ValueComp) {
+            kind = Xpath3AstKind.VALUE_COMPARISON;
+            value = ((ValueComp) operator).getOperator();
+        } else if (operator instanceof NodeComp) {
+            kind = Xpath3AstKind.NODE_COMPARISON;
+            value = ((NodeComp) operator).getOperator();
+        } else {
+            throw new IllegalArgumentException("Incomplete expression");
+        }
+        return new Xpath3AstNode(kind, value, new Xpath3AstNode[] {
+                build(comparisonExpr.getLeft()),
+                build(comparisonExpr.getRight()) });
+    }
+
+    private Xpath3AstNode buildTyped(Xpath3AstKind kind, EObject operand,
+            EObject type) {
+        if (type == null) {
+            return build(operand);
+        }
+        return new Xpath3AstNode(kind, null, new Xpath3AstNode[] {
+                build(operand), build(type) });
+    }
+
+    private Xpath3AstNode buildUnary(UnaryExpr unaryExpr) {
+        List<UnaryOp> operators = unaryExpr.getOperator();
+        if (operators.isEmpty()) {
+            return build(unaryExpr.getOperand());
+        }
+        UnaryOp operator = UnaryOp.PLUS;
+        for (UnaryOp each : operators) {
+            if (each == UnaryOp.MINUS) {
+                operator = operator == UnaryOp.MINUS ? UnaryOp.PLUS
+                        : UnaryOp.MINUS;
+            }
+        }
+        return new Xpath3AstNode(Xpath3AstKind.UNARY, operator,
+                new Xpath3AstNode[] { build(unaryExpr.getOperand()) });
+    }
+
+    /**
+     * Builds a path from the steps of a <code>PathExpr</code>. A path that
+     * starts with a <code>/</code> or <code>//</code> step starts at the
+     * root.
+     */
+    private Xpath3AstNode buildPath(List<? extends EObject> steps) {
+        if (steps.isEmpty()) {
+            throw new IllegalArgumentException("Incomplete expression");
+        }
+        EObject first = steps.get(0);
+        boolean absolute = first instanceof ChildStepExpr
+                || first instanceof DescOrSelfStepExpr;
+        if (steps.size() == 1 && !absolute) {
+            return build(first);
+        }
+        int count = absolute ? 1 : 0;
+        for (EObject step : steps) {
+            count += step instanceof DescOrSelfStepExpr ? 2 : 1;
+        }
+        Xpath3AstNode[] children = new Xpath3AstNode[count];
+        int index = 0;
+        if (absolute) {
+            children[index++] = ROOT;
+        }
+        for (EObject step : steps) {
+            if (step instanceof ChildStepExpr) {
+                children[index++] = build(((ChildStepExpr) step).getStep());
+            } else if (step instanceof DescOrSelfStepExpr) {
+                children[index++] = DESCENDANT_OR_SELF_STEP;
+                children[index++] = build(((DescOrSelfStepExpr) step)
+                        .getStep());
+            } else {
+                children[index++] = build(step);
+            }
+        }
+        return new Xpath3AstNode(Xpath3AstKind.PATH, null, children);
+    }
+
+    private Xpath3AstNode buildAxisStep(Object axis, Xpath3AstNode nodeTest,
+            AxisStep step) {
+        List<Predicate> predicates = step.getPredicate();
+        if (predicates.isEmpty()) {
+            return new Xpath3AstNode(Xpath3AstKind.AXIS_STEP, axis,
+                    new Xpath3AstNode[] { nodeTest });
+        }
+        Xpath3AstNode[] children = new Xpath3AstNode[predicates.size() + 1];
+        children[0] = nodeTest;
+        buildPredicates(predicates, children);
+        return new Xpath3AstNode(Xpath3AstKind.AXIS_STEP, axis, children);
+    }
+
+    /**
+     * Builds the predicates into the children after the first one.
+     */
+    private void buildPredicates(List<Predicate> predicates,
+            Xpath3AstNode[] children) {
+        for (int i = 0; i < predicates.size(); i++) {
+            children[i + 1] = build(predicates.get(i).getExpr());
+        }
+    }
+
+    /**
+     * Returns whether an abbreviated step selects attributes because of its
+     * node test, e.g. <code>attribute(a)</code>.
+     */
+    private static boolean isAttributeTest(NodeTest nodeTest) {
+        if (!(nodeTest instanceof NodeKindTest)) {
+            return false;
+        }
+        EObject kindTest = ((NodeKindTest) nodeTest).getTest();
+        return kindTest instanceof AttributeTest
+                || kindTest instanceof SchemaAttributeTest;
+    }
+
+    private Xpath3AstNode buildElementTest(QName name, OptionalAtomicType type) {
+        if (type == null) {
+            return name == null ? ELEMENT_TEST : leaf(
+                    Xpath3AstKind.ELEMENT_TEST, name);
+        }
+        return new Xpath3AstNode(Xpath3AstKind.ELEMENT_TEST,
+                name == null ? null : intern(name),
+                new Xpath3AstNode[] { build(type) });
+    }
+
+    private Xpath3AstNode buildAttributeTest(QName name, QName type) {
+        if (type == null) {
+            return name == null ? ATTRIBUTE_TEST : leaf(
+                    Xpath3AstKind.ATTRIBUTE_TEST, name);
+        }
+        return new Xpath3AstNode(Xpath3AstKind.ATTRIBUTE_TEST,
+                name == null ? null : intern(name),
+                new Xpath3AstNode[] { leaf(Xpath3AstKind.ATOMIC_TYPE, type) });
+    }
+
+    private Xpath3AstNode buildAtomicSequenceType(QName name, boolean optional) {
+        return new Xpath3AstNode(Xpath3AstKind.SEQUENCE_TYPE,
+                optional ? OccurrenceIndicatorKind.OPTIONAL
+                        : OccurrenceIndicatorKind.MANDATORY,
+                new Xpath3AstNode[] { leaf(Xpath3AstKind.ATOMIC_TYPE, name) });
+    }
+
+    private static Xpath3AstNode leaf(Xpath3AstKind kind) {
+        return new Xpath3AstNode(kind, null, Xpath3AstNode.NO_CHILDREN);
+    }
+
+    /**
+     * Returns the shared leaf with the given kind and value.
+     */
+    private Xpath3AstNode leaf(Xpath3AstKind kind, Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Incomplete expression");
+        }
+        Object internedValue = value instanceof QName ? intern((QName) value)
+                : intern(value);
+        Xpath3AstNode leaf = new Xpath3AstNode(kind, internedValue,
+                Xpath3AstNode.NO_CHILDREN);
+        Xpath3AstNode existing = leaves.putIfAbsent(leaf, leaf);
+        return existing == null ? leaf : existing;
+    }
+
+    private QName intern(QName name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Incomplete expression");
+        }
+        String key = name.getNamespaceURI() + ' ' + name.getPrefix() + ':'
+                + name.getLocalPart();
+        QName existing = names.putIfAbsent(key, name);
+        return existing == null ? name : existing;
+    }
+
+    private Object intern(Object value) {
+        Object existing = values.putIfAbsent(value, value);
+        return existing == null ? value : existing;
+    }
+
+    /**
+     * Removes the quotes of a string literal and the doubling of quotes
+     * inside.
+     */
+    private static String unquote(String literal) {
+        if (literal == null || literal.length() < 2) {
+            return literal;
+        }
+        char quote = literal.charAt(0);
+        if ((quote != '"' && quote != '\'')
+                || literal.charAt(literal.length() - 1) != quote) {
+            return literal;
+        }
+        String value = literal.substring(1, literal.length() - 1);
+        String doubled = new String(new char[] { quote, quote });
+        if (value.indexOf(doubled) < 0) {
+            return value;
+        }
+        return value.replace(doubled, String.valueOf(quote));
+    }
+
+    private static IllegalArgumentException unsupported(EObject expr) {
+        return new IllegalArgumentException("Unsupported expression: "
+                + expr.eClass().getName());
+    }
+}
@@ -0,0 +1,305 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.ast;
+
+/**
+ * The kinds of {@link Xpath3AstNode}s. The comment of each kind describes the
+ * value and the children of its nodes. Binary operators are left
+ * associative, i.e. <code>a - b - c</code> has the left operand
+ * <code>a - b</code>.
+ */
+public enum Xpath3AstKind {
+
+    // Expressions
+
+    /**
+     * A comma-separated sequence of two or more expressions, the children.
+     */
+    SEQUENCE,
+
+    /**
+     * The empty sequence <code>()</code>.
+     */
+    EMPTY_SEQUENCE,
+
+    /**
+     * A <code>for</code> expression. The children are one or more
+     * {@link #ITERATOR}s followed by the return expression.
+     */
+    FOR,
+
+    /**
+     * A quantified expression, the value is the <code>QuantifierKind</code>.
+     * The children are one or more {@link #ITERATOR}s followed by the test.
+     */
+    QUANTIFIED,
+
+    /**
+     * An iterator of a {@link #FOR} or {@link #QUANTIFIED} expression, the
+     * value is the <code>QName</code> of the variable. The child is the
+     * expression that the variable iterates over.
+     */
+    ITERATOR,
+
+    /**
+     * An <code>if</code> expression with the test, the then and the else
+     * expression as its children.
+     */
+    IF,
+
+    /**
+     * <code>or</code> with two children.
+     */
+    OR,
+
+    /**
+     * <code>and</code> with two children.
+     */
+    AND,
+
+    /**
+     * A general comparison, e.g. <code>=</code>, the value is the
+     * <code>GeneralCompKind</code>. Two children.
+     */
+    GENERAL_COMPARISON,
+
+    /**
+     * A value comparison, e.g. <code>eq</code>, the value is the
+     * <code>GeneralCompKind</code>. Two children.
+     */
+    VALUE_COMPARISON,
+
+    /**
+     * A node comparison, e.g. <code>is</code>, the value is the
+     * <code>NodeCompKind</code>. Two children.
+     */
+    NODE_COMPARISON,
+
+    /**
+     * <code>to</code> with two children.
+     */
+    RANGE,
+
+    /**
+     * <code>+</code> or <code>-</code>, the value is the
+     * <code>AdditiveOpKind</code>. Two children.
+     */
+    ADDITIVE,
+
+    /**
+     * <code>*</code>, <code>div</code>, <code>idiv</code> or
+     * <code>mod</code>, the value is the <code>MultiplicativeOpKind</code>.
+     * Two children.
+     */
+    MULTIPLICATIVE,
+
+    /**
+     * <code>union</code> or <code>|</code> with two children.
+     */
+    UNION,
+
+    /**
+     * <code>intersect</code> or <code>except</code>, the value is the
+     * <code>IntersectExceptOpKind</code>. Two children.
+     */
+    INTERSECT_EXCEPT,
+
+    /**
+     * <code>instance of</code>, the children are the operand and a
+     * sequence type.
+     */
+    INSTANCE_OF,
+
+    /**
+     * <code>treat as</code>, the children are the operand and a sequence
+     * type.
+     */
+    TREAT,
+
+    /**
+     * <code>castable as</code>, the children are the operand and a
+     * {@link #SEQUENCE_TYPE} of an {@link #ATOMIC_TYPE}.
+     */
+    CASTABLE,
+
+    /**
+     * <code>cast as</code>, the children are the operand and a
+     * {@link #SEQUENCE_TYPE} of an {@link #ATOMIC_TYPE}.
+     */
+    CAST,
+
+    /**
+     * A unary <code>+</code> or <code>-</code>, the value is the
+     * <code>UnaryOp</code>. Repeated signs are reduced to a single one, e.g.
+     * <code>--1</code> to <code>+1</code>. One child.
+     */
+    UNARY,
+
+    /**
+     * A path with a <code>/</code> between each two children. The first
+     * child may be {@link #ROOT}, the <code>//</code> of the expression
+     * is an {@link #AXIS_STEP} <code>descendant-or-self::node()</code>.
+     */
+    PATH,
+
+    /**
+     * The root of the tree that contains the context node, i.e. a leading
+     * <code>/</code>.
+     */
+    ROOT,
+
+    /**
+     * An axis step, the value is the <code>ForwardAxisKind</code> or the
+     * <code>ReverseAxisKind</code>. The children are the node test followed
+     * by the predicates. Abbreviated steps are expanded, e.g.
+     * <code>..</code> to <code>parent::node()</code>.
+     */
+    AXIS_STEP,
+
+    /**
+     * A primary expression with predicates. The children are the primary
+     * expression followed by one or more predicates.
+     */
+    FILTER,
+
+    /**
+     * A string literal, the value is the <code>String</code> without quotes.
+     */
+    STRING_LITERAL,
+
+    /**
+     * An integer literal, the value is a <code>BigInteger</code>.
+     */
+    INTEGER_LITERAL,
+
+    /**
+     * A decimal literal, the value is a <code>BigDecimal</code>.
+     */
+    DECIMAL_LITERAL,
+
+    /**
+     * A double literal, the value is a <code>Double</code>.
+     */
+    DOUBLE_LITERAL,
+
+    /**
+     * A variable reference, the value is the <code>QName</code> of the
+     * variable.
+     */
+    VAR_REF,
+
+    /**
+     * The context item <code>.</code>.
+     */
+    CONTEXT_ITEM,
+
+    /**
+     * A function call, the value is the <code>QName</code> of the function.
+     * The children are the arguments.
+     */
+    FUNCTION_CALL,
+
+    // Node tests
+
+    /**
+     * A name test, the value is the <code>QName</code>.
+     */
+    NAME_TEST,
+
+    /**
+     * The wildcard <code>*</code>.
+     */
+    ANY_NAME_TEST,
+
+    /**
+     * A wildcard <code>prefix:*</code>, the value is the prefix.
+     */
+    LOCAL_NAME_WILDCARD,
+
+    /**
+     * A wildcard <code>*:name</code>, the value is the local name.
+     */
+    NAMESPACE_WILDCARD,
+
+    /**
+     * <code>node()</code>.
+     */
+    ANY_KIND_TEST,
+
+    /**
+     * <code>text()</code>.
+     */
+    TEXT_TEST,
+
+    /**
+     * <code>comment()</code>.
+     */
+    COMMENT_TEST,
+
+    /**
+     * <code>processing-instruction()</code>, the value is the name or
+     * <code>null</code>.
+     */
+    PI_TEST,
+
+    /**
+     * <code>document-node()</code>, the child is an optional
+     * {@link #ELEMENT_TEST} or {@link #SCHEMA_ELEMENT_TEST}.
+     */
+    DOCUMENT_TEST,
+
+    /**
+     * <code>element()</code>, the value is the <code>QName</code> or
+     * <code>null</code> for any name. The child is an optional
+     * {@link #SEQUENCE_TYPE} of an {@link #ATOMIC_TYPE}.
+     */
+    ELEMENT_TEST,
+
+    /**
+     * <code>attribute()</code>, the value is the <code>QName</code> or
+     * <code>null</code> for any name. The child is an optional
+     * {@link #ATOMIC_TYPE}.
+     */
+    ATTRIBUTE_TEST,
+
+    /**
+     * <code>schema-element()</code>, the value is the <code>QName</code>.
+     */
+    SCHEMA_ELEMENT_TEST,
+
+    /**
+     * <code>schema-attribute()</code>, the value is the <code>QName</code>.
+     */
+    SCHEMA_ATTRIBUTE_TEST,
+
+    // Types
+
+    /**
+     * A sequence type or a single type, the value is the
+     * <code>OccurrenceIndicatorKind</code>. The child is the item type.
+     */
+    SEQUENCE_TYPE,
+
+    /**
+     * <code>empty-sequence()</code>.
+     */
+    EMPTY_SEQUENCE_TYPE,
+
+    /**
+     * <code>item()</code>.
+     */
+    ANY_ITEM_TYPE,
+
+    /**
+     * An atomic type, the value is the <code>QName</code>.
+     */
+    ATOMIC_TYPE
+}
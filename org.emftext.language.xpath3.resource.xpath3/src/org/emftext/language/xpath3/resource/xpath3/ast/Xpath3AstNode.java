@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.ast;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.xml.namespace.QName;
+
+/**
+ * A node of the compact form of an expression, which is built by the
+ * {@link Xpath3AstBuilder}.
+ * <p>
+ * A node has a kind, a value and an array of children, see
+ * {@link Xpath3AstKind} for the values and children of each kind. Nodes are
+ * immutable and don't know their parent, so subtrees may be shared, e.g.
+ * leaves like <code>.</code> are shared by all trees. Two nodes are equal if
+ * they have the same kind, value and children; names are only equal if they
+ * also have the same prefix.
+ */
+public final class Xpath3AstNode {
+
+    static final Xpath3AstNode[] NO_CHILDREN = new Xpath3AstNode[0];
+
+    private final Xpath3AstKind kind;
+
+    private final Object value;
+
+    private final Xpath3AstNode[] children;
+
+    Xpath3AstNode(Xpath3AstKind kind, Object value, Xpath3AstNode[] children) {
+        this.kind = kind;
+        this.value = value;
+        this.children = children;
+    }
+
+    public Xpath3AstKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the value, e.g. the name of a function call or the operator of
+     * an arithmetic expression, or <code>null</code> if the node has none.
+     */
+    public Object getValue() {
+        return value;
+    }
+
+    public int getChildCount() {
+        return children.length;
+    }
+
+    public Xpath3AstNode getChild(int index) {
+        return children[index];
+    }
+
+    public List<Xpath3AstNode> getChildren() {
+        return Collections.unmodifiableList(Arrays.asList(children));
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof Xpath3AstNode)) {
+            return false;
+        }
+        Xpath3AstNode other = (Xpath3AstNode) object;
+        if (kind != other.kind || !valueEquals(value, other.value)
+                || children.length != other.children.length) {
+            return false;
+        }
+        for (int i = 0; i < children.length; i++) {
+            if (!children[i].equals(other.children[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean valueEquals(Object value, Object otherValue) {
+        if (value == otherValue) {
+            return true;
+        }
+        if (value == null || !value.equals(otherValue)) {
+            return false;
+        }
+        // QName.equals() ignores the prefix, which isn't resolved yet
+        return !(value instanceof QName)
+                || ((QName) value).getPrefix().equals(
+                        ((QName) otherValue).getPrefix());
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = kind.ordinal() * 31
+                + (value == null ? 0 : value.hashCode());
+        for (Xpath3AstNode child : children) {
+            hashCode = hashCode * 31 + child.hashCode();
+        }
+        return hashCode;
+    }
+
+    /**
+     * Returns the expression as XPath text, which parses to an equal tree.
+     */
+    @Override
+    public String toString() {
+        return Xpath3AstPrinter.print(this);
+    }
+}
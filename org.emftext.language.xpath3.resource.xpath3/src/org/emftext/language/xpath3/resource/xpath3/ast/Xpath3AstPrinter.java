@@ -0,0 +1,541 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.ast;
+
+import java.math.BigDecimal;
+
+import javax.xml.namespace.QName;
+
+import org.emftext.language.xpath3.AdditiveOpKind;
+import org.emftext.language.xpath3.ForwardAxisKind;
+import org.emftext.language.xpath3.GeneralCompKind;
+import org.emftext.language.xpath3.MultiplicativeOpKind;
+import org.emftext.language.xpath3.NodeCompKind;
+import org.emftext.language.xpath3.OccurrenceIndicatorKind;
+import org.emftext.language.xpath3.QuantifierKind;
+import org.emftext.language.xpath3.ReverseAxisKind;
+import org.emftext.language.xpath3.UnaryOp;
+
+/**
+ * Prints {@link Xpath3AstNode}s as XPath text. Steps are abbreviated where
+ * possible and operands are only parenthesized where the precedence of the
+ * operators requires it.
+ */
+final class Xpath3AstPrinter {
+
+    /**
+     * The precedence of an expression that may appear anywhere without
+     * parentheses, e.g. a literal.
+     */
+    private static final int PRIMARY = 18;
+
+    private static final int FILTER = 17;
+
+    private static final int STEP = 16;
+
+    private static final int PATH = 15;
+
+    private static final int UNARY = 14;
+
+    /**
+     * The precedence of the operand of a comma.
+     */
+    private static final int SINGLE = 1;
+
+    private final StringBuilder text = new StringBuilder();
+
+    private Xpath3AstPrinter() {
+    }
+
+    static String print(Xpath3AstNode node) {
+        Xpath3AstPrinter printer = new Xpath3AstPrinter();
+        printer.print(node, 0);
+        return printer.text.toString();
+    }
+
+    /**
+     * Prints a node, in parentheses if its precedence is lower than the
+     * given one.
+     */
+    private void print(Xpath3AstNode node, int minimumPrecedence) {
+        boolean parenthesize = getPrecedence(node) < minimumPrecedence;
+        if (!parenthesize && minimumPrecedence > 0) {
+            // a trailing occurrence indicator could be taken for an operator
+            parenthesize = endsWithOccurrenceIndicator(node);
+        }
+        if (parenthesize) {
+            text.append('(');
+        }
+        printUnparenthesized(node);
+        if (parenthesize) {
+            text.append(')');
+        }
+    }
+
+    private void printUnparenthesized(Xpath3AstNode node) {
+        Object value = node.getValue();
+        switch (node.getKind()) {
+        case SEQUENCE:
+            printAll(node, 0, ", ");
+            break;
+        case EMPTY_SEQUENCE:
+            text.append("()");
+            break;
+        case FOR:
+            text.append("for ");
+            printIterators(node, " return ");
+            break;
+        case QUANTIFIED:
+            text.append(value == QuantifierKind.EVERY ? "every " : "some ");
+            printIterators(node, " satisfies ");
+            break;
+        case ITERATOR:
+            text.append('$');
+            printName(value);
+            text.append(" in ");
+            print(node.getChild(0), SINGLE);
+            break;
+        case IF:
+            text.append("if (");
+            print(node.getChild(0), 0);
+            text.append(") then ");
+            print(node.getChild(1), SINGLE);
+            text.append(" else ");
+            print(node.getChild(2), SINGLE);
+            break;
+        case OR:
+            printBinary(node, "or", true);
+            break;
+        case AND:
+            printBinary(node, "and", true);
+            break;
+        case GENERAL_COMPARISON:
+            printBinary(node,
+                    getGeneralComparisonOperator((GeneralCompKind) value),
+                    false);
+            break;
+        case VALUE_COMPARISON:
+            printBinary(node, value.toString(), false);
+            break;
+        case NODE_COMPARISON:
+            printBinary(node,
+                    getNodeComparisonOperator((NodeCompKind) value), false);
+            break;
+        case RANGE:
+            printBinary(node, "to", false);
+            break;
+        case ADDITIVE:
+            printBinary(node, value == AdditiveOpKind.ADDITION ? "+" : "-",
+                    true);
+            break;
+        case MULTIPLICATIVE:
+            printBinary(node,
+                    value == MultiplicativeOpKind.MULTIPLICATION ? "*" : value
+                            .toString(), true);
+            break;
+        case UNION:
+            printBinary(node, "|", true);
+            break;
+        case INTERSECT_EXCEPT:
+            printBinary(node, value.toString(), true);
+            break;
+        case INSTANCE_OF:
+            printTyped(node, " instance of ");
+            break;
+        case TREAT:
+            printTyped(node, " treat as ");
+            break;
+        case CASTABLE:
+            printTyped(node, " castable as ");
+            break;
+        case CAST:
+            printTyped(node, " cast as ");
+            break;
+        case UNARY:
+            text.append(value == UnaryOp.MINUS ? '-' : '+');
+            print(node.getChild(0), PATH);
+            break;
+        case PATH:
+            printPath(node);
+            break;
+        case ROOT:
+            text.append('/');
+            break;
+        case AXIS_STEP:
+            if (node.getValue() == ReverseAxisKind.PARENT
+                    && node.getChild(0).getKind() == Xpath3AstKind.ANY_KIND_TEST) {
+                text.append("..");
+            } else {
+                printAxis(node);
+                print(node.getChild(0), 0);
+            }
+            printPredicates(node);
+            break;
+        case FILTER:
+            print(node.getChild(0), PRIMARY);
+            printPredicates(node);
+            break;
+        case STRING_LITERAL:
+            text.append('"').append(value.toString().replace("\"", "\"\""))
+                    .append('"');
+            break;
+        case INTEGER_LITERAL:
+            text.append(value);
+            break;
+        case DECIMAL_LITERAL: {
+            String decimal = ((BigDecimal) value).toPlainString();
+            text.append(decimal);
+            if (decimal.indexOf('.') < 0) {
+                text.append('.');
+            }
+            break;
+        }
+        case DOUBLE_LITERAL: {
+            double number = ((Double) value).doubleValue();
+            if (Double.isInfinite(number)) {
+                // the literal was too large for a double
+                text.append("1E400");
+            } else {
+                String string = Double.toString(number);
+                text.append(string);
+                if (string.indexOf('E') < 0) {
+                    text.append("E0");
+                }
+            }
+            break;
+        }
+        case VAR_REF:
+            text.append('$');
+            printName(value);
+            break;
+        case CONTEXT_ITEM:
+            text.append('.');
+            break;
+        case FUNCTION_CALL:
+            printName(value);
+            text.append('(');
+            printAll(node, 0, ", ");
+            text.append(')');
+            break;
+        case NAME_TEST:
+        case ATOMIC_TYPE:
+            printName(value);
+            break;
+        case ANY_NAME_TEST:
+            text.append('*');
+            break;
+        case LOCAL_NAME_WILDCARD:
+            text.append(value).append(":*");
+            break;
+        case NAMESPACE_WILDCARD:
+            text.append("*:").append(value);
+            break;
+        case ANY_KIND_TEST:
+            text.append("node()");
+            break;
+        case TEXT_TEST:
+            text.append("text()");
+            break;
+        case COMMENT_TEST:
+            text.append("comment()");
+            break;
+        case PI_TEST:
+            text.append("processing-instruction(");
+            if (value != null) {
+                printPITarget(value.toString());
+            }
+            text.append(')');
+            break;
+        case DOCUMENT_TEST:
+            text.append("document-node(");
+            printAll(node, 0, "");
+            text.append(')');
+            break;
+        case ELEMENT_TEST:
+            printNameTest(node, "element(");
+            break;
+        case ATTRIBUTE_TEST:
+            printNameTest(node, "attribute(");
+            break;
+        case SCHEMA_ELEMENT_TEST:
+            text.append("schema-element(");
+            printName(value);
+            text.append(')');
+            break;
+        case SCHEMA_ATTRIBUTE_TEST:
+            text.append("schema-attribute(");
+            printName(value);
+            text.append(')');
+            break;
+        case SEQUENCE_TYPE:
+            print(node.getChild(0), 0);
+            text.append(getOccurrenceIndicator(value));
+            break;
+        case EMPTY_SEQUENCE_TYPE:
+            text.append("empty-sequence()");
+            break;
+        case ANY_ITEM_TYPE:
+            text.append("item()");
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown kind "
+                    + node.getKind());
+        }
+    }
+
+    private void printAll(Xpath3AstNode node, int start, String separator) {
+        for (int i = start; i < node.getChildCount(); i++) {
+            if (i > start) {
+                text.append(separator);
+            }
+            print(node.getChild(i), SINGLE);
+        }
+    }
+
+    private void printIterators(Xpath3AstNode node, String keyword) {
+        int last = node.getChildCount() - 1;
+        for (int i = 0; i < last; i++) {
+            if (i > 0) {
+                text.append(", ");
+            }
+            print(node.getChild(i), 0);
+        }
+        text.append(keyword);
+        print(node.getChild(last), SINGLE);
+    }
+
+    /**
+     * Prints a binary operator. The right operand of a left associative
+     * operator and both operands of other operators are parenthesized if
+     * they have the same precedence.
+     */
+    private void printBinary(Xpath3AstNode node, String operator,
+            boolean leftAssociative) {
+        int precedence = getPrecedence(node);
+        print(node.getChild(0), leftAssociative ? precedence : precedence + 1);
+        text.append(' ').append(operator).append(' ');
+        print(node.getChild(1), precedence + 1);
+    }
+
+    private void printTyped(Xpath3AstNode node, String keyword) {
+        print(node.getChild(0), getPrecedence(node) + 1);
+        text.append(keyword);
+        print(node.getChild(1), 0);
+    }
+
+    /**
+     * Prints a path, a <code>descendant-or-self::node()</code> step between
+     * two others as <code>//</code>.
+     */
+    private void printPath(Xpath3AstNode node) {
+        int count = node.getChildCount();
+        int i = 0;
+        if (node.getChild(0).getKind() == Xpath3AstKind.ROOT) {
+            text.append('/');
+            i = 1;
+            if (count > 2 && isDescendantOrSelfStep(node.getChild(1))) {
+                text.append('/');
+                i = 2;
+            }
+        }
+        if (i < count) {
+            print(node.getChild(i), STEP);
+        }
+        for (i++; i < count; i++) {
+            text.append('/');
+            if (i + 1 < count && isDescendantOrSelfStep(node.getChild(i))) {
+                text.append('/');
+                i++;
+            }
+            print(node.getChild(i), STEP);
+        }
+    }
+
+    private static boolean isDescendantOrSelfStep(Xpath3AstNode step) {
+        return step.getKind() == Xpath3AstKind.AXIS_STEP
+                && step.getValue() == ForwardAxisKind.DESCENDANT_OR_SELF
+                && step.getChildCount() == 1
+                && step.getChild(0).getKind() == Xpath3AstKind.ANY_KIND_TEST;
+    }
+
+    /**
+     * Prints the axis of a step, abbreviated where possible.
+     */
+    private void printAxis(Xpath3AstNode step) {
+        Object axis = step.getValue();
+        Xpath3AstKind test = step.getChild(0).getKind();
+        if (axis == ForwardAxisKind.CHILD
+                && test != Xpath3AstKind.ATTRIBUTE_TEST
+                && test != Xpath3AstKind.SCHEMA_ATTRIBUTE_TEST) {
+            return;
+        }
+        if (axis == ForwardAxisKind.ATTRIBUTE) {
+            text.append('@');
+            return;
+        }
+        // the lexer takes "name::" for the start of a QName
+        text.append(axis.toString().replace('_', '-')).append(" :: ");
+    }
+
+    private void printPredicates(Xpath3AstNode node) {
+        for (int i = 1; i < node.getChildCount(); i++) {
+            text.append('[');
+            print(node.getChild(i), 0);
+            text.append(']');
+        }
+    }
+
+    private void printNameTest(Xpath3AstNode node, String start) {
+        text.append(start);
+        if (node.getValue() != null) {
+            printName(node.getValue());
+        } else if (node.getChildCount() > 0) {
+            text.append('*');
+        }
+        if (node.getChildCount() > 0) {
+            text.append(", ");
+            print(node.getChild(0), 0);
+        }
+        text.append(')');
+    }
+
+    /**
+     * Prints the name of a processing instruction as a name if possible,
+     * otherwise as a string literal.
+     */
+    private void printPITarget(String name) {
+        boolean ncName = !name.isEmpty()
+                && (Character.isLetter(name.charAt(0)) || name.charAt(0) == '_');
+        for (int i = 1; ncName && i < name.length(); i++) {
+            char c = name.charAt(i);
+            ncName = Character.isLetterOrDigit(c) || c == '_' || c == '-'
+                    || c == '.';
+        }
+        if (ncName) {
+            text.append(name);
+        } else {
+            text.append('"').append(name.replace("\"", "\"\"")).append('"');
+        }
+    }
+
+    private void printName(Object value) {
+        QName name = (QName) value;
+        if (!name.getPrefix().isEmpty()) {
+            text.append(name.getPrefix()).append(':');
+        }
+        text.append(name.getLocalPart());
+    }
+
+    private static int getPrecedence(Xpath3AstNode node) {
+        switch (node.getKind()) {
+        case SEQUENCE:
+            return 0;
+        case FOR:
+        case QUANTIFIED:
+        case IF:
+        case ROOT:
+            // a lone / is ambiguous before an operator, e.g. in / * 2
+            return SINGLE;
+        case OR:
+            return 2;
+        case AND:
+            return 3;
+        case GENERAL_COMPARISON:
+        case VALUE_COMPARISON:
+        case NODE_COMPARISON:
+            return 4;
+        case RANGE:
+            return 5;
+        case ADDITIVE:
+            return 6;
+        case MULTIPLICATIVE:
+            return 7;
+        case UNION:
+            return 8;
+        case INTERSECT_EXCEPT:
+            return 9;
+        case INSTANCE_OF:
+            return 10;
+        case TREAT:
+            return 11;
+        case CASTABLE:
+            return 12;
+        case CAST:
+            return 13;
+        case UNARY:
+            return UNARY;
+        case PATH:
+            return PATH;
+        case AXIS_STEP:
+            return STEP;
+        case FILTER:
+            return FILTER;
+        default:
+            return PRIMARY;
+        }
+    }
+
+    /**
+     * Returns whether an expression ends with a sequence type with a
+     * <code>*</code> or <code>+</code>, e.g. <code>. instance of item()*</code>.
+     */
+    private static boolean endsWithOccurrenceIndicator(Xpath3AstNode node) {
+        if (node.getKind() != Xpath3AstKind.INSTANCE_OF
+                && node.getKind() != Xpath3AstKind.TREAT) {
+            return false;
+        }
+        Object occurrence = node.getChild(1).getValue();
+        return occurrence == OccurrenceIndicatorKind.STAR
+                || occurrence == OccurrenceIndicatorKind.PLUS;
+    }
+
+    private static String getGeneralComparisonOperator(
+            GeneralCompKind operator) {
+        switch (operator) {
+        case EQ:
+            return "=";
+        case NE:
+            return "!=";
+        case LT:
+            return "<";
+        case LE:
+            return "<=";
+        case GT:
+            return ">";
+        default:
+            return ">=";
+        }
+    }
+
+    private static String getNodeComparisonOperator(NodeCompKind operator) {
+        switch (operator) {
+        case IS:
+            return "is";
+        case PRECEDES:
+            return "<<";
+        default:
+            return ">>";
+        }
+    }
+
+    private static String getOccurrenceIndicator(Object occurrence) {
+        if (occurrence == OccurrenceIndicatorKind.OPTIONAL) {
+            return "?";
+        }
+        if (occurrence == OccurrenceIndicatorKind.STAR) {
+            return "*";
+        }
+        if (occurrence == OccurrenceIndicatorKind.PLUS) {
+            return "+";
+        }
+        return "";
+    }
+}
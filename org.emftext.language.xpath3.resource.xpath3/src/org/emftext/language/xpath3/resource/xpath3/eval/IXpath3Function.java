@@ -0,0 +1,28 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.eval;
+
+/**
+ * A function that can be called from an expression. Functions are
+ * registered in a {@link Xpath3FunctionLibrary}.
+ */
+public interface IXpath3Function {
+
+    /**
+     * Calls the function. The arguments are lazy sequences; a function should
+     * only pull as many items as it needs.
+     *
+     * @param context
+     *            the context of the function call, including the focus
+     */
+    Xpath3Sequence call(Xpath3EvaluationContext context,
+            Xpath3Sequence[] arguments);
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.eval;
+
+import java.util.Iterator;
+
+import javax.xml.namespace.QName;
+
+/**
+ * Gives the evaluator access to the nodes of a tree. Nodes are arbitrary
+ * objects; the evaluator only navigates them through this interface, so any
+ * tree (DOM, EMF models, JSON, ...) can be queried by implementing it.
+ * <p>
+ * All axes are derived from {@link #getParent(Object)},
+ * {@link #getChildren(Object)} and {@link #getAttributes(Object)}.
+ * Implementations should return lazy iterators from the latter two.
+ */
+public interface IXpath3NodeModel {
+
+    /**
+     * Returns <code>true</code> if the given item is a node of this model.
+     * All other items are treated as atomic values.
+     */
+    boolean isNode(Object item);
+
+    Xpath3NodeKind getKind(Object node);
+
+    /**
+     * Returns the expanded name of an element, attribute or processing
+     * instruction and <code>null</code> for all other nodes.
+     */
+    QName getName(Object node);
+
+    /**
+     * Returns the parent (the owner element for attributes) or
+     * <code>null</code> for the root of a tree.
+     */
+    Object getParent(Object node);
+
+    /**
+     * Returns the children of a document or element node in document order.
+     * Attributes are not children.
+     */
+    Iterator<?> getChildren(Object node);
+
+    /**
+     * Returns the attributes of an element node. Namespace declarations are
+     * not attributes.
+     */
+    Iterator<?> getAttributes(Object node);
+
+    String getStringValue(Object node);
+
+    boolean isSameNode(Object node1, Object node2);
+
+    /**
+     * Compares two nodes by document order. Nodes of different trees must be
+     * ordered consistently, but the order is implementation dependent.
+     */
+    int compareDocumentOrder(Object node1, Object node2);
+}
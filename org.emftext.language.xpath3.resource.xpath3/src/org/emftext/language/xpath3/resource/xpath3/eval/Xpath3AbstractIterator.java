@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.eval;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Base class for the lazy iterators of the evaluator. Subclasses compute one
+ * item at a time in {@link #computeNext()} and call {@link #endOfData()} when
+ * there are no more items.
+ */
+abstract class Xpath3AbstractIterator implements Iterator<Object> {
+
+    private static final int NOT_READY = 0;
+
+    private static final int READY = 1;
+
+    private static final int DONE = 2;
+
+    private int state = NOT_READY;
+
+    private Object next;
+
+    protected abstract Object computeNext();
+
+    protected final Object endOfData() {
+        state = DONE;
+        return null;
+    }
+
+    @Override
+    public final boolean hasNext() {
+        if (state == NOT_READY) {
+            next = computeNext();
+            if (state != DONE) {
+                state = READY;
+            }
+        }
+        return state == READY;
+    }
+
+    @Override
+    public final Object next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        state = NOT_READY;
+        Object result = next;
+        next = null;
+        return result;
+    }
+
+    @Override
+    public final void remove() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,445 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.eval;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeConstants;
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.datatype.XMLGregorianCalendar;
+import javax.xml.namespace.QName;
+
+/**
+ * The atomic types supported by the evaluator and their Java representation:
+ * <ul>
+ * <li><code>xs:untypedAtomic</code> - {@link Xpath3UntypedAtomic}</li>
+ * <li><code>xs:string</code> - {@link String}</li>
+ * <li><code>xs:boolean</code> - {@link Boolean}</li>
+ * <li><code>xs:decimal</code> - {@link BigDecimal}</li>
+ * <li><code>xs:integer</code> - {@link BigInteger}</li>
+ * <li><code>xs:float</code> - {@link Float}</li>
+ * <li><code>xs:double</code> - {@link Double}</li>
+ * <li><code>xs:dateTime</code>, <code>xs:date</code>, <code>xs:time</code> -
+ * {@link XMLGregorianCalendar}</li>
+ * </ul>
+ */
+public enum Xpath3AtomicType {
+    ANY_ATOMIC_TYPE("anyAtomicType", null),
+    UNTYPED_ATOMIC("untypedAtomic", ANY_ATOMIC_TYPE),
+    STRING("string", ANY_ATOMIC_TYPE),
+    BOOLEAN("boolean", ANY_ATOMIC_TYPE),
+    DECIMAL("decimal", ANY_ATOMIC_TYPE),
+    INTEGER("integer", DECIMAL),
+    FLOAT("float", ANY_ATOMIC_TYPE),
+    DOUBLE("double", ANY_ATOMIC_TYPE),
+    DATE_TIME("dateTime", ANY_ATOMIC_TYPE),
+    DATE("date", ANY_ATOMIC_TYPE),
+    TIME("time", ANY_ATOMIC_TYPE);
+
+    public static final String XS_NAMESPACE = "http://www.w3.org/2001/XMLSchema";
+
+    private static DatatypeFactory datatypeFactory;
+
+    private final String localName;
+
+    private final Xpath3AtomicType baseType;
+
+    private Xpath3AtomicType(String localName, Xpath3AtomicType baseType) {
+        this.localName = localName;
+        this.baseType = baseType;
+    }
+
+    public QName getName() {
+        return new QName(XS_NAMESPACE, localName, "xs");
+    }
+
+    public String getLocalName() {
+        return localName;
+    }
+
+    public boolean isSubtypeOf(Xpath3AtomicType type) {
+        for (Xpath3AtomicType t = this; t != null; t = t.baseType) {
+            if (t == type) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isNumeric() {
+        return this == DECIMAL || this == INTEGER || this == FLOAT
+                || this == DOUBLE;
+    }
+
+    /**
+     * Returns the type with the given local name in the XML Schema namespace
+     * or <code>null</code> if the type is not supported.
+     */
+    public static Xpath3AtomicType forLocalName(String localName) {
+        for (Xpath3AtomicType type : values()) {
+            if (type.localName.equals(localName)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the most specific type of the given atomic value or
+     * <code>null</code> if the value is not an atomic value.
+     */
+    public static Xpath3AtomicType typeOf(Object value) {
+        if (value instanceof String) {
+            return STRING;
+        }
+        if (value instanceof BigInteger) {
+            return INTEGER;
+        }
+        if (value instanceof BigDecimal) {
+            return DECIMAL;
+        }
+        if (value instanceof Double) {
+            return DOUBLE;
+        }
+        if (value instanceof Boolean) {
+            return BOOLEAN;
+        }
+        if (value instanceof Xpath3UntypedAtomic) {
+            return UNTYPED_ATOMIC;
+        }
+        if (value instanceof Float) {
+            return FLOAT;
+        }
+        if (value instanceof XMLGregorianCalendar) {
+            QName schemaType = ((XMLGregorianCalendar) value)
+                    .getXMLSchemaType();
+            if (DatatypeConstants.DATE.equals(schemaType)) {
+                return DATE;
+            }
+            if (DatatypeConstants.TIME.equals(schemaType)) {
+                return TIME;
+            }
+            if (DatatypeConstants.DATETIME.equals(schemaType)) {
+                return DATE_TIME;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Casts the given atomic value to this type following the casting rules
+     * of XPath.
+     *
+     * @throws Xpath3EvaluationException
+     *             <code>XPTY0004</code> if the cast is not allowed,
+     *             <code>FORG0001</code> if the value is not a valid lexical
+     *             form and <code>FOCA0002</code> if a numeric value is out
+     *             of range
+     */
+    public Object cast(Object value) {
+        Xpath3AtomicType sourceType = typeOf(value);
+        if (sourceType == null) {
+            throw new Xpath3EvaluationException("XPTY0004",
+                    "Cannot cast a non-atomic value to xs:" + localName);
+        }
+        if (this == ANY_ATOMIC_TYPE) {
+            throw new Xpath3EvaluationException("XPST0080",
+                    "Cannot cast to xs:anyAtomicType");
+        }
+        if (sourceType == this) {
+            return value;
+        }
+        if (this == STRING) {
+            return getStringValue(value);
+        }
+        if (this == UNTYPED_ATOMIC) {
+            return new Xpath3UntypedAtomic(getStringValue(value));
+        }
+        if (sourceType == STRING || sourceType == UNTYPED_ATOMIC) {
+            return parse(value.toString().trim());
+        }
+        switch (this) {
+        case BOOLEAN:
+            if (sourceType.isNumeric()) {
+                double doubleValue = ((Number) value).doubleValue();
+                return Boolean.valueOf(doubleValue != 0
+                        && !Double.isNaN(doubleValue));
+            }
+            break;
+        case DOUBLE:
+            if (sourceType.isNumeric()) {
+                return Double.valueOf(((Number) value).doubleValue());
+            }
+            if (sourceType == BOOLEAN) {
+                return Double.valueOf(((Boolean) value) ? 1 : 0);
+            }
+            break;
+        case FLOAT:
+            if (sourceType.isNumeric()) {
+                return Float.valueOf(((Number) value).floatValue());
+            }
+            if (sourceType == BOOLEAN) {
+                return Float.valueOf(((Boolean) value) ? 1 : 0);
+            }
+            break;
+        case DECIMAL:
+            if (sourceType.isNumeric()) {
+                return toDecimal((Number) value);
+            }
+            if (sourceType == BOOLEAN) {
+                return ((Boolean) value) ? BigDecimal.ONE : BigDecimal.ZERO;
+            }
+            break;
+        case INTEGER:
+            if (sourceType.isNumeric()) {
+                return toDecimal((Number) value).toBigInteger();
+            }
+            if (sourceType == BOOLEAN) {
+                return ((Boolean) value) ? BigInteger.ONE : BigInteger.ZERO;
+            }
+            break;
+        case DATE:
+        case TIME:
+            if (sourceType == DATE_TIME) {
+                XMLGregorianCalendar calendar = (XMLGregorianCalendar) ((XMLGregorianCalendar) value)
+                        .clone();
+                if (this == DATE) {
+                    calendar.setTime(DatatypeConstants.FIELD_UNDEFINED,
+                            DatatypeConstants.FIELD_UNDEFINED,
+                            DatatypeConstants.FIELD_UNDEFINED);
+                    calendar.setFractionalSecond(null);
+                } else {
+                    calendar.setYear(DatatypeConstants.FIELD_UNDEFINED);
+                    calendar.setMonth(DatatypeConstants.FIELD_UNDEFINED);
+                    calendar.setDay(DatatypeConstants.FIELD_UNDEFINED);
+                }
+                return calendar;
+            }
+            break;
+        case DATE_TIME:
+            if (sourceType == DATE) {
+                XMLGregorianCalendar calendar = (XMLGregorianCalendar) ((XMLGregorianCalendar) value)
+                        .clone();
+                calendar.setTime(0, 0, 0);
+                return calendar;
+            }
+            break;
+        default:
+            break;
+        }
+        throw new Xpath3EvaluationException("XPTY0004", "Cannot cast xs:"
+                + sourceType.localName + " to xs:" + localName);
+    }
+
+    /**
+     * Returns <code>true</code> if {@link #cast(Object)} succeeds for the given
+     * value.
+     */
+    public boolean isCastable(Object value) {
+        try {
+            cast(value);
+            return true;
+        } catch (Xpath3EvaluationException e) {
+            return false;
+        }
+    }
+
+    private Object parse(String lexical) {
+        switch (this) {
+        case BOOLEAN:
+            if ("true".equals(lexical) || "1".equals(lexical)) {
+                return Boolean.TRUE;
+            }
+            if ("false".equals(lexical) || "0".equals(lexical)) {
+                return Boolean.FALSE;
+            }
+            break;
+        case INTEGER:
+            if (isDecimalLexical(lexical, false)) {
+                return new BigInteger(lexical.charAt(0) == '+' ? lexical
+                        .substring(1) : lexical);
+            }
+            break;
+        case DECIMAL:
+            if (isDecimalLexical(lexical, true)) {
+                return new BigDecimal(lexical.charAt(0) == '+' ? lexical
+                        .substring(1) : lexical);
+            }
+            break;
+        case DOUBLE:
+        case FLOAT:
+            Double doubleValue = parseDouble(lexical);
+            if (doubleValue != null) {
+                return this == DOUBLE ? doubleValue : Float
+                        .valueOf(doubleValue.floatValue());
+            }
+            break;
+        case DATE_TIME:
+        case DATE:
+        case TIME:
+            try {
+                XMLGregorianCalendar calendar = getDatatypeFactory()
+                        .newXMLGregorianCalendar(lexical);
+                if (typeOf(calendar) == this) {
+                    return calendar;
+                }
+            } catch (IllegalArgumentException e) {
+                // Reported below
+            }
+            break;
+        default:
+            break;
+        }
+        throw new Xpath3EvaluationException("FORG0001", "Invalid value for xs:"
+                + localName + ": '" + lexical + "'");
+    }
+
+    private static boolean isDecimalLexical(String lexical, boolean allowPoint) {
+        int length = lexical.length();
+        int i = 0;
+        if (i < length
+                && (lexical.charAt(i) == '+' || lexical.charAt(i) == '-')) {
+            i++;
+        }
+        boolean digits = false;
+        boolean point = false;
+        for (; i < length; i++) {
+            char c = lexical.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits = true;
+            } else if (c == '.' && allowPoint && !point) {
+                point = true;
+            } else {
+                return false;
+            }
+        }
+        return digits;
+    }
+
+    private static Double parseDouble(String lexical) {
+        if ("INF".equals(lexical) || "+INF".equals(lexical)) {
+            return Double.valueOf(Double.POSITIVE_INFINITY);
+        }
+        if ("-INF".equals(lexical)) {
+            return Double.valueOf(Double.NEGATIVE_INFINITY);
+        }
+        if ("NaN".equals(lexical)) {
+            return Double.valueOf(Double.NaN);
+        }
+        boolean digits = false;
+        for (int i = 0; i < lexical.length(); i++) {
+            char c = lexical.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits = true;
+            } else if (c != '.' && c != '+' && c != '-' && c != 'e'
+                    && c != 'E') {
+                return null;
+            }
+        }
+        if (!digits) {
+            return null;
+        }
+        try {
+            return Double.valueOf(lexical);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static BigDecimal toDecimal(Number value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        }
+        double doubleValue = value.doubleValue();
+        if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) {
+            throw new Xpath3EvaluationException("FOCA0002", "Cannot convert "
+                    + getStringValue(value) + " to xs:decimal");
+        }
+        return new BigDecimal(value.toString());
+    }
+
+    /**
+     * Returns the canonical lexical representation of the given atomic
+     * value.
+     */
+    public static String getStringValue(Object value) {
+        if (value instanceof BigDecimal) {
+            return decimalToString((BigDecimal) value);
+        }
+        if (value instanceof Double) {
+            return floatingPointToString(((Double) value).doubleValue(),
+                    Double.toString(((Double) value).doubleValue()));
+        }
+        if (value instanceof Float) {
+            return floatingPointToString(((Float) value).doubleValue(),
+                    Float.toString(((Float) value).floatValue()));
+        }
+        if (value instanceof XMLGregorianCalendar) {
+            return ((XMLGregorianCalendar) value).toXMLFormat();
+        }
+        return String.valueOf(value);
+    }
+
+    private static String decimalToString(BigDecimal value) {
+        if (value.signum() == 0) {
+            return "0";
+        }
+        BigDecimal stripped = value.stripTrailingZeros();
+        if (stripped.scale() <= 0) {
+            return stripped.toBigInteger().toString();
+        }
+        return stripped.toPlainString();
+    }
+
+    private static String floatingPointToString(double value, String javaString) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "INF" : "-INF";
+        }
+        if (value == 0) {
+            return 1 / value < 0 ? "-0" : "0";
+        }
+        BigDecimal decimal = new BigDecimal(javaString);
+        double abs = Math.abs(value);
+        if (abs >= 1e-6 && abs < 1e6) {
+            return decimalToString(decimal);
+        }
+        BigDecimal stripped = decimal.abs().stripTrailingZeros();
+        String digits = stripped.unscaledValue().toString();
+        int exponent = digits.length() - 1 - stripped.scale();
+        StringBuilder result = new StringBuilder();
+        if (value < 0) {
+            result.append('-');
+        }
+        result.append(digits.charAt(0)).append('.');
+        result.append(digits.length() > 1 ? digits.substring(1) : "0");
+        result.append('E').append(exponent);
+        return result.toString();
+    }
+
+    private static synchronized DatatypeFactory getDatatypeFactory() {
+        if (datatypeFactory == null) {
+            try {
+                datatypeFactory = DatatypeFactory.newInstance();
+            } catch (DatatypeConfigurationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return datatypeFactory;
+    }
+}
@@ -0,0 +1,264 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.eval;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * The XPath axes. Each axis lazily enumerates the nodes reachable from a
+ * context node in axis order, i.e. reverse document order for reverse axes.
+ */
+enum Xpath3Axis {
+    CHILD(false),
+    DESCENDANT(false),
+    ATTRIBUTE(false),
+    SELF(false),
+    DESCENDANT_OR_SELF(false),
+    FOLLOWING_SIBLING(false),
+    FOLLOWING(false),
+    NAMESPACE(false),
+    PARENT(true),
+    ANCESTOR(true),
+    PRECEDING_SIBLING(true),
+    PRECEDING(true),
+    ANCESTOR_OR_SELF(true);
+
+    private final boolean reverse;
+
+    private Xpath3Axis(boolean reverse) {
+        this.reverse = reverse;
+    }
+
+    public boolean isReverse() {
+        return reverse;
+    }
+
+    public Xpath3NodeKind getPrincipalNodeKind() {
+        switch (this) {
+        case ATTRIBUTE:
+            return Xpath3NodeKind.ATTRIBUTE;
+        case NAMESPACE:
+            return Xpath3NodeKind.NAMESPACE;
+        default:
+            return Xpath3NodeKind.ELEMENT;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public Iterator<Object> iterate(final IXpath3NodeModel model,
+            final Object node) {
+        switch (this) {
+        case CHILD:
+            return (Iterator<Object>) model.getChildren(node);
+        case ATTRIBUTE:
+            if (model.getKind(node) != Xpath3NodeKind.ELEMENT) {
+                return Collections.emptyList().iterator();
+            }
+            return (Iterator<Object>) model.getAttributes(node);
+        case SELF:
+            return Collections.singletonList(node).iterator();
+        case DESCENDANT:
+            return descendants(model, node, false);
+        case DESCENDANT_OR_SELF:
+            return descendants(model, node, true);
+        case FOLLOWING_SIBLING:
+            return followingSiblings(model, node);
+        case FOLLOWING:
+            return following(model, node);
+        case PARENT: {
+            Object parent = model.getParent(node);
+            return parent == null ? Collections.emptyList().iterator()
+                    : Collections.singletonList(parent).iterator();
+        }
+        case ANCESTOR:
+            return ancestors(model, model.getParent(node));
+        case ANCESTOR_OR_SELF:
+            return ancestors(model, node);
+        case PRECEDING_SIBLING:
+            return precedingSiblings(model, node);
+        case PRECEDING:
+            return preceding(model, node);
+        default:
+            throw new Xpath3EvaluationException("XPST0010",
+                    "The namespace axis is not supported");
+        }
+    }
+
+    private static boolean isAttribute(IXpath3NodeModel model, Object node) {
+        Xpath3NodeKind kind = model.getKind(node);
+        return kind == Xpath3NodeKind.ATTRIBUTE
+                || kind == Xpath3NodeKind.NAMESPACE;
+    }
+
+    private static Iterator<Object> ancestors(final IXpath3NodeModel model,
+            final Object start) {
+        return new Xpath3AbstractIterator() {
+
+            private Object next = start;
+
+            @Override
+            protected Object computeNext() {
+                if (next == null) {
+                    return endOfData();
+                }
+                Object result = next;
+                next = model.getParent(next);
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Enumerates the descendants of a node in document order without
+     * materializing them.
+     */
+    static Iterator<Object> descendants(final IXpath3NodeModel model,
+            final Object node, final boolean includeSelf) {
+        return new Xpath3AbstractIterator() {
+
+            private final List<Iterator<?>> stack = new ArrayList<Iterator<?>>();
+
+            private boolean selfPending = includeSelf;
+
+            {
+                stack.add(model.getChildren(node));
+            }
+
+            @Override
+            protected Object computeNext() {
+                if (selfPending) {
+                    selfPending = false;
+                    return node;
+                }
+                while (!stack.isEmpty()) {
+                    Iterator<?> top = stack.get(stack.size() - 1);
+                    if (top.hasNext()) {
+                        Object next = top.next();
+                        stack.add(model.getChildren(next));
+                        return next;
+                    }
+                    stack.remove(stack.size() - 1);
+                }
+                return endOfData();
+            }
+        };
+    }
+
+    private static Iterator<Object> followingSiblings(
+            IXpath3NodeModel model, Object node) {
+        Object parent = model.getParent(node);
+        if (parent == null || isAttribute(model, node)) {
+            return Collections.emptyList().iterator();
+        }
+        Iterator<?> siblings = model.getChildren(parent);
+        while (siblings.hasNext()) {
+            if (model.isSameNode(siblings.next(), node)) {
+                break;
+            }
+        }
+        @SuppressWarnings("unchecked")
+        Iterator<Object> result = (Iterator<Object>) siblings;
+        return result;
+    }
+
+    private static Iterator<Object> precedingSiblings(
+            IXpath3NodeModel model, Object node) {
+        Object parent = model.getParent(node);
+        if (parent == null || isAttribute(model, node)) {
+            return Collections.emptyList().iterator();
+        }
+        List<Object> siblings = new ArrayList<Object>();
+        for (Iterator<?> it = model.getChildren(parent); it.hasNext();) {
+            Object sibling = it.next();
+            if (model.isSameNode(sibling, node)) {
+                break;
+            }
+            siblings.add(sibling);
+        }
+        Collections.reverse(siblings);
+        return siblings.iterator();
+    }
+
+    private static Iterator<Object> following(final IXpath3NodeModel model,
+            final Object node) {
+        return new Xpath3AbstractIterator() {
+
+            private Object current = node;
+
+            private Iterator<?> siblings;
+
+            private Iterator<Object> subtree;
+
+            {
+                if (isAttribute(model, node)) {
+                    current = model.getParent(node);
+                    subtree = descendants(model, current, false);
+                }
+            }
+
+            @Override
+            protected Object computeNext() {
+                while (true) {
+                    if (subtree != null && subtree.hasNext()) {
+                        return subtree.next();
+                    }
+                    if (siblings != null && siblings.hasNext()) {
+                        subtree = descendants(model, siblings.next(), true);
+                        continue;
+                    }
+                    if (current == null) {
+                        return endOfData();
+                    }
+                    siblings = followingSiblings(model, current);
+                    current = model.getParent(current);
+                }
+            }
+        };
+    }
+
+    private static Iterator<Object> preceding(IXpath3NodeModel model,
+            Object node) {
+        Object start = isAttribute(model, node) ? model.getParent(node) : node;
+        List<Object> ancestors = new ArrayList<Object>();
+        Object root = start;
+        for (Object parent = model.getParent(start); parent != null; parent = model
+                .getParent(parent)) {
+            ancestors.add(parent);
+            root = parent;
+        }
+        List<Object> result = new ArrayList<Object>();
+        for (Iterator<Object> it = descendants(model, root, false); it
+                .hasNext();) {
+            Object next = it.next();
+            if (model.isSameNode(next, start)) {
+                break;
+            }
+            if (!containsNode(model, ancestors, next)) {
+                result.add(next);
+            }
+        }
+        Collections.reverse(result);
+        return result.iterator();
+    }
+
+    private static boolean containsNode(IXpath3NodeModel model,
+            List<Object> nodes, Object node) {
+        for (Object candidate : nodes) {
+            if (model.isSameNode(candidate, node)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
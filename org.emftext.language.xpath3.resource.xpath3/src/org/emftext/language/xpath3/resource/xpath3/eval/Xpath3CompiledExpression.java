@@ -0,0 +1,35 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.eval;
+
+/**
+ * An executable form of an expression. Compiled expressions are created by
+ * the {@link Xpath3Compiler} and are immutable, so they can be shared
+ * between threads.
+ */
+public abstract class Xpath3CompiledExpression {
+
+    /**
+     * Indicates that an expression is not an integer literal.
+     */
+    static final int NO_LITERAL_POSITION = -1;
+
+    public abstract Xpath3Sequence evaluate(Xpath3EvaluationContext context);
+
+    /**
+     * Returns the value of the expression if it is an integer literal, which
+     * lets a predicate select by position without evaluating the expression
+     * for every item.
+     */
+    int getLiteralPosition() {
+        return NO_LITERAL_POSITION;
+    }
+}
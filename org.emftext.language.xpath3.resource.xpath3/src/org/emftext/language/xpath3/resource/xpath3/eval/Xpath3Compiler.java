@@ -0,0 +1,950 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.eval;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import javax.xml.namespace.QName;
+
+import org.eclipse.emf.ecore.EObject;
+import org.emftext.language.xpath3.AdditiveExpr;
+import org.emftext.language.xpath3.AdditiveOpKind;
+import org.emftext.language.xpath3.AndExpr;
+import org.emftext.language.xpath3.AxisStep;
+import org.emftext.language.xpath3.CastExpr;
+import org.emftext.language.xpath3.CastableExpr;
+import org.emftext.language.xpath3.ChildStepExpr;
+import org.emftext.language.xpath3.Comp;
+import org.emftext.language.xpath3.ComparisonExpr;
+import org.emftext.language.xpath3.ContextItemExpr;
+import org.emftext.language.xpath3.DescOrSelfStepExpr;
+import org.emftext.language.xpath3.Expr;
+import org.emftext.language.xpath3.FilterExpr;
+import org.emftext.language.xpath3.ForExpr;
+import org.emftext.language.xpath3.FunctionCall;
+import org.emftext.language.xpath3.GeneralComp;
+import org.emftext.language.xpath3.GeneralCompKind;
+import org.emftext.language.xpath3.IfExpr;
+import org.emftext.language.xpath3.InstanceofExpr;
+import org.emftext.language.xpath3.IntegerLiteral;
+import org.emftext.language.xpath3.IntersectExceptExpr;
+import org.emftext.language.xpath3.IntersectExceptOpKind;
+import org.emftext.language.xpath3.Literal;
+import org.emftext.language.xpath3.MultiplicativeExpr;
+import org.emftext.language.xpath3.MultiplicativeOpKind;
+import org.emftext.language.xpath3.NodeComp;
+import org.emftext.language.xpath3.NodeCompKind;
+import org.emftext.language.xpath3.OrExpr;
+import org.emftext.language.xpath3.ParenthesizedExpr;
+import org.emftext.language.xpath3.PathExpr;
+import org.emftext.language.xpath3.QuantifiedExpr;
+import org.emftext.language.xpath3.QuantifierKind;
+import org.emftext.language.xpath3.RangeExpr;
+import org.emftext.language.xpath3.RootStepExpr;
+import org.emftext.language.xpath3.SequenceType;
+import org.emftext.language.xpath3.SingleType;
+import org.emftext.language.xpath3.TreatExpr;
+import org.emftext.language.xpath3.UnaryExpr;
+import org.emftext.language.xpath3.UnionExpr;
+import org.emftext.language.xpath3.ValueComp;
+import org.emftext.language.xpath3.VarRef;
+import org.emftext.language.xpath3.resource.xpath3.eval.Xpath3Operations.AxisPathStep;
+import org.emftext.language.xpath3.resource.xpath3.eval.Xpath3Operations.ExpressionFactory;
+
+/**
+ * Compiles expression models into trees of {@link Xpath3CompiledExpression}s.
+ * <p>
+ * Compilation does the work that the {@link Xpath3Evaluator} repeats on
+ * every evaluation: the node type dispatch, skipping the single operand
+ * wrappers of unprocessed models, resolving namespace prefixes, variable
+ * names and atomic types, matching node tests and looking up functions.
+ * The compiled tree calls the same run-time operations as the evaluator, so
+ * both produce the same results.
+ * <p>
+ * Names are resolved against the static context passed to
+ * {@link #compile(EObject, Xpath3EvaluationContext)}, i.e. its namespaces
+ * and function library are bound into the compiled expression. The node
+ * model, the variable values and the focus are taken from the context the
+ * compiled expression is evaluated with. Subexpressions that cannot be
+ * compiled, e.g. because they contain a static error, are left to the
+ * evaluator, so that errors are still raised only if the subexpression is
+ * evaluated.
+ * <p>
+ * The {@link Xpath3TypeChecker} infers the static types of the
+ * subexpressions first. A general comparison of two single items skips the
+ * atomized sequences, and <code>instance of</code> and <code>treat as</code>
+ * are removed if their operands are known to match the type.
+ * <p>
+ * Subexpressions of loops that don't depend on the loop variables or the
+ * focus, and common subexpressions, are hoisted by {@link Xpath3Hoisting}:
+ * they are bound to synthetic variables, whose values are computed on first
+ * use and then reused for the rest of the evaluation of the owning
+ * expression.
+ */
+public class Xpath3Compiler {
+
+    private final Xpath3Evaluator evaluator = new Xpath3Evaluator();
+
+    public Xpath3CompiledExpression compile(EObject expression,
+            Xpath3EvaluationContext staticContext) {
+        Xpath3TypeChecker typeChecker = new Xpath3TypeChecker(staticContext);
+        typeChecker.check(expression);
+        return new Compilation(staticContext, typeChecker,
+                new Xpath3Hoisting(expression)).create(expression);
+    }
+
+    /**
+     * Compiles the subexpressions of one expression.
+     */
+    private final class Compilation implements ExpressionFactory {
+
+        private final Xpath3EvaluationContext context;
+
+        private final Xpath3TypeChecker typeChecker;
+
+        private final Xpath3Hoisting hoisting;
+
+        Compilation(Xpath3EvaluationContext context,
+                Xpath3TypeChecker typeChecker, Xpath3Hoisting hoisting) {
+            this.context = context;
+            this.typeChecker = typeChecker;
+            this.hoisting = hoisting;
+        }
+
+        @Override
+        public Xpath3CompiledExpression create(EObject expr) {
+            expr = Xpath3Operations.unwrap(expr);
+            QName variable = hoisting.getVariable(expr);
+            if (variable != null) {
+                return new Variable(variable);
+            }
+            return createBound(expr);
+        }
+
+        /**
+         * Compiles an unwrapped expression and binds the hoisted
+         * subexpressions that it owns.
+         */
+        private Xpath3CompiledExpression createBound(EObject expr) {
+            Xpath3CompiledExpression result = null;
+            try {
+                result = compile(expr);
+            } catch (Xpath3EvaluationException e) {
+                // Raised by the evaluator if the expression is evaluated
+            }
+            if (result == null) {
+                result = new Interpreted(evaluator, expr);
+            }
+            List<Xpath3Hoisting.Binding> bindings = hoisting.getBindings(expr);
+            if (bindings.isEmpty()) {
+                return result;
+            }
+            QName[] names = new QName[bindings.size()];
+            Xpath3CompiledExpression[] values = new Xpath3CompiledExpression[names
+                    .length];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = bindings.get(i).getName();
+                values[i] = createBound(bindings.get(i).getExpression());
+            }
+            return new Let(names, values, result);
+        }
+
+        private Xpath3CompiledExpression[] createAll(
+                List<? extends EObject> exprs) {
+            return Xpath3Operations.createAll(exprs, this);
+        }
+
+        private Xpath3CompiledExpression compile(EObject expr) {
+            if (expr instanceof Literal) {
+                int position = expr instanceof IntegerLiteral ? ((IntegerLiteral) expr)
+                        .getValue() : Xpath3CompiledExpression.NO_LITERAL_POSITION;
+                return new Constant(Xpath3Sequence.singleton(Xpath3Operations
+                        .getLiteralValue(expr)), position);
+            }
+            if (expr instanceof ParenthesizedExpr) {
+                // Non-empty parentheses have been unwrapped
+                return new Constant(Xpath3Sequence.empty(),
+                        Xpath3CompiledExpression.NO_LITERAL_POSITION);
+            }
+            if (expr instanceof VarRef) {
+                return new Variable(Xpath3Operations.resolveVariableName(
+                        ((VarRef) expr).getVarName(), context));
+            }
+            if (expr instanceof ContextItemExpr) {
+                return new ContextItem();
+            }
+            if (expr instanceof PathExpr) {
+                return Xpath3Operations.createPath(((PathExpr) expr).getStep(),
+                        this, context);
+            }
+            if (expr instanceof ChildStepExpr
+                    || expr instanceof DescOrSelfStepExpr) {
+                return Xpath3Operations.createPath(
+                        Collections.singletonList(expr), this, context);
+            }
+            if (expr instanceof RootStepExpr) {
+                return new Root();
+            }
+            if (expr instanceof AxisStep) {
+                return new Step(Xpath3Operations.createAxisStep(
+                        (AxisStep) expr, this, context));
+            }
+            if (expr instanceof FilterExpr) {
+                FilterExpr filterExpr = (FilterExpr) expr;
+                return new Filter(create(filterExpr.getPrimaryExpr()),
+                        Xpath3Operations.createPredicates(
+                                filterExpr.getPredicate(), this));
+            }
+            if (expr instanceof FunctionCall) {
+                FunctionCall functionCall = (FunctionCall) expr;
+                List<? extends EObject> args = functionCall.getArg();
+                return new Call(Xpath3Operations.getFunction(
+                        functionCall.getName(), args.size(), context),
+                        createAll(args));
+            }
+            if (expr instanceof ComparisonExpr) {
+                return compileComparison((ComparisonExpr) expr);
+            }
+            if (expr instanceof AdditiveExpr) {
+                List<AdditiveOpKind> operators = ((AdditiveExpr) expr)
+                        .getOperator();
+                return new Additive(
+                        createAll(((AdditiveExpr) expr).getOperand()),
+                        operators.toArray(new AdditiveOpKind[operators.size()]));
+            }
+            if (expr instanceof MultiplicativeExpr) {
+                List<MultiplicativeOpKind> operators = ((MultiplicativeExpr) expr)
+                        .getOperator();
+                return new Multiplicative(
+                        createAll(((MultiplicativeExpr) expr).getOperand()),
+                        operators.toArray(new MultiplicativeOpKind[operators
+                                .size()]));
+            }
+            if (expr instanceof UnaryExpr) {
+                UnaryExpr unaryExpr = (UnaryExpr) expr;
+                return new Unary(create(unaryExpr.getOperand()),
+                        Xpath3Evaluator.isNegation(unaryExpr));
+            }
+            if (expr instanceof OrExpr) {
+                return new Or(createAll(((OrExpr) expr).getOperand()));
+            }
+            if (expr instanceof AndExpr) {
+                return new And(createAll(((AndExpr) expr).getOperand()));
+            }
+            if (expr instanceof IfExpr) {
+                IfExpr ifExpr = (IfExpr) expr;
+                return new If(create(ifExpr.getTest()),
+                        create(ifExpr.getThen()), create(ifExpr.getElse()));
+            }
+            if (expr instanceof ForExpr) {
+                ForExpr forExpr = (ForExpr) expr;
+                List<org.emftext.language.xpath3.Iterator> iterators = forExpr
+                        .getIterator();
+                return new For(getVariableNames(iterators),
+                        getLists(iterators), create(forExpr.getReturn()));
+            }
+            if (expr instanceof QuantifiedExpr) {
+                QuantifiedExpr quantifiedExpr = (QuantifiedExpr) expr;
+                List<org.emftext.language.xpath3.Iterator> iterators = quantifiedExpr
+                        .getIterator();
+                return new Quantified(getVariableNames(iterators),
+                        getLists(iterators),
+                        create(quantifiedExpr.getSatisfies()),
+                        quantifiedExpr.getQuantifier() == QuantifierKind.SOME);
+            }
+            if (expr instanceof Expr) {
+                return new Concat(createAll(((Expr) expr).getExpr()));
+            }
+            if (expr instanceof RangeExpr) {
+                RangeExpr rangeExpr = (RangeExpr) expr;
+                return new Range(create(rangeExpr.getFrom()),
+                        create(rangeExpr.getTo()));
+            }
+            if (expr instanceof UnionExpr) {
+                return new Union(createAll(((UnionExpr) expr).getOperand()));
+            }
+            if (expr instanceof IntersectExceptExpr) {
+                List<IntersectExceptOpKind> operators = ((IntersectExceptExpr) expr)
+                        .getOperator();
+                return new IntersectExcept(
+                        createAll(((IntersectExceptExpr) expr).getOperand()),
+                        operators.toArray(new IntersectExceptOpKind[operators
+                                .size()]));
+            }
+            if (expr instanceof CastExpr) {
+                CastExpr castExpr = (CastExpr) expr;
+                SingleType type = castExpr.getType();
+                return new Cast(create(castExpr.getOperand()),
+                        Xpath3Operations.resolveAtomicType(type.getType(),
+                                context), type.isOptional(), false);
+            }
+            if (expr instanceof CastableExpr) {
+                CastableExpr castableExpr = (CastableExpr) expr;
+                SingleType type = castableExpr.getType();
+                return new Cast(create(castableExpr.getOperand()),
+                        Xpath3Operations.resolveAtomicType(type.getType(),
+                                context), type.isOptional(), true);
+            }
+            if (expr instanceof InstanceofExpr) {
+                InstanceofExpr instanceofExpr = (InstanceofExpr) expr;
+                if (isInstance(instanceofExpr.getOperand(),
+                        instanceofExpr.getType())) {
+                    return new Constant(Xpath3Operations.bool(true),
+                            Xpath3CompiledExpression.NO_LITERAL_POSITION);
+                }
+            }
+            if (expr instanceof TreatExpr) {
+                TreatExpr treatExpr = (TreatExpr) expr;
+                if (isInstance(treatExpr.getOperand(), treatExpr.getType())) {
+                    return create(treatExpr.getOperand());
+                }
+            }
+            // Other instance of and treat as are left to the evaluator
+            return null;
+        }
+
+        private boolean isInstance(EObject expr, SequenceType type) {
+            Xpath3StaticType exprType = typeChecker.getType(expr);
+            return exprType != null && typeChecker.isInstance(exprType, type);
+        }
+
+        private boolean isSingleton(EObject expr) {
+            Xpath3StaticType exprType = typeChecker.getType(expr);
+            return exprType != null && exprType.isSingleton();
+        }
+
+        private Xpath3CompiledExpression compileComparison(
+                ComparisonExpr comparisonExpr) {
+            Xpath3CompiledExpression left = create(comparisonExpr.getLeft());
+            Xpath3CompiledExpression right = create(comparisonExpr.getRight());
+            Comp operator = comparisonExpr.getOperator();
+            if (operator instanceof GeneralComp
+                    && isSingleton(comparisonExpr.getLeft())
+                    && isSingleton(comparisonExpr.getRight())) {
+                return new SingletonComparison(left, right,
+                        ((GeneralComp) operator).getOperator());
+            }
+            if (operator instanceof GeneralComp) {
+                return new GeneralComparison(left, right,
+                        ((GeneralComp) operator).getOperator());
+            }
+            if (operator instanceof ValueComp) {
+                return new ValueComparison(left, right,
+                        ((ValueComp) operator).getOperator());
+            }
+            if (operator instanceof NodeComp) {
+                return new NodeComparison(left, right,
+                        ((NodeComp) operator).getOperator());
+            }
+            return null;
+        }
+
+        private QName[] getVariableNames(
+                List<org.emftext.language.xpath3.Iterator> iterators) {
+            QName[] names = new QName[iterators.size()];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = Xpath3Operations.resolveVariableName(iterators
+                        .get(i).getVarName(), context);
+            }
+            return names;
+        }
+
+        private Xpath3CompiledExpression[] getLists(
+                List<org.emftext.language.xpath3.Iterator> iterators) {
+            Xpath3CompiledExpression[] lists = new Xpath3CompiledExpression[iterators
+                    .size()];
+            for (int i = 0; i < lists.length; i++) {
+                lists[i] = create(iterators.get(i).getList());
+            }
+            return lists;
+        }
+    }
+
+    private static final class Interpreted extends Xpath3CompiledExpression {
+
+        private final Xpath3Evaluator evaluator;
+
+        private final EObject expr;
+
+        Interpreted(Xpath3Evaluator evaluator, EObject expr) {
+            this.evaluator = evaluator;
+            this.expr = expr;
+        }
+
+        @Override
+        public Xpath3Sequence evaluate(Xpath3EvaluationContext context) {
+            return evaluator.evaluate(expr, context);
+        }
+    }
+
+    private static final class Constant extends Xpath3CompiledExpression {
+
+        private final Xpath3Sequence value;
+
+        private final int literalPosition;
+
+        Constant(Xpath3Sequence value, int literalPosition) {
+            this.value = value;
+            this.literalPosition = literalPosition;
+        }
+
+        @Override
+        public Xpath3Sequence evaluate(Xpath3EvaluationContext context) {
+            return value;
+        }
+
+        @Override
+        int getLiteralPosition() {
+            return literalPosition;
+        }
+    }
+
+    private static final class Variable extends Xpath3CompiledExpression {
+
+        private final QName name;
+
+        Variable(QName name) {
+            this.name = name;
+        }
+
+        @Override
+        public Xpath3Sequence evaluate(Xpath3EvaluationContext context) {
+            return Xpath3Operations.getVariable(name, context);
+        }
+    }
+
+    private static final class ContextItem extends Xpath3CompiledExpression {
+
+        @Override
+        public Xpath3Sequence evaluate(Xpath3EvaluationContext context) {
+            return Xpath3Sequence.singleton(context.getContextItem());
+        }
+    }
+
+    private static final class Root extends Xpath3CompiledExpression {
+
+        @Override
+        public Xpath3Sequence evaluate(Xpath3EvaluationContext context) {
+            return Xpath3Sequence.singleton(Xpath3Operations.getRoot(context));
+        }
+    }
+
+    private static final class Step extends Xpath3CompiledExpression {
+
+        private final AxisPathStep step;
+
+        Step(AxisPathStep step) {
+            this.step = step;
+        }
+
+        @Override
+        public Xpath3Sequence evaluate(Xpath3EvaluationContext context) {
+            return step.apply(context);
+        }
+    }
+
+    private static final class Filter extends Xpath3CompiledExpression {
+
+        private final Xpath3CompiledExpression primary;
+
+        private final Xpath3CompiledExpression[] predicates;
+
+        Filter(Xpath3CompiledExpression primary,
+                Xpath3CompiledExpression[] predicates) {
+            this.primary = primary;
+            this.predicates = predicates;
+        }
+
+        @Override
+        public Xpath3Sequence evaluate(Xpath3EvaluationContext context) {
+            return Xpath3Operations.applyPredicates(primary.evaluate(context),
+                    predicates, context);
+        }
+    }
+
+    private static final class Call extends Xpath3CompiledExpression {
+
+        private final IXpath3Function function;
+
+        private final Xpath3CompiledExpression[] args;
+
+        Call(IXpath3Function function, Xpath3CompiledExpression[] args) {
+            this.function = function;
+            this.args = args;
+        }
+
+        @Override
+        public Xpath3Sequence evaluate(Xpath3EvaluationContext context) {
+            return Xpath3Operations.callFunction(function, args, context);
+        }
+    }
+
+    private static final class GeneralComparison extends
+            Xpath3CompiledExpression {
+
+        private final Xpath3CompiledExpression left;
+
+        private final Xpath3CompiledExpression right;
+
+        private final GeneralCompKind operator;
+
+        GeneralComparison(Xpath3CompiledExpression left,
+                Xpath3CompiledExpression right, GeneralCompKind operator) {
+            this.left = left;
+            this.right = right;
+            this.operator = operator;
+        }
+
+        @Override
+        public Xpath3Sequence evaluate(Xpath3EvaluationContext context) {
+            return Xpath3Operations.generalCompare(left.evaluate(context),
+                    right.evaluate(context), operator, context.getNodeModel());
+        }
+    }
+
+    /**
+     * A general comparison of two operands that have exactly one item each,
+     * which compares the atomized items directly.
+     */
+    private static final class SingletonComparison extends
+            Xpath3CompiledExpression {
+
+        private final Xpath3CompiledExpression left;
+
+        private final Xpath3CompiledExpression right;
+
+        private final GeneralCompKind operator;
+
+        SingletonComparison(Xpath3CompiledExpression left,
+                Xpath3CompiledExpression right, GeneralCompKind operator) {
+            this.left = left;
+            this.right = right;
+            this.operator = operator;
+        }
+
+        @Override
+        public Xpath3Sequence evaluate(Xpath3EvaluationContext context) {
+            IXpath3NodeModel model = context.getNodeModel();
+            Object leftValue = Xpath3Values.atomize(left.evaluate(context)
+                    .getFirst(), model);
+            Object rightValue = Xpath3Values.atomize(right.evaluate(context)
+                    .getFirst(), model);
+            return Xpath3Operations.bool(Xpath3Values.generalCompare(
+                    leftValue, rightValue, operator));
+        }
+    }
+
+    private static final class ValueComparison extends
+            Xpath3CompiledExpression {
+
+        private final Xpath3CompiledExpression left;
+
+        private final Xpath3CompiledExpression right;
+
+        private final GeneralCompKind operator;
+
+        ValueComparison(Xpath3CompiledExpression left,
+                Xpath3CompiledExpression right, GeneralCompKind operator) {
+            this.left = left;
+            this.right = right;
+            this.operator = operator;
+        }
+
+        @Override
+        public Xpath3Sequence evaluate(Xpath3EvaluationContext context) {
+            return Xpath3Operations.valueCompare(left.evaluate(context),
+                    right.evaluate(context), operator, context.getNodeModel());
+        }
+    }
+
+    private static final class NodeComparison extends
+            Xpath3CompiledExpression {
+
+        private final Xpath3CompiledExpression left;
+
+        private final Xpath3CompiledExpression right;
+
+        private final NodeCompKind operator;
+
+        NodeComparison(Xpath3CompiledExpression left,
+                Xpath3CompiledExpression right, NodeCompKind operator) {
+            this.left = left;
+            this.right = right;
+            this.operator = operator;
+        }
+
+        @Override
+        public Xpath3Sequence evaluate(Xpath3EvaluationContext context) {
+            return Xpath3Operations.nodeCompare(left.evaluate(context),
+                    right.evaluate(context), operator, context.getNodeModel());
+        }
+    }
+
+    private static final class Additive extends Xpath3CompiledExpression {
+
+        private final Xpath3CompiledExpression[] operands;
+
+        private final AdditiveOpKind[] operators;
+
+        Additive(Xpath3CompiledExpression[] operands,
+                AdditiveOpKind[] operators) {
+            this.operands = operands;
+            this.operators = operators;
+        }
+
+        @Override
+        public Xpath3Sequence evaluate(Xpath3EvaluationContext context) {
+            return Xpath3Operations.additive(operands, operators, context);
+        }
+    }
+
+    private static final class Multiplicative extends
+            Xpath3CompiledExpression {
+
+        private final Xpath3CompiledExpression[] operands;
+
+        private final MultiplicativeOpKind[] operators;
+
+        Multiplicative(Xpath3CompiledExpression[] operands,
+                MultiplicativeOpKind[] operators) {
+            this.operands = operands;
+            this.operators = operators;
+        }
+
+        @Override
+        public Xpath3Sequence evaluate(Xpath3EvaluationContext context) {
+            return Xpath3Operations.multiplicative(operands, operators,
+                    context);
+        }
+    }
+
+    private static final class Unary extends Xpath3CompiledExpression {
+
+        private final Xpath3CompiledExpression operand;
+
+        private final boolean negate;
+
+        Unary(Xpath3CompiledExpression operand, boolean negate) {
+            this.operand = operand;
+            this.negate = negate;
+        }
+
+        @Override
+        public Xpath3Sequence evaluate(Xpath3EvaluationContext context) {
+            return Xpath3Operations.unary(operand.evaluate(context), negate,
+                    context.getNodeModel());
+        }
+    }
+
+    private static final class Or extends Xpath3CompiledExpression {
+
+        private final Xpath3CompiledExpression[] operands;
+
+        Or(Xpath3CompiledExpression[] operands) {
+            this.operands = operands;
+        }
+
+        @Override
+        public Xpath3Sequence evaluate(Xpath3EvaluationContext context) {
+            return Xpath3Operations.or(operands, context);
+        }
+    }
+
+    private static final class And extends Xpath3CompiledExpression {
+
+        private final Xpath3CompiledExpression[] operands;
+
+        And(Xpath3CompiledExpression[] operands) {
+            this.operands = operands;
+        }
+
+        @Override
+        public Xpath3Sequence evaluate(Xpath3EvaluationContext context) {
+            return Xpath3Operations.and(operands, context);
+        }
+    }
+
+    private static final class If extends Xpath3CompiledExpression {
+
+        private final Xpath3CompiledExpression test;
+
+        private final Xpath3CompiledExpression thenExpr;
+
+        private final Xpath3CompiledExpression elseExpr;
+
+        If(Xpath3CompiledExpression test, Xpath3CompiledExpression thenExpr,
+                Xpath3CompiledExpression elseExpr) {
+            this.test = test;
+            this.thenExpr = thenExpr;
+            this.elseExpr = elseExpr;
+        }
+
+        @Override
+        public Xpath3Sequence evaluate(Xpath3EvaluationContext context) {
+            if (Xpath3Operations.effectiveBooleanValue(test.evaluate(context),
+                    context)) {
+                return thenExpr.evaluate(context);
+            }
+            return elseExpr.evaluate(context);
+        }
+    }
+
+    private static final class For extends Xpath3CompiledExpression {
+
+        private final QName[] names;
+
+        private final Xpath3CompiledExpression[] lists;
+
+        private final Xpath3CompiledExpression returnExpr;
+
+        For(QName[] names, Xpath3CompiledExpression[] lists,
+                Xpath3CompiledExpression returnExpr) {
+            this.names = names;
+            this.lists = lists;
+            this.returnExpr = returnExpr;
+        }
+
+        @Override
+        public Xpath3Sequence evaluate(Xpath3EvaluationContext context) {
+            return Xpath3Operations.iterate(names, lists, 0, returnExpr,
+                    context);
+        }
+    }
+
+    private static final class Quantified extends Xpath3CompiledExpression {
+
+        private final QName[] names;
+
+        private final Xpath3CompiledExpression[] lists;
+
+        private final Xpath3CompiledExpression satisfies;
+
+        private final boolean some;
+
+        Quantified(QName[] names, Xpath3CompiledExpression[] lists,
+                Xpath3CompiledExpression satisfies, boolean some) {
+            this.names = names;
+            this.lists = lists;
+            this.satisfies = satisfies;
+            this.some = some;
+        }
+
+        @Override
+        public Xpath3Sequence evaluate(Xpath3EvaluationContext context) {
+            return Xpath3Operations.bool(Xpath3Operations.quantify(names,
+                    lists, 0, satisfies, some, context));
+        }
+    }
+
+    /**
+     * Binds the values of hoisted subexpressions. A value is evaluated when
+     * it is first read, with the context of this expression, and kept for
+     * the rest of its evaluation.
+     */
+    private static final class Let extends Xpath3CompiledExpression {
+
+        private final QName[] names;
+
+        private final Xpath3CompiledExpression[] values;
+
+        private final Xpath3CompiledExpression body;
+
+        Let(QName[] names, Xpath3CompiledExpression[] values,
+                Xpath3CompiledExpression body) {
+            this.names = names;
+            this.values = values;
+            this.body = body;
+        }
+
+        @Override
+        public Xpath3Sequence evaluate(Xpath3EvaluationContext context) {
+            Xpath3EvaluationContext bodyContext = context;
+            for (int i = 0; i < names.length; i++) {
+                bodyContext = bodyContext.withVariable(names[i],
+                        new DeferredValue(values[i], context));
+            }
+            return body.evaluate(bodyContext);
+        }
+    }
+
+    /**
+     * A value that is evaluated on first read. The items are kept as they
+     * are pulled, so that a consumer that stops early doesn't evaluate the
+     * rest of the value.
+     */
+    private static final class DeferredValue extends Xpath3Sequence {
+
+        private final Xpath3CompiledExpression expr;
+
+        private final Xpath3EvaluationContext context;
+
+        private final List<Object> items = new ArrayList<Object>();
+
+        private Xpath3Sequence value;
+
+        private Iterator<Object> source;
+
+        DeferredValue(Xpath3CompiledExpression expr,
+                Xpath3EvaluationContext context) {
+            this.expr = expr;
+            this.context = context;
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            return new Iterator<Object>() {
+
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < items.size() || pull();
+                }
+
+                @Override
+                public Object next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return items.get(index++);
+                }
+
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public int getProperties() {
+            return getValue().getProperties();
+        }
+
+        private Xpath3Sequence getValue() {
+            if (value == null) {
+                value = expr.evaluate(context);
+                source = value.iterator();
+            }
+            return value;
+        }
+
+        private boolean pull() {
+            getValue();
+            if (source == null || !source.hasNext()) {
+                source = null;
+                return false;
+            }
+            items.add(source.next());
+            return true;
+        }
+    }
+
+    private static final class Concat extends Xpath3CompiledExpression {
+
+        private final Xpath3CompiledExpression[] exprs;
+
+        Concat(Xpath3CompiledExpression[] exprs) {
+            this.exprs = exprs;
+        }
+
+        @Override
+        public Xpath3Sequence evaluate(Xpath3EvaluationContext context) {
+            return Xpath3Operations.concat(exprs, context);
+        }
+    }
+
+    private static final class Range extends Xpath3CompiledExpression {
+
+        private final Xpath3CompiledExpression from;
+
+        private final Xpath3CompiledExpression to;
+
+        Range(Xpath3CompiledExpression from, Xpath3CompiledExpression to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public Xpath3Sequence evaluate(Xpath3EvaluationContext context) {
+            return Xpath3Operations.range(from.evaluate(context),
+                    to.evaluate(context), context.getNodeModel());
+        }
+    }
+
+    private static final class Union extends Xpath3CompiledExpression {
+
+        private final Xpath3CompiledExpression[] operands;
+
+        Union(Xpath3CompiledExpression[] operands) {
+            this.operands = operands;
+        }
+
+        @Override
+        public Xpath3Sequence evaluate(Xpath3EvaluationContext context) {
+            return Xpath3Operations.union(operands, context);
+        }
+    }
+
+    private static final class IntersectExcept extends
+            Xpath3CompiledExpression {
+
+        private final Xpath3CompiledExpression[] operands;
+
+        private final IntersectExceptOpKind[] operators;
+
+        IntersectExcept(Xpath3CompiledExpression[] operands,
+                IntersectExceptOpKind[] operators) {
+            this.operands = operands;
+            this.operators = operators;
+        }
+
+        @Override
+        public Xpath3Sequence evaluate(Xpath3EvaluationContext context) {
+            return Xpath3Operations.intersectExcept(operands, operators,
+                    context);
+        }
+    }
+
+    private static final class Cast extends Xpath3CompiledExpression {
+
+        private final Xpath3CompiledExpression operand;
+
+        private final Xpath3AtomicType type;
+
+        private final boolean optional;
+
+        private final boolean castable;
+
+        Cast(Xpath3CompiledExpression operand, Xpath3AtomicType type,
+                boolean optional, boolean castable) {
+            this.operand = operand;
+            this.type = type;
+            this.optional = optional;
+            this.castable = castable;
+        }
+
+        @Override
+        public Xpath3Sequence evaluate(Xpath3EvaluationContext context) {
+            Xpath3Sequence value = operand.evaluate(context);
+            if (castable) {
+                return Xpath3Operations.castable(value, type, optional,
+                        context.getNodeModel());
+            }
+            return Xpath3Operations.cast(value, type, optional,
+                    context.getNodeModel());
+        }
+    }
+}
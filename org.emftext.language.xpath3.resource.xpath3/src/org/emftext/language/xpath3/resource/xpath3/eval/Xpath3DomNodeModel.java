@@ -0,0 +1,207 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.eval;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.ProcessingInstruction;
+
+/**
+ * A node model for W3C DOM trees. Documents should be parsed namespace
+ * aware and normalized, i.e. without adjacent text nodes. CDATA sections are
+ * treated as text nodes, document type nodes and namespace declarations are
+ * ignored.
+ */
+public class Xpath3DomNodeModel implements IXpath3NodeModel {
+
+    @Override
+    public boolean isNode(Object item) {
+        return item instanceof Node;
+    }
+
+    @Override
+    public Xpath3NodeKind getKind(Object node) {
+        switch (((Node) node).getNodeType()) {
+        case Node.DOCUMENT_NODE:
+        case Node.DOCUMENT_FRAGMENT_NODE:
+            return Xpath3NodeKind.DOCUMENT;
+        case Node.ELEMENT_NODE:
+            return Xpath3NodeKind.ELEMENT;
+        case Node.ATTRIBUTE_NODE:
+            return Xpath3NodeKind.ATTRIBUTE;
+        case Node.PROCESSING_INSTRUCTION_NODE:
+            return Xpath3NodeKind.PROCESSING_INSTRUCTION;
+        case Node.COMMENT_NODE:
+            return Xpath3NodeKind.COMMENT;
+        default:
+            return Xpath3NodeKind.TEXT;
+        }
+    }
+
+    @Override
+    public QName getName(Object node) {
+        Node domNode = (Node) node;
+        switch (domNode.getNodeType()) {
+        case Node.ELEMENT_NODE:
+        case Node.ATTRIBUTE_NODE:
+            String localName = domNode.getLocalName();
+            if (localName == null) {
+                return new QName(domNode.getNodeName());
+            }
+            String namespaceURI = domNode.getNamespaceURI();
+            String prefix = domNode.getPrefix();
+            return new QName(namespaceURI == null ? "" : namespaceURI,
+                    localName, prefix == null ? "" : prefix);
+        case Node.PROCESSING_INSTRUCTION_NODE:
+            return new QName(((ProcessingInstruction) domNode).getTarget());
+        default:
+            return null;
+        }
+    }
+
+    @Override
+    public Object getParent(Object node) {
+        if (node instanceof Attr) {
+            return ((Attr) node).getOwnerElement();
+        }
+        return ((Node) node).getParentNode();
+    }
+
+    @Override
+    public Iterator<?> getChildren(Object node) {
+        final Node parent = (Node) node;
+        return new Xpath3AbstractIterator() {
+
+            private Node next = parent.getNodeType() == Node.ATTRIBUTE_NODE ? null
+                    : parent.getFirstChild();
+
+            @Override
+            protected Object computeNext() {
+                while (next != null
+                        && (next.getNodeType() == Node.DOCUMENT_TYPE_NODE || next
+                                .getNodeType() == Node.ENTITY_NODE)) {
+                    next = next.getNextSibling();
+                }
+                if (next == null) {
+                    return endOfData();
+                }
+                Node result = next;
+                next = next.getNextSibling();
+                return result;
+            }
+        };
+    }
+
+    @Override
+    public Iterator<?> getAttributes(Object node) {
+        NamedNodeMap attributes = ((Node) node).getAttributes();
+        List<Node> result = new ArrayList<Node>();
+        if (attributes != null) {
+            for (int i = 0; i < attributes.getLength(); i++) {
+                Node attribute = attributes.item(i);
+                if (!isNamespaceDeclaration(attribute)) {
+                    result.add(attribute);
+                }
+            }
+        }
+        return result.iterator();
+    }
+
+    @Override
+    public String getStringValue(Object node) {
+        Node domNode = (Node) node;
+        if (domNode.getNodeType() == Node.DOCUMENT_NODE) {
+            Node element = ((Document) domNode).getDocumentElement();
+            return element == null ? "" : element.getTextContent();
+        }
+        String value = domNode.getTextContent();
+        return value == null ? "" : value;
+    }
+
+    @Override
+    public boolean isSameNode(Object node1, Object node2) {
+        return node1 == node2 || ((Node) node1).isSameNode((Node) node2);
+    }
+
+    @Override
+    public int compareDocumentOrder(Object node1, Object node2) {
+        if (isSameNode(node1, node2)) {
+            return 0;
+        }
+        List<Object> path1 = getPath(node1);
+        List<Object> path2 = getPath(node2);
+        if (path1.get(0) != path2.get(0)) {
+            int hash1 = System.identityHashCode(path1.get(0));
+            int hash2 = System.identityHashCode(path2.get(0));
+            return hash1 < hash2 ? -1 : 1;
+        }
+        int length = Math.min(path1.size(), path2.size());
+        int i = 1;
+        while (i < length && path1.get(i) == path2.get(i)) {
+            i++;
+        }
+        if (i == length) {
+            // One node is an ancestor of the other one
+            return path1.size() < path2.size() ? -1 : 1;
+        }
+        return compareSiblings(path1.get(i - 1), (Node) path1.get(i),
+                (Node) path2.get(i));
+    }
+
+    private int compareSiblings(Object parent, Node node1, Node node2) {
+        boolean attribute1 = node1.getNodeType() == Node.ATTRIBUTE_NODE;
+        boolean attribute2 = node2.getNodeType() == Node.ATTRIBUTE_NODE;
+        if (attribute1 != attribute2) {
+            return attribute1 ? -1 : 1;
+        }
+        Iterator<?> siblings = attribute1 ? getAttributes(parent)
+                : getChildren(parent);
+        while (siblings.hasNext()) {
+            Object sibling = siblings.next();
+            if (sibling == node1) {
+                return -1;
+            }
+            if (sibling == node2) {
+                return 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the ancestors-or-self of the given node, starting at the root.
+     */
+    private List<Object> getPath(Object node) {
+        List<Object> path = new ArrayList<Object>();
+        for (Object n = node; n != null; n = getParent(n)) {
+            path.add(n);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    private static boolean isNamespaceDeclaration(Node attribute) {
+        return XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attribute
+                .getNamespaceURI())
+                || XMLConstants.XMLNS_ATTRIBUTE.equals(attribute.getNodeName())
+                || attribute.getNodeName().startsWith("xmlns:");
+    }
+}
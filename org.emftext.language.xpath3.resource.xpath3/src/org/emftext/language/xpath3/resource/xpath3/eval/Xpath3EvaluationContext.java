@@ -0,0 +1,238 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.eval;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
+
+/**
+ * The static and dynamic context of an evaluation: the node model, the
+ * function library, the namespace bindings, the variable values and the
+ * focus (context item, position and size).
+ * <p>
+ * Contexts are immutable. The <code>with*</code> methods return a derived
+ * context, so a context can be shared between threads and evaluations.
+ */
+public class Xpath3EvaluationContext {
+
+    /**
+     * Computes the context size on demand, so that the items after the
+     * context item are only evaluated if <code>last()</code> is called.
+     */
+    interface SizeProvider {
+        int getSize();
+    }
+
+    private static final Map<String, String> DEFAULT_NAMESPACES;
+
+    static {
+        Map<String, String> namespaces = new HashMap<String, String>();
+        namespaces.put(XMLConstants.XML_NS_PREFIX, XMLConstants.XML_NS_URI);
+        namespaces.put("xs", Xpath3AtomicType.XS_NAMESPACE);
+        namespaces.put("xsi", XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI);
+        namespaces.put("fn", Xpath3FunctionLibrary.FN_NAMESPACE);
+        namespaces.put("math", Xpath3FunctionLibrary.MATH_NAMESPACE);
+        DEFAULT_NAMESPACES = Collections.unmodifiableMap(namespaces);
+    }
+
+    private final IXpath3NodeModel nodeModel;
+
+    private final Xpath3FunctionLibrary functionLibrary;
+
+    private final Map<String, String> namespaces;
+
+    private final Variable variables;
+
+    private final Object contextItem;
+
+    private final int contextPosition;
+
+    private final SizeProvider contextSize;
+
+    /**
+     * Creates a context with the standard function library, the predefined
+     * namespace prefixes (<code>xml</code>, <code>xs</code>, <code>xsi</code>,
+     * <code>fn</code>, <code>math</code>) and no context item.
+     */
+    public Xpath3EvaluationContext(IXpath3NodeModel nodeModel) {
+        this(nodeModel, Xpath3FunctionLibrary.getStandardLibrary(),
+                DEFAULT_NAMESPACES, null, null, 0, null);
+    }
+
+    private Xpath3EvaluationContext(IXpath3NodeModel nodeModel,
+            Xpath3FunctionLibrary functionLibrary,
+            Map<String, String> namespaces, Variable variables,
+            Object contextItem, int contextPosition, SizeProvider contextSize) {
+        this.nodeModel = nodeModel;
+        this.functionLibrary = functionLibrary;
+        this.namespaces = namespaces;
+        this.variables = variables;
+        this.contextItem = contextItem;
+        this.contextPosition = contextPosition;
+        this.contextSize = contextSize;
+    }
+
+    public IXpath3NodeModel getNodeModel() {
+        return nodeModel;
+    }
+
+    public Xpath3FunctionLibrary getFunctionLibrary() {
+        return functionLibrary;
+    }
+
+    public Xpath3EvaluationContext withFunctionLibrary(
+            Xpath3FunctionLibrary functionLibrary) {
+        return new Xpath3EvaluationContext(nodeModel, functionLibrary,
+                namespaces, variables, contextItem, contextPosition,
+                contextSize);
+    }
+
+    /**
+     * Binds a namespace prefix. The empty prefix sets the default element
+     * namespace.
+     */
+    public Xpath3EvaluationContext withNamespace(String prefix,
+            String namespaceURI) {
+        Map<String, String> newNamespaces = new HashMap<String, String>(
+                namespaces);
+        newNamespaces.put(prefix, namespaceURI);
+        return new Xpath3EvaluationContext(nodeModel, functionLibrary,
+                Collections.unmodifiableMap(newNamespaces), variables,
+                contextItem, contextPosition, contextSize);
+    }
+
+    /**
+     * Returns the namespace URI bound to the given prefix or
+     * <code>null</code> if the prefix is not bound.
+     */
+    public String getNamespaceURI(String prefix) {
+        return namespaces.get(prefix);
+    }
+
+    /**
+     * Binds a variable in no namespace. The value may be an
+     * {@link Xpath3Sequence}, a {@link Collection} of items or a single
+     * item.
+     */
+    public Xpath3EvaluationContext withVariable(String localName, Object value) {
+        return withVariable(new QName(localName), value);
+    }
+
+    /**
+     * Binds a variable. The name is compared by namespace URI and local part;
+     * the prefix is ignored.
+     */
+    public Xpath3EvaluationContext withVariable(QName name, Object value) {
+        return new Xpath3EvaluationContext(nodeModel, functionLibrary,
+                namespaces, new Variable(name, toSequence(value), variables),
+                contextItem, contextPosition, contextSize);
+    }
+
+    /**
+     * Returns the value of the given variable or <code>null</code> if it is
+     * not bound.
+     */
+    public Xpath3Sequence getVariable(QName name) {
+        for (Variable variable = variables; variable != null; variable = variable.next) {
+            if (variable.name.equals(name)) {
+                return variable.value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Sets the context item. Its position and the context size are 1.
+     */
+    public Xpath3EvaluationContext withContextItem(Object item) {
+        return withFocus(Xpath3Values.toItem(item), 1, new SizeProvider() {
+            @Override
+            public int getSize() {
+                return 1;
+            }
+        });
+    }
+
+    Xpath3EvaluationContext withFocus(Object item, int position,
+            SizeProvider size) {
+        return new Xpath3EvaluationContext(nodeModel, functionLibrary,
+                namespaces, variables, item, position, size);
+    }
+
+    public boolean hasContextItem() {
+        return contextItem != null;
+    }
+
+    /**
+     * @throws Xpath3EvaluationException
+     *             <code>XPDY0002</code> if there is no context item
+     */
+    public Object getContextItem() {
+        checkFocus();
+        return contextItem;
+    }
+
+    public int getContextPosition() {
+        checkFocus();
+        return contextPosition;
+    }
+
+    public int getContextSize() {
+        checkFocus();
+        return contextSize.getSize();
+    }
+
+    private void checkFocus() {
+        if (contextItem == null) {
+            throw new Xpath3EvaluationException("XPDY0002",
+                    "The context item is absent");
+        }
+    }
+
+    private static Xpath3Sequence toSequence(Object value) {
+        if (value instanceof Xpath3Sequence) {
+            return (Xpath3Sequence) value;
+        }
+        if (value == null) {
+            return Xpath3Sequence.empty();
+        }
+        if (value instanceof Collection<?>) {
+            List<Object> items = new ArrayList<Object>();
+            for (Object item : (Collection<?>) value) {
+                items.add(Xpath3Values.toItem(item));
+            }
+            return Xpath3Sequence.fromList(items);
+        }
+        return Xpath3Sequence.singleton(Xpath3Values.toItem(value));
+    }
+
+    private static final class Variable {
+
+        private final QName name;
+
+        private final Xpath3Sequence value;
+
+        private final Variable next;
+
+        Variable(QName name, Xpath3Sequence value, Variable next) {
+            this.name = name;
+            this.value = value;
+            this.next = next;
+        }
+    }
+}
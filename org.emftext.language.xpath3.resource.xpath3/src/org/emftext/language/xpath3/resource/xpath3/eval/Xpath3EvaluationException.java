@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.eval;
+
+/**
+ * A static or dynamic error raised during evaluation. The error code is the
+ * local part of the error QName defined by the XPath specification, e.g.
+ * <code>XPTY0004</code>.
+ */
+public class Xpath3EvaluationException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String errorCode;
+
+    public Xpath3EvaluationException(String errorCode, String message) {
+        super(errorCode + ": " + message);
+        this.errorCode = errorCode;
+    }
+
+    public Xpath3EvaluationException(String errorCode, String message,
+            Throwable cause) {
+        super(errorCode + ": " + message, cause);
+        this.errorCode = errorCode;
+    }
+
+    public String getErrorCode() {
+        return errorCode;
+    }
+}
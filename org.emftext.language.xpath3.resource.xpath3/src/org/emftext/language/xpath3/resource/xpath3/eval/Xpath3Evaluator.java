@@ -0,0 +1,526 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.eval;
+
+import java.util.Collections;
+import java.util.List;
+
+import javax.xml.namespace.QName;
+
+import org.eclipse.emf.ecore.EObject;
+import org.emftext.language.xpath3.AbbrevForwardStep;
+import org.emftext.language.xpath3.AbbrevReverseStep;
+import org.emftext.language.xpath3.AdditiveExpr;
+import org.emftext.language.xpath3.AdditiveOpKind;
+import org.emftext.language.xpath3.AndExpr;
+import org.emftext.language.xpath3.AxisStep;
+import org.emftext.language.xpath3.CastExpr;
+import org.emftext.language.xpath3.CastableExpr;
+import org.emftext.language.xpath3.ChildStepExpr;
+import org.emftext.language.xpath3.Comp;
+import org.emftext.language.xpath3.ComparisonExpr;
+import org.emftext.language.xpath3.ContextItemExpr;
+import org.emftext.language.xpath3.DecimalLiteral;
+import org.emftext.language.xpath3.DescOrSelfStepExpr;
+import org.emftext.language.xpath3.DoubleLiteral;
+import org.emftext.language.xpath3.Expr;
+import org.emftext.language.xpath3.FilterExpr;
+import org.emftext.language.xpath3.ForExpr;
+import org.emftext.language.xpath3.FunctionCall;
+import org.emftext.language.xpath3.GeneralComp;
+import org.emftext.language.xpath3.GeneralForwardStep;
+import org.emftext.language.xpath3.GeneralReverseStep;
+import org.emftext.language.xpath3.IfExpr;
+import org.emftext.language.xpath3.InstanceofExpr;
+import org.emftext.language.xpath3.IntegerLiteral;
+import org.emftext.language.xpath3.IntersectExceptExpr;
+import org.emftext.language.xpath3.IntersectExceptOpKind;
+import org.emftext.language.xpath3.MultiplicativeExpr;
+import org.emftext.language.xpath3.MultiplicativeOpKind;
+import org.emftext.language.xpath3.NodeComp;
+import org.emftext.language.xpath3.OrExpr;
+import org.emftext.language.xpath3.ParenthesizedExpr;
+import org.emftext.language.xpath3.PathExpr;
+import org.emftext.language.xpath3.QuantifiedExpr;
+import org.emftext.language.xpath3.QuantifierKind;
+import org.emftext.language.xpath3.RangeExpr;
+import org.emftext.language.xpath3.RootStepExpr;
+import org.emftext.language.xpath3.SelfStepExpr;
+import org.emftext.language.xpath3.SingleType;
+import org.emftext.language.xpath3.StringLiteral;
+import org.emftext.language.xpath3.TreatExpr;
+import org.emftext.language.xpath3.UnaryExpr;
+import org.emftext.language.xpath3.UnaryOp;
+import org.emftext.language.xpath3.UnionExpr;
+import org.emftext.language.xpath3.ValueComp;
+import org.emftext.language.xpath3.VarRef;
+import org.emftext.language.xpath3.resource.xpath3.eval.Xpath3Operations.ExpressionFactory;
+import org.emftext.language.xpath3.resource.xpath3.util.AbstractXpath3Interpreter;
+
+/**
+ * Evaluates XPath expressions against the nodes of an
+ * {@link IXpath3NodeModel}.
+ * <p>
+ * The result of an expression is a lazy {@link Xpath3Sequence}: path steps,
+ * predicates, <code>for</code> expressions, ranges and function arguments
+ * are only evaluated as far as the consumer iterates. Path steps whose
+ * results are known to be in document order (e.g. child steps from a single
+ * node) are streamed, other path results are sorted when they are first
+ * iterated.
+ * <p>
+ * The evaluator is stateless and can be shared, all state is kept in the
+ * {@link Xpath3EvaluationContext}. Expressions can be evaluated with or
+ * without post-processing by the resource. Expressions that are evaluated
+ * very often should be compiled by the {@link Xpath3Compiler} or run by an
+ * {@link Xpath3Executor}.
+ *
+ * <pre>
+ * Xpath3EvaluationContext context = new Xpath3EvaluationContext(
+ *         new Xpath3DomNodeModel()).withContextItem(document);
+ * Xpath3Sequence result = new Xpath3Evaluator().evaluate(expr, context);
+ * </pre>
+ */
+public class Xpath3Evaluator extends
+        AbstractXpath3Interpreter<Xpath3Sequence, Xpath3EvaluationContext> {
+
+    /**
+     * Passes subexpressions to the operations without compiling them.
+     */
+    private final ExpressionFactory interpreted = new ExpressionFactory() {
+        @Override
+        public Xpath3CompiledExpression create(EObject expr) {
+            return new InterpretedExpression(expr);
+        }
+    };
+
+    /**
+     * Evaluates an expression or a subexpression.
+     *
+     * @throws Xpath3EvaluationException
+     *             if a static or a dynamic error occurs
+     */
+    public Xpath3Sequence evaluate(EObject expression,
+            Xpath3EvaluationContext context) {
+        Xpath3Sequence result = interprete(expression, context);
+        if (result == null) {
+            throw new Xpath3EvaluationException("XPST0003",
+                    "Unsupported expression " + expression.eClass().getName());
+        }
+        return result;
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_Expr(
+            Expr expr, Xpath3EvaluationContext context) {
+        return Xpath3Operations.concat(
+                Xpath3Operations.createAll(expr.getExpr(), interpreted),
+                context);
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_ParenthesizedExpr(
+            ParenthesizedExpr parenthesizedExpr, Xpath3EvaluationContext context) {
+        if (parenthesizedExpr.getExpr() == null) {
+            return Xpath3Sequence.empty();
+        }
+        return evaluate(parenthesizedExpr.getExpr(), context);
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_ForExpr(
+            ForExpr forExpr, Xpath3EvaluationContext context) {
+        List<org.emftext.language.xpath3.Iterator> iterators = forExpr
+                .getIterator();
+        return Xpath3Operations.iterate(getVariableNames(iterators, context),
+                getLists(iterators), 0, interpreted.create(forExpr.getReturn()),
+                context);
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_QuantifiedExpr(
+            QuantifiedExpr quantifiedExpr, Xpath3EvaluationContext context) {
+        List<org.emftext.language.xpath3.Iterator> iterators = quantifiedExpr
+                .getIterator();
+        return Xpath3Operations.bool(Xpath3Operations.quantify(
+                getVariableNames(iterators, context), getLists(iterators), 0,
+                interpreted.create(quantifiedExpr.getSatisfies()),
+                quantifiedExpr.getQuantifier() == QuantifierKind.SOME, context));
+    }
+
+    private static QName[] getVariableNames(
+            List<org.emftext.language.xpath3.Iterator> iterators,
+            Xpath3EvaluationContext context) {
+        QName[] names = new QName[iterators.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = Xpath3Operations.resolveVariableName(iterators.get(i)
+                    .getVarName(), context);
+        }
+        return names;
+    }
+
+    private Xpath3CompiledExpression[] getLists(
+            List<org.emftext.language.xpath3.Iterator> iterators) {
+        Xpath3CompiledExpression[] lists = new Xpath3CompiledExpression[iterators
+                .size()];
+        for (int i = 0; i < lists.length; i++) {
+            lists[i] = interpreted.create(iterators.get(i).getList());
+        }
+        return lists;
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_IfExpr(
+            IfExpr ifExpr, Xpath3EvaluationContext context) {
+        if (Xpath3Operations.effectiveBooleanValue(
+                evaluate(ifExpr.getTest(), context), context)) {
+            return evaluate(ifExpr.getThen(), context);
+        }
+        return evaluate(ifExpr.getElse(), context);
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_OrExpr(
+            OrExpr orExpr, Xpath3EvaluationContext context) {
+        if (orExpr.getOperand().size() == 1) {
+            return evaluate(orExpr.getOperand().get(0), context);
+        }
+        return Xpath3Operations.or(
+                Xpath3Operations.createAll(orExpr.getOperand(), interpreted),
+                context);
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_AndExpr(
+            AndExpr andExpr, Xpath3EvaluationContext context) {
+        if (andExpr.getOperand().size() == 1) {
+            return evaluate(andExpr.getOperand().get(0), context);
+        }
+        return Xpath3Operations.and(
+                Xpath3Operations.createAll(andExpr.getOperand(), interpreted),
+                context);
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_ComparisonExpr(
+            ComparisonExpr comparisonExpr, Xpath3EvaluationContext context) {
+        Xpath3Sequence left = evaluate(comparisonExpr.getLeft(), context);
+        if (comparisonExpr.getRight() == null) {
+            return left;
+        }
+        Xpath3Sequence right = evaluate(comparisonExpr.getRight(), context);
+        Comp operator = comparisonExpr.getOperator();
+        IXpath3NodeModel model = context.getNodeModel();
+        if (operator instanceof GeneralComp) {
+            return Xpath3Operations.generalCompare(left, right,
+                    ((GeneralComp) operator).getOperator(), model);
+        }
+        if (operator instanceof ValueComp) {
+            return Xpath3Operations.valueCompare(left, right,
+                    ((ValueComp) operator).getOperator(), model);
+        }
+        if (operator instanceof NodeComp) {
+            return Xpath3Operations.nodeCompare(left, right,
+                    ((NodeComp) operator).getOperator(), model);
+        }
+        throw Xpath3Operations.unsupported(operator);
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_RangeExpr(
+            RangeExpr rangeExpr, Xpath3EvaluationContext context) {
+        Xpath3Sequence from = evaluate(rangeExpr.getFrom(), context);
+        if (rangeExpr.getTo() == null) {
+            return from;
+        }
+        return Xpath3Operations.range(from,
+                evaluate(rangeExpr.getTo(), context), context.getNodeModel());
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_AdditiveExpr(
+            AdditiveExpr additiveExpr, Xpath3EvaluationContext context) {
+        if (additiveExpr.getOperand().size() == 1) {
+            return evaluate(additiveExpr.getOperand().get(0), context);
+        }
+        List<AdditiveOpKind> operators = additiveExpr.getOperator();
+        return Xpath3Operations.additive(Xpath3Operations.createAll(
+                additiveExpr.getOperand(), interpreted), operators
+                .toArray(new AdditiveOpKind[operators.size()]), context);
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_MultiplicativeExpr(
+            MultiplicativeExpr multiplicativeExpr,
+            Xpath3EvaluationContext context) {
+        if (multiplicativeExpr.getOperand().size() == 1) {
+            return evaluate(multiplicativeExpr.getOperand().get(0), context);
+        }
+        List<MultiplicativeOpKind> operators = multiplicativeExpr
+                .getOperator();
+        return Xpath3Operations.multiplicative(Xpath3Operations.createAll(
+                multiplicativeExpr.getOperand(), interpreted), operators
+                .toArray(new MultiplicativeOpKind[operators.size()]), context);
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_UnionExpr(
+            UnionExpr unionExpr, Xpath3EvaluationContext context) {
+        if (unionExpr.getOperand().size() == 1) {
+            return evaluate(unionExpr.getOperand().get(0), context);
+        }
+        return Xpath3Operations.union(Xpath3Operations.createAll(
+                unionExpr.getOperand(), interpreted), context);
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_IntersectExceptExpr(
+            IntersectExceptExpr intersectExceptExpr,
+            Xpath3EvaluationContext context) {
+        if (intersectExceptExpr.getOperand().size() == 1) {
+            return evaluate(intersectExceptExpr.getOperand().get(0), context);
+        }
+        List<IntersectExceptOpKind> operators = intersectExceptExpr
+                .getOperator();
+        return Xpath3Operations.intersectExcept(Xpath3Operations.createAll(
+                intersectExceptExpr.getOperand(), interpreted), operators
+                .toArray(new IntersectExceptOpKind[operators.size()]), context);
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_InstanceofExpr(
+            InstanceofExpr instanceofExpr, Xpath3EvaluationContext context) {
+        Xpath3Sequence operand = evaluate(instanceofExpr.getOperand(), context);
+        if (instanceofExpr.getType() == null) {
+            return operand;
+        }
+        return Xpath3Operations.bool(Xpath3Operations.matches(operand,
+                instanceofExpr.getType(), context));
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_TreatExpr(
+            TreatExpr treatExpr, Xpath3EvaluationContext context) {
+        Xpath3Sequence operand = evaluate(treatExpr.getOperand(), context);
+        if (treatExpr.getType() == null) {
+            return operand;
+        }
+        operand = operand.materialize();
+        if (!Xpath3Operations.matches(operand, treatExpr.getType(), context)) {
+            throw new Xpath3EvaluationException("XPDY0050",
+                    "The value does not match the type of the treat expression");
+        }
+        return operand;
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_CastableExpr(
+            CastableExpr castableExpr, Xpath3EvaluationContext context) {
+        Xpath3Sequence operand = evaluate(castableExpr.getOperand(), context);
+        SingleType type = castableExpr.getType();
+        if (type == null) {
+            return operand;
+        }
+        return Xpath3Operations.castable(operand,
+                Xpath3Operations.resolveAtomicType(type.getType(), context),
+                type.isOptional(), context.getNodeModel());
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_CastExpr(
+            CastExpr castExpr, Xpath3EvaluationContext context) {
+        Xpath3Sequence operand = evaluate(castExpr.getOperand(), context);
+        SingleType type = castExpr.getType();
+        if (type == null) {
+            return operand;
+        }
+        return Xpath3Operations.cast(operand,
+                Xpath3Operations.resolveAtomicType(type.getType(), context),
+                type.isOptional(), context.getNodeModel());
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_UnaryExpr(
+            UnaryExpr unaryExpr, Xpath3EvaluationContext context) {
+        Xpath3Sequence operand = evaluate(unaryExpr.getOperand(), context);
+        if (unaryExpr.getOperator().isEmpty()) {
+            return operand;
+        }
+        return Xpath3Operations.unary(operand, isNegation(unaryExpr),
+                context.getNodeModel());
+    }
+
+    /**
+     * Returns whether a unary expression has an odd number of minus signs.
+     */
+    static boolean isNegation(UnaryExpr unaryExpr) {
+        boolean negate = false;
+        for (UnaryOp operator : unaryExpr.getOperator()) {
+            if (operator == UnaryOp.MINUS) {
+                negate = !negate;
+            }
+        }
+        return negate;
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_PathExpr(
+            PathExpr pathExpr, Xpath3EvaluationContext context) {
+        return Xpath3Operations.createPath(pathExpr.getStep(), interpreted,
+                context).evaluate(context);
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_RootStepExpr(
+            RootStepExpr rootStepExpr, Xpath3EvaluationContext context) {
+        return Xpath3Sequence.singleton(Xpath3Operations.getRoot(context));
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_ChildStepExpr(
+            ChildStepExpr childStepExpr, Xpath3EvaluationContext context) {
+        return Xpath3Operations.createPath(
+                Collections.singletonList(childStepExpr), interpreted, context)
+                .evaluate(context);
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_DescOrSelfStepExpr(
+            DescOrSelfStepExpr descOrSelfStepExpr,
+            Xpath3EvaluationContext context) {
+        return Xpath3Operations.createPath(
+                Collections.singletonList(descOrSelfStepExpr), interpreted,
+                context).evaluate(context);
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_SelfStepExpr(
+            SelfStepExpr selfStepExpr, Xpath3EvaluationContext context) {
+        return evaluate(selfStepExpr.getStep(), context);
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_GeneralForwardStep(
+            GeneralForwardStep generalForwardStep,
+            Xpath3EvaluationContext context) {
+        return evaluateAxisStep(generalForwardStep, context);
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_AbbrevForwardStep(
+            AbbrevForwardStep abbrevForwardStep, Xpath3EvaluationContext context) {
+        return evaluateAxisStep(abbrevForwardStep, context);
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_GeneralReverseStep(
+            GeneralReverseStep generalReverseStep,
+            Xpath3EvaluationContext context) {
+        return evaluateAxisStep(generalReverseStep, context);
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_AbbrevReverseStep(
+            AbbrevReverseStep abbrevReverseStep, Xpath3EvaluationContext context) {
+        return evaluateAxisStep(abbrevReverseStep, context);
+    }
+
+    private Xpath3Sequence evaluateAxisStep(AxisStep step,
+            Xpath3EvaluationContext context) {
+        return Xpath3Operations.createAxisStep(step, interpreted, context)
+                .apply(context);
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_FilterExpr(
+            FilterExpr filterExpr, Xpath3EvaluationContext context) {
+        return Xpath3Operations.applyPredicates(
+                evaluate(filterExpr.getPrimaryExpr(), context),
+                Xpath3Operations.createPredicates(filterExpr.getPredicate(),
+                        interpreted), context);
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_VarRef(
+            VarRef varRef, Xpath3EvaluationContext context) {
+        return Xpath3Operations.getVariable(Xpath3Operations
+                .resolveVariableName(varRef.getVarName(), context), context);
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_ContextItemExpr(
+            ContextItemExpr contextItemExpr, Xpath3EvaluationContext context) {
+        return Xpath3Sequence.singleton(context.getContextItem());
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_FunctionCall(
+            FunctionCall functionCall, Xpath3EvaluationContext context) {
+        List<? extends EObject> args = functionCall.getArg();
+        return Xpath3Operations.callFunction(Xpath3Operations.getFunction(
+                functionCall.getName(), args.size(), context),
+                Xpath3Operations.createAll(args, interpreted), context);
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_StringLiteral(
+            StringLiteral stringLiteral, Xpath3EvaluationContext context) {
+        return Xpath3Sequence.singleton(Xpath3Operations
+                .getLiteralValue(stringLiteral));
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_IntegerLiteral(
+            IntegerLiteral integerLiteral, Xpath3EvaluationContext context) {
+        return Xpath3Sequence.singleton(Xpath3Operations
+                .getLiteralValue(integerLiteral));
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_DecimalLiteral(
+            DecimalLiteral decimalLiteral, Xpath3EvaluationContext context) {
+        return Xpath3Sequence.singleton(Xpath3Operations
+                .getLiteralValue(decimalLiteral));
+    }
+
+    @Override
+    public Xpath3Sequence interprete_org_emftext_language_xpath3_DoubleLiteral(
+            DoubleLiteral doubleLiteral, Xpath3EvaluationContext context) {
+        return Xpath3Sequence.singleton(Xpath3Operations
+                .getLiteralValue(doubleLiteral));
+    }
+
+    /**
+     * A subexpression that is interpreted each time it is evaluated.
+     */
+    private final class InterpretedExpression extends
+            Xpath3CompiledExpression {
+
+        private final EObject expr;
+
+        InterpretedExpression(EObject expr) {
+            this.expr = expr;
+        }
+
+        @Override
+        public Xpath3Sequence evaluate(Xpath3EvaluationContext context) {
+            return Xpath3Evaluator.this.evaluate(expr, context);
+        }
+
+        @Override
+        int getLiteralPosition() {
+            EObject literal = Xpath3Operations.unwrap(expr);
+            if (literal instanceof IntegerLiteral) {
+                return ((IntegerLiteral) literal).getValue();
+            }
+            return NO_LITERAL_POSITION;
+        }
+    }
+}
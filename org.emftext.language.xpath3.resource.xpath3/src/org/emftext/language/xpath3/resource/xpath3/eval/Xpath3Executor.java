@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.eval;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.ecore.EObject;
+
+/**
+ * Runs an expression with the {@link Xpath3Evaluator} until it has been
+ * evaluated a number of times and then switches to a form compiled by the
+ * {@link Xpath3Compiler}. Expressions that are evaluated only a few times
+ * don't pay for the compilation, hot expressions don't pay for the
+ * interpretation.
+ * <p>
+ * The expression is compiled against the static context passed to the
+ * constructor, so the contexts passed to {@link #evaluate} should declare
+ * the same namespaces and functions. Executors are thread-safe, the
+ * expression is compiled at most once.
+ */
+public class Xpath3Executor {
+
+    /**
+     * The default number of evaluations after which the expression is
+     * compiled.
+     */
+    public static final int DEFAULT_COMPILE_THRESHOLD = 100;
+
+    private static final Xpath3Evaluator EVALUATOR = new Xpath3Evaluator();
+
+    private static final Xpath3Compiler COMPILER = new Xpath3Compiler();
+
+    private final EObject expression;
+
+    private final Xpath3EvaluationContext staticContext;
+
+    private final int compileThreshold;
+
+    private final AtomicInteger invocationCount = new AtomicInteger();
+
+    private volatile Xpath3CompiledExpression compiled;
+
+    public Xpath3Executor(EObject expression,
+            Xpath3EvaluationContext staticContext) {
+        this(expression, staticContext, DEFAULT_COMPILE_THRESHOLD);
+    }
+
+    /**
+     * @param compileThreshold
+     *            the number of evaluations after which the expression is
+     *            compiled, 0 compiles it on the first evaluation
+     */
+    public Xpath3Executor(EObject expression,
+            Xpath3EvaluationContext staticContext, int compileThreshold) {
+        if (compileThreshold < 0) {
+            throw new IllegalArgumentException("Negative compile threshold "
+                    + compileThreshold);
+        }
+        this.expression = expression;
+        this.staticContext = staticContext;
+        this.compileThreshold = compileThreshold;
+    }
+
+    public EObject getExpression() {
+        return expression;
+    }
+
+    public Xpath3Sequence evaluate(Xpath3EvaluationContext context) {
+        Xpath3CompiledExpression compiled = this.compiled;
+        if (compiled == null
+                && invocationCount.getAndIncrement() >= compileThreshold) {
+            compiled = compile();
+        }
+        if (compiled != null) {
+            return compiled.evaluate(context);
+        }
+        return EVALUATOR.evaluate(expression, context);
+    }
+
+    /**
+     * Returns the number of evaluations before the expression was compiled.
+     */
+    public int getInvocationCount() {
+        return invocationCount.get();
+    }
+
+    public boolean isCompiled() {
+        return compiled != null;
+    }
+
+    private synchronized Xpath3CompiledExpression compile() {
+        if (compiled == null) {
+            compiled = COMPILER.compile(expression, staticContext);
+        }
+        return compiled;
+    }
+}
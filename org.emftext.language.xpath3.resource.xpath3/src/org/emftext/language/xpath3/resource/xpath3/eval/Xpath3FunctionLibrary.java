@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.eval;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A set of functions identified by namespace URI, local name and arity.
+ * <p>
+ * Registration is not thread-safe; register all functions before the library
+ * is used by an evaluation. The shared {@link #getStandardLibrary() standard
+ * library} cannot be modified; use {@link #createStandardLibrary()} to get a
+ * copy that can be extended, e.g. with <code>fn:doc</code>.
+ */
+public class Xpath3FunctionLibrary {
+
+    public static final String FN_NAMESPACE = "http://www.w3.org/2005/xpath-functions";
+
+    public static final String MATH_NAMESPACE = "http://www.w3.org/2005/xpath-functions/math";
+
+    /**
+     * The arity to register a function that accepts any number of
+     * arguments.
+     */
+    public static final int ANY_ARITY = -1;
+
+    private static final Xpath3FunctionLibrary STANDARD_LIBRARY;
+
+    static {
+        STANDARD_LIBRARY = new Xpath3FunctionLibrary();
+        Xpath3StandardFunctions.registerAll(STANDARD_LIBRARY);
+        STANDARD_LIBRARY.frozen = true;
+    }
+
+    private final Map<String, IXpath3Function> functions;
+
+    private boolean frozen;
+
+    public Xpath3FunctionLibrary() {
+        this.functions = new HashMap<String, IXpath3Function>();
+    }
+
+    public Xpath3FunctionLibrary(Xpath3FunctionLibrary library) {
+        this.functions = new HashMap<String, IXpath3Function>(
+                library.functions);
+    }
+
+    public static Xpath3FunctionLibrary getStandardLibrary() {
+        return STANDARD_LIBRARY;
+    }
+
+    public static Xpath3FunctionLibrary createStandardLibrary() {
+        return new Xpath3FunctionLibrary(STANDARD_LIBRARY);
+    }
+
+    /**
+     * Registers a function. An existing function with the same name and arity
+     * is replaced.
+     *
+     * @param arity
+     *            the number of arguments or {@link #ANY_ARITY}
+     */
+    public void register(String namespaceURI, String localName, int arity,
+            IXpath3Function function) {
+        if (frozen) {
+            throw new UnsupportedOperationException(
+                    "The standard library cannot be modified");
+        }
+        functions.put(getKey(namespaceURI, localName, arity), function);
+    }
+
+    /**
+     * Returns the function with the given name and arity or
+     * <code>null</code> if there is none.
+     */
+    public IXpath3Function getFunction(String namespaceURI, String localName,
+            int arity) {
+        IXpath3Function function = functions.get(getKey(namespaceURI,
+                localName, arity));
+        if (function == null) {
+            function = functions.get(getKey(namespaceURI, localName,
+                    ANY_ARITY));
+        }
+        return function;
+    }
+
+    private static String getKey(String namespaceURI, String localName,
+            int arity) {
+        return "{" + (namespaceURI == null ? "" : namespaceURI) + "}"
+                + localName + "#" + arity;
+    }
+}
@@ -0,0 +1,342 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.eval;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.namespace.QName;
+
+import org.eclipse.emf.ecore.EObject;
+import org.emftext.language.xpath3.AnyExpr;
+import org.emftext.language.xpath3.ChildStepExpr;
+import org.emftext.language.xpath3.DescOrSelfStepExpr;
+import org.emftext.language.xpath3.ForExpr;
+import org.emftext.language.xpath3.Iterator;
+import org.emftext.language.xpath3.Literal;
+import org.emftext.language.xpath3.ParenthesizedExpr;
+import org.emftext.language.xpath3.PathExpr;
+import org.emftext.language.xpath3.PathExprChild;
+import org.emftext.language.xpath3.Predicate;
+import org.emftext.language.xpath3.QuantifiedExpr;
+import org.emftext.language.xpath3.VarRef;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3Dependencies;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3StructuralEquality;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3StructuralEquality.Key;
+
+/**
+ * Finds the subexpressions that the {@link Xpath3Compiler} evaluates only
+ * once instead of once per iteration, and binds them to synthetic variables.
+ * <p>
+ * A subexpression is hoisted if it is evaluated repeatedly within one
+ * evaluation of an enclosing expression, i.e. it is in the body or a later
+ * iterator of a <code>for</code> or quantified expression, in a predicate
+ * or in a step of a path after the first one, but it doesn't depend on the
+ * focus or on a variable bound there. Its binding is owned by the outermost
+ * expression it is invariant in: the whole expression or the body of the
+ * <code>for</code> or quantified expression that binds one of its
+ * variables. Hoisted subexpressions that are structurally equal share one
+ * binding, and so do structurally equal subexpressions that occur more than
+ * once in the whole expression (common subexpressions).
+ * <p>
+ * The model has no <code>let</code> expression, so the bindings are a side
+ * table: {@link #getVariable(EObject)} returns the variable that replaces a
+ * subexpression, {@link #getBindings(EObject)} the variables to bind around
+ * the compiled owner. The bound values must be evaluated lazily, so that
+ * errors are still raised only if the subexpression is evaluated.
+ */
+final class Xpath3Hoisting {
+
+    /**
+     * The namespace of the synthetic variables, which hides them from the
+     * variables of the expression.
+     */
+    static final String HOISTED_NAMESPACE =
+            "http://www.emftext.org/language/xpath3/hoisted";
+
+    /**
+     * A synthetic variable and the subexpression whose value it is bound to.
+     */
+    static final class Binding {
+
+        private final QName name;
+
+        private final EObject expr;
+
+        Binding(QName name, EObject expr) {
+            this.name = name;
+            this.expr = expr;
+        }
+
+        QName getName() {
+            return name;
+        }
+
+        EObject getExpression() {
+            return expr;
+        }
+    }
+
+    /**
+     * A scope that is evaluated once per iteration of the enclosing
+     * expression: the body or a later iterator of a <code>for</code> or
+     * quantified expression, a predicate or a step of a path.
+     */
+    private static final class Frame {
+
+        /**
+         * The lexical names of the variables bound in the scope.
+         */
+        final Set<String> names;
+
+        /**
+         * The expression that owns the bindings of the subexpressions which
+         * depend on the variables of the scope, or <code>null</code> if they
+         * aren't hoisted.
+         */
+        final EObject owner;
+
+        Frame(Set<String> names, EObject owner) {
+            this.names = names;
+            this.owner = owner;
+        }
+    }
+
+    private static final Frame FOCUS_FRAME = new Frame(
+            Collections.<String> emptySet(), null);
+
+    private final Map<EObject, Xpath3Dependencies> dependencies =
+            new HashMap<EObject, Xpath3Dependencies>();
+
+    /**
+     * The number of occurrences of the candidate subexpressions.
+     */
+    private final Map<Key, Integer> counts = new HashMap<Key, Integer>();
+
+    private final Map<EObject, QName> variables =
+            new IdentityHashMap<EObject, QName>();
+
+    private final Map<EObject, Map<Key, Binding>> bindings =
+            new IdentityHashMap<EObject, Map<Key, Binding>>();
+
+    private int bindingCount;
+
+    Xpath3Hoisting(EObject expression) {
+        expression = Xpath3Operations.unwrap(expression);
+        Xpath3Dependencies.analyze(expression, dependencies);
+        count(expression);
+        find(expression, new ArrayList<Frame>(), expression);
+    }
+
+    /**
+     * Returns the synthetic variable that replaces the given unwrapped
+     * subexpression, or <code>null</code> if it isn't hoisted.
+     */
+    QName getVariable(EObject expr) {
+        return variables.get(expr);
+    }
+
+    /**
+     * Returns the bindings to evaluate around the given unwrapped
+     * expression: the whole expression, the body of a <code>for</code> or
+     * quantified expression, or a hoisted subexpression.
+     */
+    List<Binding> getBindings(EObject owner) {
+        Map<Key, Binding> ownerBindings = bindings.get(owner);
+        if (ownerBindings == null) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<Binding>(ownerBindings.values());
+    }
+
+    private void count(EObject expr) {
+        if (isCandidate(expr)) {
+            Key key = Xpath3StructuralEquality.EXACT.key(expr);
+            Integer count = counts.get(key);
+            counts.put(key, count == null ? 1 : count + 1);
+        }
+        for (EObject child : expr.eContents()) {
+            count(Xpath3Operations.unwrap(child));
+        }
+    }
+
+    /**
+     * Finds the subexpressions of the given unwrapped expression to hoist.
+     *
+     * @param frames
+     *            the scopes that enclose the expression within the root,
+     *            outermost first
+     * @param root
+     *            the whole expression or the hoisted subexpression being
+     *            searched
+     */
+    private void find(EObject expr, List<Frame> frames, EObject root) {
+        if (!isCandidate(expr) || !hoist(expr, frames, root)) {
+            findInside(expr, frames, root);
+        }
+    }
+
+    /**
+     * Finds the subexpressions to hoist in the subexpressions of the given
+     * unwrapped expression.
+     */
+    private void findInside(EObject expr, List<Frame> frames, EObject root) {
+        if (expr instanceof ForExpr) {
+            ForExpr forExpr = (ForExpr) expr;
+            findBindings(forExpr.getIterator(), forExpr.getReturn(), frames,
+                    root);
+        } else if (expr instanceof QuantifiedExpr) {
+            QuantifiedExpr quantifiedExpr = (QuantifiedExpr) expr;
+            findBindings(quantifiedExpr.getIterator(),
+                    quantifiedExpr.getSatisfies(), frames, root);
+        } else if (expr instanceof PathExpr) {
+            List<PathExprChild> steps = ((PathExpr) expr).getStep();
+            for (int i = 0; i < steps.size(); i++) {
+                PathExprChild step = steps.get(i);
+                if (i == 0 && !(step instanceof ChildStepExpr)
+                        && !(step instanceof DescOrSelfStepExpr)) {
+                    find(Xpath3Operations.unwrap(step), frames, root);
+                } else {
+                    findContents(step, push(frames, FOCUS_FRAME), root);
+                }
+            }
+        } else if (expr instanceof Predicate || expr instanceof ChildStepExpr
+                || expr instanceof DescOrSelfStepExpr) {
+            findContents(expr, push(frames, FOCUS_FRAME), root);
+        } else {
+            findContents(expr, frames, root);
+        }
+    }
+
+    private void findContents(EObject expr, List<Frame> frames, EObject root) {
+        for (EObject child : expr.eContents()) {
+            find(Xpath3Operations.unwrap(child), frames, root);
+        }
+    }
+
+    /**
+     * Finds the subexpressions to hoist in the iterators and the body of a
+     * <code>for</code> or quantified expression. The first iterator is
+     * evaluated once, the others once per combination of the variables
+     * before them, the body once per combination of all variables.
+     */
+    private void findBindings(List<Iterator> iterators, EObject body,
+            List<Frame> frames, EObject root) {
+        Set<String> names = new HashSet<String>();
+        for (int i = 0; i < iterators.size(); i++) {
+            Iterator iterator = iterators.get(i);
+            List<Frame> iteratorFrames = i == 0 ? frames : push(frames,
+                    new Frame(new HashSet<String>(names), null));
+            findContents(iterator, iteratorFrames, root);
+            names.add(getLexicalName(iterator.getVarName()));
+        }
+        if (body != null) {
+            body = Xpath3Operations.unwrap(body);
+            find(body, push(frames, new Frame(names, body)), root);
+        }
+    }
+
+    /**
+     * Hoists the given candidate if it is evaluated more than once within an
+     * evaluation of the expression that would own its binding.
+     */
+    private boolean hoist(EObject expr, List<Frame> frames, EObject root) {
+        Key key = Xpath3StructuralEquality.EXACT.key(expr);
+        EObject owner;
+        if (frames.isEmpty()) {
+            if (counts.get(key) < 2) {
+                return false;
+            }
+            owner = root;
+        } else {
+            int index = getBindingFrame(expr, frames);
+            if (index == frames.size() - 1) {
+                return false;
+            }
+            owner = index < 0 ? root : frames.get(index).owner;
+            if (owner == null) {
+                return false;
+            }
+        }
+        Map<Key, Binding> ownerBindings = bindings.get(owner);
+        if (ownerBindings == null) {
+            ownerBindings = new LinkedHashMap<Key, Binding>();
+            bindings.put(owner, ownerBindings);
+        }
+        Binding binding = ownerBindings.get(key);
+        if (binding == null) {
+            binding = new Binding(new QName(HOISTED_NAMESPACE, "v"
+                    + bindingCount++), expr);
+            ownerBindings.put(key, binding);
+            // The subexpression is evaluated once, but it may contain loops
+            // of its own
+            findInside(expr, new ArrayList<Frame>(), expr);
+        }
+        variables.put(expr, binding.getName());
+        return true;
+    }
+
+    /**
+     * Returns the index of the innermost frame that binds a free variable of
+     * the given expression, or -1 if its variables are bound outside of the
+     * root.
+     */
+    private int getBindingFrame(EObject expr, List<Frame> frames) {
+        int result = -1;
+        for (QName name : dependencies.get(expr).getFreeVariables()) {
+            String lexicalName = getLexicalName(name);
+            for (int i = frames.size() - 1; i > result; i--) {
+                if (frames.get(i).names.contains(lexicalName)) {
+                    result = i;
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns whether the given unwrapped expression may be hoisted, i.e. it
+     * doesn't depend on the focus and is more expensive than a variable
+     * reference. Literals are never hoisted: an integer literal predicate
+     * selects a single item and stops its input after it, a variable can't.
+     * The wrappers of an unprocessed model must therefore be unwrapped down
+     * to the literal, see {@link Xpath3Operations#unwrap(EObject)}.
+     */
+    private boolean isCandidate(EObject expr) {
+        if (!(expr instanceof AnyExpr) || expr instanceof Literal
+                || expr instanceof VarRef
+                || expr instanceof ParenthesizedExpr) {
+            return false;
+        }
+        Xpath3Dependencies exprDependencies = dependencies.get(expr);
+        return exprDependencies != null && !exprDependencies.usesFocus();
+    }
+
+    private static List<Frame> push(List<Frame> frames, Frame frame) {
+        List<Frame> result = new ArrayList<Frame>(frames);
+        result.add(frame);
+        return result;
+    }
+
+    private static String getLexicalName(QName name) {
+        String prefix = name.getPrefix();
+        return prefix.length() == 0 ? name.getLocalPart() : prefix + ":"
+                + name.getLocalPart();
+    }
+}
@@ -0,0 +1,24 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.eval;
+
+/**
+ * The seven kinds of nodes of the XPath data model.
+ */
+public enum Xpath3NodeKind {
+    DOCUMENT,
+    ELEMENT,
+    ATTRIBUTE,
+    TEXT,
+    NAMESPACE,
+    PROCESSING_INSTRUCTION,
+    COMMENT
+}
@@ -0,0 +1,306 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.eval;
+
+import java.util.Iterator;
+
+import javax.xml.namespace.QName;
+
+import org.emftext.language.xpath3.AnyKindTest;
+import org.emftext.language.xpath3.AnyWildcard;
+import org.emftext.language.xpath3.AttributeTest;
+import org.emftext.language.xpath3.CommentTest;
+import org.emftext.language.xpath3.DocumentTest;
+import org.emftext.language.xpath3.ElementTest;
+import org.emftext.language.xpath3.KindTest;
+import org.emftext.language.xpath3.LocalNameWildcard;
+import org.emftext.language.xpath3.NCNamePITest;
+import org.emftext.language.xpath3.NameAttributeTest;
+import org.emftext.language.xpath3.NameElementTest;
+import org.emftext.language.xpath3.NamespaceWildcard;
+import org.emftext.language.xpath3.NodeKindTest;
+import org.emftext.language.xpath3.NodeTest;
+import org.emftext.language.xpath3.OptionalAtomicType;
+import org.emftext.language.xpath3.PITest;
+import org.emftext.language.xpath3.QNameTest;
+import org.emftext.language.xpath3.SchemaAttributeTest;
+import org.emftext.language.xpath3.SchemaElementTest;
+import org.emftext.language.xpath3.StringLiteral;
+import org.emftext.language.xpath3.StringLiteralPITest;
+import org.emftext.language.xpath3.TextTest;
+import org.emftext.language.xpath3.WildcardAttributeTest;
+import org.emftext.language.xpath3.WildcardElementTest;
+
+/**
+ * A node test or kind test compiled against a static context. Names are
+ * resolved once when the test is created, so matching a node only compares
+ * strings.
+ */
+abstract class Xpath3NodeTest {
+
+    public static final Xpath3NodeTest ANY_NODE = new Xpath3NodeTest() {
+        @Override
+        public boolean matches(IXpath3NodeModel model, Object node) {
+            return true;
+        }
+    };
+
+    public abstract boolean matches(IXpath3NodeModel model, Object node);
+
+    /**
+     * Creates a test for a node test of an axis step.
+     */
+    public static Xpath3NodeTest create(NodeTest test, Xpath3Axis axis,
+            Xpath3EvaluationContext context) {
+        if (test == null) {
+            return ANY_NODE;
+        }
+        if (test instanceof NodeKindTest) {
+            return create(((NodeKindTest) test).getTest(), context);
+        }
+        final Xpath3NodeKind kind = axis.getPrincipalNodeKind();
+        if (test instanceof QNameTest) {
+            QName name = resolveName(((QNameTest) test).getName(),
+                    kind == Xpath3NodeKind.ELEMENT, context);
+            return new NameTest(kind, name.getNamespaceURI(),
+                    name.getLocalPart());
+        }
+        if (test instanceof AnyWildcard) {
+            return new NameTest(kind, null, null);
+        }
+        if (test instanceof LocalNameWildcard) {
+            String prefix = ((LocalNameWildcard) test).getNamespace();
+            return new NameTest(kind, resolvePrefix(prefix, context), null);
+        }
+        if (test instanceof NamespaceWildcard) {
+            return new NameTest(kind, null,
+                    ((NamespaceWildcard) test).getLocalName());
+        }
+        throw unsupported(test);
+    }
+
+    /**
+     * Creates a test for a kind test, e.g. <code>element(a)</code> or
+     * <code>text()</code>.
+     */
+    public static Xpath3NodeTest create(KindTest test,
+            Xpath3EvaluationContext context) {
+        if (test instanceof AnyKindTest) {
+            return ANY_NODE;
+        }
+        if (test instanceof TextTest) {
+            return new NameTest(Xpath3NodeKind.TEXT, null, null);
+        }
+        if (test instanceof CommentTest) {
+            return new NameTest(Xpath3NodeKind.COMMENT, null, null);
+        }
+        if (test instanceof NCNamePITest) {
+            return new NameTest(Xpath3NodeKind.PROCESSING_INSTRUCTION, null,
+                    ((NCNamePITest) test).getName());
+        }
+        if (test instanceof StringLiteralPITest) {
+            StringLiteral literal = ((StringLiteralPITest) test).getLiteral();
+            String name = literal == null || literal.getValue() == null ? null
+                    : Xpath3Operations.unquote(literal.getValue()).trim();
+            return new NameTest(Xpath3NodeKind.PROCESSING_INSTRUCTION, null,
+                    name);
+        }
+        if (test instanceof PITest) {
+            return new NameTest(Xpath3NodeKind.PROCESSING_INSTRUCTION, null,
+                    null);
+        }
+        if (test instanceof NameElementTest) {
+            NameElementTest elementTest = (NameElementTest) test;
+            QName name = resolveName(elementTest.getName(), true, context);
+            return new NameTest(Xpath3NodeKind.ELEMENT,
+                    name.getNamespaceURI(), name.getLocalPart(),
+                    matchesUntypedElement(elementTest.getType(), context));
+        }
+        if (test instanceof WildcardElementTest) {
+            return new NameTest(Xpath3NodeKind.ELEMENT, null, null,
+                    matchesUntypedElement(
+                            ((WildcardElementTest) test).getType(), context));
+        }
+        if (test instanceof ElementTest) {
+            return new NameTest(Xpath3NodeKind.ELEMENT, null, null);
+        }
+        if (test instanceof NameAttributeTest) {
+            NameAttributeTest attributeTest = (NameAttributeTest) test;
+            QName name = resolveName(attributeTest.getName(), false, context);
+            return new NameTest(Xpath3NodeKind.ATTRIBUTE,
+                    name.getNamespaceURI(), name.getLocalPart(),
+                    matchesUntypedAttribute(attributeTest.getType(), context));
+        }
+        if (test instanceof WildcardAttributeTest) {
+            return new NameTest(Xpath3NodeKind.ATTRIBUTE, null, null,
+                    matchesUntypedAttribute(
+                            ((WildcardAttributeTest) test).getType(), context));
+        }
+        if (test instanceof AttributeTest) {
+            return new NameTest(Xpath3NodeKind.ATTRIBUTE, null, null);
+        }
+        if (test instanceof DocumentTest) {
+            KindTest elementTest = ((DocumentTest) test).getTest();
+            return new DocumentNodeTest(elementTest == null ? null : create(
+                    elementTest, context));
+        }
+        if (test instanceof SchemaElementTest
+                || test instanceof SchemaAttributeTest) {
+            throw new Xpath3EvaluationException("XPST0008",
+                    "Schema element and attribute declarations are not available");
+        }
+        throw unsupported(test);
+    }
+
+    /**
+     * Resolves a lexical QName of the expression. Unprefixed element names
+     * are in the default element namespace, other unprefixed names are in no
+     * namespace.
+     */
+    public static QName resolveName(QName name, boolean useDefaultNamespace,
+            Xpath3EvaluationContext context) {
+        String prefix = name.getPrefix();
+        String namespaceURI;
+        if (prefix == null || prefix.length() == 0) {
+            namespaceURI = useDefaultNamespace ? context.getNamespaceURI("")
+                    : null;
+        } else {
+            namespaceURI = resolvePrefix(prefix, context);
+        }
+        return new QName(namespaceURI == null ? "" : namespaceURI,
+                name.getLocalPart());
+    }
+
+    private static String resolvePrefix(String prefix,
+            Xpath3EvaluationContext context) {
+        String namespaceURI = context.getNamespaceURI(prefix);
+        if (namespaceURI == null) {
+            throw new Xpath3EvaluationException("XPST0081",
+                    "Undeclared namespace prefix " + prefix);
+        }
+        return namespaceURI;
+    }
+
+    /**
+     * Nodes of the node model are untyped, so a type annotation only matches
+     * if it allows <code>xs:untyped</code>.
+     */
+    private static boolean matchesUntypedElement(OptionalAtomicType type,
+            Xpath3EvaluationContext context) {
+        if (type == null) {
+            return true;
+        }
+        QName name = resolveName(type.getName(), false, context);
+        return Xpath3AtomicType.XS_NAMESPACE.equals(name.getNamespaceURI())
+                && ("anyType".equals(name.getLocalPart()) || "untyped"
+                        .equals(name.getLocalPart()));
+    }
+
+    private static boolean matchesUntypedAttribute(QName type,
+            Xpath3EvaluationContext context) {
+        if (type == null) {
+            return true;
+        }
+        QName name = resolveName(type, false, context);
+        String localName = name.getLocalPart();
+        return Xpath3AtomicType.XS_NAMESPACE.equals(name.getNamespaceURI())
+                && ("anySimpleType".equals(localName)
+                        || "anyAtomicType".equals(localName) || "untypedAtomic"
+                            .equals(localName));
+    }
+
+    private static Xpath3EvaluationException unsupported(Object test) {
+        return new Xpath3EvaluationException("XPST0003",
+                "Unsupported node test " + test);
+    }
+
+    /**
+     * Matches the node kind and optionally the namespace and the local name.
+     */
+    private static final class NameTest extends Xpath3NodeTest {
+
+        private final Xpath3NodeKind kind;
+
+        private final String namespaceURI;
+
+        private final String localName;
+
+        private final boolean typeMatches;
+
+        NameTest(Xpath3NodeKind kind, String namespaceURI, String localName) {
+            this(kind, namespaceURI, localName, true);
+        }
+
+        NameTest(Xpath3NodeKind kind, String namespaceURI, String localName,
+                boolean typeMatches) {
+            this.kind = kind;
+            this.namespaceURI = namespaceURI;
+            this.localName = localName;
+            this.typeMatches = typeMatches;
+        }
+
+        @Override
+        public boolean matches(IXpath3NodeModel model, Object node) {
+            if (!typeMatches || model.getKind(node) != kind) {
+                return false;
+            }
+            if (namespaceURI == null && localName == null) {
+                return true;
+            }
+            QName name = model.getName(node);
+            if (name == null) {
+                return false;
+            }
+            if (localName != null && !localName.equals(name.getLocalPart())) {
+                return false;
+            }
+            return namespaceURI == null
+                    || namespaceURI.equals(name.getNamespaceURI());
+        }
+    }
+
+    /**
+     * Matches document nodes, optionally with a document element that
+     * matches an element test.
+     */
+    private static final class DocumentNodeTest extends Xpath3NodeTest {
+
+        private final Xpath3NodeTest elementTest;
+
+        DocumentNodeTest(Xpath3NodeTest elementTest) {
+            this.elementTest = elementTest;
+        }
+
+        @Override
+        public boolean matches(IXpath3NodeModel model, Object node) {
+            if (model.getKind(node) != Xpath3NodeKind.DOCUMENT) {
+                return false;
+            }
+            if (elementTest == null) {
+                return true;
+            }
+            Object element = null;
+            for (Iterator<?> it = model.getChildren(node); it.hasNext();) {
+                Object child = it.next();
+                Xpath3NodeKind childKind = model.getKind(child);
+                if (childKind == Xpath3NodeKind.ELEMENT) {
+                    if (element != null) {
+                        return false;
+                    }
+                    element = child;
+                } else if (childKind == Xpath3NodeKind.TEXT) {
+                    return false;
+                }
+            }
+            return element != null && elementTest.matches(model, element);
+        }
+    }
+}
@@ -0,0 +1,1330 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.eval;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+import javax.xml.namespace.QName;
+
+import org.eclipse.emf.ecore.EObject;
+import org.emftext.language.xpath3.AbbrevForwardStep;
+import org.emftext.language.xpath3.AbbrevForwardStepKind;
+import org.emftext.language.xpath3.AbbrevReverseStep;
+import org.emftext.language.xpath3.AdditiveExpr;
+import org.emftext.language.xpath3.AdditiveOpKind;
+import org.emftext.language.xpath3.AndExpr;
+import org.emftext.language.xpath3.AnyItemType;
+import org.emftext.language.xpath3.AtomicItemType;
+import org.emftext.language.xpath3.AtomicType;
+import org.emftext.language.xpath3.AttributeTest;
+import org.emftext.language.xpath3.AxisStep;
+import org.emftext.language.xpath3.CastExpr;
+import org.emftext.language.xpath3.CastableExpr;
+import org.emftext.language.xpath3.ChildStepExpr;
+import org.emftext.language.xpath3.ComparisonExpr;
+import org.emftext.language.xpath3.DecimalLiteral;
+import org.emftext.language.xpath3.DescOrSelfStepExpr;
+import org.emftext.language.xpath3.DoubleLiteral;
+import org.emftext.language.xpath3.EmptySequenceType;
+import org.emftext.language.xpath3.Expr;
+import org.emftext.language.xpath3.FilterExpr;
+import org.emftext.language.xpath3.GeneralCompKind;
+import org.emftext.language.xpath3.GeneralForwardStep;
+import org.emftext.language.xpath3.GeneralReverseStep;
+import org.emftext.language.xpath3.InstanceofExpr;
+import org.emftext.language.xpath3.IntegerLiteral;
+import org.emftext.language.xpath3.IntersectExceptExpr;
+import org.emftext.language.xpath3.IntersectExceptOpKind;
+import org.emftext.language.xpath3.ItemKindTest;
+import org.emftext.language.xpath3.ItemSequenceType;
+import org.emftext.language.xpath3.ItemType;
+import org.emftext.language.xpath3.MultiplicativeExpr;
+import org.emftext.language.xpath3.MultiplicativeOpKind;
+import org.emftext.language.xpath3.NodeCompKind;
+import org.emftext.language.xpath3.NodeKindTest;
+import org.emftext.language.xpath3.NodeTest;
+import org.emftext.language.xpath3.OccurrenceIndicatorKind;
+import org.emftext.language.xpath3.OrExpr;
+import org.emftext.language.xpath3.ParenthesizedExpr;
+import org.emftext.language.xpath3.PathExpr;
+import org.emftext.language.xpath3.Predicate;
+import org.emftext.language.xpath3.RangeExpr;
+import org.emftext.language.xpath3.RootStepExpr;
+import org.emftext.language.xpath3.SchemaAttributeTest;
+import org.emftext.language.xpath3.SelfStepExpr;
+import org.emftext.language.xpath3.SequenceType;
+import org.emftext.language.xpath3.StringLiteral;
+import org.emftext.language.xpath3.TreatExpr;
+import org.emftext.language.xpath3.UnaryExpr;
+import org.emftext.language.xpath3.UnionExpr;
+import org.emftext.language.xpath3.resource.xpath3.eval.Xpath3EvaluationContext.SizeProvider;
+
+/**
+ * The run-time operations shared by the {@link Xpath3Evaluator} and the
+ * expressions built by the {@link Xpath3Compiler}. Operands are passed as
+ * {@link Xpath3CompiledExpression}s, so that the operations decide which
+ * operands are evaluated and when.
+ */
+final class Xpath3Operations {
+
+    private Xpath3Operations() {
+    }
+
+    /**
+     * Creates the executable form of a subexpression, either by compiling it
+     * or by deferring to the interpreter.
+     */
+    interface ExpressionFactory {
+
+        Xpath3CompiledExpression create(EObject expr);
+    }
+
+    static Xpath3CompiledExpression[] createAll(List<? extends EObject> exprs,
+            ExpressionFactory factory) {
+        Xpath3CompiledExpression[] result = new Xpath3CompiledExpression[exprs
+                .size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = factory.create(exprs.get(i));
+        }
+        return result;
+    }
+
+    static Xpath3CompiledExpression[] createPredicates(
+            List<Predicate> predicates, ExpressionFactory factory) {
+        Xpath3CompiledExpression[] result = new Xpath3CompiledExpression[predicates
+                .size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = factory.create(predicates.get(i).getExpr());
+        }
+        return result;
+    }
+
+    /**
+     * Creates a path from its steps. A leading child step stands for
+     * <code>/x</code>, a leading descendant-or-self step for
+     * <code>//x</code>.
+     */
+    static Xpath3CompiledExpression createPath(List<? extends EObject> steps,
+            ExpressionFactory factory, Xpath3EvaluationContext context) {
+        EObject first = steps.get(0);
+        Xpath3CompiledExpression firstExpr = null;
+        int start = 0;
+        if (first instanceof RootStepExpr) {
+            start = 1;
+        } else if (!(first instanceof ChildStepExpr)
+                && !(first instanceof DescOrSelfStepExpr)) {
+            firstExpr = factory.create(first);
+            start = 1;
+        }
+        List<PathStep> pathSteps = new ArrayList<PathStep>();
+        for (int i = start; i < steps.size(); i++) {
+            EObject step = steps.get(i);
+            if (step instanceof ChildStepExpr) {
+                pathSteps.add(createStep(((ChildStepExpr) step).getStep(),
+                        factory, context));
+            } else if (step instanceof DescOrSelfStepExpr) {
+                pathSteps.add(DESCENDANT_OR_SELF_STEP);
+                pathSteps.add(createStep(
+                        ((DescOrSelfStepExpr) step).getStep(), factory,
+                        context));
+            } else if (step instanceof RootStepExpr) {
+                throw unsupported(step);
+            } else {
+                pathSteps.add(createStep(step, factory, context));
+            }
+        }
+        return new PathExpression(firstExpr,
+                pathSteps.toArray(new PathStep[pathSteps.size()]));
+    }
+
+    private static PathStep createStep(EObject step,
+            ExpressionFactory factory, Xpath3EvaluationContext context) {
+        if (step instanceof SelfStepExpr) {
+            step = ((SelfStepExpr) step).getStep();
+        }
+        if (step instanceof AxisStep) {
+            return createAxisStep((AxisStep) step, factory, context);
+        }
+        return new ExprPathStep(factory.create(step));
+    }
+
+    static AxisPathStep createAxisStep(AxisStep step,
+            ExpressionFactory factory, Xpath3EvaluationContext context) {
+        Xpath3Axis axis = getAxis(step);
+        return new AxisPathStep(axis, Xpath3NodeTest.create(getNodeTest(step),
+                axis, context), createPredicates(step.getPredicate(), factory));
+    }
+
+    /**
+     * A path with its steps in executable form.
+     */
+    static final class PathExpression extends Xpath3CompiledExpression {
+
+        private final Xpath3CompiledExpression first;
+
+        private final PathStep[] steps;
+
+        PathExpression(Xpath3CompiledExpression first, PathStep[] steps) {
+            this.first = first;
+            this.steps = steps;
+        }
+
+        @Override
+        public Xpath3Sequence evaluate(Xpath3EvaluationContext context) {
+            return evaluatePath(first, steps, context);
+        }
+
+        @Override
+        int getLiteralPosition() {
+            return first != null && steps.length == 0 ? first
+                    .getLiteralPosition() : NO_LITERAL_POSITION;
+        }
+    }
+
+    /**
+     * A step on the right-hand side of a <code>/</code>.
+     */
+    abstract static class PathStep {
+
+        abstract Xpath3Sequence apply(Xpath3Sequence input,
+                Xpath3EvaluationContext context);
+    }
+
+    /**
+     * The implicit <code>descendant-or-self::node()</code> step of
+     * <code>//</code>.
+     */
+    static final PathStep DESCENDANT_OR_SELF_STEP = new AxisPathStep(
+            Xpath3Axis.DESCENDANT_OR_SELF, Xpath3NodeTest.ANY_NODE,
+            new Xpath3CompiledExpression[0]);
+
+    static final class AxisPathStep extends PathStep {
+
+        private final Xpath3Axis axis;
+
+        private final Xpath3NodeTest nodeTest;
+
+        private final Xpath3CompiledExpression[] predicates;
+
+        AxisPathStep(Xpath3Axis axis, Xpath3NodeTest nodeTest,
+                Xpath3CompiledExpression[] predicates) {
+            this.axis = axis;
+            this.nodeTest = nodeTest;
+            this.predicates = predicates;
+        }
+
+        @Override
+        Xpath3Sequence apply(Xpath3Sequence input,
+                Xpath3EvaluationContext context) {
+            return applyAxis(input, axis, nodeTest, predicates, context);
+        }
+
+        /**
+         * Applies the step to the context item.
+         */
+        Xpath3Sequence apply(Xpath3EvaluationContext context) {
+            Object node = checkNode(context.getContextItem(),
+                    context.getNodeModel());
+            return applyAxis(node, axis, nodeTest, predicates, context);
+        }
+    }
+
+    static final class ExprPathStep extends PathStep {
+
+        private final Xpath3CompiledExpression expr;
+
+        ExprPathStep(Xpath3CompiledExpression expr) {
+            this.expr = expr;
+        }
+
+        @Override
+        Xpath3Sequence apply(Xpath3Sequence input,
+                Xpath3EvaluationContext context) {
+            return applyExpr(input, expr, context);
+        }
+    }
+
+    /**
+     * Evaluates a path.
+     *
+     * @param first
+     *            the first step or <code>null</code> if the path starts at
+     *            the root of the context node
+     */
+    static Xpath3Sequence evaluatePath(Xpath3CompiledExpression first,
+            PathStep[] steps, Xpath3EvaluationContext context) {
+        Xpath3Sequence current = first == null ? Xpath3Sequence
+                .singleton(getRoot(context)) : first.evaluate(context);
+        for (PathStep step : steps) {
+            current = step.apply(current, context);
+        }
+        return current;
+    }
+
+    /**
+     * Returns the root of the tree containing the context node, which must
+     * be a document node.
+     */
+    static Object getRoot(Xpath3EvaluationContext context) {
+        IXpath3NodeModel model = context.getNodeModel();
+        Object node = context.getContextItem();
+        if (!model.isNode(node)) {
+            throw new Xpath3EvaluationException("XPTY0020",
+                    "The context item is not a node");
+        }
+        for (Object parent = model.getParent(node); parent != null; parent = model
+                .getParent(parent)) {
+            node = parent;
+        }
+        if (model.getKind(node) != Xpath3NodeKind.DOCUMENT) {
+            throw new Xpath3EvaluationException("XPDY0050",
+                    "The root of the context node is not a document node");
+        }
+        return node;
+    }
+
+    /**
+     * Evaluates an expression step for every node of the input sequence.
+     */
+    private static Xpath3Sequence applyExpr(final Xpath3Sequence input,
+            final Xpath3CompiledExpression expr,
+            final Xpath3EvaluationContext context) {
+        final IXpath3NodeModel model = context.getNodeModel();
+        return new Xpath3Sequence() {
+            @Override
+            public Iterator<Object> iterator() {
+                final PeekingIterator items = new PeekingIterator(
+                        input.iterator());
+                final SizeProvider size = items.getSizeProvider();
+                Iterator<Object> results = new FlatteningIterator() {
+                    @Override
+                    protected Iterator<Object> nextGroup() {
+                        if (!items.hasNext()) {
+                            return null;
+                        }
+                        Object node = checkNode(items.next(), model);
+                        return expr.evaluate(
+                                context.withFocus(node, items.getPosition(),
+                                        size)).iterator();
+                    }
+                };
+                List<Object> list = new ArrayList<Object>();
+                boolean hasNodes = false;
+                boolean hasAtomics = false;
+                while (results.hasNext()) {
+                    Object item = results.next();
+                    if (model.isNode(item)) {
+                        hasNodes = true;
+                    } else {
+                        hasAtomics = true;
+                    }
+                    list.add(item);
+                }
+                if (hasNodes && hasAtomics) {
+                    throw new Xpath3EvaluationException("XPTY0018",
+                            "The last step of a path contains both nodes and atomic values");
+                }
+                if (hasNodes) {
+                    list = sortNodes(list, model);
+                }
+                return list.iterator();
+            }
+        };
+    }
+
+    /**
+     * Applies an axis step to every node of the input sequence. The result
+     * is streamed if the step cannot produce nodes out of document order,
+     * otherwise it is sorted when it is iterated.
+     */
+    private static Xpath3Sequence applyAxis(final Xpath3Sequence input,
+            final Xpath3Axis axis, final Xpath3NodeTest nodeTest,
+            final Xpath3CompiledExpression[] predicates,
+            final Xpath3EvaluationContext context) {
+        final IXpath3NodeModel model = context.getNodeModel();
+        final int properties = getResultProperties(input.getProperties(), axis);
+        return new Xpath3Sequence() {
+            @Override
+            public Iterator<Object> iterator() {
+                final Iterator<Object> nodes = input.iterator();
+                Iterator<Object> results = new FlatteningIterator() {
+                    @Override
+                    protected Iterator<Object> nextGroup() {
+                        if (!nodes.hasNext()) {
+                            return null;
+                        }
+                        Object node = checkNode(nodes.next(), model);
+                        return applyAxis(node, axis, nodeTest, predicates,
+                                context).iterator();
+                    }
+                };
+                if ((properties & ORDERED) != 0) {
+                    return results;
+                }
+                List<Object> list = new ArrayList<Object>();
+                while (results.hasNext()) {
+                    list.add(results.next());
+                }
+                return sortNodes(list, model).iterator();
+            }
+
+            @Override
+            public int getProperties() {
+                return properties | ORDERED;
+            }
+        };
+    }
+
+    /**
+     * Returns the properties of the concatenated results of an axis step
+     * applied to the nodes of a sequence with the given properties.
+     */
+    private static int getResultProperties(int inputProperties,
+            Xpath3Axis axis) {
+        boolean ordered = (inputProperties & Xpath3Sequence.ORDERED) != 0;
+        boolean peer = (inputProperties & Xpath3Sequence.PEER) != 0;
+        switch (axis) {
+        case SELF:
+            return inputProperties;
+        case CHILD:
+        case ATTRIBUTE:
+            return ordered && peer ? Xpath3Sequence.ORDERED
+                    | Xpath3Sequence.PEER : 0;
+        case DESCENDANT:
+        case DESCENDANT_OR_SELF:
+            return ordered && peer ? Xpath3Sequence.ORDERED : 0;
+        default:
+            return 0;
+        }
+    }
+
+    /**
+     * Applies an axis step to a single node. The result is in document
+     * order.
+     */
+    private static Xpath3Sequence applyAxis(final Object node,
+            final Xpath3Axis axis, final Xpath3NodeTest nodeTest,
+            Xpath3CompiledExpression[] predicates,
+            Xpath3EvaluationContext context) {
+        final IXpath3NodeModel model = context.getNodeModel();
+        Xpath3Sequence result = new Xpath3Sequence() {
+            @Override
+            public Iterator<Object> iterator() {
+                final Iterator<Object> nodes = axis.iterate(model, node);
+                if (nodeTest == Xpath3NodeTest.ANY_NODE) {
+                    return nodes;
+                }
+                return new Xpath3AbstractIterator() {
+                    @Override
+                    protected Object computeNext() {
+                        while (nodes.hasNext()) {
+                            Object next = nodes.next();
+                            if (nodeTest.matches(model, next)) {
+                                return next;
+                            }
+                        }
+                        return endOfData();
+                    }
+                };
+            }
+        };
+        result = applyPredicates(result, predicates, context);
+        if (axis.isReverse()) {
+            result = reverse(result);
+        }
+        return withProperties(result, getAxisProperties(axis));
+    }
+
+    /**
+     * Returns the properties of the result of an axis step applied to a
+     * single node.
+     */
+    private static int getAxisProperties(Xpath3Axis axis) {
+        switch (axis) {
+        case CHILD:
+        case ATTRIBUTE:
+        case SELF:
+        case PARENT:
+        case FOLLOWING_SIBLING:
+        case PRECEDING_SIBLING:
+            return Xpath3Sequence.ORDERED | Xpath3Sequence.PEER;
+        default:
+            return Xpath3Sequence.ORDERED;
+        }
+    }
+
+    static Xpath3Axis getAxis(AxisStep step) {
+        if (step instanceof GeneralForwardStep) {
+            return Xpath3Axis.valueOf(((GeneralForwardStep) step).getAxis()
+                    .name());
+        }
+        if (step instanceof GeneralReverseStep) {
+            return Xpath3Axis.valueOf(((GeneralReverseStep) step).getAxis()
+                    .name());
+        }
+        if (step instanceof AbbrevForwardStep) {
+            AbbrevForwardStep forwardStep = (AbbrevForwardStep) step;
+            if (forwardStep.getKind() == AbbrevForwardStepKind.ATTRIBUTE) {
+                return Xpath3Axis.ATTRIBUTE;
+            }
+            // An abbreviated step with an attribute test selects attributes
+            NodeTest nodeTest = forwardStep.getNodeTest();
+            if (nodeTest instanceof NodeKindTest) {
+                Object kindTest = ((NodeKindTest) nodeTest).getTest();
+                if (kindTest instanceof AttributeTest
+                        || kindTest instanceof SchemaAttributeTest) {
+                    return Xpath3Axis.ATTRIBUTE;
+                }
+            }
+            return Xpath3Axis.CHILD;
+        }
+        if (step instanceof AbbrevReverseStep) {
+            return Xpath3Axis.PARENT;
+        }
+        throw unsupported(step);
+    }
+
+    static NodeTest getNodeTest(AxisStep step) {
+        if (step instanceof GeneralForwardStep) {
+            return ((GeneralForwardStep) step).getNodeTest();
+        }
+        if (step instanceof GeneralReverseStep) {
+            return ((GeneralReverseStep) step).getNodeTest();
+        }
+        if (step instanceof AbbrevForwardStep) {
+            return ((AbbrevForwardStep) step).getNodeTest();
+        }
+        return null;
+    }
+
+    static Xpath3Sequence applyPredicates(Xpath3Sequence input,
+            Xpath3CompiledExpression[] predicates,
+            Xpath3EvaluationContext context) {
+        for (Xpath3CompiledExpression predicate : predicates) {
+            input = applyPredicate(input, predicate, context);
+        }
+        return input;
+    }
+
+    /**
+     * Filters a sequence by a predicate. A predicate that is an integer
+     * literal selects a single item and stops the input after it, other
+     * predicates are evaluated for each item with the item as focus.
+     */
+    private static Xpath3Sequence applyPredicate(final Xpath3Sequence input,
+            final Xpath3CompiledExpression predicate,
+            final Xpath3EvaluationContext context) {
+        final int position = predicate.getLiteralPosition();
+        if (position != Xpath3CompiledExpression.NO_LITERAL_POSITION) {
+            return new Xpath3Sequence() {
+                @Override
+                public Iterator<Object> iterator() {
+                    Iterator<Object> items = input.iterator();
+                    for (int i = 1; i <= position && items.hasNext(); i++) {
+                        Object item = items.next();
+                        if (i == position) {
+                            return Collections.singletonList(item).iterator();
+                        }
+                    }
+                    return Collections.emptyList().iterator();
+                }
+
+                @Override
+                public int getProperties() {
+                    return ORDERED | PEER;
+                }
+            };
+        }
+        return new Xpath3Sequence() {
+            @Override
+            public Iterator<Object> iterator() {
+                final PeekingIterator items = new PeekingIterator(
+                        input.iterator());
+                final SizeProvider size = items.getSizeProvider();
+                return new Xpath3AbstractIterator() {
+                    @Override
+                    protected Object computeNext() {
+                        while (items.hasNext()) {
+                            Object item = items.next();
+                            int position = items.getPosition();
+                            Xpath3Sequence value = predicate.evaluate(context
+                                    .withFocus(item, position, size));
+                            if (isPredicateTrue(value, position, context)) {
+                                return item;
+                            }
+                        }
+                        return endOfData();
+                    }
+                };
+            }
+
+            @Override
+            public int getProperties() {
+                return input.getProperties();
+            }
+        };
+    }
+
+    /**
+     * A numeric predicate value is compared with the context position, any
+     * other value is converted to its effective boolean value.
+     */
+    private static boolean isPredicateTrue(Xpath3Sequence value,
+            int position, Xpath3EvaluationContext context) {
+        Iterator<Object> items = value.iterator();
+        if (!items.hasNext()) {
+            return false;
+        }
+        Object first = items.next();
+        if (!items.hasNext() && Xpath3Values.isNumeric(first)) {
+            return Xpath3Values.valueCompare(first,
+                    BigInteger.valueOf(position), GeneralCompKind.EQ);
+        }
+        if (context.getNodeModel().isNode(first)) {
+            return true;
+        }
+        return effectiveBooleanValue(value, context);
+    }
+
+    static Xpath3Sequence concat(final Xpath3CompiledExpression[] exprs,
+            final Xpath3EvaluationContext context) {
+        if (exprs.length == 1) {
+            return exprs[0].evaluate(context);
+        }
+        return new Xpath3Sequence() {
+            @Override
+            public Iterator<Object> iterator() {
+                return new FlatteningIterator() {
+
+                    private int index;
+
+                    @Override
+                    protected Iterator<Object> nextGroup() {
+                        if (index == exprs.length) {
+                            return null;
+                        }
+                        return exprs[index++].evaluate(context).iterator();
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Evaluates the return expression of a <code>for</code> expression for
+     * every combination of the bound variables.
+     */
+    static Xpath3Sequence iterate(final QName[] names,
+            final Xpath3CompiledExpression[] lists, final int index,
+            final Xpath3CompiledExpression returnExpr,
+            final Xpath3EvaluationContext context) {
+        if (index == names.length) {
+            return returnExpr.evaluate(context);
+        }
+        final Xpath3Sequence list = lists[index].evaluate(context);
+        return new Xpath3Sequence() {
+            @Override
+            public Iterator<Object> iterator() {
+                final Iterator<Object> items = list.iterator();
+                return new FlatteningIterator() {
+                    @Override
+                    protected Iterator<Object> nextGroup() {
+                        if (!items.hasNext()) {
+                            return null;
+                        }
+                        Object item = items.next();
+                        return iterate(names, lists, index + 1, returnExpr,
+                                context.withVariable(names[index],
+                                        Xpath3Sequence.singleton(item)))
+                                .iterator();
+                    }
+                };
+            }
+        };
+    }
+
+    static boolean quantify(QName[] names, Xpath3CompiledExpression[] lists,
+            int index, Xpath3CompiledExpression satisfies, boolean some,
+            Xpath3EvaluationContext context) {
+        if (index == names.length) {
+            return effectiveBooleanValue(satisfies.evaluate(context), context);
+        }
+        for (Object item : lists[index].evaluate(context)) {
+            boolean result = quantify(names, lists, index + 1, satisfies,
+                    some, context.withVariable(names[index],
+                            Xpath3Sequence.singleton(item)));
+            if (result == some) {
+                return some;
+            }
+        }
+        return !some;
+    }
+
+    static Xpath3Sequence or(Xpath3CompiledExpression[] operands,
+            Xpath3EvaluationContext context) {
+        for (Xpath3CompiledExpression operand : operands) {
+            if (effectiveBooleanValue(operand.evaluate(context), context)) {
+                return bool(true);
+            }
+        }
+        return bool(false);
+    }
+
+    static Xpath3Sequence and(Xpath3CompiledExpression[] operands,
+            Xpath3EvaluationContext context) {
+        for (Xpath3CompiledExpression operand : operands) {
+            if (!effectiveBooleanValue(operand.evaluate(context), context)) {
+                return bool(false);
+            }
+        }
+        return bool(true);
+    }
+
+    /**
+     * Existential comparison: true if any pair of atomized items satisfies
+     * the operator. The right operand is evaluated at most once.
+     */
+    static Xpath3Sequence generalCompare(Xpath3Sequence left,
+            Xpath3Sequence right, GeneralCompKind operator,
+            IXpath3NodeModel model) {
+        List<Object> rightValues = null;
+        for (Object leftValue : Xpath3Values.atomize(left, model)) {
+            if (rightValues == null) {
+                rightValues = Xpath3Values.atomize(right, model).toList();
+            }
+            for (Object rightValue : rightValues) {
+                if (Xpath3Values.generalCompare(leftValue, rightValue,
+                        operator)) {
+                    return bool(true);
+                }
+            }
+        }
+        return bool(false);
+    }
+
+    static Xpath3Sequence valueCompare(Xpath3Sequence left,
+            Xpath3Sequence right, GeneralCompKind operator,
+            IXpath3NodeModel model) {
+        Object leftValue = Xpath3Values.atomizeOptional(left, model);
+        if (leftValue == null) {
+            return Xpath3Sequence.empty();
+        }
+        Object rightValue = Xpath3Values.atomizeOptional(right, model);
+        if (rightValue == null) {
+            return Xpath3Sequence.empty();
+        }
+        return bool(Xpath3Values.valueCompare(leftValue, rightValue, operator));
+    }
+
+    static Xpath3Sequence nodeCompare(Xpath3Sequence left,
+            Xpath3Sequence right, NodeCompKind operator,
+            IXpath3NodeModel model) {
+        Object leftNode = getOptionalNode(left, model);
+        if (leftNode == null) {
+            return Xpath3Sequence.empty();
+        }
+        Object rightNode = getOptionalNode(right, model);
+        if (rightNode == null) {
+            return Xpath3Sequence.empty();
+        }
+        switch (operator) {
+        case IS:
+            return bool(model.isSameNode(leftNode, rightNode));
+        case PRECEDES:
+            return bool(model.compareDocumentOrder(leftNode, rightNode) < 0);
+        default:
+            return bool(model.compareDocumentOrder(leftNode, rightNode) > 0);
+        }
+    }
+
+    private static Object getOptionalNode(Xpath3Sequence sequence,
+            IXpath3NodeModel model) {
+        Iterator<Object> items = sequence.iterator();
+        if (!items.hasNext()) {
+            return null;
+        }
+        Object item = items.next();
+        if (items.hasNext() || !model.isNode(item)) {
+            throw new Xpath3EvaluationException("XPTY0004",
+                    "An operand of a node comparison is not a single node");
+        }
+        return item;
+    }
+
+    static Xpath3Sequence range(Xpath3Sequence fromValue,
+            Xpath3Sequence toValue, IXpath3NodeModel model) {
+        final BigInteger from = getRangeBound(fromValue, model);
+        final BigInteger to = getRangeBound(toValue, model);
+        if (from == null || to == null || from.compareTo(to) > 0) {
+            return Xpath3Sequence.empty();
+        }
+        return new Xpath3Sequence() {
+            @Override
+            public Iterator<Object> iterator() {
+                return new Xpath3AbstractIterator() {
+
+                    private BigInteger next = from;
+
+                    @Override
+                    protected Object computeNext() {
+                        if (next.compareTo(to) > 0) {
+                            return endOfData();
+                        }
+                        BigInteger result = next;
+                        next = next.add(BigInteger.ONE);
+                        return result;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return to.subtract(from).add(BigInteger.ONE).intValue();
+            }
+        };
+    }
+
+    private static BigInteger getRangeBound(Xpath3Sequence sequence,
+            IXpath3NodeModel model) {
+        Object value = Xpath3Values.atomizeOptional(sequence, model);
+        if (value instanceof Xpath3UntypedAtomic) {
+            value = Xpath3AtomicType.INTEGER.cast(value);
+        }
+        if (value != null && !(value instanceof BigInteger)) {
+            throw new Xpath3EvaluationException("XPTY0004",
+                    "A range bound is not an integer: "
+                            + Xpath3AtomicType.getStringValue(value));
+        }
+        return (BigInteger) value;
+    }
+
+    static Xpath3Sequence additive(Xpath3CompiledExpression[] operands,
+            AdditiveOpKind[] operators, Xpath3EvaluationContext context) {
+        IXpath3NodeModel model = context.getNodeModel();
+        Object result = Xpath3Values.atomizeOptional(
+                operands[0].evaluate(context), model);
+        for (int i = 1; i < operands.length && result != null; i++) {
+            Object operand = Xpath3Values.atomizeOptional(
+                    operands[i].evaluate(context), model);
+            result = operand == null ? null : Xpath3Values.add(result,
+                    operand, operators[i - 1]);
+        }
+        return optional(result);
+    }
+
+    static Xpath3Sequence multiplicative(Xpath3CompiledExpression[] operands,
+            MultiplicativeOpKind[] operators, Xpath3EvaluationContext context) {
+        IXpath3NodeModel model = context.getNodeModel();
+        Object result = Xpath3Values.atomizeOptional(
+                operands[0].evaluate(context), model);
+        for (int i = 1; i < operands.length && result != null; i++) {
+            Object operand = Xpath3Values.atomizeOptional(
+                    operands[i].evaluate(context), model);
+            result = operand == null ? null : Xpath3Values.multiply(result,
+                    operand, operators[i - 1]);
+        }
+        return optional(result);
+    }
+
+    static Xpath3Sequence union(Xpath3CompiledExpression[] operands,
+            Xpath3EvaluationContext context) {
+        List<Object> nodes = new ArrayList<Object>();
+        for (Xpath3CompiledExpression operand : operands) {
+            nodes.addAll(getNodes(operand.evaluate(context), context));
+        }
+        return Xpath3Sequence.fromList(
+                sortNodes(nodes, context.getNodeModel()),
+                Xpath3Sequence.ORDERED);
+    }
+
+    static Xpath3Sequence intersectExcept(Xpath3CompiledExpression[] operands,
+            IntersectExceptOpKind[] operators, Xpath3EvaluationContext context) {
+        IXpath3NodeModel model = context.getNodeModel();
+        List<Object> result = sortNodes(
+                getNodes(operands[0].evaluate(context), context), model);
+        for (int i = 1; i < operands.length; i++) {
+            List<Object> right = sortNodes(
+                    getNodes(operands[i].evaluate(context), context), model);
+            result = mergeSorted(result, right,
+                    operators[i - 1] == IntersectExceptOpKind.INTERSECT, model);
+        }
+        return Xpath3Sequence.fromList(result, Xpath3Sequence.ORDERED);
+    }
+
+    /**
+     * Keeps the nodes of the left list that are (intersect) or are not
+     * (except) contained in the right list. Both lists are in document
+     * order.
+     */
+    private static List<Object> mergeSorted(List<Object> left,
+            List<Object> right, boolean intersect, IXpath3NodeModel model) {
+        List<Object> result = new ArrayList<Object>();
+        int j = 0;
+        for (Object node : left) {
+            int comparison = 1;
+            while (j < right.size()
+                    && (comparison = model.compareDocumentOrder(node,
+                            right.get(j))) > 0) {
+                j++;
+            }
+            boolean contained = j < right.size() && comparison == 0;
+            if (contained == intersect) {
+                result.add(node);
+            }
+        }
+        return result;
+    }
+
+    private static List<Object> getNodes(Xpath3Sequence sequence,
+            Xpath3EvaluationContext context) {
+        List<Object> nodes = sequence.toList();
+        for (Object item : nodes) {
+            if (!context.getNodeModel().isNode(item)) {
+                throw new Xpath3EvaluationException("XPTY0004",
+                        "An operand of a set operator contains an atomic value");
+            }
+        }
+        return nodes;
+    }
+
+    static Xpath3Sequence castable(Xpath3Sequence operand,
+            Xpath3AtomicType type, boolean optional, IXpath3NodeModel model) {
+        Iterator<Object> items = Xpath3Values.atomize(operand, model)
+                .iterator();
+        if (!items.hasNext()) {
+            return bool(optional);
+        }
+        Object value = items.next();
+        return bool(!items.hasNext() && type.isCastable(value));
+    }
+
+    static Xpath3Sequence cast(Xpath3Sequence operand, Xpath3AtomicType type,
+            boolean optional, IXpath3NodeModel model) {
+        Object value = Xpath3Values.atomizeOptional(operand, model);
+        if (value == null) {
+            if (optional) {
+                return Xpath3Sequence.empty();
+            }
+            throw new Xpath3EvaluationException("XPTY0004",
+                    "Cannot cast an empty sequence to " + type.getName());
+        }
+        return Xpath3Sequence.singleton(type.cast(value));
+    }
+
+    static Xpath3Sequence unary(Xpath3Sequence operand, boolean negate,
+            IXpath3NodeModel model) {
+        Object value = Xpath3Values.atomizeOptional(operand, model);
+        if (value == null) {
+            return Xpath3Sequence.empty();
+        }
+        if (negate) {
+            return Xpath3Sequence.singleton(Xpath3Values.negate(value));
+        }
+        return Xpath3Sequence.singleton(Xpath3Values.toNumericOperand(value));
+    }
+
+    static Xpath3Sequence callFunction(IXpath3Function function,
+            Xpath3CompiledExpression[] args, Xpath3EvaluationContext context) {
+        Xpath3Sequence[] arguments = new Xpath3Sequence[args.length];
+        for (int i = 0; i < arguments.length; i++) {
+            arguments[i] = args[i].evaluate(context);
+        }
+        return function.call(context, arguments);
+    }
+
+    static IXpath3Function getFunction(QName name, int arity,
+            Xpath3EvaluationContext context) {
+        String prefix = name.getPrefix();
+        String namespaceURI;
+        if (prefix == null || prefix.length() == 0) {
+            namespaceURI = Xpath3FunctionLibrary.FN_NAMESPACE;
+        } else {
+            namespaceURI = Xpath3NodeTest.resolveName(name, false, context)
+                    .getNamespaceURI();
+        }
+        IXpath3Function function = context.getFunctionLibrary().getFunction(
+                namespaceURI, name.getLocalPart(), arity);
+        if (function == null) {
+            throw new Xpath3EvaluationException("XPST0017", "Unknown function "
+                    + toLexicalName(name) + "#" + arity);
+        }
+        return function;
+    }
+
+    static Xpath3Sequence getVariable(QName name,
+            Xpath3EvaluationContext context) {
+        Xpath3Sequence value = context.getVariable(name);
+        if (value == null) {
+            throw new Xpath3EvaluationException("XPST0008",
+                    "Undeclared variable $" + toLexicalName(name));
+        }
+        return value;
+    }
+
+    static boolean matches(Xpath3Sequence sequence, SequenceType type,
+            Xpath3EvaluationContext context) {
+        if (type instanceof EmptySequenceType) {
+            return sequence.isEmpty();
+        }
+        ItemSequenceType itemSequenceType = (ItemSequenceType) type;
+        OccurrenceIndicatorKind occurrence = itemSequenceType.getOccurrence();
+        boolean many = occurrence == OccurrenceIndicatorKind.STAR
+                || occurrence == OccurrenceIndicatorKind.PLUS;
+        boolean optional = occurrence == OccurrenceIndicatorKind.STAR
+                || occurrence == OccurrenceIndicatorKind.OPTIONAL;
+        int count = 0;
+        for (Object item : sequence) {
+            count++;
+            if (count > 1 && !many) {
+                return false;
+            }
+            if (!matches(item, itemSequenceType.getItemType(), context)) {
+                return false;
+            }
+        }
+        return count > 0 || optional;
+    }
+
+    private static boolean matches(Object item, ItemType type,
+            Xpath3EvaluationContext context) {
+        IXpath3NodeModel model = context.getNodeModel();
+        if (type instanceof AnyItemType) {
+            return true;
+        }
+        if (type instanceof AtomicItemType) {
+            Xpath3AtomicType atomicType = resolveAtomicType(
+                    ((AtomicItemType) type).getType(), context);
+            Xpath3AtomicType itemType = Xpath3AtomicType.typeOf(item);
+            return !model.isNode(item) && itemType != null
+                    && itemType.isSubtypeOf(atomicType);
+        }
+        if (type instanceof ItemKindTest) {
+            return model.isNode(item)
+                    && Xpath3NodeTest.create(((ItemKindTest) type).getTest(),
+                            context).matches(model, item);
+        }
+        throw unsupported(type);
+    }
+
+    static Xpath3AtomicType resolveAtomicType(AtomicType type,
+            Xpath3EvaluationContext context) {
+        QName name = Xpath3NodeTest.resolveName(type.getName(), false, context);
+        Xpath3AtomicType atomicType = null;
+        if (Xpath3AtomicType.XS_NAMESPACE.equals(name.getNamespaceURI())) {
+            atomicType = Xpath3AtomicType.forLocalName(name.getLocalPart());
+        }
+        if (atomicType == null) {
+            throw new Xpath3EvaluationException("XPST0051", "Unknown type "
+                    + toLexicalName(type.getName()));
+        }
+        return atomicType;
+    }
+
+    static QName resolveVariableName(QName name,
+            Xpath3EvaluationContext context) {
+        return Xpath3NodeTest.resolveName(name, false, context);
+    }
+
+    private static String toLexicalName(QName name) {
+        String prefix = name.getPrefix();
+        return prefix == null || prefix.length() == 0 ? name.getLocalPart()
+                : prefix + ":" + name.getLocalPart();
+    }
+
+    /**
+     * Returns the value of a literal as an atomic value.
+     */
+    static Object getLiteralValue(EObject literal) {
+        if (literal instanceof StringLiteral) {
+            return unquote(((StringLiteral) literal).getValue());
+        }
+        if (literal instanceof IntegerLiteral) {
+            return BigInteger.valueOf(((IntegerLiteral) literal).getValue());
+        }
+        if (literal instanceof DecimalLiteral) {
+            return new BigDecimal(Float.toString(((DecimalLiteral) literal)
+                    .getValue()));
+        }
+        if (literal instanceof DoubleLiteral) {
+            return Double.valueOf(((DoubleLiteral) literal).getValue());
+        }
+        throw unsupported(literal);
+    }
+
+    /**
+     * Returns the value of a string literal as it is stored in the model,
+     * i.e. with the delimiting quotes and doubled quotes inside.
+     */
+    static String unquote(String literal) {
+        if (literal.length() < 2) {
+            return literal;
+        }
+        char quote = literal.charAt(0);
+        if ((quote != '"' && quote != '\'')
+                || literal.charAt(literal.length() - 1) != quote) {
+            return literal;
+        }
+        String value = literal.substring(1, literal.length() - 1);
+        String doubled = new String(new char[] { quote, quote });
+        if (value.indexOf(doubled) < 0) {
+            return value;
+        }
+        return value.replace(doubled, String.valueOf(quote));
+    }
+
+    /**
+     * Skips the wrappers that the parser creates for operators without
+     * operands, e.g. the <code>OrExpr</code> around every expression of an
+     * unprocessed model.
+     */
+    static EObject unwrap(EObject expr) {
+        while (true) {
+            EObject inner = null;
+            if (expr instanceof Expr) {
+                if (((Expr) expr).getExpr().size() == 1) {
+                    inner = ((Expr) expr).getExpr().get(0);
+                }
+            } else if (expr instanceof OrExpr) {
+                if (((OrExpr) expr).getOperand().size() == 1) {
+                    inner = ((OrExpr) expr).getOperand().get(0);
+                }
+            } else if (expr instanceof AndExpr) {
+                if (((AndExpr) expr).getOperand().size() == 1) {
+                    inner = ((AndExpr) expr).getOperand().get(0);
+                }
+            } else if (expr instanceof ComparisonExpr) {
+                if (((ComparisonExpr) expr).getRight() == null) {
+                    inner = ((ComparisonExpr) expr).getLeft();
+                }
+            } else if (expr instanceof RangeExpr) {
+                if (((RangeExpr) expr).getTo() == null) {
+                    inner = ((RangeExpr) expr).getFrom();
+                }
+            } else if (expr instanceof AdditiveExpr) {
+                if (((AdditiveExpr) expr).getOperand().size() == 1) {
+                    inner = ((AdditiveExpr) expr).getOperand().get(0);
+                }
+            } else if (expr instanceof MultiplicativeExpr) {
+                if (((MultiplicativeExpr) expr).getOperand().size() == 1) {
+                    inner = ((MultiplicativeExpr) expr).getOperand().get(0);
+                }
+            } else if (expr instanceof UnionExpr) {
+                if (((UnionExpr) expr).getOperand().size() == 1) {
+                    inner = ((UnionExpr) expr).getOperand().get(0);
+                }
+            } else if (expr instanceof IntersectExceptExpr) {
+                if (((IntersectExceptExpr) expr).getOperand().size() == 1) {
+                    inner = ((IntersectExceptExpr) expr).getOperand().get(0);
+                }
+            } else if (expr instanceof InstanceofExpr) {
+                if (((InstanceofExpr) expr).getType() == null) {
+                    inner = ((InstanceofExpr) expr).getOperand();
+                }
+            } else if (expr instanceof TreatExpr) {
+                if (((TreatExpr) expr).getType() == null) {
+                    inner = ((TreatExpr) expr).getOperand();
+                }
+            } else if (expr instanceof CastableExpr) {
+                if (((CastableExpr) expr).getType() == null) {
+                    inner = ((CastableExpr) expr).getOperand();
+                }
+            } else if (expr instanceof CastExpr) {
+                if (((CastExpr) expr).getType() == null) {
+                    inner = ((CastExpr) expr).getOperand();
+                }
+            } else if (expr instanceof UnaryExpr) {
+                if (((UnaryExpr) expr).getOperator().isEmpty()) {
+                    inner = ((UnaryExpr) expr).getOperand();
+                }
+            } else if (expr instanceof PathExpr) {
+                List<?> steps = ((PathExpr) expr).getStep();
+                Object step = steps.size() == 1 ? steps.get(0) : null;
+                if (step instanceof SelfStepExpr || step instanceof FilterExpr
+                        && ((FilterExpr) step).getPredicate().isEmpty()) {
+                    inner = (EObject) step;
+                }
+            } else if (expr instanceof SelfStepExpr) {
+                inner = ((SelfStepExpr) expr).getStep();
+            } else if (expr instanceof FilterExpr) {
+                if (((FilterExpr) expr).getPredicate().isEmpty()) {
+                    inner = ((FilterExpr) expr).getPrimaryExpr();
+                }
+            } else if (expr instanceof ParenthesizedExpr) {
+                inner = ((ParenthesizedExpr) expr).getExpr();
+            }
+            if (inner == null) {
+                return expr;
+            }
+            expr = inner;
+        }
+    }
+
+    static boolean effectiveBooleanValue(Xpath3Sequence sequence,
+            Xpath3EvaluationContext context) {
+        return Xpath3Values.effectiveBooleanValue(sequence,
+                context.getNodeModel());
+    }
+
+    private static Object checkNode(Object item, IXpath3NodeModel model) {
+        if (!model.isNode(item)) {
+            throw new Xpath3EvaluationException("XPTY0019",
+                    "A path step is applied to an atomic value: "
+                            + Xpath3AtomicType.getStringValue(item));
+        }
+        return item;
+    }
+
+    private static List<Object> sortNodes(List<Object> nodes,
+            final IXpath3NodeModel model) {
+        if (nodes.size() < 2) {
+            return nodes;
+        }
+        Collections.sort(nodes, new Comparator<Object>() {
+            @Override
+            public int compare(Object node1, Object node2) {
+                return model.compareDocumentOrder(node1, node2);
+            }
+        });
+        List<Object> result = new ArrayList<Object>(nodes.size());
+        Object previous = null;
+        for (Object node : nodes) {
+            if (previous == null || !model.isSameNode(previous, node)) {
+                result.add(node);
+            }
+            previous = node;
+        }
+        return result;
+    }
+
+    private static Xpath3Sequence reverse(final Xpath3Sequence sequence) {
+        return new Xpath3Sequence() {
+            @Override
+            public Iterator<Object> iterator() {
+                List<Object> items = sequence.toList();
+                Collections.reverse(items);
+                return items.iterator();
+            }
+        };
+    }
+
+    private static Xpath3Sequence withProperties(
+            final Xpath3Sequence sequence, final int properties) {
+        return new Xpath3Sequence() {
+            @Override
+            public Iterator<Object> iterator() {
+                return sequence.iterator();
+            }
+
+            @Override
+            public int getProperties() {
+                return properties;
+            }
+        };
+    }
+
+    static Xpath3Sequence bool(boolean value) {
+        return Xpath3Sequence.singleton(Boolean.valueOf(value));
+    }
+
+    private static Xpath3Sequence optional(Object value) {
+        return value == null ? Xpath3Sequence.empty() : Xpath3Sequence
+                .singleton(value);
+    }
+
+    static Xpath3EvaluationException unsupported(Object object) {
+        return new Xpath3EvaluationException("XPST0003",
+                "Unsupported construct " + object);
+    }
+
+    /**
+     * Concatenates the iterators returned by {@link #nextGroup()} until it
+     * returns <code>null</code>.
+     */
+    private abstract static class FlatteningIterator extends
+            Xpath3AbstractIterator {
+
+        private Iterator<Object> current;
+
+        protected abstract Iterator<Object> nextGroup();
+
+        @Override
+        protected Object computeNext() {
+            while (current == null || !current.hasNext()) {
+                current = nextGroup();
+                if (current == null) {
+                    return endOfData();
+                }
+            }
+            return current.next();
+        }
+    }
+
+    /**
+     * Tracks the position of the items taken from a source iterator and
+     * computes the size of the source on demand by buffering the rest of
+     * it. This keeps predicates lazy unless they call <code>last()</code>.
+     */
+    private static final class PeekingIterator implements Iterator<Object> {
+
+        private final Iterator<Object> source;
+
+        private final LinkedList<Object> buffer = new LinkedList<Object>();
+
+        private int position;
+
+        PeekingIterator(Iterator<Object> source) {
+            this.source = source;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !buffer.isEmpty() || source.hasNext();
+        }
+
+        @Override
+        public Object next() {
+            position++;
+            return buffer.isEmpty() ? source.next() : buffer.removeFirst();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Returns the position of the item returned by the last call to
+         * {@link #next()}, starting at 1.
+         */
+        int getPosition() {
+            return position;
+        }
+
+        SizeProvider getSizeProvider() {
+            return new SizeProvider() {
+                @Override
+                public int getSize() {
+                    while (source.hasNext()) {
+                        buffer.add(source.next());
+                    }
+                    return position + buffer.size();
+                }
+            };
+        }
+    }
+}
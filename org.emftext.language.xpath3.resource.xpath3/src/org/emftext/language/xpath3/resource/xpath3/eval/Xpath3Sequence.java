@@ -0,0 +1,164 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.eval;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * An XPath sequence of items. Items are either nodes of the
+ * {@link IXpath3NodeModel} or atomic values (see {@link Xpath3AtomicType}).
+ * <p>
+ * Sequences returned by the evaluator are lazy: every call to
+ * {@link #iterator()} pulls the items from the underlying expression on
+ * demand, so a consumer that stops early (<code>exists()</code>,
+ * <code>[1]</code>, <code>some ... satisfies</code>) does not evaluate the
+ * rest of the sequence. A sequence that is iterated more than once is
+ * evaluated more than once; use {@link #materialize()} to avoid that.
+ */
+public abstract class Xpath3Sequence implements Iterable<Object> {
+
+    /**
+     * The nodes of the sequence are in document order and without
+     * duplicates.
+     */
+    public static final int ORDERED = 1;
+
+    /**
+     * No node of the sequence is an ancestor of another node of the sequence.
+     */
+    public static final int PEER = 2;
+
+    private static final Xpath3Sequence EMPTY = new ListSequence(
+            Collections.emptyList(), ORDERED | PEER);
+
+    public static Xpath3Sequence empty() {
+        return EMPTY;
+    }
+
+    public static Xpath3Sequence singleton(Object item) {
+        return new ListSequence(Collections.singletonList(item), ORDERED
+                | PEER);
+    }
+
+    public static Xpath3Sequence fromList(List<?> items) {
+        return fromList(items, 0);
+    }
+
+    public static Xpath3Sequence fromList(List<?> items, int properties) {
+        if (items.isEmpty()) {
+            return EMPTY;
+        }
+        return new ListSequence(items, properties);
+    }
+
+    @Override
+    public abstract Iterator<Object> iterator();
+
+    /**
+     * Returns a combination of {@link #ORDERED} and {@link #PEER} that is
+     * known to hold for this sequence. Used by the evaluator to avoid
+     * sorting path results.
+     */
+    public int getProperties() {
+        return 0;
+    }
+
+    public boolean isEmpty() {
+        return !iterator().hasNext();
+    }
+
+    /**
+     * Returns the first item or <code>null</code> if the sequence is empty.
+     */
+    public Object getFirst() {
+        Iterator<Object> it = iterator();
+        return it.hasNext() ? it.next() : null;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Iterator<Object> it = iterator(); it.hasNext(); it.next()) {
+            size++;
+        }
+        return size;
+    }
+
+    public List<Object> toList() {
+        List<Object> items = new ArrayList<Object>();
+        for (Object item : this) {
+            items.add(item);
+        }
+        return items;
+    }
+
+    /**
+     * Returns a sequence that holds all items in memory.
+     */
+    public Xpath3Sequence materialize() {
+        return fromList(toList(), getProperties());
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    private static final class ListSequence extends Xpath3Sequence {
+
+        private final List<?> items;
+
+        private final int properties;
+
+        ListSequence(List<?> items, int properties) {
+            this.items = Collections.unmodifiableList(items);
+            this.properties = properties;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Iterator<Object> iterator() {
+            return (Iterator<Object>) items.iterator();
+        }
+
+        @Override
+        public int getProperties() {
+            return properties;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return items.isEmpty();
+        }
+
+        @Override
+        public Object getFirst() {
+            return items.isEmpty() ? null : items.get(0);
+        }
+
+        @Override
+        public int size() {
+            return items.size();
+        }
+
+        @Override
+        public List<Object> toList() {
+            return new ArrayList<Object>(items);
+        }
+
+        @Override
+        public Xpath3Sequence materialize() {
+            return this;
+        }
+    }
+}
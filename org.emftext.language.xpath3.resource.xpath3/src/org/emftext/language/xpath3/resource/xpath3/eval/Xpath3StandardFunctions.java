@@ -0,0 +1,797 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.eval;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+import javax.xml.namespace.QName;
+
+import org.emftext.language.xpath3.AdditiveOpKind;
+import org.emftext.language.xpath3.GeneralCompKind;
+import org.emftext.language.xpath3.MultiplicativeOpKind;
+import org.emftext.language.xpath3.resource.xpath3.eval.Xpath3StaticType.Cardinality;
+
+/**
+ * The subset of the XPath functions and operators library that is built into
+ * the evaluator, plus the constructor functions of the supported atomic
+ * types.
+ */
+final class Xpath3StandardFunctions implements IXpath3Function {
+
+    private static final int TRUE = 0;
+    private static final int FALSE = 1;
+    private static final int NOT = 2;
+    private static final int BOOLEAN = 3;
+    private static final int EXISTS = 4;
+    private static final int EMPTY = 5;
+    private static final int COUNT = 6;
+    private static final int POSITION = 7;
+    private static final int LAST = 8;
+    private static final int STRING = 9;
+    private static final int DATA = 10;
+    private static final int NUMBER = 11;
+    private static final int STRING_LENGTH = 12;
+    private static final int NORMALIZE_SPACE = 13;
+    private static final int CONCAT = 14;
+    private static final int CONTAINS = 15;
+    private static final int STARTS_WITH = 16;
+    private static final int ENDS_WITH = 17;
+    private static final int SUBSTRING = 18;
+    private static final int SUBSTRING_BEFORE = 19;
+    private static final int SUBSTRING_AFTER = 20;
+    private static final int UPPER_CASE = 21;
+    private static final int LOWER_CASE = 22;
+    private static final int STRING_JOIN = 23;
+    private static final int SUM = 24;
+    private static final int AVG = 25;
+    private static final int MIN = 26;
+    private static final int MAX = 27;
+    private static final int ABS = 28;
+    private static final int FLOOR = 29;
+    private static final int CEILING = 30;
+    private static final int ROUND = 31;
+    private static final int HEAD = 32;
+    private static final int TAIL = 33;
+    private static final int REVERSE = 34;
+    private static final int SUBSEQUENCE = 35;
+    private static final int DISTINCT_VALUES = 36;
+    private static final int ZERO_OR_ONE = 37;
+    private static final int ONE_OR_MORE = 38;
+    private static final int EXACTLY_ONE = 39;
+    private static final int NAME = 40;
+    private static final int LOCAL_NAME = 41;
+    private static final int NAMESPACE_URI = 42;
+    private static final int ROOT = 43;
+    private static final int ERROR = 44;
+
+    private final int id;
+
+    private final Xpath3AtomicType constructorType;
+
+    private Xpath3StandardFunctions(int id, Xpath3AtomicType constructorType) {
+        this.id = id;
+        this.constructorType = constructorType;
+    }
+
+    static void registerAll(Xpath3FunctionLibrary library) {
+        register(library, "true", TRUE, 0);
+        register(library, "false", FALSE, 0);
+        register(library, "not", NOT, 1);
+        register(library, "boolean", BOOLEAN, 1);
+        register(library, "exists", EXISTS, 1);
+        register(library, "empty", EMPTY, 1);
+        register(library, "count", COUNT, 1);
+        register(library, "position", POSITION, 0);
+        register(library, "last", LAST, 0);
+        register(library, "string", STRING, 0, 1);
+        register(library, "data", DATA, 0, 1);
+        register(library, "number", NUMBER, 0, 1);
+        register(library, "string-length", STRING_LENGTH, 0, 1);
+        register(library, "normalize-space", NORMALIZE_SPACE, 0, 1);
+        register(library, "concat", CONCAT, Xpath3FunctionLibrary.ANY_ARITY);
+        register(library, "contains", CONTAINS, 2);
+        register(library, "starts-with", STARTS_WITH, 2);
+        register(library, "ends-with", ENDS_WITH, 2);
+        register(library, "substring", SUBSTRING, 2, 3);
+        register(library, "substring-before", SUBSTRING_BEFORE, 2);
+        register(library, "substring-after", SUBSTRING_AFTER, 2);
+        register(library, "upper-case", UPPER_CASE, 1);
+        register(library, "lower-case", LOWER_CASE, 1);
+        register(library, "string-join", STRING_JOIN, 1, 2);
+        register(library, "sum", SUM, 1, 2);
+        register(library, "avg", AVG, 1);
+        register(library, "min", MIN, 1);
+        register(library, "max", MAX, 1);
+        register(library, "abs", ABS, 1);
+        register(library, "floor", FLOOR, 1);
+        register(library, "ceiling", CEILING, 1);
+        register(library, "round", ROUND, 1);
+        register(library, "head", HEAD, 1);
+        register(library, "tail", TAIL, 1);
+        register(library, "reverse", REVERSE, 1);
+        register(library, "subsequence", SUBSEQUENCE, 2, 3);
+        register(library, "distinct-values", DISTINCT_VALUES, 1);
+        register(library, "zero-or-one", ZERO_OR_ONE, 1);
+        register(library, "one-or-more", ONE_OR_MORE, 1);
+        register(library, "exactly-one", EXACTLY_ONE, 1);
+        register(library, "name", NAME, 0, 1);
+        register(library, "local-name", LOCAL_NAME, 0, 1);
+        register(library, "namespace-uri", NAMESPACE_URI, 0, 1);
+        register(library, "root", ROOT, 0, 1);
+        register(library, "error", ERROR, 0, 1, 2, 3);
+        for (Xpath3AtomicType type : Xpath3AtomicType.values()) {
+            if (type != Xpath3AtomicType.ANY_ATOMIC_TYPE) {
+                library.register(Xpath3AtomicType.XS_NAMESPACE, type
+                        .getLocalName(), 1, new Xpath3StandardFunctions(-1,
+                        type));
+            }
+        }
+    }
+
+    private static void register(Xpath3FunctionLibrary library,
+            String localName, int id, int... arities) {
+        Xpath3StandardFunctions function = new Xpath3StandardFunctions(id,
+                null);
+        for (int arity : arities) {
+            library.register(Xpath3FunctionLibrary.FN_NAMESPACE, localName,
+                    arity, function);
+        }
+    }
+
+    /**
+     * Returns the static type of the result of a call with arguments of the
+     * given types. A missing argument that defaults to the context item has
+     * the type <code>item()</code>.
+     */
+    Xpath3StaticType getResultType(Xpath3StaticType[] argumentTypes) {
+        Xpath3StaticType argument = argumentTypes.length > 0 ? argumentTypes[0]
+                : Xpath3StaticType.ITEM;
+        Cardinality cardinality = argument.getCardinality();
+        if (constructorType != null) {
+            return Xpath3StaticType.atomic(constructorType,
+                    cardinality.toOptional());
+        }
+        switch (id) {
+        case TRUE:
+        case FALSE:
+        case NOT:
+        case BOOLEAN:
+        case EXISTS:
+        case EMPTY:
+        case CONTAINS:
+        case STARTS_WITH:
+        case ENDS_WITH:
+            return Xpath3StaticType.BOOLEAN;
+        case COUNT:
+        case POSITION:
+        case LAST:
+        case STRING_LENGTH:
+            return Xpath3StaticType.INTEGER;
+        case STRING:
+        case NORMALIZE_SPACE:
+        case CONCAT:
+        case SUBSTRING:
+        case SUBSTRING_BEFORE:
+        case SUBSTRING_AFTER:
+        case UPPER_CASE:
+        case LOWER_CASE:
+        case STRING_JOIN:
+        case NAME:
+        case LOCAL_NAME:
+        case NAMESPACE_URI:
+            return Xpath3StaticType.STRING;
+        case NUMBER:
+            return Xpath3StaticType.DOUBLE;
+        case DATA:
+            return argument.atomize();
+        case SUM: {
+            Xpath3AtomicType type = argument.toNumericOperandType();
+            Xpath3StaticType sum = Xpath3StaticType.atomic(type,
+                    Cardinality.ONE);
+            if (!cardinality.allowsEmpty()) {
+                return sum;
+            }
+            // The sum of an empty sequence is the second argument or 0
+            return sum.union(argumentTypes.length > 1 ? argumentTypes[1]
+                    : Xpath3StaticType.INTEGER);
+        }
+        case AVG: {
+            Xpath3AtomicType type = argument.toNumericOperandType();
+            if (type == Xpath3AtomicType.INTEGER) {
+                type = Xpath3AtomicType.DECIMAL;
+            }
+            return Xpath3StaticType.atomic(type,
+                    cardinality.union(Cardinality.ONE).toOptional());
+        }
+        case MIN:
+        case MAX: {
+            Xpath3StaticType atomized = argument.atomize();
+            Xpath3AtomicType type = atomized.getAtomicType();
+            if (type == Xpath3AtomicType.UNTYPED_ATOMIC) {
+                type = Xpath3AtomicType.DOUBLE;
+            }
+            return Xpath3StaticType.atomic(type,
+                    cardinality.union(Cardinality.ONE).toOptional());
+        }
+        case ABS:
+        case FLOOR:
+        case CEILING:
+        case ROUND:
+            return Xpath3StaticType.atomic(argument.toNumericOperandType(),
+                    cardinality.toOptional());
+        case HEAD:
+        case ZERO_OR_ONE:
+            return argument.withCardinality(cardinality.toOptional());
+        case TAIL:
+            return argument.withCardinality(cardinality.allowsMany()
+                    ? Cardinality.MANY : Cardinality.EMPTY);
+        case SUBSEQUENCE:
+            return argument.withCardinality(cardinality == Cardinality.EMPTY
+                    ? Cardinality.EMPTY : cardinality.union(
+                            Cardinality.ZERO_OR_ONE));
+        case REVERSE:
+            return argument;
+        case DISTINCT_VALUES:
+            return argument.atomize();
+        case ONE_OR_MORE:
+            return argument.withCardinality(cardinality.allowsMany()
+                    ? Cardinality.MANY : Cardinality.ONE);
+        case EXACTLY_ONE:
+            return argument.withCardinality(Cardinality.ONE);
+        case ROOT:
+            return Xpath3StaticType.node(null, cardinality.toOptional());
+        case ERROR:
+            return Xpath3StaticType.EMPTY;
+        default:
+            return Xpath3StaticType.ANY;
+        }
+    }
+
+    @Override
+    public Xpath3Sequence call(Xpath3EvaluationContext context,
+            Xpath3Sequence[] arguments) {
+        IXpath3NodeModel model = context.getNodeModel();
+        if (constructorType != null) {
+            Object value = Xpath3Values.atomizeOptional(arguments[0], model);
+            return value == null ? Xpath3Sequence.empty() : Xpath3Sequence
+                    .singleton(constructorType.cast(value));
+        }
+        switch (id) {
+        case TRUE:
+            return bool(true);
+        case FALSE:
+            return bool(false);
+        case NOT:
+            return bool(!Xpath3Values.effectiveBooleanValue(arguments[0], model));
+        case BOOLEAN:
+            return bool(Xpath3Values.effectiveBooleanValue(arguments[0], model));
+        case EXISTS:
+            return bool(!arguments[0].isEmpty());
+        case EMPTY:
+            return bool(arguments[0].isEmpty());
+        case COUNT:
+            return integer(arguments[0].size());
+        case POSITION:
+            return integer(context.getContextPosition());
+        case LAST:
+            return integer(context.getContextSize());
+        case STRING:
+            return string(getStringValue(contextOrArgument(context, arguments),
+                    model));
+        case DATA:
+            return Xpath3Values.atomize(contextOrArgument(context, arguments),
+                    model);
+        case NUMBER:
+            return Xpath3Sequence.singleton(toNumber(Xpath3Values
+                    .atomizeOptional(contextOrArgument(context, arguments),
+                            model)));
+        case STRING_LENGTH: {
+            String value = arguments.length == 0 ? getStringValue(
+                    contextOrArgument(context, arguments), model)
+                    : stringArgument(arguments[0], model);
+            return integer(value.codePointCount(0, value.length()));
+        }
+        case NORMALIZE_SPACE: {
+            String value = arguments.length == 0 ? getStringValue(
+                    contextOrArgument(context, arguments), model)
+                    : stringArgument(arguments[0], model);
+            return string(normalizeSpace(value));
+        }
+        case CONCAT: {
+            if (arguments.length < 2) {
+                throw new Xpath3EvaluationException("XPST0017",
+                        "fn:concat requires at least two arguments");
+            }
+            StringBuilder result = new StringBuilder();
+            for (Xpath3Sequence argument : arguments) {
+                Object value = Xpath3Values.atomizeOptional(argument, model);
+                if (value != null) {
+                    result.append(Xpath3AtomicType.getStringValue(value));
+                }
+            }
+            return string(result.toString());
+        }
+        case CONTAINS:
+            return bool(stringArgument(arguments[0], model).contains(
+                    stringArgument(arguments[1], model)));
+        case STARTS_WITH:
+            return bool(stringArgument(arguments[0], model).startsWith(
+                    stringArgument(arguments[1], model)));
+        case ENDS_WITH:
+            return bool(stringArgument(arguments[0], model).endsWith(
+                    stringArgument(arguments[1], model)));
+        case SUBSTRING:
+            return string(substring(stringArgument(arguments[0], model),
+                    doubleArgument(arguments[1], model),
+                    arguments.length > 2 ? doubleArgument(arguments[2], model)
+                            : Double.POSITIVE_INFINITY));
+        case SUBSTRING_BEFORE: {
+            String value = stringArgument(arguments[0], model);
+            int index = value.indexOf(stringArgument(arguments[1], model));
+            return string(index < 0 ? "" : value.substring(0, index));
+        }
+        case SUBSTRING_AFTER: {
+            String value = stringArgument(arguments[0], model);
+            String search = stringArgument(arguments[1], model);
+            int index = value.indexOf(search);
+            return string(index < 0 ? "" : value.substring(index
+                    + search.length()));
+        }
+        case UPPER_CASE:
+            return string(stringArgument(arguments[0], model).toUpperCase());
+        case LOWER_CASE:
+            return string(stringArgument(arguments[0], model).toLowerCase());
+        case STRING_JOIN: {
+            String separator = arguments.length > 1 ? stringArgument(
+                    arguments[1], model) : "";
+            StringBuilder result = new StringBuilder();
+            boolean first = true;
+            for (Object item : Xpath3Values.atomize(arguments[0], model)) {
+                if (!first) {
+                    result.append(separator);
+                }
+                first = false;
+                result.append(Xpath3AtomicType.getStringValue(item));
+            }
+            return string(result.toString());
+        }
+        case SUM:
+            return sum(arguments, model);
+        case AVG:
+            return avg(arguments[0], model);
+        case MIN:
+            return minMax(arguments[0], model, GeneralCompKind.LT);
+        case MAX:
+            return minMax(arguments[0], model, GeneralCompKind.GT);
+        case ABS:
+        case FLOOR:
+        case CEILING:
+        case ROUND: {
+            Object value = Xpath3Values.atomizeOptional(arguments[0], model);
+            if (value == null) {
+                return Xpath3Sequence.empty();
+            }
+            return Xpath3Sequence.singleton(round(Xpath3Values
+                    .toNumericOperand(value)));
+        }
+        case HEAD: {
+            Object first = arguments[0].getFirst();
+            return first == null ? Xpath3Sequence.empty() : Xpath3Sequence
+                    .singleton(first);
+        }
+        case TAIL:
+            return subsequence(arguments[0], 2, Double.POSITIVE_INFINITY);
+        case REVERSE: {
+            List<Object> items = arguments[0].toList();
+            Collections.reverse(items);
+            return Xpath3Sequence.fromList(items);
+        }
+        case SUBSEQUENCE:
+            return subsequence(arguments[0],
+                    doubleArgument(arguments[1], model),
+                    arguments.length > 2 ? doubleArgument(arguments[2], model)
+                            : Double.POSITIVE_INFINITY);
+        case DISTINCT_VALUES:
+            return distinctValues(arguments[0], model);
+        case ZERO_OR_ONE:
+            return checkCardinality(arguments[0], 0, 1, "FORG0003");
+        case ONE_OR_MORE:
+            return checkCardinality(arguments[0], 1, Integer.MAX_VALUE,
+                    "FORG0004");
+        case EXACTLY_ONE:
+            return checkCardinality(arguments[0], 1, 1, "FORG0005");
+        case NAME:
+        case LOCAL_NAME:
+        case NAMESPACE_URI:
+            return nodeName(contextOrArgument(context, arguments), model);
+        case ROOT: {
+            Object node = optionalNode(contextOrArgument(context, arguments),
+                    model);
+            if (node == null) {
+                return Xpath3Sequence.empty();
+            }
+            for (Object parent = model.getParent(node); parent != null; parent = model
+                    .getParent(parent)) {
+                node = parent;
+            }
+            return Xpath3Sequence.singleton(node);
+        }
+        case ERROR:
+            throw error(arguments, model);
+        default:
+            throw new IllegalStateException("Unknown function " + id);
+        }
+    }
+
+    private Xpath3Sequence checkCardinality(Xpath3Sequence argument, int min,
+            int max, String errorCode) {
+        Xpath3Sequence items = argument.materialize();
+        int size = items.size();
+        if (size < min || size > max) {
+            throw new Xpath3EvaluationException(errorCode,
+                    "Unexpected number of items: " + size);
+        }
+        return items;
+    }
+
+    private Xpath3Sequence nodeName(Xpath3Sequence argument,
+            IXpath3NodeModel model) {
+        Object node = optionalNode(argument, model);
+        QName name = node == null ? null : model.getName(node);
+        if (name == null) {
+            return string("");
+        }
+        switch (id) {
+        case NAME:
+            return string(name.getPrefix().length() == 0 ? name.getLocalPart()
+                    : name.getPrefix() + ":" + name.getLocalPart());
+        case LOCAL_NAME:
+            return string(name.getLocalPart());
+        default:
+            return string(name.getNamespaceURI());
+        }
+    }
+
+    private Number round(Number value) {
+        if (value instanceof BigInteger) {
+            return id == ABS ? ((BigInteger) value).abs() : value;
+        }
+        if (value instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) value;
+            switch (id) {
+            case ABS:
+                return decimal.abs();
+            case FLOOR:
+                return decimal.setScale(0, RoundingMode.FLOOR);
+            case CEILING:
+                return decimal.setScale(0, RoundingMode.CEILING);
+            default:
+                return decimal.add(new BigDecimal("0.5")).setScale(0,
+                        RoundingMode.FLOOR);
+            }
+        }
+        double doubleValue = value.doubleValue();
+        double result;
+        switch (id) {
+        case ABS:
+            result = Math.abs(doubleValue);
+            break;
+        case FLOOR:
+            result = Math.floor(doubleValue);
+            break;
+        case CEILING:
+            result = Math.ceil(doubleValue);
+            break;
+        default:
+            if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)
+                    || doubleValue == 0) {
+                result = doubleValue;
+            } else if (doubleValue < 0 && doubleValue >= -0.5) {
+                result = -0.0;
+            } else {
+                result = Math.floor(doubleValue + 0.5);
+            }
+            break;
+        }
+        if (value instanceof Float) {
+            return Float.valueOf((float) result);
+        }
+        return Double.valueOf(result);
+    }
+
+    private Xpath3Sequence sum(Xpath3Sequence[] arguments,
+            IXpath3NodeModel model) {
+        Object total = null;
+        for (Object item : Xpath3Values.atomize(arguments[0], model)) {
+            Object value = Xpath3Values.toNumericOperand(item);
+            total = total == null ? value : Xpath3Values.add(total, value,
+                    AdditiveOpKind.ADDITION);
+        }
+        if (total != null) {
+            return Xpath3Sequence.singleton(total);
+        }
+        if (arguments.length > 1) {
+            return arguments[1];
+        }
+        return Xpath3Sequence.singleton(BigInteger.ZERO);
+    }
+
+    private Xpath3Sequence avg(Xpath3Sequence argument, IXpath3NodeModel model) {
+        Object total = null;
+        long count = 0;
+        for (Object item : Xpath3Values.atomize(argument, model)) {
+            Object value = Xpath3Values.toNumericOperand(item);
+            total = total == null ? value : Xpath3Values.add(total, value,
+                    AdditiveOpKind.ADDITION);
+            count++;
+        }
+        if (total == null) {
+            return Xpath3Sequence.empty();
+        }
+        return Xpath3Sequence.singleton(Xpath3Values.multiply(total,
+                BigInteger.valueOf(count), MultiplicativeOpKind.DIV));
+    }
+
+    private Xpath3Sequence minMax(Xpath3Sequence argument,
+            IXpath3NodeModel model, GeneralCompKind operator) {
+        Object result = null;
+        for (Object item : Xpath3Values.atomize(argument, model)) {
+            Object value = item instanceof Xpath3UntypedAtomic ? Xpath3AtomicType.DOUBLE
+                    .cast(item) : item;
+            if (value instanceof Double && ((Double) value).isNaN()) {
+                return Xpath3Sequence.singleton(value);
+            }
+            if (result == null
+                    || Xpath3Values.valueCompare(value, result, operator)) {
+                result = value;
+            }
+        }
+        return result == null ? Xpath3Sequence.empty() : Xpath3Sequence
+                .singleton(result);
+    }
+
+    private Xpath3Sequence distinctValues(final Xpath3Sequence argument,
+            final IXpath3NodeModel model) {
+        return new Xpath3Sequence() {
+            @Override
+            public Iterator<Object> iterator() {
+                final Iterator<Object> items = Xpath3Values.atomize(argument,
+                        model).iterator();
+                final Set<Object> seen = new HashSet<Object>();
+                return new Xpath3AbstractIterator() {
+                    @Override
+                    protected Object computeNext() {
+                        while (items.hasNext()) {
+                            Object item = items.next();
+                            if (seen.add(getDistinctKey(item))) {
+                                return item;
+                            }
+                        }
+                        return endOfData();
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Returns a key that is equal for two atomic values if they are equal
+     * according to <code>fn:distinct-values</code>.
+     */
+    private static Object getDistinctKey(Object value) {
+        if (value instanceof Xpath3UntypedAtomic) {
+            return value.toString();
+        }
+        if (value instanceof Number) {
+            double doubleValue = ((Number) value).doubleValue();
+            if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) {
+                return Double.valueOf(doubleValue);
+            }
+            BigDecimal decimal = value instanceof BigInteger ? new BigDecimal(
+                    (BigInteger) value) : value instanceof BigDecimal ? (BigDecimal) value
+                    : new BigDecimal(value.toString());
+            return decimal.signum() == 0 ? BigDecimal.ZERO : decimal
+                    .stripTrailingZeros();
+        }
+        if (value instanceof XMLGregorianCalendar) {
+            return ((XMLGregorianCalendar) value).normalize().toXMLFormat();
+        }
+        return value;
+    }
+
+    private static Xpath3Sequence subsequence(final Xpath3Sequence argument,
+            double start, double length) {
+        final double first = roundHalfUp(start);
+        final double end = first + roundHalfUp(length);
+        if (Double.isNaN(first) || Double.isNaN(end) || end <= first) {
+            return Xpath3Sequence.empty();
+        }
+        return new Xpath3Sequence() {
+            @Override
+            public Iterator<Object> iterator() {
+                final Iterator<Object> items = argument.iterator();
+                return new Xpath3AbstractIterator() {
+
+                    private long position = 0;
+
+                    @Override
+                    protected Object computeNext() {
+                        while (items.hasNext()) {
+                            position++;
+                            if (position >= end) {
+                                break;
+                            }
+                            Object item = items.next();
+                            if (position >= first) {
+                                return item;
+                            }
+                        }
+                        return endOfData();
+                    }
+                };
+            }
+
+            @Override
+            public int getProperties() {
+                return argument.getProperties();
+            }
+        };
+    }
+
+    private static double roundHalfUp(double value) {
+        return Math.floor(value + 0.5);
+    }
+
+    private static String substring(String value, double start, double length) {
+        double first = roundHalfUp(start);
+        double end = first + roundHalfUp(length);
+        StringBuilder result = new StringBuilder();
+        int position = 1;
+        for (int i = 0; i < value.length(); position++) {
+            int codePoint = value.codePointAt(i);
+            if (position >= first && position < end) {
+                result.appendCodePoint(codePoint);
+            }
+            i += Character.charCount(codePoint);
+        }
+        return result.toString();
+    }
+
+    private static String normalizeSpace(String value) {
+        StringBuilder result = new StringBuilder();
+        boolean space = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ' ' || c == '\t' || c == '\n' || c == '\r') {
+                space = result.length() > 0;
+            } else {
+                if (space) {
+                    result.append(' ');
+                    space = false;
+                }
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    private static Xpath3EvaluationException error(Xpath3Sequence[] arguments,
+            IXpath3NodeModel model) {
+        String code = "FOER0000";
+        String description = "Error signalled by fn:error()";
+        if (arguments.length > 0) {
+            Object value = Xpath3Values.atomizeOptional(arguments[0], model);
+            if (value instanceof QName) {
+                code = ((QName) value).getLocalPart();
+            } else if (value != null) {
+                code = Xpath3AtomicType.getStringValue(value);
+            }
+        }
+        if (arguments.length > 1) {
+            description = stringArgument(arguments[1], model);
+        }
+        return new Xpath3EvaluationException(code, description);
+    }
+
+    private static Xpath3Sequence contextOrArgument(
+            Xpath3EvaluationContext context, Xpath3Sequence[] arguments) {
+        if (arguments.length > 0) {
+            return arguments[0];
+        }
+        return Xpath3Sequence.singleton(context.getContextItem());
+    }
+
+    private static Object optionalNode(Xpath3Sequence argument,
+            IXpath3NodeModel model) {
+        Iterator<Object> items = argument.iterator();
+        if (!items.hasNext()) {
+            return null;
+        }
+        Object item = items.next();
+        if (items.hasNext() || !model.isNode(item)) {
+            throw new Xpath3EvaluationException("XPTY0004",
+                    "Expected a single node");
+        }
+        return item;
+    }
+
+    private static String getStringValue(Xpath3Sequence argument,
+            IXpath3NodeModel model) {
+        Iterator<Object> items = argument.iterator();
+        if (!items.hasNext()) {
+            return "";
+        }
+        Object item = items.next();
+        if (items.hasNext()) {
+            throw new Xpath3EvaluationException("XPTY0004",
+                    "fn:string() requires at most one item");
+        }
+        if (model.isNode(item)) {
+            return model.getStringValue(item);
+        }
+        return Xpath3AtomicType.getStringValue(item);
+    }
+
+    private static String stringArgument(Xpath3Sequence argument,
+            IXpath3NodeModel model) {
+        Object value = Xpath3Values.atomizeOptional(argument, model);
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof String || value instanceof Xpath3UntypedAtomic) {
+            return value.toString();
+        }
+        throw new Xpath3EvaluationException("XPTY0004",
+                "Expected xs:string but got "
+                        + Xpath3AtomicType.getStringValue(value));
+    }
+
+    private static double doubleArgument(Xpath3Sequence argument,
+            IXpath3NodeModel model) {
+        Object value = Xpath3Values.atomizeOptional(argument, model);
+        if (value == null) {
+            throw new Xpath3EvaluationException("XPTY0004",
+                    "Empty sequence is not allowed here");
+        }
+        return Xpath3Values.toNumericOperand(value).doubleValue();
+    }
+
+    private static Double toNumber(Object value) {
+        if (value == null) {
+            return Double.valueOf(Double.NaN);
+        }
+        try {
+            return (Double) Xpath3AtomicType.DOUBLE.cast(value);
+        } catch (Xpath3EvaluationException e) {
+            return Double.valueOf(Double.NaN);
+        }
+    }
+
+    private static Xpath3Sequence bool(boolean value) {
+        return Xpath3Sequence.singleton(Boolean.valueOf(value));
+    }
+
+    private static Xpath3Sequence integer(long value) {
+        return Xpath3Sequence.singleton(BigInteger.valueOf(value));
+    }
+
+    private static Xpath3Sequence string(String value) {
+        return Xpath3Sequence.singleton(value);
+    }
+}
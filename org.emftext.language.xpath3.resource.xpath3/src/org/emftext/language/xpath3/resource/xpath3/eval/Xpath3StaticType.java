@@ -0,0 +1,367 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.eval;
+
+/**
+ * The static type of an expression, i.e. a type that all of its values
+ * belong to: an item type and a cardinality. The item type is either
+ * <code>item()</code>, a node kind or an atomic type. Static types are
+ * immutable.
+ * <p>
+ * The type is an upper bound. E.g. an expression of type
+ * <code>xs:decimal</code> may evaluate to an <code>xs:integer</code>, and
+ * an expression of cardinality {@link Cardinality#MANY} may evaluate to a
+ * single item.
+ */
+public final class Xpath3StaticType {
+
+    /**
+     * The number of items of a sequence.
+     */
+    public enum Cardinality {
+        EMPTY("empty-sequence()"),
+        ONE(""),
+        ZERO_OR_ONE("?"),
+        MANY("*");
+
+        private final String indicator;
+
+        private Cardinality(String indicator) {
+            this.indicator = indicator;
+        }
+
+        public boolean allowsEmpty() {
+            return this != ONE;
+        }
+
+        public boolean allowsMany() {
+            return this == MANY;
+        }
+
+        /**
+         * Returns the cardinality of a value that has either this or the
+         * given cardinality.
+         */
+        public Cardinality union(Cardinality cardinality) {
+            if (this == cardinality) {
+                return this;
+            }
+            if (this == MANY || cardinality == MANY) {
+                return MANY;
+            }
+            return ZERO_OR_ONE;
+        }
+
+        /**
+         * Returns the cardinality of a sequence of a value of this and a
+         * value of the given cardinality.
+         */
+        public Cardinality concat(Cardinality cardinality) {
+            if (this == EMPTY) {
+                return cardinality;
+            }
+            if (cardinality == EMPTY) {
+                return this;
+            }
+            return MANY;
+        }
+
+        /**
+         * Returns the cardinality of the result of an expression that is
+         * evaluated once for each item of a value of this cardinality and
+         * whose results have the given cardinality.
+         */
+        public Cardinality multiply(Cardinality cardinality) {
+            if (this == EMPTY || cardinality == EMPTY) {
+                return EMPTY;
+            }
+            if (this == ONE) {
+                return cardinality;
+            }
+            if (cardinality == ONE) {
+                return this;
+            }
+            return union(cardinality);
+        }
+
+        /**
+         * Returns the cardinality of an operand that must not have more than
+         * one item, e.g. of an arithmetic expression, assuming that a longer
+         * sequence raises an error.
+         */
+        public Cardinality toOptional() {
+            return this == MANY ? ZERO_OR_ONE : this;
+        }
+    }
+
+    public static final Xpath3StaticType EMPTY = new Xpath3StaticType(
+            Cardinality.EMPTY, null, false, null);
+
+    public static final Xpath3StaticType ANY = new Xpath3StaticType(
+            Cardinality.MANY, null, false, null);
+
+    public static final Xpath3StaticType ITEM = new Xpath3StaticType(
+            Cardinality.ONE, null, false, null);
+
+    public static final Xpath3StaticType BOOLEAN = atomic(
+            Xpath3AtomicType.BOOLEAN, Cardinality.ONE);
+
+    public static final Xpath3StaticType INTEGER = atomic(
+            Xpath3AtomicType.INTEGER, Cardinality.ONE);
+
+    public static final Xpath3StaticType DOUBLE = atomic(
+            Xpath3AtomicType.DOUBLE, Cardinality.ONE);
+
+    public static final Xpath3StaticType STRING = atomic(
+            Xpath3AtomicType.STRING, Cardinality.ONE);
+
+    private final Cardinality cardinality;
+
+    private final Xpath3AtomicType atomicType;
+
+    private final boolean node;
+
+    private final Xpath3NodeKind nodeKind;
+
+    private Xpath3StaticType(Cardinality cardinality,
+            Xpath3AtomicType atomicType, boolean node, Xpath3NodeKind nodeKind) {
+        this.cardinality = cardinality;
+        this.atomicType = atomicType;
+        this.node = node;
+        this.nodeKind = nodeKind;
+    }
+
+    public static Xpath3StaticType item(Cardinality cardinality) {
+        return new Xpath3StaticType(cardinality, null, false, null);
+    }
+
+    public static Xpath3StaticType atomic(Xpath3AtomicType type,
+            Cardinality cardinality) {
+        return new Xpath3StaticType(cardinality, type, false, null);
+    }
+
+    /**
+     * Returns a type of nodes of the given kind, or of any kind if the kind
+     * is <code>null</code>.
+     */
+    public static Xpath3StaticType node(Xpath3NodeKind kind,
+            Cardinality cardinality) {
+        return new Xpath3StaticType(cardinality, null, true, kind);
+    }
+
+    public Cardinality getCardinality() {
+        return cardinality;
+    }
+
+    /**
+     * Returns whether all values of the type have exactly one item.
+     */
+    public boolean isSingleton() {
+        return cardinality == Cardinality.ONE;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == Cardinality.EMPTY;
+    }
+
+    /**
+     * Returns whether the items are atomic values of the type returned by
+     * {@link #getAtomicType()}.
+     */
+    public boolean isAtomic() {
+        return atomicType != null;
+    }
+
+    public Xpath3AtomicType getAtomicType() {
+        return atomicType;
+    }
+
+    /**
+     * Returns whether the items are nodes of the kind returned by
+     * {@link #getNodeKind()}.
+     */
+    public boolean isNode() {
+        return node;
+    }
+
+    /**
+     * Returns the kind of the nodes or <code>null</code> if the items are not
+     * nodes or may be nodes of different kinds.
+     */
+    public Xpath3NodeKind getNodeKind() {
+        return nodeKind;
+    }
+
+    /**
+     * Returns whether the items are known to be numbers.
+     */
+    public boolean isNumeric() {
+        return atomicType != null && atomicType.isNumeric();
+    }
+
+    public Xpath3StaticType withCardinality(Cardinality cardinality) {
+        if (cardinality == this.cardinality) {
+            return this;
+        }
+        return new Xpath3StaticType(cardinality, atomicType, node, nodeKind);
+    }
+
+    /**
+     * Returns the type of a value that has either this or the given type,
+     * e.g. of a conditional expression.
+     */
+    public Xpath3StaticType union(Xpath3StaticType type) {
+        if (isEmpty()) {
+            return type.withCardinality(cardinality.union(type.cardinality));
+        }
+        if (type.isEmpty()) {
+            return withCardinality(cardinality.union(type.cardinality));
+        }
+        return unionItems(type, cardinality.union(type.cardinality));
+    }
+
+    /**
+     * Returns the type of the sequence of a value of this and a value of the
+     * given type.
+     */
+    public Xpath3StaticType concat(Xpath3StaticType type) {
+        if (isEmpty()) {
+            return type;
+        }
+        if (type.isEmpty()) {
+            return this;
+        }
+        return unionItems(type, cardinality.concat(type.cardinality));
+    }
+
+    private Xpath3StaticType unionItems(Xpath3StaticType type,
+            Cardinality cardinality) {
+        if (atomicType != null && type.atomicType != null) {
+            return atomic(getCommonSupertype(atomicType, type.atomicType),
+                    cardinality);
+        }
+        if (node && type.node) {
+            return node(nodeKind == type.nodeKind ? nodeKind : null,
+                    cardinality);
+        }
+        return item(cardinality);
+    }
+
+    private static Xpath3AtomicType getCommonSupertype(
+            Xpath3AtomicType type1, Xpath3AtomicType type2) {
+        if (type2.isSubtypeOf(type1)) {
+            return type1;
+        }
+        if (type1.isSubtypeOf(type2)) {
+            return type2;
+        }
+        // xs:integer is the only derived type
+        return Xpath3AtomicType.ANY_ATOMIC_TYPE;
+    }
+
+    /**
+     * Returns the type of the atomized value of this type. Nodes of the node
+     * model are untyped, so most of them are atomized to
+     * <code>xs:untypedAtomic</code>.
+     */
+    public Xpath3StaticType atomize() {
+        if (atomicType != null || isEmpty()) {
+            return this;
+        }
+        Xpath3AtomicType type = Xpath3AtomicType.ANY_ATOMIC_TYPE;
+        if (node && nodeKind != null) {
+            switch (nodeKind) {
+            case COMMENT:
+            case PROCESSING_INSTRUCTION:
+            case NAMESPACE:
+                type = Xpath3AtomicType.STRING;
+                break;
+            default:
+                type = Xpath3AtomicType.UNTYPED_ATOMIC;
+                break;
+            }
+        }
+        return atomic(type, cardinality);
+    }
+
+    /**
+     * Returns the type of the atomized value of this type converted to a
+     * number, as the operand of an arithmetic expression.
+     * <code>xs:untypedAtomic</code> values are converted to
+     * <code>xs:double</code>, other non-numeric values raise an error.
+     */
+    Xpath3AtomicType toNumericOperandType() {
+        Xpath3AtomicType type = atomize().atomicType;
+        if (type == Xpath3AtomicType.UNTYPED_ATOMIC) {
+            return Xpath3AtomicType.DOUBLE;
+        }
+        return type != null && type.isNumeric() ? type
+                : Xpath3AtomicType.ANY_ATOMIC_TYPE;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof Xpath3StaticType)) {
+            return false;
+        }
+        Xpath3StaticType type = (Xpath3StaticType) object;
+        return cardinality == type.cardinality
+                && atomicType == type.atomicType && node == type.node
+                && nodeKind == type.nodeKind;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = cardinality.hashCode();
+        result = 31 * result + (atomicType == null ? 0 : atomicType.hashCode());
+        result = 31 * result + (node ? 1 : 0);
+        return 31 * result + (nodeKind == null ? 0 : nodeKind.hashCode());
+    }
+
+    /**
+     * Returns the type in the syntax of a sequence type, e.g.
+     * <code>xs:integer?</code> or <code>element()*</code>.
+     */
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return cardinality.indicator;
+        }
+        String itemType;
+        if (atomicType != null) {
+            itemType = "xs:" + atomicType.getLocalName();
+        } else if (node) {
+            itemType = getKindTestName(nodeKind) + "()";
+        } else {
+            itemType = "item()";
+        }
+        return itemType + cardinality.indicator;
+    }
+
+    private static String getKindTestName(Xpath3NodeKind kind) {
+        if (kind == null) {
+            return "node";
+        }
+        switch (kind) {
+        case DOCUMENT:
+            return "document-node";
+        case PROCESSING_INSTRUCTION:
+            return "processing-instruction";
+        case NAMESPACE:
+            return "namespace-node";
+        default:
+            return kind.name().toLowerCase();
+        }
+    }
+}
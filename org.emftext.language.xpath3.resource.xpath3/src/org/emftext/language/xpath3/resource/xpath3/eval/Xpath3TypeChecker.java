@@ -0,0 +1,684 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.eval;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.namespace.QName;
+
+import org.eclipse.emf.ecore.EObject;
+import org.emftext.language.xpath3.AdditiveExpr;
+import org.emftext.language.xpath3.AndExpr;
+import org.emftext.language.xpath3.AnyItemType;
+import org.emftext.language.xpath3.AnyKindTest;
+import org.emftext.language.xpath3.AtomicItemType;
+import org.emftext.language.xpath3.AtomicType;
+import org.emftext.language.xpath3.AttributeTest;
+import org.emftext.language.xpath3.AxisStep;
+import org.emftext.language.xpath3.CastExpr;
+import org.emftext.language.xpath3.CastableExpr;
+import org.emftext.language.xpath3.ChildStepExpr;
+import org.emftext.language.xpath3.CommentTest;
+import org.emftext.language.xpath3.ComparisonExpr;
+import org.emftext.language.xpath3.ContextItemExpr;
+import org.emftext.language.xpath3.DecimalLiteral;
+import org.emftext.language.xpath3.DescOrSelfStepExpr;
+import org.emftext.language.xpath3.DocumentTest;
+import org.emftext.language.xpath3.DoubleLiteral;
+import org.emftext.language.xpath3.ElementTest;
+import org.emftext.language.xpath3.EmptySequenceType;
+import org.emftext.language.xpath3.Expr;
+import org.emftext.language.xpath3.FilterExpr;
+import org.emftext.language.xpath3.ForExpr;
+import org.emftext.language.xpath3.FunctionCall;
+import org.emftext.language.xpath3.GeneralComp;
+import org.emftext.language.xpath3.IfExpr;
+import org.emftext.language.xpath3.InstanceofExpr;
+import org.emftext.language.xpath3.IntegerLiteral;
+import org.emftext.language.xpath3.IntersectExceptExpr;
+import org.emftext.language.xpath3.ItemKindTest;
+import org.emftext.language.xpath3.ItemSequenceType;
+import org.emftext.language.xpath3.ItemType;
+import org.emftext.language.xpath3.Iterator;
+import org.emftext.language.xpath3.KindTest;
+import org.emftext.language.xpath3.MultiplicativeExpr;
+import org.emftext.language.xpath3.MultiplicativeOpKind;
+import org.emftext.language.xpath3.NCNamePITest;
+import org.emftext.language.xpath3.NameAttributeTest;
+import org.emftext.language.xpath3.NameElementTest;
+import org.emftext.language.xpath3.NodeKindTest;
+import org.emftext.language.xpath3.NodeTest;
+import org.emftext.language.xpath3.OrExpr;
+import org.emftext.language.xpath3.PITest;
+import org.emftext.language.xpath3.ParenthesizedExpr;
+import org.emftext.language.xpath3.PathExpr;
+import org.emftext.language.xpath3.Predicate;
+import org.emftext.language.xpath3.QuantifiedExpr;
+import org.emftext.language.xpath3.RangeExpr;
+import org.emftext.language.xpath3.RootStepExpr;
+import org.emftext.language.xpath3.SchemaAttributeTest;
+import org.emftext.language.xpath3.SchemaElementTest;
+import org.emftext.language.xpath3.SequenceType;
+import org.emftext.language.xpath3.SingleType;
+import org.emftext.language.xpath3.StringLiteral;
+import org.emftext.language.xpath3.StringLiteralPITest;
+import org.emftext.language.xpath3.TextTest;
+import org.emftext.language.xpath3.TreatExpr;
+import org.emftext.language.xpath3.UnaryExpr;
+import org.emftext.language.xpath3.UnionExpr;
+import org.emftext.language.xpath3.VarRef;
+import org.emftext.language.xpath3.WildcardAttributeTest;
+import org.emftext.language.xpath3.WildcardElementTest;
+import org.emftext.language.xpath3.resource.xpath3.eval.Xpath3StaticType.Cardinality;
+
+/**
+ * Infers the static types of an expression and of all of its
+ * subexpressions. The types are kept in a table of this checker rather than
+ * in adapters of the model, so a tree that is shared between threads, e.g.
+ * by <code>Xpath3ExpressionCache</code>, can be checked without modifying
+ * it.
+ * <p>
+ * Names are resolved against the static context passed to the constructor.
+ * The values of free variables and the context item of the expression are
+ * unknown, so they have the types <code>item()*</code> and
+ * <code>item()</code>. The result types of functions are only known for the
+ * built-in functions. Static errors, e.g. unknown functions or types, are not
+ * reported; the affected subexpressions get the most general type.
+ */
+public class Xpath3TypeChecker {
+
+    private final Xpath3EvaluationContext staticContext;
+
+    private final Map<EObject, Xpath3StaticType> types = new IdentityHashMap<EObject, Xpath3StaticType>();
+
+    private final Map<QName, Xpath3StaticType> variables = new HashMap<QName, Xpath3StaticType>();
+
+    public Xpath3TypeChecker(Xpath3EvaluationContext staticContext) {
+        this.staticContext = staticContext;
+    }
+
+    /**
+     * Infers the types of the given expression and its subexpressions and
+     * returns the type of the expression.
+     */
+    public Xpath3StaticType check(EObject expression) {
+        return check(expression, Xpath3StaticType.ITEM);
+    }
+
+    /**
+     * Returns the type of an expression that has been checked, or
+     * <code>null</code> if it is not part of a checked expression.
+     */
+    public Xpath3StaticType getType(EObject expr) {
+        return types.get(expr);
+    }
+
+    /**
+     * Returns whether all values of the given type match the sequence type,
+     * i.e. whether <code>instance of</code> is known to be true and
+     * <code>treat as</code> is known to succeed.
+     */
+    public boolean isInstance(Xpath3StaticType type, SequenceType sequenceType) {
+        if (sequenceType instanceof EmptySequenceType) {
+            return type.isEmpty();
+        }
+        if (!(sequenceType instanceof ItemSequenceType)) {
+            return false;
+        }
+        ItemSequenceType itemSequenceType = (ItemSequenceType) sequenceType;
+        Cardinality cardinality = type.getCardinality();
+        switch (itemSequenceType.getOccurrence()) {
+        case MANDATORY:
+        case PLUS:
+            // A cardinality of MANY includes the empty sequence
+            if (cardinality != Cardinality.ONE) {
+                return false;
+            }
+            break;
+        case OPTIONAL:
+            if (cardinality == Cardinality.MANY) {
+                return false;
+            }
+            break;
+        default:
+            break;
+        }
+        return type.isEmpty()
+                || isInstance(type, itemSequenceType.getItemType());
+    }
+
+    private boolean isInstance(Xpath3StaticType type, ItemType itemType) {
+        if (itemType instanceof AnyItemType) {
+            return true;
+        }
+        if (itemType instanceof AtomicItemType) {
+            Xpath3AtomicType atomicType = resolveAtomicType(((AtomicItemType) itemType)
+                    .getType());
+            return atomicType != null && type.isAtomic()
+                    && type.getAtomicType().isSubtypeOf(atomicType);
+        }
+        if (itemType instanceof ItemKindTest) {
+            return type.isNode()
+                    && matchesAllNodes(((ItemKindTest) itemType).getTest(),
+                            type.getNodeKind());
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether a kind test matches all nodes of the given kind, or of
+     * any kind if the kind is <code>null</code>.
+     */
+    private static boolean matchesAllNodes(KindTest test, Xpath3NodeKind kind) {
+        if (test instanceof AnyKindTest) {
+            return true;
+        }
+        if (kind == null || !isUnconstrained(test)) {
+            return false;
+        }
+        return kind == getNodeKind(test);
+    }
+
+    /**
+     * Returns whether a kind test has no name or type constraint, e.g.
+     * <code>element()</code> or <code>element(*)</code>, but not
+     * <code>element(a)</code>.
+     */
+    private static boolean isUnconstrained(KindTest test) {
+        if (test instanceof NameElementTest || test instanceof NameAttributeTest
+                || test instanceof NCNamePITest
+                || test instanceof StringLiteralPITest) {
+            return false;
+        }
+        if (test instanceof WildcardElementTest) {
+            return ((WildcardElementTest) test).getType() == null;
+        }
+        if (test instanceof WildcardAttributeTest) {
+            return ((WildcardAttributeTest) test).getType() == null;
+        }
+        if (test instanceof DocumentTest) {
+            return ((DocumentTest) test).getTest() == null;
+        }
+        return true;
+    }
+
+    private Xpath3StaticType check(EObject expr, Xpath3StaticType focus) {
+        EObject inner = Xpath3Operations.unwrap(expr);
+        Xpath3StaticType type = infer(inner, focus);
+        // The wrappers of an unprocessed model have a single child each
+        for (EObject wrapper = expr; wrapper != inner; wrapper = wrapper
+                .eContents().get(0)) {
+            types.put(wrapper, type);
+        }
+        types.put(inner, type);
+        return type;
+    }
+
+    private Xpath3StaticType infer(EObject expr, Xpath3StaticType focus) {
+        if (expr instanceof IntegerLiteral) {
+            return Xpath3StaticType.INTEGER;
+        }
+        if (expr instanceof DecimalLiteral) {
+            return Xpath3StaticType.atomic(Xpath3AtomicType.DECIMAL,
+                    Cardinality.ONE);
+        }
+        if (expr instanceof DoubleLiteral) {
+            return Xpath3StaticType.DOUBLE;
+        }
+        if (expr instanceof StringLiteral) {
+            return Xpath3StaticType.STRING;
+        }
+        if (expr instanceof ParenthesizedExpr) {
+            // Non-empty parentheses have been unwrapped
+            return Xpath3StaticType.EMPTY;
+        }
+        if (expr instanceof VarRef) {
+            Xpath3StaticType type = variables.get(resolveVariableName(((VarRef) expr)
+                    .getVarName()));
+            return type == null ? Xpath3StaticType.ANY : type;
+        }
+        if (expr instanceof ContextItemExpr) {
+            return focus;
+        }
+        if (expr instanceof PathExpr) {
+            return inferPath(((PathExpr) expr).getStep(), focus);
+        }
+        if (expr instanceof ChildStepExpr
+                || expr instanceof DescOrSelfStepExpr) {
+            return inferPath(Collections.singletonList(expr), focus);
+        }
+        if (expr instanceof RootStepExpr) {
+            return Xpath3StaticType.node(Xpath3NodeKind.DOCUMENT,
+                    Cardinality.ONE);
+        }
+        if (expr instanceof AxisStep) {
+            return inferAxisStep((AxisStep) expr);
+        }
+        if (expr instanceof FilterExpr) {
+            FilterExpr filterExpr = (FilterExpr) expr;
+            Xpath3StaticType type = check(filterExpr.getPrimaryExpr(), focus);
+            return type.withCardinality(filter(type,
+                    filterExpr.getPredicate()));
+        }
+        if (expr instanceof FunctionCall) {
+            return inferFunctionCall((FunctionCall) expr, focus);
+        }
+        if (expr instanceof ComparisonExpr) {
+            ComparisonExpr comparisonExpr = (ComparisonExpr) expr;
+            Xpath3StaticType left = check(comparisonExpr.getLeft(), focus);
+            Xpath3StaticType right = check(comparisonExpr.getRight(), focus);
+            if (comparisonExpr.getOperator() instanceof GeneralComp) {
+                return Xpath3StaticType.BOOLEAN;
+            }
+            // Value and node comparisons of empty sequences are empty
+            return Xpath3StaticType.BOOLEAN.withCardinality(getOperandCardinality(
+                    left, right));
+        }
+        if (expr instanceof AdditiveExpr) {
+            List<? extends EObject> operands = ((AdditiveExpr) expr)
+                    .getOperand();
+            Xpath3StaticType type = check(operands.get(0), focus);
+            for (int i = 1; i < operands.size(); i++) {
+                type = inferArithmetic(type, check(operands.get(i), focus),
+                        null);
+            }
+            return type;
+        }
+        if (expr instanceof MultiplicativeExpr) {
+            MultiplicativeExpr multiplicativeExpr = (MultiplicativeExpr) expr;
+            List<? extends EObject> operands = multiplicativeExpr.getOperand();
+            Xpath3StaticType type = check(operands.get(0), focus);
+            for (int i = 1; i < operands.size(); i++) {
+                type = inferArithmetic(type, check(operands.get(i), focus),
+                        multiplicativeExpr.getOperator().get(i - 1));
+            }
+            return type;
+        }
+        if (expr instanceof UnaryExpr) {
+            Xpath3StaticType operand = check(((UnaryExpr) expr).getOperand(),
+                    focus);
+            return Xpath3StaticType.atomic(operand.toNumericOperandType(),
+                    operand.getCardinality().toOptional());
+        }
+        if (expr instanceof OrExpr) {
+            checkAll(((OrExpr) expr).getOperand(), focus);
+            return Xpath3StaticType.BOOLEAN;
+        }
+        if (expr instanceof AndExpr) {
+            checkAll(((AndExpr) expr).getOperand(), focus);
+            return Xpath3StaticType.BOOLEAN;
+        }
+        if (expr instanceof IfExpr) {
+            IfExpr ifExpr = (IfExpr) expr;
+            check(ifExpr.getTest(), focus);
+            return check(ifExpr.getThen(), focus).union(
+                    check(ifExpr.getElse(), focus));
+        }
+        if (expr instanceof ForExpr) {
+            ForExpr forExpr = (ForExpr) expr;
+            return inferBindings(forExpr.getIterator(), forExpr.getReturn(),
+                    focus);
+        }
+        if (expr instanceof QuantifiedExpr) {
+            QuantifiedExpr quantifiedExpr = (QuantifiedExpr) expr;
+            inferBindings(quantifiedExpr.getIterator(),
+                    quantifiedExpr.getSatisfies(), focus);
+            return Xpath3StaticType.BOOLEAN;
+        }
+        if (expr instanceof Expr) {
+            Xpath3StaticType type = Xpath3StaticType.EMPTY;
+            for (EObject item : ((Expr) expr).getExpr()) {
+                type = type.concat(check(item, focus));
+            }
+            return type;
+        }
+        if (expr instanceof RangeExpr) {
+            RangeExpr rangeExpr = (RangeExpr) expr;
+            check(rangeExpr.getFrom(), focus);
+            check(rangeExpr.getTo(), focus);
+            return Xpath3StaticType.atomic(Xpath3AtomicType.INTEGER,
+                    Cardinality.MANY);
+        }
+        if (expr instanceof UnionExpr) {
+            return inferNodes(((UnionExpr) expr).getOperand(), focus);
+        }
+        if (expr instanceof IntersectExceptExpr) {
+            return inferNodes(((IntersectExceptExpr) expr).getOperand(), focus);
+        }
+        if (expr instanceof InstanceofExpr) {
+            check(((InstanceofExpr) expr).getOperand(), focus);
+            return Xpath3StaticType.BOOLEAN;
+        }
+        if (expr instanceof TreatExpr) {
+            TreatExpr treatExpr = (TreatExpr) expr;
+            Xpath3StaticType operand = check(treatExpr.getOperand(), focus);
+            if (isInstance(operand, treatExpr.getType())) {
+                return operand;
+            }
+            return toStaticType(treatExpr.getType());
+        }
+        if (expr instanceof CastableExpr) {
+            check(((CastableExpr) expr).getOperand(), focus);
+            return Xpath3StaticType.BOOLEAN;
+        }
+        if (expr instanceof CastExpr) {
+            CastExpr castExpr = (CastExpr) expr;
+            Xpath3StaticType operand = check(castExpr.getOperand(), focus);
+            SingleType type = castExpr.getType();
+            Xpath3AtomicType atomicType = resolveAtomicType(type.getType());
+            return Xpath3StaticType.atomic(
+                    atomicType == null ? Xpath3AtomicType.ANY_ATOMIC_TYPE
+                            : atomicType,
+                    type.isOptional() ? operand.getCardinality().toOptional()
+                            : Cardinality.ONE);
+        }
+        for (EObject child : expr.eContents()) {
+            check(child, focus);
+        }
+        return Xpath3StaticType.ANY;
+    }
+
+    /**
+     * Infers the type of a path. Each step is evaluated once for every item
+     * of the step before, with that item as the focus.
+     */
+    private Xpath3StaticType inferPath(List<? extends EObject> steps,
+            Xpath3StaticType focus) {
+        Xpath3StaticType type = null;
+        for (EObject step : steps) {
+            EObject stepExpr;
+            Xpath3StaticType input;
+            if (step instanceof DescOrSelfStepExpr) {
+                stepExpr = ((DescOrSelfStepExpr) step).getStep();
+                input = Xpath3StaticType.node(null, getRootOrInput(type)
+                        .getCardinality().multiply(Cardinality.MANY));
+            } else if (step instanceof ChildStepExpr) {
+                stepExpr = ((ChildStepExpr) step).getStep();
+                input = getRootOrInput(type);
+            } else if (type == null) {
+                type = check(step, focus);
+                continue;
+            } else {
+                stepExpr = step;
+                input = type;
+            }
+            Xpath3StaticType stepType = check(stepExpr,
+                    input.withCardinality(Cardinality.ONE));
+            type = stepType.withCardinality(input.getCardinality().multiply(
+                    stepType.getCardinality()));
+            // The type of a step wrapper is that of the path up to the step
+            types.put(step, type);
+        }
+        return type;
+    }
+
+    /**
+     * Returns the input of a step, which is the root of the context node for
+     * the first step of a path that starts with <code>/</code> or
+     * <code>//</code>.
+     */
+    private static Xpath3StaticType getRootOrInput(Xpath3StaticType input) {
+        if (input == null) {
+            return Xpath3StaticType.node(Xpath3NodeKind.DOCUMENT,
+                    Cardinality.ONE);
+        }
+        return input;
+    }
+
+    private Xpath3StaticType inferAxisStep(AxisStep step) {
+        Xpath3Axis axis = Xpath3Operations.getAxis(step);
+        Xpath3NodeKind kind = getNodeKind(Xpath3Operations.getNodeTest(step),
+                axis);
+        Cardinality cardinality = axis == Xpath3Axis.SELF
+                || axis == Xpath3Axis.PARENT ? Cardinality.ZERO_OR_ONE
+                : Cardinality.MANY;
+        Xpath3StaticType type = Xpath3StaticType.node(kind, cardinality);
+        return type.withCardinality(filter(type, step.getPredicate()));
+    }
+
+    /**
+     * Returns the kind of the nodes that an axis step selects, or
+     * <code>null</code> if it may select nodes of different kinds.
+     */
+    private static Xpath3NodeKind getNodeKind(NodeTest test, Xpath3Axis axis) {
+        if (test instanceof NodeKindTest) {
+            return getNodeKind(((NodeKindTest) test).getTest());
+        }
+        if (test != null) {
+            // Name tests select nodes of the principal node kind
+            return axis.getPrincipalNodeKind();
+        }
+        switch (axis) {
+        case ATTRIBUTE:
+            return Xpath3NodeKind.ATTRIBUTE;
+        case NAMESPACE:
+            return Xpath3NodeKind.NAMESPACE;
+        default:
+            return null;
+        }
+    }
+
+    private static Xpath3NodeKind getNodeKind(KindTest test) {
+        if (test instanceof DocumentTest) {
+            return Xpath3NodeKind.DOCUMENT;
+        }
+        if (test instanceof ElementTest || test instanceof SchemaElementTest) {
+            return Xpath3NodeKind.ELEMENT;
+        }
+        if (test instanceof AttributeTest
+                || test instanceof SchemaAttributeTest) {
+            return Xpath3NodeKind.ATTRIBUTE;
+        }
+        if (test instanceof PITest) {
+            return Xpath3NodeKind.PROCESSING_INSTRUCTION;
+        }
+        if (test instanceof CommentTest) {
+            return Xpath3NodeKind.COMMENT;
+        }
+        if (test instanceof TextTest) {
+            return Xpath3NodeKind.TEXT;
+        }
+        return null;
+    }
+
+    /**
+     * Checks the predicates applied to a sequence of the given type and
+     * returns the cardinality of the result. A numeric predicate selects at
+     * most one item.
+     */
+    private Cardinality filter(Xpath3StaticType type,
+            List<Predicate> predicates) {
+        Cardinality cardinality = type.getCardinality();
+        Xpath3StaticType focus = type.withCardinality(Cardinality.ONE);
+        for (Predicate predicate : predicates) {
+            Xpath3StaticType predicateType = check(predicate.getExpr(), focus);
+            if (cardinality == Cardinality.EMPTY) {
+                continue;
+            }
+            if (predicateType.isNumeric() && predicateType.isSingleton()) {
+                cardinality = Cardinality.ZERO_OR_ONE;
+            } else {
+                cardinality = cardinality.union(Cardinality.ZERO_OR_ONE);
+            }
+        }
+        return cardinality;
+    }
+
+    private Xpath3StaticType inferFunctionCall(FunctionCall functionCall,
+            Xpath3StaticType focus) {
+        List<? extends EObject> args = functionCall.getArg();
+        Xpath3StaticType[] argumentTypes = new Xpath3StaticType[args.size()];
+        for (int i = 0; i < argumentTypes.length; i++) {
+            argumentTypes[i] = check(args.get(i), focus);
+        }
+        IXpath3Function function;
+        try {
+            function = Xpath3Operations.getFunction(functionCall.getName(),
+                    args.size(), staticContext);
+        } catch (Xpath3EvaluationException e) {
+            return Xpath3StaticType.ANY;
+        }
+        if (function instanceof Xpath3StandardFunctions) {
+            return ((Xpath3StandardFunctions) function)
+                    .getResultType(argumentTypes);
+        }
+        return Xpath3StaticType.ANY;
+    }
+
+    /**
+     * Infers the type of the result of an arithmetic operator, following the
+     * numeric type promotion of {@link Xpath3Values}.
+     *
+     * @param operator
+     *            the multiplicative operator, or <code>null</code> for an
+     *            additive one
+     */
+    private static Xpath3StaticType inferArithmetic(Xpath3StaticType left,
+            Xpath3StaticType right, MultiplicativeOpKind operator) {
+        Cardinality cardinality = getOperandCardinality(left, right);
+        if (operator == MultiplicativeOpKind.IDIV) {
+            return Xpath3StaticType.atomic(Xpath3AtomicType.INTEGER,
+                    cardinality);
+        }
+        Xpath3AtomicType leftType = left.toNumericOperandType();
+        Xpath3AtomicType rightType = right.toNumericOperandType();
+        Xpath3AtomicType type;
+        if (!leftType.isNumeric() || !rightType.isNumeric()) {
+            type = Xpath3AtomicType.ANY_ATOMIC_TYPE;
+        } else if (leftType == Xpath3AtomicType.DOUBLE
+                || rightType == Xpath3AtomicType.DOUBLE) {
+            type = Xpath3AtomicType.DOUBLE;
+        } else if (leftType == Xpath3AtomicType.FLOAT
+                || rightType == Xpath3AtomicType.FLOAT) {
+            type = Xpath3AtomicType.FLOAT;
+        } else if (operator == MultiplicativeOpKind.DIV
+                || leftType == Xpath3AtomicType.DECIMAL
+                || rightType == Xpath3AtomicType.DECIMAL) {
+            type = Xpath3AtomicType.DECIMAL;
+        } else {
+            type = Xpath3AtomicType.INTEGER;
+        }
+        return Xpath3StaticType.atomic(type, cardinality);
+    }
+
+    /**
+     * Returns the cardinality of the result of an operator that returns the
+     * empty sequence if an operand is empty and requires its operands to
+     * have at most one item.
+     */
+    private static Cardinality getOperandCardinality(Xpath3StaticType left,
+            Xpath3StaticType right) {
+        if (left.isEmpty() || right.isEmpty()) {
+            return Cardinality.EMPTY;
+        }
+        if (left.isSingleton() && right.isSingleton()) {
+            return Cardinality.ONE;
+        }
+        return Cardinality.ZERO_OR_ONE;
+    }
+
+    private Xpath3StaticType inferNodes(List<? extends EObject> operands,
+            Xpath3StaticType focus) {
+        Xpath3StaticType type = null;
+        for (EObject operand : operands) {
+            Xpath3StaticType operandType = check(operand, focus);
+            type = type == null ? operandType : type.union(operandType);
+        }
+        return Xpath3StaticType.node(type.isNode() ? type.getNodeKind() : null,
+                Cardinality.MANY);
+    }
+
+    /**
+     * Infers the type of the body of a <code>for</code> or quantified
+     * expression, which is evaluated once for each combination of the items
+     * of the iterators.
+     */
+    private Xpath3StaticType inferBindings(List<Iterator> iterators,
+            EObject body, Xpath3StaticType focus) {
+        Map<QName, Xpath3StaticType> outerVariables = new HashMap<QName, Xpath3StaticType>(
+                variables);
+        Cardinality cardinality = Cardinality.ONE;
+        for (Iterator iterator : iterators) {
+            Xpath3StaticType listType = check(iterator.getList(), focus);
+            cardinality = cardinality.multiply(listType.getCardinality());
+            QName name = resolveVariableName(iterator.getVarName());
+            if (name != null) {
+                variables.put(name,
+                        listType.withCardinality(Cardinality.ONE));
+            }
+        }
+        Xpath3StaticType bodyType = check(body, focus);
+        variables.clear();
+        variables.putAll(outerVariables);
+        return bodyType.withCardinality(cardinality.multiply(bodyType
+                .getCardinality()));
+    }
+
+    private Xpath3StaticType toStaticType(SequenceType sequenceType) {
+        if (!(sequenceType instanceof ItemSequenceType)) {
+            return Xpath3StaticType.EMPTY;
+        }
+        ItemSequenceType itemSequenceType = (ItemSequenceType) sequenceType;
+        Cardinality cardinality;
+        switch (itemSequenceType.getOccurrence()) {
+        case MANDATORY:
+            cardinality = Cardinality.ONE;
+            break;
+        case OPTIONAL:
+            cardinality = Cardinality.ZERO_OR_ONE;
+            break;
+        default:
+            cardinality = Cardinality.MANY;
+            break;
+        }
+        ItemType itemType = itemSequenceType.getItemType();
+        if (itemType instanceof AtomicItemType) {
+            Xpath3AtomicType atomicType = resolveAtomicType(((AtomicItemType) itemType)
+                    .getType());
+            return Xpath3StaticType.atomic(
+                    atomicType == null ? Xpath3AtomicType.ANY_ATOMIC_TYPE
+                            : atomicType, cardinality);
+        }
+        if (itemType instanceof ItemKindTest) {
+            return Xpath3StaticType.node(
+                    getNodeKind(((ItemKindTest) itemType).getTest()),
+                    cardinality);
+        }
+        return Xpath3StaticType.item(cardinality);
+    }
+
+    private void checkAll(List<? extends EObject> exprs,
+            Xpath3StaticType focus) {
+        for (EObject expr : exprs) {
+            check(expr, focus);
+        }
+    }
+
+    private Xpath3AtomicType resolveAtomicType(AtomicType type) {
+        try {
+            return Xpath3Operations.resolveAtomicType(type, staticContext);
+        } catch (Xpath3EvaluationException e) {
+            return null;
+        }
+    }
+
+    private QName resolveVariableName(QName name) {
+        try {
+            return Xpath3Operations.resolveVariableName(name, staticContext);
+        } catch (Xpath3EvaluationException e) {
+            return null;
+        }
+    }
+}
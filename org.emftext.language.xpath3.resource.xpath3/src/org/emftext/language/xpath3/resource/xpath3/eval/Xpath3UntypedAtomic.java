@@ -0,0 +1,46 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.eval;
+
+/**
+ * An <code>xs:untypedAtomic</code> value, the result of atomizing a node.
+ */
+public final class Xpath3UntypedAtomic {
+
+    private final String value;
+
+    public Xpath3UntypedAtomic(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value must not be null");
+        }
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof Xpath3UntypedAtomic
+                && value.equals(((Xpath3UntypedAtomic) obj).value);
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -0,0 +1,406 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.eval;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Iterator;
+
+import javax.xml.datatype.DatatypeConstants;
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import org.emftext.language.xpath3.AdditiveOpKind;
+import org.emftext.language.xpath3.GeneralCompKind;
+import org.emftext.language.xpath3.Literal;
+import org.emftext.language.xpath3.MultiplicativeOpKind;
+
+/**
+ * Operations on atomic values: atomization, effective boolean value,
+ * arithmetic and comparisons.
+ */
+public class Xpath3Values {
+
+    private Xpath3Values() {
+    }
+
+    /**
+     * Converts a Java object supplied by a caller (e.g. a variable value) to
+     * an item. Java integers become <code>xs:integer</code>.
+     */
+    public static Object toItem(Object value) {
+        if (value instanceof Integer || value instanceof Long
+                || value instanceof Short || value instanceof Byte) {
+            return BigInteger.valueOf(((Number) value).longValue());
+        }
+        return value;
+    }
+
+    /**
+     * Returns the value of a literal as the evaluator sees it, e.g. a
+     * <code>BigInteger</code> for an integer literal or the
+     * <code>String</code> without quotes for a string literal.
+     */
+    public static Object getLiteralValue(Literal literal) {
+        return Xpath3Operations.getLiteralValue(literal);
+    }
+
+    public static Xpath3Sequence atomize(final Xpath3Sequence sequence,
+            final IXpath3NodeModel nodeModel) {
+        return new Xpath3Sequence() {
+            @Override
+            public Iterator<Object> iterator() {
+                final Iterator<Object> items = sequence.iterator();
+                return new Xpath3AbstractIterator() {
+                    @Override
+                    protected Object computeNext() {
+                        if (!items.hasNext()) {
+                            return endOfData();
+                        }
+                        return atomize(items.next(), nodeModel);
+                    }
+                };
+            }
+        };
+    }
+
+    public static Object atomize(Object item, IXpath3NodeModel nodeModel) {
+        if (!nodeModel.isNode(item)) {
+            return item;
+        }
+        String value = nodeModel.getStringValue(item);
+        switch (nodeModel.getKind(item)) {
+        case COMMENT:
+        case PROCESSING_INSTRUCTION:
+        case NAMESPACE:
+            return value;
+        default:
+            return new Xpath3UntypedAtomic(value);
+        }
+    }
+
+    /**
+     * Atomizes the given sequence and returns its only item, or
+     * <code>null</code> if it is empty.
+     *
+     * @throws Xpath3EvaluationException
+     *             <code>XPTY0004</code> if the sequence has more than one
+     *             item
+     */
+    public static Object atomizeOptional(Xpath3Sequence sequence,
+            IXpath3NodeModel nodeModel) {
+        Iterator<Object> items = sequence.iterator();
+        if (!items.hasNext()) {
+            return null;
+        }
+        Object item = items.next();
+        if (items.hasNext()) {
+            throw new Xpath3EvaluationException("XPTY0004",
+                    "A sequence of more than one item is not allowed here");
+        }
+        return atomize(item, nodeModel);
+    }
+
+    public static boolean effectiveBooleanValue(Xpath3Sequence sequence,
+            IXpath3NodeModel nodeModel) {
+        Iterator<Object> items = sequence.iterator();
+        if (!items.hasNext()) {
+            return false;
+        }
+        Object first = items.next();
+        if (nodeModel.isNode(first)) {
+            return true;
+        }
+        if (items.hasNext()) {
+            throw new Xpath3EvaluationException("FORG0006",
+                    "Effective boolean value is not defined for a sequence of"
+                            + " two or more atomic values");
+        }
+        if (first instanceof Boolean) {
+            return ((Boolean) first).booleanValue();
+        }
+        if (first instanceof String || first instanceof Xpath3UntypedAtomic) {
+            return first.toString().length() > 0;
+        }
+        if (first instanceof Number) {
+            double value = ((Number) first).doubleValue();
+            if (first instanceof BigDecimal) {
+                return ((BigDecimal) first).signum() != 0;
+            }
+            if (first instanceof BigInteger) {
+                return ((BigInteger) first).signum() != 0;
+            }
+            return value != 0 && !Double.isNaN(value);
+        }
+        throw new Xpath3EvaluationException("FORG0006",
+                "Effective boolean value is not defined for "
+                        + first.getClass().getName());
+    }
+
+    public static boolean isNumeric(Object value) {
+        Xpath3AtomicType type = Xpath3AtomicType.typeOf(value);
+        return type != null && type.isNumeric();
+    }
+
+    /**
+     * Converts an operand of an arithmetic expression to a number.
+     * <code>xs:untypedAtomic</code> values are cast to <code>xs:double</code>.
+     */
+    public static Number toNumericOperand(Object value) {
+        if (value instanceof Xpath3UntypedAtomic) {
+            return (Number) Xpath3AtomicType.DOUBLE.cast(value);
+        }
+        if (!isNumeric(value)) {
+            throw new Xpath3EvaluationException("XPTY0004",
+                    "Arithmetic operand is not numeric: "
+                            + Xpath3AtomicType.getStringValue(value));
+        }
+        return (Number) value;
+    }
+
+    public static Object add(Object left, Object right, AdditiveOpKind operator) {
+        Number a = toNumericOperand(left);
+        Number b = toNumericOperand(right);
+        boolean subtract = operator == AdditiveOpKind.SUBTRACTION;
+        switch (promote(a, b)) {
+        case INTEGER:
+            return subtract ? ((BigInteger) a).subtract((BigInteger) b)
+                    : ((BigInteger) a).add((BigInteger) b);
+        case DECIMAL:
+            return subtract ? toDecimal(a).subtract(toDecimal(b)) : toDecimal(
+                    a).add(toDecimal(b));
+        case FLOAT:
+            return Float.valueOf(subtract ? a.floatValue() - b.floatValue() : a
+                    .floatValue() + b.floatValue());
+        default:
+            return Double.valueOf(subtract ? a.doubleValue() - b.doubleValue()
+                    : a.doubleValue() + b.doubleValue());
+        }
+    }
+
+    public static Object multiply(Object left, Object right,
+            MultiplicativeOpKind operator) {
+        Number a = toNumericOperand(left);
+        Number b = toNumericOperand(right);
+        Xpath3AtomicType type = promote(a, b);
+        switch (operator) {
+        case MULTIPLICATION:
+            switch (type) {
+            case INTEGER:
+                return ((BigInteger) a).multiply((BigInteger) b);
+            case DECIMAL:
+                return toDecimal(a).multiply(toDecimal(b));
+            case FLOAT:
+                return Float.valueOf(a.floatValue() * b.floatValue());
+            default:
+                return Double.valueOf(a.doubleValue() * b.doubleValue());
+            }
+        case DIV:
+            switch (type) {
+            case INTEGER:
+            case DECIMAL:
+                BigDecimal divisor = toDecimal(b);
+                if (divisor.signum() == 0) {
+                    throw divisionByZero();
+                }
+                BigDecimal quotient = toDecimal(a).divide(divisor,
+                        MathContext.DECIMAL128);
+                return quotient.signum() == 0 ? BigDecimal.ZERO : quotient
+                        .stripTrailingZeros();
+            case FLOAT:
+                return Float.valueOf(a.floatValue() / b.floatValue());
+            default:
+                return Double.valueOf(a.doubleValue() / b.doubleValue());
+            }
+        case IDIV:
+            switch (type) {
+            case INTEGER:
+                if (((BigInteger) b).signum() == 0) {
+                    throw divisionByZero();
+                }
+                return ((BigInteger) a).divide((BigInteger) b);
+            case DECIMAL:
+                if (toDecimal(b).signum() == 0) {
+                    throw divisionByZero();
+                }
+                return toDecimal(a).divide(toDecimal(b), 0, RoundingMode.DOWN)
+                        .toBigInteger();
+            default:
+                double dividend = a.doubleValue();
+                double doubleDivisor = b.doubleValue();
+                if (doubleDivisor == 0) {
+                    throw divisionByZero();
+                }
+                double doubleQuotient = dividend / doubleDivisor;
+                if (Double.isNaN(doubleQuotient)
+                        || Double.isInfinite(doubleQuotient)) {
+                    throw new Xpath3EvaluationException("FOAR0002",
+                            "Numeric operation overflow/underflow");
+                }
+                return new BigDecimal(doubleQuotient).toBigInteger();
+            }
+        case MOD:
+            switch (type) {
+            case INTEGER:
+                if (((BigInteger) b).signum() == 0) {
+                    throw divisionByZero();
+                }
+                return ((BigInteger) a).remainder((BigInteger) b);
+            case DECIMAL:
+                if (toDecimal(b).signum() == 0) {
+                    throw divisionByZero();
+                }
+                return toDecimal(a).remainder(toDecimal(b));
+            case FLOAT:
+                return Float.valueOf(a.floatValue() % b.floatValue());
+            default:
+                return Double.valueOf(a.doubleValue() % b.doubleValue());
+            }
+        default:
+            throw new IllegalArgumentException(String.valueOf(operator));
+        }
+    }
+
+    public static Object negate(Object value) {
+        Number number = toNumericOperand(value);
+        if (number instanceof BigInteger) {
+            return ((BigInteger) number).negate();
+        }
+        if (number instanceof BigDecimal) {
+            return ((BigDecimal) number).negate();
+        }
+        if (number instanceof Float) {
+            return Float.valueOf(-number.floatValue());
+        }
+        return Double.valueOf(-number.doubleValue());
+    }
+
+    /**
+     * Compares two atomic values as the value comparison operators
+     * (<code>eq</code>, <code>lt</code>, ...) do. <code>xs:untypedAtomic</code>
+     * values are compared as strings.
+     */
+    public static boolean valueCompare(Object left, Object right,
+            GeneralCompKind operator) {
+        Object a = left instanceof Xpath3UntypedAtomic ? left.toString() : left;
+        Object b = right instanceof Xpath3UntypedAtomic ? right.toString()
+                : right;
+        if (isNumeric(a) && isNumeric(b)) {
+            Number x = (Number) a;
+            Number y = (Number) b;
+            switch (promote(x, y)) {
+            case INTEGER:
+                return test(((BigInteger) x).compareTo((BigInteger) y),
+                        operator);
+            case DECIMAL:
+                return test(toDecimal(x).compareTo(toDecimal(y)), operator);
+            default:
+                double dx = x.doubleValue();
+                double dy = y.doubleValue();
+                if (Double.isNaN(dx) || Double.isNaN(dy)) {
+                    return operator == GeneralCompKind.NE;
+                }
+                return test(Double.compare(dx == 0 ? 0 : dx, dy == 0 ? 0 : dy),
+                        operator);
+            }
+        }
+        if (a instanceof String && b instanceof String) {
+            return test(((String) a).compareTo((String) b), operator);
+        }
+        if (a instanceof Boolean && b instanceof Boolean) {
+            return test(((Boolean) a).compareTo((Boolean) b), operator);
+        }
+        Xpath3AtomicType typeA = Xpath3AtomicType.typeOf(a);
+        if (a instanceof XMLGregorianCalendar
+                && typeA == Xpath3AtomicType.typeOf(b)) {
+            int result = ((XMLGregorianCalendar) a)
+                    .compare((XMLGregorianCalendar) b);
+            if (result == DatatypeConstants.INDETERMINATE) {
+                return operator == GeneralCompKind.NE;
+            }
+            return test(result, operator);
+        }
+        throw new Xpath3EvaluationException("XPTY0004", "Cannot compare "
+                + Xpath3AtomicType.getStringValue(a) + " with "
+                + Xpath3AtomicType.getStringValue(b));
+    }
+
+    /**
+     * Compares two atomic values as the general comparison operators
+     * (<code>=</code>, <code>&lt;</code>, ...) do for a single pair of items.
+     */
+    public static boolean generalCompare(Object left, Object right,
+            GeneralCompKind operator) {
+        boolean untypedLeft = left instanceof Xpath3UntypedAtomic;
+        boolean untypedRight = right instanceof Xpath3UntypedAtomic;
+        if (untypedLeft && !untypedRight) {
+            left = castUntyped(left, right);
+        } else if (untypedRight && !untypedLeft) {
+            right = castUntyped(right, left);
+        }
+        return valueCompare(left, right, operator);
+    }
+
+    private static Object castUntyped(Object untyped, Object other) {
+        if (isNumeric(other)) {
+            return Xpath3AtomicType.DOUBLE.cast(untyped);
+        }
+        Xpath3AtomicType type = Xpath3AtomicType.typeOf(other);
+        if (type == Xpath3AtomicType.STRING) {
+            return untyped.toString();
+        }
+        return type.cast(untyped);
+    }
+
+    private static boolean test(int comparison, GeneralCompKind operator) {
+        switch (operator) {
+        case EQ:
+            return comparison == 0;
+        case NE:
+            return comparison != 0;
+        case LT:
+            return comparison < 0;
+        case LE:
+            return comparison <= 0;
+        case GT:
+            return comparison > 0;
+        case GE:
+            return comparison >= 0;
+        default:
+            throw new IllegalArgumentException(String.valueOf(operator));
+        }
+    }
+
+    private static Xpath3AtomicType promote(Number a, Number b) {
+        if (a instanceof Double || b instanceof Double) {
+            return Xpath3AtomicType.DOUBLE;
+        }
+        if (a instanceof Float || b instanceof Float) {
+            return Xpath3AtomicType.FLOAT;
+        }
+        if (a instanceof BigDecimal || b instanceof BigDecimal) {
+            return Xpath3AtomicType.DECIMAL;
+        }
+        return Xpath3AtomicType.INTEGER;
+    }
+
+    private static BigDecimal toDecimal(Number value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        return new BigDecimal((BigInteger) value);
+    }
+
+    private static Xpath3EvaluationException divisionByZero() {
+        return new Xpath3EvaluationException("FOAR0001", "Division by zero");
+    }
+}
@@ -0,0 +1,314 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.grammar;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3ExpectedElement;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ContainedFeature;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ExpectationConstants;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3Pair;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3StreamUtil;
+
+/**
+ * The tables that are used during code completion, read from the binary
+ * resource <code>Xpath3CompletionTables.bin</code> instead of being built by
+ * the static initializers of {@link Xpath3ExpectationConstants} and
+ * {@link Xpath3FollowSetProvider}.
+ * <p>
+ * The resource contains the expectations, the features, the links and the
+ * followers of the terminals as variable-length encoded integers. Classes and
+ * features are stored by their IDs in <code>XPath3Package</code>. The
+ * resource is only read when the tables are used for the first time, which
+ * only happens when a parser is used for code completion.
+ * <p>
+ * The resource must be written again whenever the syntax or the metamodel
+ * changes. Let EMFText generate <code>Xpath3ExpectationConstants</code> and
+ * <code>Xpath3FollowSetProvider</code> once more, run {@link #main(String[])}
+ * against the generated classes and restore the classes afterwards. The
+ * terminals of {@link Xpath3FollowSetProvider} are kept in code and must be
+ * taken from the generated class.
+ */
+public final class Xpath3CompletionTables {
+
+    private static final String RESOURCE_NAME = "Xpath3CompletionTables.bin";
+
+    /**
+     * The first integer of the resource, which changes with the format.
+     */
+    private static final int FORMAT = 0x58503301;
+
+    private final int[][] expectations;
+
+    private final int[] features;
+
+    private final int[] links;
+
+    private final int[][] followers;
+
+    private static class InstanceHolder {
+        private static final Xpath3CompletionTables INSTANCE = read();
+    }
+
+    private Xpath3CompletionTables(int[][] expectations, int[] features,
+            int[] links, int[][] followers) {
+        this.expectations = expectations;
+        this.features = features;
+        this.links = links;
+        this.followers = followers;
+    }
+
+    /**
+     * Returns the tables, which are read on the first call.
+     *
+     * @throws IllegalStateException
+     *             if the resource can't be read
+     */
+    public static Xpath3CompletionTables getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Returns the expectations, see
+     * {@link Xpath3ExpectationConstants#EXPECTATIONS}. Each expectation
+     * contains the index of a terminal, a follow set ID and the indexes of
+     * the links to the terminal.
+     */
+    public int[][] getExpectations() {
+        return expectations;
+    }
+
+    /**
+     * Returns the features as pairs of the ID of the containing class and
+     * the feature ID.
+     */
+    public int[] getFeatures() {
+        return features;
+    }
+
+    /**
+     * Returns the links as pairs of the ID of the container class and the
+     * index of the feature.
+     */
+    public int[] getLinks() {
+        return links;
+    }
+
+    /**
+     * Returns the followers. Each follower contains the index of a terminal,
+     * the index of the following terminal and the indexes of the links on the
+     * path between them.
+     */
+    public int[][] getFollowers() {
+        return followers;
+    }
+
+    private static Xpath3CompletionTables read() {
+        InputStream inputStream = Xpath3CompletionTables.class
+                .getResourceAsStream(RESOURCE_NAME);
+        if (inputStream == null) {
+            throw new IllegalStateException("Resource " + RESOURCE_NAME
+                    + " not found");
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * 1024);
+        try {
+            try {
+                Xpath3StreamUtil.copy(inputStream, bytes);
+            } finally {
+                inputStream.close();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Error while reading "
+                    + RESOURCE_NAME, e);
+        }
+        Decoder decoder = new Decoder(bytes.toByteArray());
+        if (decoder.next() != FORMAT) {
+            throw new IllegalStateException("Unknown format of "
+                    + RESOURCE_NAME);
+        }
+        int[][] expectations = decoder.nextRows();
+        int[] features = decoder.nextRow();
+        int[] links = decoder.nextRow();
+        int[][] followers = decoder.nextRows();
+        return new Xpath3CompletionTables(expectations, features, links,
+                followers);
+    }
+
+    /**
+     * Writes the tables of {@link Xpath3ExpectationConstants} and
+     * {@link Xpath3FollowSetProvider} to the file given as the only argument.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: Xpath3CompletionTables <file>");
+            return;
+        }
+        OutputStream outputStream = new FileOutputStream(args[0]);
+        try {
+            write(outputStream);
+        } finally {
+            outputStream.close();
+        }
+    }
+
+    /**
+     * Writes the tables of {@link Xpath3ExpectationConstants} and
+     * {@link Xpath3FollowSetProvider} in the format of the resource.
+     */
+    static void write(OutputStream outputStream) throws IOException {
+        EStructuralFeature[] featureArray = Xpath3FollowSetProvider.FEATURES;
+        int[] features = new int[featureArray.length * 2];
+        for (int i = 0; i < featureArray.length; i++) {
+            EStructuralFeature feature = featureArray[i];
+            features[i * 2] = feature.getEContainingClass().getClassifierID();
+            features[i * 2 + 1] = feature.getFeatureID();
+        }
+        Xpath3ContainedFeature[] linkArray = Xpath3FollowSetProvider.LINKS;
+        int[] links = new int[linkArray.length * 2];
+        for (int i = 0; i < linkArray.length; i++) {
+            links[i * 2] = linkArray[i].getContainerClass().getClassifierID();
+            links[i * 2 + 1] = indexOf(featureArray, linkArray[i].getFeature());
+        }
+        IXpath3ExpectedElement[] terminals = Xpath3FollowSetProvider.TERMINALS;
+        List<int[]> followers = new ArrayList<int[]>();
+        for (int i = 0; i < terminals.length; i++) {
+            for (Xpath3Pair<IXpath3ExpectedElement, Xpath3ContainedFeature[]> follower : terminals[i]
+                    .getFollowers()) {
+                Xpath3ContainedFeature[] path = follower.getRight();
+                int[] row = new int[path.length + 2];
+                row[0] = i;
+                row[1] = indexOf(terminals, follower.getLeft());
+                for (int j = 0; j < path.length; j++) {
+                    row[j + 2] = indexOf(linkArray, path[j]);
+                }
+                followers.add(row);
+            }
+        }
+        Encoder encoder = new Encoder();
+        encoder.add(FORMAT);
+        encoder.addRows(Xpath3ExpectationConstants.EXPECTATIONS);
+        encoder.addRow(features);
+        encoder.addRow(links);
+        encoder.addRows(followers.toArray(new int[followers.size()][]));
+        encoder.writeTo(outputStream);
+    }
+
+    private static int indexOf(Object[] array, Object element) {
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == element) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown element " + element);
+    }
+
+    private static int indexOf(Xpath3ContainedFeature[] links,
+            Xpath3ContainedFeature link) {
+        EClass containerClass = link.getContainerClass();
+        EStructuralFeature feature = link.getFeature();
+        for (int i = 0; i < links.length; i++) {
+            if (links[i].getContainerClass() == containerClass
+                    && links[i].getFeature() == feature) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown link " + link);
+    }
+
+    /**
+     * Reads unsigned integers that are stored in groups of seven bits, least
+     * significant group first.
+     */
+    private static class Decoder {
+
+        private final byte[] bytes;
+
+        private int position;
+
+        Decoder(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        int next() {
+            int value = 0;
+            int shift = 0;
+            int b;
+            do {
+                if (position == bytes.length) {
+                    throw new IllegalStateException("Truncated "
+                            + RESOURCE_NAME);
+                }
+                b = bytes[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+
+        int[] nextRow() {
+            int[] row = new int[next()];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = next();
+            }
+            return row;
+        }
+
+        int[][] nextRows() {
+            int[][] rows = new int[next()][];
+            for (int i = 0; i < rows.length; i++) {
+                rows[i] = nextRow();
+            }
+            return rows;
+        }
+    }
+
+    /**
+     * Writes the integers in the format of {@link Decoder}.
+     */
+    private static class Encoder {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        void add(int value) {
+            while ((value & ~0x7F) != 0) {
+                bytes.write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes.write(value);
+        }
+
+        void addRow(int[] row) {
+            add(row.length);
+            for (int value : row) {
+                add(value);
+            }
+        }
+
+        void addRows(int[][] rows) {
+            add(rows.length);
+            for (int[] row : rows) {
+                addRow(row);
+            }
+        }
+
+        void writeTo(OutputStream outputStream) throws IOException {
+            bytes.writeTo(outputStream);
+        }
+    }
+}
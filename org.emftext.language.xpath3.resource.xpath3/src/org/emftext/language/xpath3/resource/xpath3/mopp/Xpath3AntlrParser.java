@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.mopp;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.antlr.runtime3_4_0.ANTLRInputStream;
+import org.antlr.runtime3_4_0.CommonTokenStream;
+import org.antlr.runtime3_4_0.RecognizerSharedState;
+import org.antlr.runtime3_4_0.TokenStream;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3TextParser;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3TextResource;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3RuntimeUtil;
+
+/**
+ * The generated parser without the expected-element bookkeeping of a plain
+ * parse. The rules of the generated parser report their follow sets through
+ * hundreds of index-based <code>addExpectedElement()</code> calls, some of
+ * which loop over more than a thousand expectations. They also push every
+ * element they start onto the list of incomplete objects and remove it again
+ * with a linear search when it is complete. Both are only used by
+ * {@link #parseToExpectedElements}. Here the index-based methods return at
+ * once, and the list of incomplete objects ignores its elements, unless
+ * {@link #parseToExpectedElements} is running. A plain parse therefore
+ * neither loops over expectations nor loads the code completion tables.
+ * <p>
+ * This is a subclass rather than a change of the generated parser, which is
+ * overwritten whenever the syntax is generated again. It is in the package
+ * of the generated parser to replace its list of incomplete objects.
+ */
+public class Xpath3AntlrParser extends Xpath3Parser {
+
+    /**
+     * The list of incomplete objects of a plain parse, which stays empty.
+     */
+    private static final List<EObject> NO_INCOMPLETE_OBJECTS =
+            new AbstractList<EObject>() {
+
+                @Override
+                public boolean add(EObject object) {
+                    return false;
+                }
+
+                @Override
+                public EObject get(int index) {
+                    throw new IndexOutOfBoundsException("Index: " + index);
+                }
+
+                @Override
+                public int size() {
+                    return 0;
+                }
+            };
+
+    /**
+     * Whether the parser is used for code completion. The flag of the
+     * generated parser is private.
+     */
+    private boolean rememberExpectedElements;
+
+    /**
+     * This default constructor is only used to call createInstance() on it.
+     */
+    public Xpath3AntlrParser() {
+        super();
+        this.incompleteObjects = NO_INCOMPLETE_OBJECTS;
+    }
+
+    public Xpath3AntlrParser(TokenStream input) {
+        super(input);
+        this.incompleteObjects = NO_INCOMPLETE_OBJECTS;
+    }
+
+    public Xpath3AntlrParser(TokenStream input, RecognizerSharedState state) {
+        super(input, state);
+        this.incompleteObjects = NO_INCOMPLETE_OBJECTS;
+    }
+
+    @Override
+    public IXpath3TextParser createInstance(InputStream actualInputStream,
+            String encoding) {
+        try {
+            if (encoding == null) {
+                return new Xpath3AntlrParser(new CommonTokenStream(
+                        new Xpath3Lexer(new ANTLRInputStream(actualInputStream))));
+            } else {
+                return new Xpath3AntlrParser(new CommonTokenStream(
+                        new Xpath3Lexer(new ANTLRInputStream(actualInputStream,
+                                encoding))));
+            }
+        } catch (IOException e) {
+            new Xpath3RuntimeUtil().logError("Error while creating parser.", e);
+            return null;
+        }
+    }
+
+    @Override
+    public void addExpectedElement(EClass eClass, int expectationStartIndex,
+            int expectationEndIndex) {
+        if (rememberExpectedElements) {
+            super.addExpectedElement(eClass, expectationStartIndex,
+                    expectationEndIndex);
+        }
+    }
+
+    @Override
+    public void addExpectedElement(EClass eClass, int expectationIndex) {
+        if (rememberExpectedElements) {
+            super.addExpectedElement(eClass, expectationIndex);
+        }
+    }
+
+    @Override
+    public List<Xpath3ExpectedTerminal> parseToExpectedElements(EClass type,
+            IXpath3TextResource dummyResource, int cursorOffset) {
+        this.rememberExpectedElements = true;
+        this.incompleteObjects = new ArrayList<EObject>();
+        return super.parseToExpectedElements(type, dummyResource, cursorOffset);
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.parser;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The result of {@link Xpath3BatchParser#parseAll(Iterable)}: the results of
+ * the expressions in input order and statistics about the batch.
+ */
+public final class Xpath3BatchParseResult {
+
+    private final List<Xpath3HeadlessParseResult> results;
+
+    private final int threadCount;
+
+    private final long elapsedNanos;
+
+    private final int errorCount;
+
+    Xpath3BatchParseResult(Xpath3HeadlessParseResult[] results,
+            int threadCount, long elapsedNanos) {
+        this.results = Collections.unmodifiableList(Arrays.asList(results));
+        this.threadCount = threadCount;
+        this.elapsedNanos = elapsedNanos;
+        int errorCount = 0;
+        for (Xpath3HeadlessParseResult result : results) {
+            if (result.hasErrors()) {
+                errorCount++;
+            }
+        }
+        this.errorCount = errorCount;
+    }
+
+    /**
+     * Returns the results of the expressions in input order.
+     */
+    public List<Xpath3HeadlessParseResult> getResults() {
+        return results;
+    }
+
+    /**
+     * Returns the result of the expression at the given position of the
+     * input.
+     */
+    public Xpath3HeadlessParseResult get(int index) {
+        return results.get(index);
+    }
+
+    /**
+     * Returns the number of expressions.
+     */
+    public int size() {
+        return results.size();
+    }
+
+    /**
+     * Returns the number of expressions with errors.
+     */
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    public boolean hasErrors() {
+        return errorCount > 0;
+    }
+
+    /**
+     * Returns the number of threads that parsed the expressions.
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * Returns the wall-clock time of the batch, including the time to read
+     * the input.
+     */
+    public long getElapsedTime(TimeUnit unit) {
+        return unit.convert(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the number of expressions parsed per second.
+     */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : results.size() * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return results.size() + " expressions, " + errorCount
+                + " with errors, " + threadCount + " threads, "
+                + getElapsedTime(TimeUnit.MILLISECONDS) + " ms, "
+                + Math.round(getThroughput()) + " expressions/s";
+    }
+}
@@ -0,0 +1,217 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.parser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3LocalizedMessage;
+
+/**
+ * Parses many expressions in parallel, e.g. a catalogue of expressions that
+ * is loaded at startup.
+ * <p>
+ * The expressions are parsed by an {@link Xpath3HeadlessParser}, so no
+ * resources are created and the threads don't contend for the resource
+ * factory registry or the loading lock of a resource. Each thread reuses its
+ * own generated parser. The threads take the expressions in small chunks
+ * from a shared counter, so long expressions don't hold up the others. The
+ * results are returned in input order, together with the syntax errors of
+ * each expression and some statistics.
+ * <p>
+ * An expression whose parser fails with a runtime exception or a stack
+ * overflow, e.g. because it is nested too deeply, gets a result without a
+ * root and with the failure as its error. The other expressions are not
+ * affected. Instances are thread-safe.
+ */
+public class Xpath3BatchParser {
+
+    /**
+     * The number of expressions that a thread takes at once.
+     */
+    private static final int CHUNK_SIZE = 16;
+
+    private final Xpath3HeadlessParser parser;
+
+    private final int threadCount;
+
+    /**
+     * Creates a batch parser with default options and one thread per
+     * available processor.
+     */
+    public Xpath3BatchParser() {
+        this(null, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param options
+     *            the load options of the {@link Xpath3HeadlessParser}
+     * @param threadCount
+     *            the number of threads that parse the expressions
+     */
+    public Xpath3BatchParser(Map<?, ?> options, int threadCount) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("threadCount " + threadCount);
+        }
+        this.parser = new Xpath3HeadlessParser(options);
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * Parses the expressions with threads that are created for this call and
+     * stopped afterwards.
+     *
+     * @throws InterruptedException
+     *             if the current thread is interrupted while waiting for the
+     *             results
+     */
+    public Xpath3BatchParseResult parseAll(
+            Iterable<? extends CharSequence> texts)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount,
+                new ParserThreadFactory());
+        try {
+            return parseAll(texts, executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Parses the expressions with the threads of the given executor. At most
+     * as many tasks as this parser has threads are submitted, the executor is
+     * not shut down.
+     *
+     * @throws InterruptedException
+     *             if the current thread is interrupted while waiting for the
+     *             results
+     */
+    public Xpath3BatchParseResult parseAll(
+            Iterable<? extends CharSequence> texts, ExecutorService executor)
+            throws InterruptedException {
+        long startTime = System.nanoTime();
+        List<String> textList = new ArrayList<String>();
+        for (CharSequence text : texts) {
+            textList.add(text.toString());
+        }
+        String[] textArray = textList.toArray(new String[textList.size()]);
+        Xpath3HeadlessParseResult[] results = new Xpath3HeadlessParseResult[textArray.length];
+        AtomicInteger nextIndex = new AtomicInteger();
+        int taskCount = Math.min(threadCount, (textArray.length
+                + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        List<Future<Void>> futures = new ArrayList<Future<Void>>(taskCount);
+        try {
+            for (int i = 0; i < taskCount; i++) {
+                futures.add(executor.submit(new ParseTask(textArray, results,
+                        nextIndex)));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            // let the tasks stop after their current chunk
+            nextIndex.set(textArray.length);
+            throw e;
+        } catch (ExecutionException e) {
+            nextIndex.set(textArray.length);
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            for (Future<Void> future : futures) {
+                future.cancel(false);
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+        return new Xpath3BatchParseResult(results, taskCount, elapsedNanos);
+    }
+
+    private Xpath3HeadlessParseResult parse(String text) {
+        try {
+            return parser.parse(text);
+        } catch (RuntimeException e) {
+            return createFailure(text, e);
+        } catch (StackOverflowError e) {
+            return createFailure(text, e);
+        }
+    }
+
+    private static Xpath3HeadlessParseResult createFailure(String text,
+            Throwable throwable) {
+        Xpath3LocalizedMessage error = new Xpath3LocalizedMessage(
+                "Error while parsing: " + throwable, 0, 1, 0, Math.max(0,
+                        text.length() - 1));
+        return new Xpath3HeadlessParseResult(null,
+                Collections.singletonList(error), null);
+    }
+
+    /**
+     * Parses chunks of expressions until all expressions have been taken.
+     */
+    private final class ParseTask implements Callable<Void> {
+
+        private final String[] texts;
+
+        private final Xpath3HeadlessParseResult[] results;
+
+        private final AtomicInteger nextIndex;
+
+        ParseTask(String[] texts, Xpath3HeadlessParseResult[] results,
+                AtomicInteger nextIndex) {
+            this.texts = texts;
+            this.results = results;
+            this.nextIndex = nextIndex;
+        }
+
+        @Override
+        public Void call() {
+            int start;
+            while ((start = nextIndex.getAndAdd(CHUNK_SIZE)) < texts.length) {
+                int end = Math.min(start + CHUNK_SIZE, texts.length);
+                for (int i = start; i < end; i++) {
+                    results[i] = parse(texts[i]);
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Creates daemon threads, so an abandoned batch doesn't keep the JVM
+     * alive.
+     */
+    private static final class ParserThreadFactory implements ThreadFactory {
+
+        private static final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "Xpath3BatchParser-"
+                    + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
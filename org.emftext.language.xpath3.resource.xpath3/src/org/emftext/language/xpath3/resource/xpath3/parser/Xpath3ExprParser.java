@@ -0,0 +1,1416 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.antlr.runtime3_4_0.CharStream;
+import org.antlr.runtime3_4_0.CommonToken;
+import org.antlr.runtime3_4_0.Token;
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.emftext.language.xpath3.AbbrevForwardStep;
+import org.emftext.language.xpath3.AbbrevForwardStepKind;
+import org.emftext.language.xpath3.AbbrevReverseStep;
+import org.emftext.language.xpath3.AdditiveExpr;
+import org.emftext.language.xpath3.AdditiveExprChild;
+import org.emftext.language.xpath3.AdditiveOpKind;
+import org.emftext.language.xpath3.AndExpr;
+import org.emftext.language.xpath3.AndExprChild;
+import org.emftext.language.xpath3.AnyExpr;
+import org.emftext.language.xpath3.AtomicItemType;
+import org.emftext.language.xpath3.AtomicType;
+import org.emftext.language.xpath3.AxisStep;
+import org.emftext.language.xpath3.CastExpr;
+import org.emftext.language.xpath3.CastExprChild;
+import org.emftext.language.xpath3.CastableExpr;
+import org.emftext.language.xpath3.CastableExprChild;
+import org.emftext.language.xpath3.ChildStepExpr;
+import org.emftext.language.xpath3.Comp;
+import org.emftext.language.xpath3.ComparisonExpr;
+import org.emftext.language.xpath3.ComparisonExprChild;
+import org.emftext.language.xpath3.DescOrSelfStepExpr;
+import org.emftext.language.xpath3.DocumentTest;
+import org.emftext.language.xpath3.Expr;
+import org.emftext.language.xpath3.ExprSingle;
+import org.emftext.language.xpath3.FilterExpr;
+import org.emftext.language.xpath3.ForExpr;
+import org.emftext.language.xpath3.ForwardAxisKind;
+import org.emftext.language.xpath3.FunctionCall;
+import org.emftext.language.xpath3.GeneralComp;
+import org.emftext.language.xpath3.GeneralCompKind;
+import org.emftext.language.xpath3.GeneralForwardStep;
+import org.emftext.language.xpath3.GeneralReverseStep;
+import org.emftext.language.xpath3.IfExpr;
+import org.emftext.language.xpath3.InstanceofExpr;
+import org.emftext.language.xpath3.InstanceofExprChild;
+import org.emftext.language.xpath3.IntersectExceptExpr;
+import org.emftext.language.xpath3.IntersectExceptExprChild;
+import org.emftext.language.xpath3.IntersectExceptOpKind;
+import org.emftext.language.xpath3.ItemKindTest;
+import org.emftext.language.xpath3.ItemSequenceType;
+import org.emftext.language.xpath3.ItemType;
+import org.emftext.language.xpath3.Iterator;
+import org.emftext.language.xpath3.KindTest;
+import org.emftext.language.xpath3.MultiplicativeExpr;
+import org.emftext.language.xpath3.MultiplicativeExprChild;
+import org.emftext.language.xpath3.MultiplicativeOpKind;
+import org.emftext.language.xpath3.NameAttributeTest;
+import org.emftext.language.xpath3.NameElementTest;
+import org.emftext.language.xpath3.NodeComp;
+import org.emftext.language.xpath3.NodeCompKind;
+import org.emftext.language.xpath3.NodeKindTest;
+import org.emftext.language.xpath3.NodeTest;
+import org.emftext.language.xpath3.OccurrenceIndicatorKind;
+import org.emftext.language.xpath3.OptionalAtomicType;
+import org.emftext.language.xpath3.OrExpr;
+import org.emftext.language.xpath3.OrExprChild;
+import org.emftext.language.xpath3.ParenthesizedExpr;
+import org.emftext.language.xpath3.PathExpr;
+import org.emftext.language.xpath3.PathExprChild;
+import org.emftext.language.xpath3.Predicate;
+import org.emftext.language.xpath3.PrimaryExpr;
+import org.emftext.language.xpath3.QuantifiedExpr;
+import org.emftext.language.xpath3.QuantifierKind;
+import org.emftext.language.xpath3.RangeExpr;
+import org.emftext.language.xpath3.RangeExprChild;
+import org.emftext.language.xpath3.ReverseAxisKind;
+import org.emftext.language.xpath3.SelfStepExpr;
+import org.emftext.language.xpath3.SequenceType;
+import org.emftext.language.xpath3.SingleType;
+import org.emftext.language.xpath3.StepExpr;
+import org.emftext.language.xpath3.TreatExpr;
+import org.emftext.language.xpath3.TreatExprChild;
+import org.emftext.language.xpath3.UnaryExpr;
+import org.emftext.language.xpath3.UnaryExprChild;
+import org.emftext.language.xpath3.UnaryOp;
+import org.emftext.language.xpath3.UnionExpr;
+import org.emftext.language.xpath3.UnionExprChild;
+import org.emftext.language.xpath3.UnionOp;
+import org.emftext.language.xpath3.ValueComp;
+import org.emftext.language.xpath3.WildcardAttributeTest;
+import org.emftext.language.xpath3.WildcardElementTest;
+import org.emftext.language.xpath3.XPath3Factory;
+import org.emftext.language.xpath3.XPath3Package;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3LocationMap;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3TokenResolver;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3TokenResolverFactory;
+import org.emftext.language.xpath3.resource.xpath3.grammar.Xpath3GrammarInformationProvider;
+import org.emftext.language.xpath3.resource.xpath3.grammar.Xpath3Keyword;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3LayoutInformation;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3Lexer;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3Parser;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3TerminateParsingException;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3TokenResolveResult;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3TokenResolverFactory;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3LayoutUtil;
+
+/**
+ * A hand-written LL(3) recursive descent parser for the <code>Expr</code>
+ * start rule of <code>xpath3.cs</code>.
+ * <p>
+ * The parser consumes the tokens of the {@link Xpath3FastLexer} and
+ * builds the same (unsimplified) chain of model elements as
+ * {@link Xpath3Parser}, without backtracking or memoization. It does not
+ * report errors: whenever the input is not a valid expression, or the
+ * generated parser could choose a different alternative than this one, the
+ * parser gives up and {@link #parse()} returns <code>null</code>. Callers are
+ * expected to fall back to the generated parser in that case.
+ * <p>
+ * If the {@link Xpath3FastParser#COLLAPSE_EXPRESSIONS} option is set, a
+ * precedence level with a single operand and no operator is not created at
+ * all, so the parser directly builds the model that the
+ * <code>PostProcessor</code> would produce, e.g. a single
+ * <code>IntegerLiteral</code> for the input <code>1</code>. Such models are
+ * marked, see {@link #isCollapsed(EObject)}.
+ */
+public final class Xpath3ExprParser {
+
+    private static final int EOF = Token.EOF;
+    private static final int NCNAME = Xpath3Lexer.NCNAME;
+    private static final int QNAME = Xpath3Lexer.QNAME;
+    private static final int INTEGER_LITERAL = Xpath3Lexer.INTEGER_LITERAL;
+    private static final int DECIMAL_LITERAL = Xpath3Lexer.DECIMAL_LITERAL;
+    private static final int DOUBLE_LITERAL = Xpath3Lexer.DOUBLE_LITERAL;
+    private static final int STRING_LITERAL = Xpath3Lexer.STRING_LITERAL;
+
+    private static final int NE = type("!=");
+    private static final int DOLLAR = type("$");
+    private static final int LPAREN = type("(");
+    private static final int RPAREN = type(")");
+    private static final int STAR = type("*");
+    private static final int PLUS = type("+");
+    private static final int COMMA = type(",");
+    private static final int MINUS = type("-");
+    private static final int DOT = type(".");
+    private static final int DOTDOT = type("..");
+    private static final int SLASH = type("/");
+    private static final int SLASHSLASH = type("//");
+    private static final int COLON = type(":");
+    private static final int COLONCOLON = type("::");
+    private static final int LT = type("<");
+    private static final int PRECEDES = type("<<");
+    private static final int LE = type("<=");
+    private static final int EQ = type("=");
+    private static final int GT = type(">");
+    private static final int GE = type(">=");
+    private static final int FOLLOWS = type(">>");
+    private static final int QUESTION = type("?");
+    private static final int AT = type("@");
+    private static final int LBRACKET = type("[");
+    private static final int RBRACKET = type("]");
+    private static final int BAR = type("|");
+    private static final int K_ANCESTOR = type("ancestor");
+    private static final int K_ANCESTOR_OR_SELF = type("ancestor-or-self");
+    private static final int K_AND = type("and");
+    private static final int K_AS = type("as");
+    private static final int K_ATTRIBUTE = type("attribute");
+    private static final int K_CAST = type("cast");
+    private static final int K_CASTABLE = type("castable");
+    private static final int K_CHILD = type("child");
+    private static final int K_COMMENT = type("comment");
+    private static final int K_DESCENDANT = type("descendant");
+    private static final int K_DESCENDANT_OR_SELF = type("descendant-or-self");
+    private static final int K_DIV = type("div");
+    private static final int K_DOCUMENT_NODE = type("document-node");
+    private static final int K_ELEMENT = type("element");
+    private static final int K_ELSE = type("else");
+    private static final int K_EMPTY_SEQUENCE = type("empty-sequence");
+    private static final int K_EQ = type("eq");
+    private static final int K_EVERY = type("every");
+    private static final int K_EXCEPT = type("except");
+    private static final int K_FOLLOWING = type("following");
+    private static final int K_FOLLOWING_SIBLING = type("following-sibling");
+    private static final int K_FOR = type("for");
+    private static final int K_GE = type("ge");
+    private static final int K_GT = type("gt");
+    private static final int K_IDIV = type("idiv");
+    private static final int K_IF = type("if");
+    private static final int K_IN = type("in");
+    private static final int K_INSTANCE = type("instance");
+    private static final int K_INTERSECT = type("intersect");
+    private static final int K_IS = type("is");
+    private static final int K_ITEM = type("item");
+    private static final int K_LE = type("le");
+    private static final int K_LT = type("lt");
+    private static final int K_MOD = type("mod");
+    private static final int K_NAMESPACE = type("namespace");
+    private static final int K_NE = type("ne");
+    private static final int K_NODE = type("node");
+    private static final int K_OF = type("of");
+    private static final int K_OR = type("or");
+    private static final int K_PARENT = type("parent");
+    private static final int K_PRECEDING = type("preceding");
+    private static final int K_PRECEDING_SIBLING = type("preceding-sibling");
+    private static final int K_PROCESSING_INSTRUCTION = type("processing-instruction");
+    private static final int K_RETURN = type("return");
+    private static final int K_SATISFIES = type("satisfies");
+    private static final int K_SCHEMA_ATTRIBUTE = type("schema-attribute");
+    private static final int K_SCHEMA_ELEMENT = type("schema-element");
+    private static final int K_SELF = type("self");
+    private static final int K_SOME = type("some");
+    private static final int K_TEXT = type("text");
+    private static final int K_THEN = type("then");
+    private static final int K_TO = type("to");
+    private static final int K_TREAT = type("treat");
+    private static final int K_UNION = type("union");
+
+    /**
+     * The number of token types known to the generated parser.
+     */
+    private static final int TOKEN_TYPES = Xpath3Parser.tokenNames.length;
+
+    /**
+     * Tokens that may follow a complete path expression, but can not start
+     * the operand of a unary expression.
+     */
+    private static final boolean[] FOLLOWS_PATH_ONLY = typeSet(RPAREN,
+            RBRACKET, COMMA, LBRACKET, COLON, EQ, NE, LT, LE, GT, GE, K_EQ,
+            K_NE, K_LT, K_LE, K_GT, K_GE, K_IS, PRECEDES, FOLLOWS, K_TO, K_DIV,
+            K_IDIV, K_MOD, K_UNION, BAR, K_INTERSECT, K_EXCEPT, K_INSTANCE,
+            K_TREAT, K_CASTABLE, K_CAST, K_AND, K_OR, K_RETURN, K_SATISFIES,
+            K_THEN, K_ELSE);
+
+    /**
+     * Tokens that may follow a complete path expression and can also start
+     * the operand of a unary expression.
+     */
+    private static final boolean[] FOLLOWS_PATH_OR_STARTS_OPERAND = typeSet(
+            PLUS, MINUS, STAR, SLASH, SLASHSLASH);
+
+    private static final boolean[] FORWARD_AXES = typeSet(K_CHILD,
+            K_DESCENDANT, K_ATTRIBUTE, K_SELF, K_DESCENDANT_OR_SELF,
+            K_FOLLOWING_SIBLING, K_FOLLOWING, K_NAMESPACE);
+
+    private static final boolean[] REVERSE_AXES = typeSet(K_PARENT,
+            K_ANCESTOR, K_PRECEDING_SIBLING, K_PRECEDING, K_ANCESTOR_OR_SELF);
+
+    private static final boolean[] KIND_TESTS = typeSet(K_NODE,
+            K_DOCUMENT_NODE, K_TEXT, K_COMMENT, K_PROCESSING_INSTRUCTION,
+            K_ATTRIBUTE, K_SCHEMA_ATTRIBUTE, K_ELEMENT, K_SCHEMA_ELEMENT);
+
+    private static final XPath3Factory FACTORY = XPath3Factory.eINSTANCE;
+
+    private static final XPath3Package PACKAGE = XPath3Package.eINSTANCE;
+
+    /**
+     * Signals that the input can not be handled by this parser.
+     */
+    private static final class GiveUpException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    private static final GiveUpException GIVE_UP = new GiveUpException();
+
+    /**
+     * Marks the root of a model that has been built with collapsed
+     * expression chains. The marker is stateless, so it is shared by all
+     * models.
+     */
+    private static final Adapter COLLAPSED = new Adapter() {
+
+        @Override
+        public void notifyChanged(Notification notification) {
+        }
+
+        @Override
+        public Notifier getTarget() {
+            return null;
+        }
+
+        @Override
+        public void setTarget(Notifier newTarget) {
+        }
+
+        @Override
+        public boolean isAdapterForType(Object type) {
+            return type == Xpath3ExprParser.class;
+        }
+    };
+
+    private final Xpath3FastLexer lexer;
+
+    private final Map<?, ?> options;
+
+    private final IXpath3LocationMap locationMap;
+
+    private final boolean collapse;
+
+    private final IXpath3TokenResolverFactory tokenResolverFactory = new Xpath3TokenResolverFactory();
+
+    private final Xpath3TokenResolveResult tokenResolveResult = new Xpath3TokenResolveResult();
+
+    private CommonToken[] tokens;
+
+    private int count;
+
+    private int p;
+
+    private volatile boolean terminateParsing;
+
+    /**
+     * Creates a parser for the given characters.
+     *
+     * @param input
+     *            the text to parse
+     * @param options
+     *            the load options that are passed to the token resolvers
+     * @param locationMap
+     *            the location map to fill, or <code>null</code> if no
+     *            location information is needed
+     */
+    public Xpath3ExprParser(CharStream input, Map<?, ?> options,
+            IXpath3LocationMap locationMap) {
+        this.lexer = new Xpath3FastLexer(input);
+        this.options = options;
+        this.locationMap = locationMap;
+        this.collapse = options != null
+                && Boolean.TRUE.equals(options
+                        .get(Xpath3FastParser.COLLAPSE_EXPRESSIONS));
+    }
+
+    /**
+     * Parses the input. Returns the root of the model, or <code>null</code>
+     * if the input must be parsed by the generated parser instead.
+     */
+    public AnyExpr parse() {
+        if (!tokenize()) {
+            return null;
+        }
+        try {
+            AnyExpr root = parseExpr();
+            if (la(1) != EOF) {
+                return null;
+            }
+            if (collapse) {
+                root.eAdapters().add(COLLAPSED);
+            }
+            return root;
+        } catch (GiveUpException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns whether a model has been built with collapsed expression
+     * chains, i.e. whether the <code>PostProcessor</code> has nothing left to
+     * simplify.
+     */
+    public static boolean isCollapsed(EObject root) {
+        return EcoreUtil.getExistingAdapter(root, Xpath3ExprParser.class) != null;
+    }
+
+    /**
+     * Signals the parser to terminate parsing as soon as possible.
+     */
+    public void terminate() {
+        terminateParsing = true;
+    }
+
+    private boolean tokenize() {
+        List<CommonToken> visible = new ArrayList<CommonToken>();
+        while (true) {
+            CommonToken token = (CommonToken) lexer.nextToken();
+            if (token.getType() == EOF) {
+                visible.add(token);
+                break;
+            }
+            if (token.getChannel() == Token.DEFAULT_CHANNEL) {
+                visible.add(token);
+            }
+        }
+        if (lexer.getNumberOfErrors() > 0) {
+            return false;
+        }
+        tokens = visible.toArray(new CommonToken[visible.size()]);
+        count = tokens.length;
+        p = 0;
+        return true;
+    }
+
+    // Expressions
+
+    private AnyExpr parseExpr() {
+        int start = p;
+        ExprSingle first = parseExprSingle();
+        if (collapse && la(1) != COMMA) {
+            return first;
+        }
+        Expr element = FACTORY.createExpr();
+        element.getExpr().add(first);
+        while (la(1) == COMMA) {
+            p++;
+            element.getExpr().add(parseExprSingle());
+        }
+        return located(element, start);
+    }
+
+    private ExprSingle parseExprSingle() {
+        if (terminateParsing) {
+            throw new Xpath3TerminateParsingException();
+        }
+        int type = la(1);
+        if (type == K_FOR) {
+            return parseForExpr();
+        }
+        if (type == K_SOME || type == K_EVERY) {
+            return parseQuantifiedExpr();
+        }
+        if (type == K_IF) {
+            return parseIfExpr();
+        }
+        return parseOrExpr();
+    }
+
+    private ForExpr parseForExpr() {
+        int start = p;
+        ForExpr element = FACTORY.createForExpr();
+        match(K_FOR);
+        element.getIterator().add(parseIterator());
+        while (la(1) == COMMA) {
+            p++;
+            element.getIterator().add(parseIterator());
+        }
+        match(K_RETURN);
+        element.setReturn(parseExprSingle());
+        return located(element, start);
+    }
+
+    private QuantifiedExpr parseQuantifiedExpr() {
+        int start = p;
+        QuantifiedExpr element = FACTORY.createQuantifiedExpr();
+        element.setQuantifier(la(1) == K_SOME ? QuantifierKind.SOME
+                : QuantifierKind.EVERY);
+        p++;
+        element.getIterator().add(parseIterator());
+        while (la(1) == COMMA) {
+            p++;
+            element.getIterator().add(parseIterator());
+        }
+        match(K_SATISFIES);
+        element.setSatisfies(parseExprSingle());
+        return located(element, start);
+    }
+
+    private Iterator parseIterator() {
+        int start = p;
+        Iterator element = FACTORY.createIterator();
+        match(DOLLAR);
+        resolveName(element, PACKAGE.getIterator_VarName());
+        match(K_IN);
+        element.setList(parseExprSingle());
+        return located(element, start);
+    }
+
+    private IfExpr parseIfExpr() {
+        int start = p;
+        IfExpr element = FACTORY.createIfExpr();
+        match(K_IF);
+        match(LPAREN);
+        element.setTest(parseExpr());
+        match(RPAREN);
+        match(K_THEN);
+        element.setThen(parseExprSingle());
+        match(K_ELSE);
+        element.setElse(parseExprSingle());
+        return located(element, start);
+    }
+
+    private ExprSingle parseOrExpr() {
+        int start = p;
+        OrExprChild operand = parseAndExpr();
+        if (collapse && la(1) != K_OR) {
+            return operand;
+        }
+        OrExpr element = FACTORY.createOrExpr();
+        element.getOperand().add(operand);
+        while (la(1) == K_OR) {
+            p++;
+            element.getOperand().add(parseAndExpr());
+        }
+        return located(element, start);
+    }
+
+    private OrExprChild parseAndExpr() {
+        int start = p;
+        AndExprChild operand = parseComparisonExpr();
+        if (collapse && la(1) != K_AND) {
+            return operand;
+        }
+        AndExpr element = FACTORY.createAndExpr();
+        element.getOperand().add(operand);
+        while (la(1) == K_AND) {
+            p++;
+            element.getOperand().add(parseComparisonExpr());
+        }
+        return located(element, start);
+    }
+
+    private AndExprChild parseComparisonExpr() {
+        int start = p;
+        ComparisonExprChild left = parseRangeExpr();
+        Comp comp = parseComp();
+        if (collapse && comp == null) {
+            return left;
+        }
+        ComparisonExpr element = FACTORY.createComparisonExpr();
+        element.setLeft(left);
+        if (comp != null) {
+            element.setOperator(comp);
+            element.setRight(parseRangeExpr());
+        }
+        return located(element, start);
+    }
+
+    private Comp parseComp() {
+        int type = la(1);
+        GeneralCompKind generalKind = null;
+        if (type == EQ) {
+            generalKind = GeneralCompKind.EQ;
+        } else if (type == NE) {
+            generalKind = GeneralCompKind.NE;
+        } else if (type == LT) {
+            generalKind = GeneralCompKind.LT;
+        } else if (type == LE) {
+            generalKind = GeneralCompKind.LE;
+        } else if (type == GT) {
+            generalKind = GeneralCompKind.GT;
+        } else if (type == GE) {
+            generalKind = GeneralCompKind.GE;
+        }
+        if (generalKind != null) {
+            GeneralComp element = FACTORY.createGeneralComp();
+            element.setOperator(generalKind);
+            return located(element, p++);
+        }
+        GeneralCompKind valueKind = null;
+        if (type == K_EQ) {
+            valueKind = GeneralCompKind.EQ;
+        } else if (type == K_NE) {
+            valueKind = GeneralCompKind.NE;
+        } else if (type == K_LT) {
+            valueKind = GeneralCompKind.LT;
+        } else if (type == K_LE) {
+            valueKind = GeneralCompKind.LE;
+        } else if (type == K_GT) {
+            valueKind = GeneralCompKind.GT;
+        } else if (type == K_GE) {
+            valueKind = GeneralCompKind.GE;
+        }
+        if (valueKind != null) {
+            ValueComp element = FACTORY.createValueComp();
+            element.setOperator(valueKind);
+            return located(element, p++);
+        }
+        NodeCompKind nodeKind = null;
+        if (type == K_IS) {
+            nodeKind = NodeCompKind.IS;
+        } else if (type == PRECEDES) {
+            nodeKind = NodeCompKind.PRECEDES;
+        } else if (type == FOLLOWS) {
+            nodeKind = NodeCompKind.FOLLOWS;
+        }
+        if (nodeKind != null) {
+            NodeComp element = FACTORY.createNodeComp();
+            element.setOperator(nodeKind);
+            return located(element, p++);
+        }
+        return null;
+    }
+
+    private ComparisonExprChild parseRangeExpr() {
+        int start = p;
+        RangeExprChild from = parseAdditiveExpr();
+        if (collapse && la(1) != K_TO) {
+            return from;
+        }
+        RangeExpr element = FACTORY.createRangeExpr();
+        element.setFrom(from);
+        if (la(1) == K_TO) {
+            p++;
+            element.setTo(parseAdditiveExpr());
+        }
+        return located(element, start);
+    }
+
+    private RangeExprChild parseAdditiveExpr() {
+        int start = p;
+        AdditiveExprChild operand = parseMultiplicativeExpr();
+        if (collapse) {
+            int type = la(1);
+            if (type != PLUS && type != MINUS) {
+                return operand;
+            }
+        }
+        AdditiveExpr element = FACTORY.createAdditiveExpr();
+        element.getOperand().add(operand);
+        while (true) {
+            int type = la(1);
+            if (type == PLUS) {
+                element.getOperator().add(AdditiveOpKind.ADDITION);
+            } else if (type == MINUS) {
+                element.getOperator().add(AdditiveOpKind.SUBTRACTION);
+            } else {
+                break;
+            }
+            p++;
+            element.getOperand().add(parseMultiplicativeExpr());
+        }
+        return located(element, start);
+    }
+
+    private AdditiveExprChild parseMultiplicativeExpr() {
+        int start = p;
+        MultiplicativeExprChild operand = parseUnionExpr();
+        if (collapse) {
+            int type = la(1);
+            if (type != STAR && type != K_DIV && type != K_IDIV
+                    && type != K_MOD) {
+                return operand;
+            }
+        }
+        MultiplicativeExpr element = FACTORY.createMultiplicativeExpr();
+        element.getOperand().add(operand);
+        while (true) {
+            int type = la(1);
+            if (type == STAR) {
+                element.getOperator().add(MultiplicativeOpKind.MULTIPLICATION);
+            } else if (type == K_DIV) {
+                element.getOperator().add(MultiplicativeOpKind.DIV);
+            } else if (type == K_IDIV) {
+                element.getOperator().add(MultiplicativeOpKind.IDIV);
+            } else if (type == K_MOD) {
+                element.getOperator().add(MultiplicativeOpKind.MOD);
+            } else {
+                break;
+            }
+            p++;
+            element.getOperand().add(parseUnionExpr());
+        }
+        return located(element, start);
+    }
+
+    private MultiplicativeExprChild parseUnionExpr() {
+        int start = p;
+        UnionExprChild operand = parseIntersectExceptExpr();
+        if (collapse) {
+            int type = la(1);
+            if (type != K_UNION && type != BAR) {
+                return operand;
+            }
+        }
+        UnionExpr element = FACTORY.createUnionExpr();
+        element.getOperand().add(operand);
+        while (true) {
+            int type = la(1);
+            if (type == K_UNION) {
+                element.getOperation().add(UnionOp.UNION);
+            } else if (type == BAR) {
+                element.getOperation().add(UnionOp.VERTICAL_BAR);
+            } else {
+                break;
+            }
+            p++;
+            element.getOperand().add(parseIntersectExceptExpr());
+        }
+        return located(element, start);
+    }
+
+    private UnionExprChild parseIntersectExceptExpr() {
+        int start = p;
+        IntersectExceptExprChild operand = parseInstanceofExpr();
+        if (collapse) {
+            int type = la(1);
+            if (type != K_INTERSECT && type != K_EXCEPT) {
+                return operand;
+            }
+        }
+        IntersectExceptExpr element = FACTORY.createIntersectExceptExpr();
+        element.getOperand().add(operand);
+        while (true) {
+            int type = la(1);
+            if (type == K_INTERSECT) {
+                element.getOperator().add(IntersectExceptOpKind.INTERSECT);
+            } else if (type == K_EXCEPT) {
+                element.getOperator().add(IntersectExceptOpKind.EXCEPT);
+            } else {
+                break;
+            }
+            p++;
+            element.getOperand().add(parseInstanceofExpr());
+        }
+        return located(element, start);
+    }
+
+    private IntersectExceptExprChild parseInstanceofExpr() {
+        int start = p;
+        InstanceofExprChild operand = parseTreatExpr();
+        if (collapse && la(1) != K_INSTANCE) {
+            return operand;
+        }
+        InstanceofExpr element = FACTORY.createInstanceofExpr();
+        element.setOperand(operand);
+        if (la(1) == K_INSTANCE) {
+            p++;
+            match(K_OF);
+            element.setType(parseSequenceType());
+        }
+        return located(element, start);
+    }
+
+    private InstanceofExprChild parseTreatExpr() {
+        int start = p;
+        TreatExprChild operand = parseCastableExpr();
+        if (collapse && la(1) != K_TREAT) {
+            return operand;
+        }
+        TreatExpr element = FACTORY.createTreatExpr();
+        element.setOperand(operand);
+        if (la(1) == K_TREAT) {
+            p++;
+            match(K_AS);
+            element.setType(parseSequenceType());
+        }
+        return located(element, start);
+    }
+
+    private TreatExprChild parseCastableExpr() {
+        int start = p;
+        CastableExprChild operand = parseCastExpr();
+        if (collapse && la(1) != K_CASTABLE) {
+            return operand;
+        }
+        CastableExpr element = FACTORY.createCastableExpr();
+        element.setOperand(operand);
+        if (la(1) == K_CASTABLE) {
+            p++;
+            match(K_AS);
+            element.setType(parseSingleType());
+        }
+        return located(element, start);
+    }
+
+    private CastableExprChild parseCastExpr() {
+        int start = p;
+        CastExprChild operand = parseUnaryExpr();
+        if (collapse && la(1) != K_CAST) {
+            return operand;
+        }
+        CastExpr element = FACTORY.createCastExpr();
+        element.setOperand(operand);
+        if (la(1) == K_CAST) {
+            p++;
+            match(K_AS);
+            element.setType(parseSingleType());
+        }
+        return located(element, start);
+    }
+
+    private CastExprChild parseUnaryExpr() {
+        int start = p;
+        if (collapse && la(1) != PLUS && la(1) != MINUS) {
+            return parsePathExpr();
+        }
+        UnaryExpr element = FACTORY.createUnaryExpr();
+        while (true) {
+            int type = la(1);
+            if (type == PLUS) {
+                element.getOperator().add(UnaryOp.PLUS);
+            } else if (type == MINUS) {
+                element.getOperator().add(UnaryOp.MINUS);
+            } else {
+                break;
+            }
+            p++;
+        }
+        element.setOperand(parsePathExpr());
+        return located(element, start);
+    }
+
+    // Paths
+
+    private UnaryExprChild parsePathExpr() {
+        int start = p;
+        PathExprChild first = parsePathExprChild();
+        if (collapse && !isStep(first) && la(1) != SLASH
+                && la(1) != SLASHSLASH) {
+            return first;
+        }
+        PathExpr element = FACTORY.createPathExpr();
+        element.getStep().add(first);
+        while (true) {
+            int type = la(1);
+            if (type == SLASH) {
+                element.getStep().add(parseChildStepExpr());
+            } else if (type == SLASHSLASH) {
+                element.getStep().add(parseDescOrSelfStepExpr());
+            } else {
+                break;
+            }
+        }
+        return located(element, start);
+    }
+
+    private PathExprChild parsePathExprChild() {
+        int type = la(1);
+        if (type == SLASH) {
+            if (isRootStep()) {
+                return located(FACTORY.createRootStepExpr(), p++);
+            }
+            return parseChildStepExpr();
+        }
+        if (type == SLASHSLASH) {
+            return parseDescOrSelfStepExpr();
+        }
+        if (isPrimaryStart(1)) {
+            int start = p;
+            PrimaryExpr primaryExpr = parsePrimaryExpr();
+            if (collapse && la(1) != LBRACKET) {
+                return primaryExpr;
+            }
+            return parseFilterExpr(primaryExpr, start);
+        }
+        if (isAxisStepStart(1)) {
+            int start = p;
+            SelfStepExpr element = FACTORY.createSelfStepExpr();
+            element.setStep(parseAxisStep());
+            return located(element, start);
+        }
+        throw GIVE_UP;
+    }
+
+    /**
+     * Decides whether a leading slash is a root step on its own, or starts a
+     * child step. Gives up if both readings are possible.
+     */
+    private boolean isRootStep() {
+        int next = la(2);
+        if (next == STAR) {
+            int afterStar = la(3);
+            if (afterStar == EOF || FOLLOWS_PATH_ONLY[afterStar]) {
+                return false;
+            }
+            if (FOLLOWS_PATH_OR_STARTS_OPERAND[afterStar]) {
+                throw GIVE_UP;
+            }
+            return true;
+        }
+        return !isStepStart(2);
+    }
+
+    private ChildStepExpr parseChildStepExpr() {
+        int start = p;
+        ChildStepExpr element = FACTORY.createChildStepExpr();
+        match(SLASH);
+        element.setStep(parseStepExpr());
+        return located(element, start);
+    }
+
+    private DescOrSelfStepExpr parseDescOrSelfStepExpr() {
+        int start = p;
+        DescOrSelfStepExpr element = FACTORY.createDescOrSelfStepExpr();
+        match(SLASHSLASH);
+        element.setStep(parseStepExpr());
+        return located(element, start);
+    }
+
+    private StepExpr parseStepExpr() {
+        if (isPrimaryStart(1)) {
+            return parseFilterExpr();
+        }
+        if (isAxisStepStart(1)) {
+            return parseAxisStep();
+        }
+        throw GIVE_UP;
+    }
+
+    /**
+     * Returns whether an element is a step that must stay in its path
+     * expression, because it carries the slash or is an axis step.
+     */
+    private static boolean isStep(PathExprChild element) {
+        return element instanceof SelfStepExpr
+                || element instanceof ChildStepExpr
+                || element instanceof DescOrSelfStepExpr;
+    }
+
+    private boolean isStepStart(int i) {
+        return isPrimaryStart(i) || isAxisStepStart(i);
+    }
+
+    private boolean isPrimaryStart(int i) {
+        int type = la(i);
+        if (type == NCNAME || type == QNAME) {
+            return la(i + 1) == LPAREN;
+        }
+        return type == DOLLAR || type == LPAREN || type == DOT
+                || type == INTEGER_LITERAL || type == DECIMAL_LITERAL
+                || type == DOUBLE_LITERAL || type == STRING_LITERAL;
+    }
+
+    private boolean isAxisStepStart(int i) {
+        int type = la(i);
+        if (type == EOF) {
+            return false;
+        }
+        if ((FORWARD_AXES[type] || REVERSE_AXES[type])
+                && la(i + 1) == COLONCOLON) {
+            return true;
+        }
+        return type == DOTDOT || type == AT || isNodeTestStart(i);
+    }
+
+    private boolean isNodeTestStart(int i) {
+        int type = la(i);
+        if (type == EOF) {
+            return false;
+        }
+        if (KIND_TESTS[type]) {
+            return la(i + 1) == LPAREN;
+        }
+        return type == NCNAME || type == QNAME || type == STAR;
+    }
+
+    private AxisStep parseAxisStep() {
+        int start = p;
+        int type = la(1);
+        AxisStep element;
+        if (FORWARD_AXES[type] && la(2) == COLONCOLON) {
+            GeneralForwardStep step = FACTORY.createGeneralForwardStep();
+            step.setAxis(forwardAxis(type));
+            addAxisLayout(step,
+                    Xpath3GrammarInformationProvider.XPATH3_28_0_0_1);
+            p += 2;
+            step.setNodeTest(parseNodeTest());
+            element = step;
+        } else if (REVERSE_AXES[type] && la(2) == COLONCOLON) {
+            GeneralReverseStep step = FACTORY.createGeneralReverseStep();
+            step.setAxis(reverseAxis(type));
+            addAxisLayout(step,
+                    Xpath3GrammarInformationProvider.XPATH3_30_0_0_1);
+            p += 2;
+            step.setNodeTest(parseNodeTest());
+            element = step;
+        } else if (type == DOTDOT) {
+            AbbrevReverseStep step = FACTORY.createAbbrevReverseStep();
+            p++;
+            element = step;
+        } else {
+            AbbrevForwardStep step = FACTORY.createAbbrevForwardStep();
+            if (type == AT) {
+                step.setKind(AbbrevForwardStepKind.ATTRIBUTE);
+                p++;
+            }
+            step.setNodeTest(parseNodeTest());
+            element = step;
+        }
+        while (la(1) == LBRACKET) {
+            element.getPredicate().add(parsePredicate());
+        }
+        return located(element, start);
+    }
+
+    /**
+     * Adds the layout of <code>axis :: test</code> to a step. The parser
+     * keeps no layout otherwise, and without it the step would be printed as
+     * <code>axis::test</code>, which the lexer takes for the start of a QName.
+     */
+    private static void addAxisLayout(AxisStep step, Xpath3Keyword colonColon) {
+        new Xpath3LayoutUtil().getLayoutInformationAdapter(step)
+                .addLayoutInformation(new Xpath3LayoutInformation(colonColon,
+                        null, -1, " ", "::"));
+    }
+
+    private static ForwardAxisKind forwardAxis(int type) {
+        if (type == K_CHILD) {
+            return ForwardAxisKind.CHILD;
+        } else if (type == K_DESCENDANT) {
+            return ForwardAxisKind.DESCENDANT;
+        } else if (type == K_ATTRIBUTE) {
+            return ForwardAxisKind.ATTRIBUTE;
+        } else if (type == K_SELF) {
+            return ForwardAxisKind.SELF;
+        } else if (type == K_DESCENDANT_OR_SELF) {
+            return ForwardAxisKind.DESCENDANT_OR_SELF;
+        } else if (type == K_FOLLOWING_SIBLING) {
+            return ForwardAxisKind.FOLLOWING_SIBLING;
+        } else if (type == K_FOLLOWING) {
+            return ForwardAxisKind.FOLLOWING;
+        }
+        return ForwardAxisKind.NAMESPACE;
+    }
+
+    private static ReverseAxisKind reverseAxis(int type) {
+        if (type == K_PARENT) {
+            return ReverseAxisKind.PARENT;
+        } else if (type == K_ANCESTOR) {
+            return ReverseAxisKind.ANCESTOR;
+        } else if (type == K_PRECEDING_SIBLING) {
+            return ReverseAxisKind.PRECEDING_SIBLING;
+        } else if (type == K_PRECEDING) {
+            return ReverseAxisKind.PRECEDING;
+        }
+        return ReverseAxisKind.ANCESTOR_OR_SELF;
+    }
+
+    private NodeTest parseNodeTest() {
+        int start = p;
+        int type = la(1);
+        if (type != EOF && KIND_TESTS[type]) {
+            NodeKindTest element = FACTORY.createNodeKindTest();
+            element.setTest(parseKindTest());
+            return located(element, start);
+        }
+        if (type == QNAME || (type == NCNAME && la(2) != COLON)) {
+            EObject element = FACTORY.createQNameTest();
+            resolveName(element, PACKAGE.getQNameTest_Name());
+            return (NodeTest) located(element, start);
+        }
+        if (type == NCNAME) {
+            EObject element = FACTORY.createLocalNameWildcard();
+            resolveToken(element, PACKAGE.getLocalNameWildcard_Namespace(),
+                    "NCNAME");
+            match(COLON);
+            match(STAR);
+            return (NodeTest) located(element, start);
+        }
+        if (type == STAR) {
+            p++;
+            if (la(1) == COLON) {
+                p++;
+                if (la(1) != NCNAME) {
+                    throw GIVE_UP;
+                }
+                EObject element = FACTORY.createNamespaceWildcard();
+                resolveToken(element,
+                        PACKAGE.getNamespaceWildcard_LocalName(), "NCNAME");
+                return (NodeTest) located(element, start);
+            }
+            return located(FACTORY.createAnyWildcard(), start);
+        }
+        throw GIVE_UP;
+    }
+
+    private Predicate parsePredicate() {
+        int start = p;
+        Predicate element = FACTORY.createPredicate();
+        match(LBRACKET);
+        element.setExpr(parseExpr());
+        match(RBRACKET);
+        return located(element, start);
+    }
+
+    // Primary expressions
+
+    private FilterExpr parseFilterExpr() {
+        int start = p;
+        return parseFilterExpr(parsePrimaryExpr(), start);
+    }
+
+    private FilterExpr parseFilterExpr(PrimaryExpr primaryExpr, int start) {
+        FilterExpr element = FACTORY.createFilterExpr();
+        element.setPrimaryExpr(primaryExpr);
+        while (la(1) == LBRACKET) {
+            element.getPredicate().add(parsePredicate());
+        }
+        return located(element, start);
+    }
+
+    private PrimaryExpr parsePrimaryExpr() {
+        int start = p;
+        int type = la(1);
+        if (type == NCNAME || type == QNAME) {
+            FunctionCall element = FACTORY.createFunctionCall();
+            resolveName(element, PACKAGE.getFunctionCall_Name());
+            match(LPAREN);
+            if (la(1) != RPAREN) {
+                element.getArg().add(parseExprSingle());
+                while (la(1) == COMMA) {
+                    p++;
+                    element.getArg().add(parseExprSingle());
+                }
+            }
+            match(RPAREN);
+            return located(element, start);
+        }
+        if (type == DOLLAR) {
+            EObject element = FACTORY.createVarRef();
+            p++;
+            resolveName(element, PACKAGE.getVarRef_VarName());
+            return (PrimaryExpr) located(element, start);
+        }
+        if (type == LPAREN) {
+            ParenthesizedExpr element = FACTORY.createParenthesizedExpr();
+            p++;
+            if (la(1) != RPAREN) {
+                element.setExpr(parseExpr());
+            }
+            match(RPAREN);
+            return located(element, start);
+        }
+        if (type == DOT) {
+            return located(FACTORY.createContextItemExpr(), p++);
+        }
+        EObject element;
+        if (type == INTEGER_LITERAL) {
+            element = FACTORY.createIntegerLiteral();
+            resolveToken(element, PACKAGE.getIntegerLiteral_Value(),
+                    "INTEGER_LITERAL");
+        } else if (type == DECIMAL_LITERAL) {
+            element = FACTORY.createDecimalLiteral();
+            resolveToken(element, PACKAGE.getDecimalLiteral_Value(),
+                    "DECIMAL_LITERAL");
+        } else if (type == DOUBLE_LITERAL) {
+            element = FACTORY.createDoubleLiteral();
+            resolveToken(element, PACKAGE.getDoubleLiteral_Value(),
+                    "DOUBLE_LITERAL");
+        } else if (type == STRING_LITERAL) {
+            element = FACTORY.createStringLiteral();
+            resolveToken(element, PACKAGE.getStringLiteral_Value(),
+                    "STRING_LITERAL");
+        } else {
+            throw GIVE_UP;
+        }
+        return (PrimaryExpr) located(element, start);
+    }
+
+    // Types
+
+    private SequenceType parseSequenceType() {
+        int start = p;
+        if (la(1) == K_EMPTY_SEQUENCE) {
+            p++;
+            match(LPAREN);
+            match(RPAREN);
+            return located(FACTORY.createEmptySequenceType(), start);
+        }
+        ItemSequenceType element = FACTORY.createItemSequenceType();
+        element.setItemType(parseItemType());
+        int type = la(1);
+        if (type == QUESTION) {
+            element.setOccurrence(
+                    OccurrenceIndicatorKind.OPTIONAL);
+            p++;
+        } else if (type == STAR || type == PLUS) {
+            // '*' and '+' may be an occurrence indicator or an operator
+            int next = la(2);
+            if (next != EOF && !FOLLOWS_PATH_ONLY[next]) {
+                throw GIVE_UP;
+            }
+            element.setOccurrence(type == STAR
+                    ? OccurrenceIndicatorKind.STAR
+                    : OccurrenceIndicatorKind.PLUS);
+            p++;
+        }
+        return located(element, start);
+    }
+
+    private ItemType parseItemType() {
+        int start = p;
+        int type = la(1);
+        if (type != EOF && KIND_TESTS[type]) {
+            ItemKindTest element = FACTORY.createItemKindTest();
+            element.setTest(parseKindTest());
+            return located(element, start);
+        }
+        if (type == K_ITEM) {
+            p++;
+            match(LPAREN);
+            match(RPAREN);
+            return located(FACTORY.createAnyItemType(), start);
+        }
+        AtomicItemType element = FACTORY.createAtomicItemType();
+        element.setType(parseAtomicType());
+        return located(element, start);
+    }
+
+    private SingleType parseSingleType() {
+        int start = p;
+        SingleType element = FACTORY.createSingleType();
+        element.setType(parseAtomicType());
+        if (la(1) == QUESTION) {
+            element.setOptional(true);
+            p++;
+        }
+        return located(element, start);
+    }
+
+    private AtomicType parseAtomicType() {
+        int start = p;
+        AtomicType element = FACTORY.createAtomicType();
+        resolveName(element, PACKAGE.getAtomicType_Name());
+        return located(element, start);
+    }
+
+    private OptionalAtomicType parseOptionalAtomicType() {
+        int start = p;
+        OptionalAtomicType element = FACTORY.createOptionalAtomicType();
+        resolveName(element, PACKAGE.getOptionalAtomicType_Name());
+        if (la(1) == QUESTION) {
+            element.setOptional(true);
+            p++;
+        }
+        return located(element, start);
+    }
+
+    private KindTest parseKindTest() {
+        int start = p;
+        int type = la(1);
+        if (la(2) != LPAREN) {
+            throw GIVE_UP;
+        }
+        p += 2;
+        KindTest element;
+        if (type == K_NODE) {
+            element = FACTORY.createAnyKindTest();
+        } else if (type == K_TEXT) {
+            element = FACTORY.createTextTest();
+        } else if (type == K_COMMENT) {
+            element = FACTORY.createCommentTest();
+        } else if (type == K_DOCUMENT_NODE) {
+            DocumentTest test = FACTORY.createDocumentTest();
+            int next = la(1);
+            if (next == K_ELEMENT || next == K_SCHEMA_ELEMENT) {
+                test.setTest(parseKindTest());
+            }
+            element = test;
+        } else if (type == K_PROCESSING_INSTRUCTION) {
+            if (la(1) == NCNAME) {
+                element = FACTORY.createNCNamePITest();
+                resolveToken(element, PACKAGE.getNCNamePITest_Name(), "NCNAME");
+            } else if (la(1) == RPAREN) {
+                element = FACTORY.createPITest();
+            } else {
+                // string literals are stored as references and need resolving
+                throw GIVE_UP;
+            }
+        } else if (type == K_ATTRIBUTE) {
+            if (la(1) == RPAREN) {
+                element = FACTORY.createAttributeTest();
+            } else if (la(1) == STAR) {
+                WildcardAttributeTest test = FACTORY
+                        .createWildcardAttributeTest();
+                p++;
+                if (la(1) == COMMA) {
+                    p++;
+                    resolveName(test, PACKAGE.getWildcardAttributeTest_Type());
+                }
+                element = test;
+            } else {
+                NameAttributeTest test = FACTORY.createNameAttributeTest();
+                resolveName(test, PACKAGE.getNameAttributeTest_Name());
+                if (la(1) == COMMA) {
+                    p++;
+                    resolveName(test, PACKAGE.getNameAttributeTest_Type());
+                }
+                element = test;
+            }
+        } else if (type == K_ELEMENT) {
+            if (la(1) == RPAREN) {
+                element = FACTORY.createElementTest();
+            } else if (la(1) == STAR) {
+                WildcardElementTest test = FACTORY.createWildcardElementTest();
+                p++;
+                if (la(1) == COMMA) {
+                    p++;
+                    test.setType(parseOptionalAtomicType());
+                }
+                element = test;
+            } else {
+                NameElementTest test = FACTORY.createNameElementTest();
+                resolveName(test, PACKAGE.getNameElementTest_Name());
+                if (la(1) == COMMA) {
+                    p++;
+                    test.setType(parseOptionalAtomicType());
+                }
+                element = test;
+            }
+        } else if (type == K_SCHEMA_ATTRIBUTE) {
+            element = FACTORY.createSchemaAttributeTest();
+            resolveName(element, PACKAGE.getSchemaAttributeTest_Name());
+        } else if (type == K_SCHEMA_ELEMENT) {
+            element = FACTORY.createSchemaElementTest();
+            resolveName(element, PACKAGE.getSchemaElementTest_Name());
+        } else {
+            throw GIVE_UP;
+        }
+        match(RPAREN);
+        return located(element, start);
+    }
+
+    // Tokens
+
+    private int la(int i) {
+        int index = p + i - 1;
+        if (index >= count) {
+            return EOF;
+        }
+        return tokens[index].getType();
+    }
+
+    private void match(int type) {
+        if (la(1) != type) {
+            throw GIVE_UP;
+        }
+        p++;
+    }
+
+    /**
+     * Consumes a QNAME or NCNAME token and stores the resolved name.
+     */
+    private void resolveName(EObject element, EStructuralFeature feature) {
+        int type = la(1);
+        if (type == QNAME) {
+            resolveToken(element, feature, "QNAME");
+        } else if (type == NCNAME) {
+            resolveToken(element, feature, "NCNAME");
+        } else {
+            throw GIVE_UP;
+        }
+    }
+
+    /**
+     * Consumes the current token and stores its resolved value the same way
+     * the generated parser does.
+     */
+    private void resolveToken(EObject element, EStructuralFeature feature,
+            String tokenName) {
+        IXpath3TokenResolver tokenResolver = tokenResolverFactory
+                .createTokenResolver(tokenName);
+        tokenResolver.setOptions(options);
+        tokenResolveResult.clear();
+        tokenResolver.resolve(tokens[p].getText(), feature, tokenResolveResult);
+        Object resolved = tokenResolveResult.getResolvedToken();
+        if (resolved == null) {
+            // let the generated parser report the error
+            throw GIVE_UP;
+        }
+        element.eSet(feature, resolved);
+        p++;
+    }
+
+    /**
+     * Records the location of an element that spans the tokens from
+     * <code>start</code> to the current position. Line, column and start are
+     * the minimum and end is the maximum over all tokens, which is what the
+     * generated parser computes by copying localization information from
+     * every token and child.
+     */
+    private <T extends EObject> T located(T element, int start) {
+        if (locationMap == null) {
+            return element;
+        }
+        CommonToken first = tokens[start];
+        CommonToken last = tokens[p - 1];
+        int column = first.getCharPositionInLine();
+        if (last.getLine() != first.getLine()) {
+            for (int i = start + 1; i < p; i++) {
+                column = Math.min(column, tokens[i].getCharPositionInLine());
+            }
+        }
+        locationMap.setCharStart(element, first.getStartIndex());
+        locationMap.setCharEnd(element, last.getStopIndex());
+        locationMap.setColumn(element, column);
+        locationMap.setLine(element, first.getLine());
+        return element;
+    }
+
+    private static int type(String literal) {
+        String name = "'" + literal + "'";
+        String[] tokenNames = Xpath3Parser.tokenNames;
+        for (int i = 0; i < tokenNames.length; i++) {
+            if (name.equals(tokenNames[i])) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Unknown token " + name);
+    }
+
+    private static boolean[] typeSet(int... types) {
+        boolean[] set = new boolean[TOKEN_TYPES];
+        for (int type : types) {
+            set[type] = true;
+        }
+        return set;
+    }
+}
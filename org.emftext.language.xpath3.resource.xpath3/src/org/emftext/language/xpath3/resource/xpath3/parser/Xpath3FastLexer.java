@@ -0,0 +1,495 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.parser;
+
+import org.antlr.runtime3_4_0.ANTLRCharSequenceStream;
+import org.antlr.runtime3_4_0.CharStream;
+import org.antlr.runtime3_4_0.CommonToken;
+import org.antlr.runtime3_4_0.Token;
+import org.antlr.runtime3_4_0.TokenSource;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3Lexer;
+
+/**
+ * A hand-written lexer that produces the same tokens as the generated
+ * {@link Xpath3Lexer}, i.e. the token types of <code>Xpath3.tokens</code>
+ * with the same start and stop indexes, lines and columns. Whitespace is
+ * emitted on the hidden channel <code>99</code>.
+ * <p>
+ * The generated lexer predicts every token with a DFA whose tables are
+ * unpacked when the class is initialized and then matches the characters of
+ * the predicted rule one by one. This lexer scans the characters directly:
+ * names are matched with bitmaps of the <code>NCNAME_START_CHAR</code> and
+ * <code>NCNAME_CHAR</code> classes of the grammar, and a name is looked up
+ * in a perfect hash table of the keywords. Only the constants of the
+ * generated lexer are used, so it is never initialized.
+ * <p>
+ * The generated lexer decides on the rule of a name at a following colon and
+ * on the rule of a number at a following <code>e</code> or <code>E</code>.
+ * So a name that is followed by a colon is always matched as a
+ * <code>QNAME</code>, e.g. <code>child::x</code> is an error, and a number
+ * that is followed by an exponent character always as a
+ * <code>DOUBLE_LITERAL</code>. This lexer reports the same errors.
+ * <p>
+ * Characters that don't start a token and tokens that can't be completed are
+ * counted as errors, see {@link #getNumberOfErrors()}, and skipped. Only the
+ * tokens of an input without errors are guaranteed to be the same as the
+ * ones of the generated lexer, whose error recovery differs.
+ */
+public final class Xpath3FastLexer implements TokenSource {
+
+    /**
+     * The channel of the <code>WHITESPACE</code> tokens.
+     */
+    public static final int WHITESPACE_CHANNEL = 99;
+
+    private static final int DECIMAL_LITERAL = Xpath3Lexer.DECIMAL_LITERAL;
+    private static final int DOUBLE_LITERAL = Xpath3Lexer.DOUBLE_LITERAL;
+    private static final int INTEGER_LITERAL = Xpath3Lexer.INTEGER_LITERAL;
+    private static final int NCNAME = Xpath3Lexer.NCNAME;
+    private static final int QNAME = Xpath3Lexer.QNAME;
+    private static final int STRING_LITERAL = Xpath3Lexer.STRING_LITERAL;
+    private static final int WHITESPACE = Xpath3Lexer.WHITESPACE;
+
+    private static final int NE = Xpath3Lexer.T__11;
+    private static final int DOLLAR = Xpath3Lexer.T__12;
+    private static final int LPAREN = Xpath3Lexer.T__13;
+    private static final int RPAREN = Xpath3Lexer.T__14;
+    private static final int STAR = Xpath3Lexer.T__15;
+    private static final int PLUS = Xpath3Lexer.T__16;
+    private static final int COMMA = Xpath3Lexer.T__17;
+    private static final int MINUS = Xpath3Lexer.T__18;
+    private static final int DOT = Xpath3Lexer.T__19;
+    private static final int DOTDOT = Xpath3Lexer.T__20;
+    private static final int SLASH = Xpath3Lexer.T__21;
+    private static final int SLASHSLASH = Xpath3Lexer.T__22;
+    private static final int COLON = Xpath3Lexer.T__23;
+    private static final int COLONCOLON = Xpath3Lexer.T__24;
+    private static final int LT = Xpath3Lexer.T__25;
+    private static final int PRECEDES = Xpath3Lexer.T__26;
+    private static final int LE = Xpath3Lexer.T__27;
+    private static final int EQ = Xpath3Lexer.T__28;
+    private static final int GT = Xpath3Lexer.T__29;
+    private static final int GE = Xpath3Lexer.T__30;
+    private static final int FOLLOWS = Xpath3Lexer.T__31;
+    private static final int QUESTION = Xpath3Lexer.T__32;
+    private static final int AT = Xpath3Lexer.T__33;
+    private static final int LBRACKET = Xpath3Lexer.T__34;
+    private static final int RBRACKET = Xpath3Lexer.T__35;
+    private static final int BAR = Xpath3Lexer.T__90;
+
+    /**
+     * The type of the first keyword. The keywords have consecutive types in
+     * the order of {@link #KEYWORDS}.
+     */
+    private static final int FIRST_KEYWORD = Xpath3Lexer.T__36;
+
+    private static final String[] KEYWORDS = { "ancestor",
+            "ancestor-or-self", "and", "as", "attribute", "cast", "castable",
+            "child", "comment", "descendant", "descendant-or-self", "div",
+            "document-node", "element", "else", "empty-sequence", "eq",
+            "every", "except", "following", "following-sibling", "for", "ge",
+            "gt", "idiv", "if", "in", "instance", "intersect", "is", "item",
+            "le", "lt", "mod", "namespace", "ne", "node", "of", "or",
+            "parent", "preceding", "preceding-sibling",
+            "processing-instruction", "return", "satisfies",
+            "schema-attribute", "schema-element", "self", "some", "text",
+            "then", "to", "treat", "union" };
+
+    /**
+     * The size of the keyword table, a power of two.
+     */
+    private static final int KEYWORD_TABLE_SIZE = 256;
+
+    /**
+     * The keywords by their hash, see {@link #keywordHash(String, int, int)}.
+     * The hash is collision-free for the keywords, so a name is a keyword
+     * iff it equals the keyword in its slot.
+     */
+    private static final String[] KEYWORD_TABLE = new String[KEYWORD_TABLE_SIZE];
+
+    private static final int[] KEYWORD_TYPES = new int[KEYWORD_TABLE_SIZE];
+
+    static {
+        for (int i = 0; i < KEYWORDS.length; i++) {
+            String keyword = KEYWORDS[i];
+            int hash = keywordHash(keyword, 0, keyword.length());
+            if (KEYWORD_TABLE[hash] != null) {
+                throw new IllegalStateException("The keywords '" + keyword
+                        + "' and '" + KEYWORD_TABLE[hash] + "' collide");
+            }
+            KEYWORD_TABLE[hash] = keyword;
+            KEYWORD_TYPES[hash] = FIRST_KEYWORD + i;
+        }
+    }
+
+    /**
+     * The ranges of <code>NCNAME_START_CHAR</code>, inclusive.
+     */
+    private static final char[] NAME_START_RANGES = { 'A', 'Z', '_', '_', 'a',
+            'z', '\u00C0', '\u00D6', '\u00D8', '\u00F6', '\u00F8', '\u02FF',
+            '\u0370', '\u037D', '\u037F', '\u1FFF', '\u200C', '\u200D',
+            '\u2070', '\u218F', '\u2C00', '\u2FEF', '\u3001', '\uD7FF',
+            '\uF900', '\uFDCF', '\uFDF0', '\uFFFD' };
+
+    /**
+     * The ranges that <code>NCNAME_CHAR</code> adds to
+     * <code>NCNAME_START_CHAR</code>, inclusive.
+     */
+    private static final char[] NAME_PART_RANGES = { '-', '.', '0', '9',
+            '\u00B7', '\u00B7', '\u0300', '\u036F', '\u203F', '\u2040' };
+
+    /**
+     * One bit for every character of the BMP.
+     */
+    private static final long[] NAME_START_CHARS = new long[1 << 10];
+
+    private static final long[] NAME_CHARS = new long[1 << 10];
+
+    static {
+        addRanges(NAME_START_CHARS, NAME_START_RANGES);
+        addRanges(NAME_CHARS, NAME_START_RANGES);
+        addRanges(NAME_CHARS, NAME_PART_RANGES);
+    }
+
+    private final CharStream input;
+
+    private final String text;
+
+    private final int length;
+
+    private int p;
+
+    private int line;
+
+    /**
+     * The index of the first character of the current line.
+     */
+    private int lineStart;
+
+    private int errors;
+
+    /**
+     * Creates a lexer for the characters of the given stream, starting at its
+     * current index. The stream itself is not consumed. The characters of an
+     * {@link ANTLRCharSequenceStream} over a string are not copied.
+     */
+    public Xpath3FastLexer(CharStream input) {
+        this.input = input;
+        this.length = input.size();
+        if (input instanceof ANTLRCharSequenceStream) {
+            this.text = ((ANTLRCharSequenceStream) input).getCharSequence()
+                    .toString();
+        } else {
+            this.text = length == 0 ? "" : input.substring(0, length - 1);
+        }
+        this.p = input.index();
+        this.line = input.getLine();
+        this.lineStart = p - input.getCharPositionInLine();
+    }
+
+    /**
+     * Returns the number of characters and unterminated string literals that
+     * could not be matched so far.
+     */
+    public int getNumberOfErrors() {
+        return errors;
+    }
+
+    @Override
+    public String getSourceName() {
+        return input.getSourceName();
+    }
+
+    @Override
+    public Token nextToken() {
+        while (p < length) {
+            int start = p;
+            int startLine = line;
+            int startColumn = p - lineStart;
+            int type = scan();
+            if (type == Token.INVALID_TOKEN_TYPE) {
+                // skip the characters of the invalid token
+                errors++;
+                if (p == start) {
+                    consume();
+                }
+                continue;
+            }
+            CommonToken token = new CommonToken(input, type,
+                    type == WHITESPACE ? WHITESPACE_CHANNEL
+                            : Token.DEFAULT_CHANNEL, start, p - 1);
+            token.setLine(startLine);
+            token.setCharPositionInLine(startColumn);
+            return token;
+        }
+        CommonToken eof = new CommonToken(input, Token.EOF,
+                Token.DEFAULT_CHANNEL, p, p);
+        eof.setLine(line);
+        eof.setCharPositionInLine(p - lineStart);
+        return eof;
+    }
+
+    /**
+     * Matches the token at the current position and returns its type, or
+     * {@link Token#INVALID_TOKEN_TYPE} if there is none.
+     */
+    private int scan() {
+        char c = text.charAt(p);
+        switch (c) {
+        case ' ':
+        case '\t':
+        case '\f':
+        case '\r':
+        case '\n':
+            do {
+                consume();
+            } while (p < length && isWhitespace(text.charAt(p)));
+            return WHITESPACE;
+        case '"':
+        case '\'':
+            return scanString(c);
+        case '0':
+        case '1':
+        case '2':
+        case '3':
+        case '4':
+        case '5':
+        case '6':
+        case '7':
+        case '8':
+        case '9':
+            return scanNumber();
+        case '.':
+            if (isDigit(la(1))) {
+                return scanNumber();
+            }
+            return match('.', DOTDOT, DOT);
+        case '!':
+            p++;
+            if (la(0) != '=') {
+                return Token.INVALID_TOKEN_TYPE;
+            }
+            p++;
+            return NE;
+        case '$':
+            p++;
+            return DOLLAR;
+        case '(':
+            p++;
+            return LPAREN;
+        case ')':
+            p++;
+            return RPAREN;
+        case '*':
+            p++;
+            return STAR;
+        case '+':
+            p++;
+            return PLUS;
+        case ',':
+            p++;
+            return COMMA;
+        case '-':
+            p++;
+            return MINUS;
+        case '/':
+            return match('/', SLASHSLASH, SLASH);
+        case ':':
+            return match(':', COLONCOLON, COLON);
+        case '<':
+            p++;
+            if (la(0) == '<') {
+                p++;
+                return PRECEDES;
+            }
+            if (la(0) == '=') {
+                p++;
+                return LE;
+            }
+            return LT;
+        case '=':
+            p++;
+            return EQ;
+        case '>':
+            p++;
+            if (la(0) == '>') {
+                p++;
+                return FOLLOWS;
+            }
+            if (la(0) == '=') {
+                p++;
+                return GE;
+            }
+            return GT;
+        case '?':
+            p++;
+            return QUESTION;
+        case '@':
+            p++;
+            return AT;
+        case '[':
+            p++;
+            return LBRACKET;
+        case ']':
+            p++;
+            return RBRACKET;
+        case '|':
+            p++;
+            return BAR;
+        default:
+            if (isNameStartChar(c)) {
+                return scanName();
+            }
+            return Token.INVALID_TOKEN_TYPE;
+        }
+    }
+
+    /**
+     * Matches a one character token, or a two character token if it is
+     * followed by the given character.
+     */
+    private int match(char second, int longType, int shortType) {
+        p++;
+        if (la(0) == second) {
+            p++;
+            return longType;
+        }
+        return shortType;
+    }
+
+    private int scanString(char quote) {
+        p++;
+        while (p < length) {
+            char c = text.charAt(p);
+            if (c == quote) {
+                p++;
+                if (la(0) != quote) {
+                    return STRING_LITERAL;
+                }
+                // an escaped quote
+                p++;
+            } else {
+                consume();
+            }
+        }
+        return Token.INVALID_TOKEN_TYPE;
+    }
+
+    private int scanNumber() {
+        int type = INTEGER_LITERAL;
+        while (isDigit(la(0))) {
+            p++;
+        }
+        if (la(0) == '.') {
+            type = DECIMAL_LITERAL;
+            p++;
+            while (isDigit(la(0))) {
+                p++;
+            }
+        }
+        char e = la(0);
+        if (e != 'e' && e != 'E') {
+            return type;
+        }
+        p++;
+        char sign = la(0);
+        if (sign == '+' || sign == '-') {
+            p++;
+        }
+        if (!isDigit(la(0))) {
+            return Token.INVALID_TOKEN_TYPE;
+        }
+        while (isDigit(la(0))) {
+            p++;
+        }
+        return DOUBLE_LITERAL;
+    }
+
+    private int scanName() {
+        int start = p;
+        p++;
+        while (p < length && isNameChar(text.charAt(p))) {
+            p++;
+        }
+        if (la(0) == ':') {
+            p++;
+            if (!isNameStartChar(la(0))) {
+                return Token.INVALID_TOKEN_TYPE;
+            }
+            p++;
+            while (p < length && isNameChar(text.charAt(p))) {
+                p++;
+            }
+            return QNAME;
+        }
+        int hash = keywordHash(text, start, p);
+        String keyword = KEYWORD_TABLE[hash];
+        if (keyword != null && keyword.length() == p - start
+                && text.regionMatches(start, keyword, 0, keyword.length())) {
+            return KEYWORD_TYPES[hash];
+        }
+        return NCNAME;
+    }
+
+    /**
+     * Returns the character at the given offset from the current position, or
+     * the noncharacter U+FFFF, which is not part of any token, at the end of
+     * the input.
+     */
+    private char la(int offset) {
+        int index = p + offset;
+        return index < length ? text.charAt(index) : '\uFFFF';
+    }
+
+    /**
+     * Moves to the next character and keeps track of the lines.
+     */
+    private void consume() {
+        if (text.charAt(p) == '\n') {
+            line++;
+            lineStart = p + 1;
+        }
+        p++;
+    }
+
+    /**
+     * A perfect hash of the keywords: the sum of the first and the last
+     * character and 31 times the length.
+     */
+    private static int keywordHash(String s, int start, int end) {
+        return (s.charAt(start) + s.charAt(end - 1) + (end - start) * 31)
+                & (KEYWORD_TABLE_SIZE - 1);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\f' || c == '\r' || c == '\n';
+    }
+
+    private static boolean isNameStartChar(char c) {
+        return (NAME_START_CHARS[c >>> 6] & (1L << c)) != 0;
+    }
+
+    private static boolean isNameChar(char c) {
+        return (NAME_CHARS[c >>> 6] & (1L << c)) != 0;
+    }
+
+    private static void addRanges(long[] bitmap, char[] ranges) {
+        for (int i = 0; i < ranges.length; i += 2) {
+            for (int c = ranges[i]; c <= ranges[i + 1]; c++) {
+                bitmap[c >>> 6] |= 1L << c;
+            }
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.List;
+import java.util.Map;
+
+import org.antlr.runtime3_4_0.ANTLRCharSequenceStream;
+import org.antlr.runtime3_4_0.CharStream;
+import org.antlr.runtime3_4_0.CommonTokenStream;
+import org.eclipse.emf.ecore.EClass;
+import org.emftext.language.xpath3.AnyExpr;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3LocationMap;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3Options;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3ParseResult;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3TextParser;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3TextResource;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3AntlrParser;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3DevNullLocationMap;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ExpectedTerminal;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3Lexer;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3LocationMap;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ParseResult;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3RuntimeUtil;
+
+/**
+ * A text parser that parses the <code>Expr</code> start rule with a
+ * non-backtracking recursive descent parser ({@link Xpath3ExprParser}) and
+ * falls back to the generated ANTLR parser for everything else.
+ * <p>
+ * The fast path is only taken if the {@link #USE_FAST_PARSER} load option is
+ * set to <code>true</code>, no <code>RESOURCE_CONTENT_TYPE</code> is given and
+ * the input is a syntactically valid expression. Syntax errors, ambiguous
+ * input and code completion are always handled by {@link Xpath3AntlrParser}, so
+ * diagnostics are the same in both modes. The fast path builds exactly the same
+ * model and location map as the generated parser, but does not record layout
+ * information. Printing a resource loaded this way uses the default layout,
+ * except that axis steps are printed as <code>axis :: test</code>.
+ * With the {@link #COLLAPSE_EXPRESSIONS} option the fast path builds the
+ * simplified model right away.
+ * <p>
+ * If the input is an {@link Xpath3TextInputStream}, both parsers read its
+ * text directly instead of decoding bytes, in both modes.
+ */
+public class Xpath3FastParser implements IXpath3TextParser {
+
+    /**
+     * The key for the load option to enable the fast path. The value must be
+     * <code>Boolean.TRUE</code>.
+     */
+    public static final String USE_FAST_PARSER = "USE_FAST_PARSER";
+
+    /**
+     * The key for the load option to let the fast path collapse chains of
+     * single operand expressions while parsing, instead of leaving them to
+     * the <code>PostProcessor</code>. The value must be
+     * <code>Boolean.TRUE</code>. The option has no effect unless
+     * {@link #USE_FAST_PARSER} is set. Input that is handled by the generated
+     * parser is still simplified by the <code>PostProcessor</code>.
+     */
+    public static final String COLLAPSE_EXPRESSIONS = "COLLAPSE_EXPRESSIONS";
+
+    private final InputStream inputStream;
+
+    private final String encoding;
+
+    /**
+     * The text of an {@link Xpath3TextInputStream}, or <code>null</code>.
+     */
+    private final CharSequence text;
+
+    private Map<?, ?> options;
+
+    private volatile IXpath3TextParser delegate;
+
+    private volatile Xpath3ExprParser exprParser;
+
+    public Xpath3FastParser(InputStream inputStream, String encoding) {
+        this.inputStream = inputStream;
+        this.encoding = encoding;
+        this.text = inputStream instanceof Xpath3TextInputStream
+                ? ((Xpath3TextInputStream) inputStream).getText() : null;
+    }
+
+    @Override
+    public void setOptions(Map<?, ?> options) {
+        this.options = options;
+    }
+
+    @Override
+    public IXpath3ParseResult parse() {
+        if (!isFastParserEnabled()) {
+            return getDelegate().parse();
+        }
+        CharSequence text = this.text;
+        if (text == null) {
+            try {
+                text = readText();
+            } catch (IOException e) {
+                new Xpath3RuntimeUtil().logError("Error while reading input.",
+                        e);
+                return null;
+            }
+        }
+        IXpath3ParseResult result = parseFast(text);
+        if (result != null) {
+            return result;
+        }
+        delegate = createAntlrParser(new ANTLRCharSequenceStream(text));
+        return delegate.parse();
+    }
+
+    @Override
+    public List<Xpath3ExpectedTerminal> parseToExpectedElements(EClass type,
+            IXpath3TextResource dummyResource, int cursorOffset) {
+        return getDelegate().parseToExpectedElements(type, dummyResource,
+                cursorOffset);
+    }
+
+    @Override
+    public void terminate() {
+        Xpath3ExprParser currentExprParser = exprParser;
+        if (currentExprParser != null) {
+            currentExprParser.terminate();
+        }
+        IXpath3TextParser currentDelegate = delegate;
+        if (currentDelegate != null) {
+            currentDelegate.terminate();
+        }
+    }
+
+    private IXpath3ParseResult parseFast(CharSequence text) {
+        boolean disableLocationMap = options != null
+                && options.get(IXpath3Options.DISABLE_LOCATION_MAP) != null
+                && !Boolean.FALSE.equals(options
+                        .get(IXpath3Options.DISABLE_LOCATION_MAP));
+        IXpath3LocationMap locationMap = disableLocationMap
+                ? new Xpath3DevNullLocationMap() : new Xpath3LocationMap();
+        exprParser = new Xpath3ExprParser(new ANTLRCharSequenceStream(text),
+                options, disableLocationMap ? null : locationMap);
+        AnyExpr root = exprParser.parse();
+        exprParser = null;
+        if (root == null) {
+            return null;
+        }
+        Xpath3ParseResult result = new Xpath3ParseResult();
+        result.setRoot(root);
+        result.setLocationMap(locationMap);
+        return result;
+    }
+
+    private boolean isFastParserEnabled() {
+        if (options == null) {
+            return false;
+        }
+        if (!Boolean.TRUE.equals(options.get(USE_FAST_PARSER))) {
+            return false;
+        }
+        return options.get(IXpath3Options.RESOURCE_CONTENT_TYPE) == null;
+    }
+
+    private IXpath3TextParser getDelegate() {
+        if (delegate == null) {
+            if (text != null) {
+                delegate = createAntlrParser(new ANTLRCharSequenceStream(text));
+            } else {
+                delegate = new Xpath3AntlrParser().createInstance(inputStream,
+                        encoding);
+                if (delegate != null) {
+                    delegate.setOptions(options);
+                }
+            }
+        }
+        return delegate;
+    }
+
+    private IXpath3TextParser createAntlrParser(CharStream stream) {
+        IXpath3TextParser parser = new Xpath3AntlrParser(new CommonTokenStream(
+                new Xpath3Lexer(stream)));
+        parser.setOptions(options);
+        return parser;
+    }
+
+    /**
+     * Reads the input the same way <code>ANTLRInputStream</code> does, so the
+     * fallback parser sees exactly the same characters.
+     */
+    private String readText() throws IOException {
+        Reader reader = encoding == null ? new InputStreamReader(inputStream)
+                : new InputStreamReader(inputStream, encoding);
+        try {
+            StringBuilder text = new StringBuilder();
+            char[] buffer = new char[1024];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                text.append(buffer, 0, read);
+            }
+            return text.toString();
+        } finally {
+            reader.close();
+        }
+    }
+}
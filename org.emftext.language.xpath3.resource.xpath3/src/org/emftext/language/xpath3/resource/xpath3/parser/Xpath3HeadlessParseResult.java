@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.parser;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.emftext.language.xpath3.AnyExpr;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3LocationMap;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3LocalizedMessage;
+
+/**
+ * The result of {@link Xpath3HeadlessParser#parse(String, boolean)}: the root
+ * of the model and the syntax errors.
+ */
+public final class Xpath3HeadlessParseResult {
+
+    private final AnyExpr root;
+
+    private final List<Xpath3LocalizedMessage> errors;
+
+    private final IXpath3LocationMap locationMap;
+
+    Xpath3HeadlessParseResult(AnyExpr root,
+            List<Xpath3LocalizedMessage> errors, IXpath3LocationMap locationMap) {
+        this.root = root;
+        this.errors = errors.isEmpty() ? Collections
+                .<Xpath3LocalizedMessage> emptyList() : Collections
+                .unmodifiableList(errors);
+        this.locationMap = locationMap;
+    }
+
+    /**
+     * Returns the root of the model. The model may be incomplete if there are
+     * errors, or <code>null</code> if nothing could be parsed.
+     */
+    public AnyExpr getRoot() {
+        return root;
+    }
+
+    public List<Xpath3LocalizedMessage> getErrors() {
+        return errors;
+    }
+
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+
+    /**
+     * Returns the positions of the model elements, or <code>null</code> if
+     * they have not been recorded.
+     */
+    public IXpath3LocationMap getLocationMap() {
+        return locationMap;
+    }
+}
@@ -0,0 +1,217 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.parser;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.antlr.runtime3_4_0.ANTLRCharSequenceStream;
+import org.antlr.runtime3_4_0.CommonToken;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.emftext.language.xpath3.AnyExpr;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3Command;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3LocationMap;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3Options;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3TextResource;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3LocalizedMessage;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3LocationMap;
+import org.emftext.language.xpath3.resource.xpath3.post.PostProcessor;
+
+/**
+ * Parses expressions into models without creating a resource.
+ * <p>
+ * Loading a resource creates a resource set, synchronizes on the resource,
+ * queues a command for every syntax error and every location update, resolves
+ * references, runs the post-processors and validators and creates markers.
+ * This parser only builds the model: the input is parsed by the
+ * {@link Xpath3ExprParser} and only if that gives up, by a pooled
+ * {@link Xpath3ReusableParser}, whose syntax errors and locations are recorded
+ * directly. Layout information is not recorded and locations only if
+ * requested. Proxies for cross references (the string literals of
+ * <code>processing-instruction()</code> tests) are not resolved.
+ * <p>
+ * If the {@link Xpath3FastParser#COLLAPSE_EXPRESSIONS} option is set, the
+ * result is simplified like a resource loaded with the
+ * <code>PostProcessor</code>, otherwise it is the plain parse tree. The parser
+ * can be shared between threads, each thread reuses its own generated parser.
+ */
+public class Xpath3HeadlessParser {
+
+    private final Map<?, ?> options;
+
+    private final Map<Object, Object> antlrOptions;
+
+    private final boolean simplify;
+
+    private final Xpath3ParserPool pool;
+
+    public Xpath3HeadlessParser() {
+        this(null);
+    }
+
+    /**
+     * @param options
+     *            the load options that are passed to the token resolvers
+     */
+    public Xpath3HeadlessParser(Map<?, ?> options) {
+        this.options = options == null ? Collections.emptyMap()
+                : new HashMap<Object, Object>(options);
+        this.antlrOptions = new HashMap<Object, Object>(this.options);
+        this.antlrOptions.remove(IXpath3Options.RESOURCE_CONTENT_TYPE);
+        this.antlrOptions.put(IXpath3Options.DISABLE_LOCATION_MAP,
+                Boolean.TRUE);
+        this.antlrOptions.put(
+                IXpath3Options.DISABLE_LAYOUT_INFORMATION_RECORDING,
+                Boolean.TRUE);
+        this.simplify = Boolean.TRUE.equals(this.options
+                .get(Xpath3FastParser.COLLAPSE_EXPRESSIONS));
+        this.pool = new Xpath3ParserPool(antlrOptions) {
+            @Override
+            protected Xpath3ReusableParser createParser() {
+                return new RecordingParser();
+            }
+        };
+    }
+
+    /**
+     * Parses an expression without recording locations.
+     */
+    public Xpath3HeadlessParseResult parse(String text) {
+        return parse(text, false);
+    }
+
+    /**
+     * Parses an expression.
+     *
+     * @param recordLocations
+     *            whether the positions of the model elements are recorded in
+     *            the location map of the result
+     */
+    public Xpath3HeadlessParseResult parse(String text, boolean recordLocations) {
+        IXpath3LocationMap locationMap = recordLocations ? new Xpath3LocationMap()
+                : null;
+        AnyExpr root = new Xpath3ExprParser(new ANTLRCharSequenceStream(text),
+                options, locationMap).parse();
+        if (root != null) {
+            return new Xpath3HeadlessParseResult(root,
+                    Collections.<Xpath3LocalizedMessage> emptyList(),
+                    locationMap);
+        }
+        if (recordLocations) {
+            // drop the locations of the fast parser's partial model
+            locationMap = new Xpath3LocationMap();
+        }
+        RecordingParser parser = (RecordingParser) pool.acquire(text);
+        EObject result;
+        List<Xpath3LocalizedMessage> errors;
+        try {
+            parser.locationMap = locationMap;
+            result = parser.parse().getRoot();
+            errors = parser.getErrors();
+        } finally {
+            pool.release(parser);
+        }
+        if (!(result instanceof AnyExpr)) {
+            return new Xpath3HeadlessParseResult(null, errors, locationMap);
+        }
+        root = (AnyExpr) result;
+        if (simplify && errors.isEmpty()) {
+            root = simplify(root);
+        }
+        return new Xpath3HeadlessParseResult(root, errors, locationMap);
+    }
+
+    /**
+     * Lets the <code>PostProcessor</code> simplify the model. The resource
+     * only holds the root while the expressions are replaced.
+     */
+    private static AnyExpr simplify(AnyExpr root) {
+        Resource resource = new ResourceImpl();
+        List<EObject> contents = resource.getContents();
+        contents.add(root);
+        PostProcessor.simplifyExpressions(resource);
+        AnyExpr simplified = (AnyExpr) contents.get(0);
+        contents.clear();
+        return simplified;
+    }
+
+    /**
+     * Records syntax errors and locations right away instead of queuing
+     * commands that are executed on a resource.
+     */
+    private static final class RecordingParser extends Xpath3ReusableParser {
+
+        private List<Xpath3LocalizedMessage> errors;
+
+        private IXpath3LocationMap locationMap;
+
+        @Override
+        public void reset(String text) {
+            super.reset(text);
+            errors = null;
+            locationMap = null;
+        }
+
+        List<Xpath3LocalizedMessage> getErrors() {
+            return errors == null ? Collections
+                    .<Xpath3LocalizedMessage> emptyList() : errors;
+        }
+
+        @Override
+        protected void addErrorToResource(String errorMessage, int column,
+                int line, int startIndex, int stopIndex) {
+            if (errors == null) {
+                errors = new ArrayList<Xpath3LocalizedMessage>();
+            }
+            errors.add(new Xpath3LocalizedMessage(errorMessage, column, line,
+                    startIndex, stopIndex));
+        }
+
+        @Override
+        protected void copyLocalizationInfos(EObject source, EObject target) {
+            if (locationMap == null) {
+                return;
+            }
+            locationMap.setCharStart(target, locationMap.getCharStart(source));
+            locationMap.setCharEnd(target, locationMap.getCharEnd(source));
+            locationMap.setColumn(target, locationMap.getColumn(source));
+            locationMap.setLine(target, locationMap.getLine(source));
+        }
+
+        @Override
+        protected void copyLocalizationInfos(CommonToken source, EObject target) {
+            if (locationMap == null || source == null) {
+                return;
+            }
+            locationMap.setCharStart(target, source.getStartIndex());
+            locationMap.setCharEnd(target, source.getStopIndex());
+            locationMap.setColumn(target, source.getCharPositionInLine());
+            locationMap.setLine(target, source.getLine());
+        }
+
+        @Override
+        protected void setLocalizationEnd(
+                Collection<IXpath3Command<IXpath3TextResource>> postParseCommands,
+                EObject object, int endChar, int endLine) {
+            if (locationMap == null) {
+                return;
+            }
+            locationMap.setCharEnd(object, endChar);
+            locationMap.setLine(object, endLine);
+        }
+    }
+}
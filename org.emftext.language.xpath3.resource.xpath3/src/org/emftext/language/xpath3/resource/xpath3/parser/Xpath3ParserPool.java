@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.parser;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.emftext.language.xpath3.resource.xpath3.IXpath3ParseResult;
+
+/**
+ * Keeps an idle {@link Xpath3ReusableParser} for every thread, so a thread
+ * that parses many expressions creates the parser scaffolding only once.
+ * <p>
+ * A parser is taken from the pool by {@link #acquire(String)} and returned by
+ * {@link #release(Xpath3ReusableParser)}. If the thread's parser is in use,
+ * e.g. by a nested parse, or if it isn't reusable after a syntax error, a new
+ * parser is created. The pool is thread-safe.
+ */
+public class Xpath3ParserPool {
+
+    private final ThreadLocal<Xpath3ReusableParser> idleParsers = new ThreadLocal<Xpath3ReusableParser>();
+
+    private final Map<?, ?> options;
+
+    public Xpath3ParserPool() {
+        this(null);
+    }
+
+    /**
+     * @param options
+     *            the load options that are set on the parsers
+     */
+    public Xpath3ParserPool(Map<?, ?> options) {
+        this.options = options == null ? Collections.emptyMap()
+                : new HashMap<Object, Object>(options);
+    }
+
+    /**
+     * Parses an expression with the parser of the current thread.
+     */
+    public IXpath3ParseResult parse(String text) {
+        Xpath3ReusableParser parser = acquire(text);
+        try {
+            return parser.parse();
+        } finally {
+            release(parser);
+        }
+    }
+
+    /**
+     * Returns a parser that is ready to parse the given text. It must be
+     * released by the same thread.
+     */
+    public Xpath3ReusableParser acquire(String text) {
+        Xpath3ReusableParser parser = idleParsers.get();
+        if (parser == null) {
+            parser = createParser();
+        } else {
+            idleParsers.set(null);
+        }
+        parser.setOptions(options);
+        parser.reset(text);
+        return parser;
+    }
+
+    /**
+     * Returns a parser to the pool. Parsers that are not reusable any more are
+     * dropped.
+     */
+    public void release(Xpath3ReusableParser parser) {
+        if (!parser.isReusable() || idleParsers.get() != null) {
+            return;
+        }
+        // don't keep the last text and its tokens alive
+        parser.reset("");
+        idleParsers.set(parser);
+    }
+
+    /**
+     * Creates the parsers of the pool. Subclasses can return subclasses of
+     * {@link Xpath3ReusableParser}.
+     */
+    protected Xpath3ReusableParser createParser() {
+        return new Xpath3ReusableParser();
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.parser;
+
+import java.util.List;
+import java.util.Map;
+
+import org.antlr.runtime3_4_0.ANTLRCharSequenceStream;
+import org.antlr.runtime3_4_0.CommonTokenStream;
+import org.eclipse.emf.ecore.EClass;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3TextResource;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3AntlrParser;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3ExpectedTerminal;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3Lexer;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3LocalizedMessage;
+
+/**
+ * A generated parser that can be reset to parse another expression. The
+ * lexer with its DFAs, the token stream, the recognizer state with the rule
+ * memoization tables, the token resolvers and the input stream are allocated
+ * once instead of once per expression. The text is not copied.
+ * <p>
+ * Layout information is never recorded, because the generated parser keeps
+ * the position of the last token with layout in a field that can't be reset.
+ * For the same reason, a parser that has recovered from a syntax error is
+ * not reusable any more, see {@link #isReusable()}, and code completion is
+ * delegated to a new {@link Xpath3AntlrParser} for the current text.
+ * <p>
+ * The tokens of a parse read their text from the input stream, so they must
+ * not be used after the parser has been reset. Instances are not thread-safe,
+ * use a {@link Xpath3ParserPool} to share them.
+ */
+public class Xpath3ReusableParser extends Xpath3AntlrParser {
+
+    private final ANTLRCharSequenceStream input;
+
+    private final Xpath3Lexer lexer;
+
+    private final CommonTokenStream tokens;
+
+    private boolean reusable = true;
+
+    public Xpath3ReusableParser() {
+        super(new CommonTokenStream(new Xpath3Lexer(
+                new ANTLRCharSequenceStream(""))));
+        this.tokens = (CommonTokenStream) getTokenStream();
+        this.lexer = (Xpath3Lexer) tokens.getTokenSource();
+        this.input = (ANTLRCharSequenceStream) lexer.getCharStream();
+    }
+
+    /**
+     * Prepares the parser to parse the given text.
+     *
+     * @throws IllegalStateException
+     *             if the parser is not reusable
+     */
+    public void reset(String text) {
+        if (!reusable) {
+            throw new IllegalStateException(
+                    "The parser has recovered from a syntax error and can't be reset");
+        }
+        input.setCharSequence(text);
+        lexer.setCharStream(input);
+        tokens.setTokenSource(lexer);
+        // clears the recognizer state and the rule memoization tables
+        setTokenStream(tokens);
+        lexerExceptions.clear();
+        lexerExceptionPositions.clear();
+        anonymousTokens.clear();
+        postParseCommands = null;
+    }
+
+    /**
+     * Returns whether the parser can be reset. This is <code>false</code>
+     * after a syntax error.
+     */
+    public boolean isReusable() {
+        return reusable;
+    }
+
+    @Override
+    public void setOptions(Map<?, ?> options) {
+        super.setOptions(options);
+        this.disableLayoutRecording = true;
+    }
+
+    @Override
+    protected void addErrorToResource(Xpath3LocalizedMessage message) {
+        // syntax errors and lexical errors, but not the errors of token
+        // resolvers which don't affect the state of the parser
+        reusable = false;
+        super.addErrorToResource(message);
+    }
+
+    @Override
+    public List<Xpath3ExpectedTerminal> parseToExpectedElements(EClass type,
+            IXpath3TextResource dummyResource, int cursorOffset) {
+        Xpath3AntlrParser parser = new Xpath3AntlrParser(
+                new CommonTokenStream(new Xpath3Lexer(
+                        new ANTLRCharSequenceStream(input.getCharSequence()))));
+        parser.setOptions(getOptions());
+        return parser.parseToExpectedElements(type, dummyResource,
+                cursorOffset);
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * An input stream that carries the text of an expression, so that a resource
+ * can be loaded from a string without encoding and decoding it.
+ * <p>
+ * {@link Xpath3FastParser} recognizes this stream and lexes the text directly
+ * through an <code>ANTLRCharSequenceStream</code>; the load encoding is
+ * ignored then. Any other reader gets the bytes of the text in the default
+ * platform encoding, which are only created on the first read.
+ */
+public class Xpath3TextInputStream extends InputStream {
+
+    private final CharSequence text;
+
+    private InputStream bytes;
+
+    public Xpath3TextInputStream(CharSequence text) {
+        this.text = text;
+    }
+
+    /**
+     * Returns the text of this stream.
+     */
+    public CharSequence getText() {
+        return text;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return getBytes().read();
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        return getBytes().read(buffer, offset, length);
+    }
+
+    @Override
+    public int available() throws IOException {
+        return getBytes().available();
+    }
+
+    private InputStream getBytes() {
+        if (bytes == null) {
+            bytes = new ByteArrayInputStream(text.toString().getBytes());
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,551 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.post;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.namespace.QName;
+
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.emftext.language.xpath3.AdditiveExpr;
+import org.emftext.language.xpath3.AdditiveOpKind;
+import org.emftext.language.xpath3.Comp;
+import org.emftext.language.xpath3.ComparisonExpr;
+import org.emftext.language.xpath3.DecimalLiteral;
+import org.emftext.language.xpath3.DoubleLiteral;
+import org.emftext.language.xpath3.FunctionCall;
+import org.emftext.language.xpath3.GeneralComp;
+import org.emftext.language.xpath3.IfExpr;
+import org.emftext.language.xpath3.IntegerLiteral;
+import org.emftext.language.xpath3.Literal;
+import org.emftext.language.xpath3.MultiplicativeExpr;
+import org.emftext.language.xpath3.MultiplicativeOpKind;
+import org.emftext.language.xpath3.NumericLiteral;
+import org.emftext.language.xpath3.ParenthesizedExpr;
+import org.emftext.language.xpath3.ParenthesizedExprChild;
+import org.emftext.language.xpath3.RangeExpr;
+import org.emftext.language.xpath3.UnaryExpr;
+import org.emftext.language.xpath3.UnaryExprChild;
+import org.emftext.language.xpath3.UnaryOp;
+import org.emftext.language.xpath3.ValueComp;
+import org.emftext.language.xpath3.XPath3Factory;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3OptionProvider;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3Options;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3ResourcePostProcessor;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3ResourcePostProcessorProvider;
+import org.emftext.language.xpath3.resource.xpath3.eval.Xpath3EvaluationException;
+import org.emftext.language.xpath3.resource.xpath3.eval.Xpath3Values;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3Resource;
+
+/**
+ * Evaluates the parts of an expression that only depend on literals, e.g.
+ * <code>(1 + 2) * $x</code> becomes <code>3 * $x</code>.
+ * <p>
+ * The following expressions are folded:
+ * <ul>
+ * <li>arithmetic expressions whose leading operands are numeric literals,
+ * <code>E * 1</code>, <code>1 * E</code> and <code>E - 0</code> if
+ * <code>E</code> is known to be numeric,</li>
+ * <li>chains of signs, e.g. <code>--E</code> becomes <code>+E</code>,</li>
+ * <li>value and general comparisons of two literals, which become
+ * <code>true()</code> or <code>false()</code>,</li>
+ * <li><code>if</code> expressions with a literal test and ranges of two
+ * integer literals that are empty or contain a single integer,</li>
+ * <li>parentheses around a literal.</li>
+ * </ul>
+ * The values are computed by the operations of the evaluator, so they are
+ * promoted the same way. Operations that raise an error, e.g.
+ * <code>1 div 0</code>, are left to the evaluator, as are results that can't
+ * be stored in a literal of the model, i.e. integers that don't fit into an
+ * <code>int</code>, decimals that aren't exact <code>float</code>s and
+ * <code>NaN</code> or infinite doubles. Double literals that overflow, e.g.
+ * <code>1.5e999</code>, are not folded either, so they keep their text.
+ * <code>E + 0</code> is not simplified, since <code>-0e0 + 0</code> is
+ * positive zero.
+ * <p>
+ * The processor works on both the plain parse tree and on the simplified tree
+ * of the {@link PostProcessor}, which it should run after. It is not a default
+ * load option, callers that want folded trees pass it in the
+ * {@link IXpath3Options#RESOURCE_POSTPROCESSOR_PROVIDER} option, e.g. in a
+ * list after the {@link PostProcessor}.
+ */
+public class ConstantFolder implements IXpath3OptionProvider,
+IXpath3ResourcePostProcessorProvider, IXpath3ResourcePostProcessor {
+
+    private static final XPath3Factory FACTORY = XPath3Factory.eINSTANCE;
+
+    private static final QName TRUE = new QName("true");
+
+    private static final QName FALSE = new QName("false");
+
+    @Override
+    public void process(Xpath3Resource resource) {
+        foldConstants(resource);
+    }
+
+    @Override
+    public void terminate() {
+    }
+
+    @Override
+    public IXpath3ResourcePostProcessor getResourcePostProcessor() {
+        return this;
+    }
+
+    @Override
+    public Map<?, ?> getOptions() {
+        return Collections.singletonMap(
+                IXpath3Options.RESOURCE_POSTPROCESSOR_PROVIDER, this);
+    }
+
+    public static void foldConstants(Resource resource) {
+        foldDown(resource.getContents());
+    }
+
+    private static void foldDown(EList<EObject> parentList) {
+        for (EObject child : new BasicEList<EObject>(parentList)) {
+            foldDown(child.eContents());
+            fold(child);
+        }
+    }
+
+    private static void fold(EObject expr) {
+        if (expr instanceof AdditiveExpr) {
+            foldAdditive((AdditiveExpr) expr);
+        } else if (expr instanceof MultiplicativeExpr) {
+            foldMultiplicative((MultiplicativeExpr) expr);
+        } else if (expr instanceof UnaryExpr) {
+            foldUnary((UnaryExpr) expr);
+        } else if (expr instanceof ComparisonExpr) {
+            foldComparison((ComparisonExpr) expr);
+        } else if (expr instanceof RangeExpr) {
+            foldRange((RangeExpr) expr);
+        } else if (expr instanceof IfExpr) {
+            foldIf((IfExpr) expr);
+        } else if (expr instanceof ParenthesizedExpr) {
+            foldParenthesized((ParenthesizedExpr) expr);
+        }
+    }
+
+    private static void foldAdditive(AdditiveExpr expr) {
+        List<? extends EObject> operands = expr.getOperand();
+        List<AdditiveOpKind> operators = expr.getOperator();
+        if (operators.isEmpty()) {
+            return;
+        }
+        Object value = getConstant(operands.get(0));
+        int folded = 0;
+        Object foldedValue = value;
+        for (int i = 1; value != null && i < operands.size(); i++) {
+            Object operand = getConstant(operands.get(i));
+            if (operand == null) {
+                break;
+            }
+            try {
+                value = Xpath3Values.add(value, operand, operators.get(i - 1));
+            } catch (Xpath3EvaluationException e) {
+                break;
+            }
+            if (isRepresentable(value)) {
+                folded = i;
+                foldedValue = value;
+            }
+        }
+        if (foldLeadingOperands(expr, operands, operators, folded,
+                foldedValue)) {
+            return;
+        }
+        // E - 0
+        for (int i = 1; i < operands.size();) {
+            if (operators.get(i - 1) == AdditiveOpKind.SUBTRACTION
+                    && isIntegerLiteral(operands.get(i), BigInteger.ZERO)
+                    && (i > 1 || isNumeric(operands.get(0)))) {
+                operands.remove(i);
+                operators.remove(i - 1);
+            } else {
+                i++;
+            }
+        }
+        replaceSingleOperand(expr, operands);
+    }
+
+    private static void foldMultiplicative(MultiplicativeExpr expr) {
+        List<? extends EObject> operands = expr.getOperand();
+        List<MultiplicativeOpKind> operators = expr.getOperator();
+        if (operators.isEmpty()) {
+            return;
+        }
+        Object value = getConstant(operands.get(0));
+        int folded = 0;
+        Object foldedValue = value;
+        for (int i = 1; value != null && i < operands.size(); i++) {
+            Object operand = getConstant(operands.get(i));
+            if (operand == null) {
+                break;
+            }
+            try {
+                value = Xpath3Values.multiply(value, operand,
+                        operators.get(i - 1));
+            } catch (Xpath3EvaluationException e) {
+                break;
+            }
+            if (isRepresentable(value)) {
+                folded = i;
+                foldedValue = value;
+            }
+        }
+        if (foldLeadingOperands(expr, operands, operators, folded,
+                foldedValue)) {
+            return;
+        }
+        // 1 * E
+        if (operators.get(0) == MultiplicativeOpKind.MULTIPLICATION
+                && isIntegerLiteral(operands.get(0), BigInteger.ONE)
+                && isNumeric(operands.get(1))) {
+            operands.remove(0);
+            operators.remove(0);
+        }
+        // E * 1
+        for (int i = 1; i < operands.size();) {
+            if (operators.get(i - 1) == MultiplicativeOpKind.MULTIPLICATION
+                    && isIntegerLiteral(operands.get(i), BigInteger.ONE)
+                    && (i > 1 || isNumeric(operands.get(0)))) {
+                operands.remove(i);
+                operators.remove(i - 1);
+            } else {
+                i++;
+            }
+        }
+        replaceSingleOperand(expr, operands);
+    }
+
+    /**
+     * Replaces the operands up to the given index by a literal of the value.
+     *
+     * @return <code>true</code> if all operands were folded and the expression
+     *         was replaced
+     */
+    private static boolean foldLeadingOperands(EObject expr,
+            List<? extends EObject> operands, List<?> operators, int folded,
+            Object value) {
+        if (folded == 0) {
+            return false;
+        }
+        if (folded == operands.size() - 1) {
+            replace(expr, createConstant(value));
+            return true;
+        }
+        replace(operands.get(0), createConstant(value));
+        for (int i = folded; i > 0; i--) {
+            operands.remove(i);
+            operators.remove(i - 1);
+        }
+        return false;
+    }
+
+    private static void replaceSingleOperand(EObject expr,
+            List<? extends EObject> operands) {
+        if (operands.size() == 1) {
+            replace(expr, operands.get(0));
+        }
+    }
+
+    private static void foldUnary(UnaryExpr expr) {
+        List<UnaryOp> operators = expr.getOperator();
+        if (operators.isEmpty()) {
+            return;
+        }
+        Object value = getConstant(expr);
+        if (value != null) {
+            if (operators.size() > 1 || operators.get(0) != UnaryOp.MINUS
+                    || !isLiteral(expr.getOperand())) {
+                replace(expr, createConstant(value));
+            }
+            return;
+        }
+        boolean negate = false;
+        for (UnaryOp operator : operators) {
+            negate ^= operator == UnaryOp.MINUS;
+        }
+        if (!negate && isNumeric(expr.getOperand())) {
+            replace(expr, expr.getOperand());
+        } else if (operators.size() > 1) {
+            operators.clear();
+            operators.add(negate ? UnaryOp.MINUS : UnaryOp.PLUS);
+        }
+    }
+
+    private static void foldComparison(ComparisonExpr expr) {
+        Comp comp = expr.getOperator();
+        if (comp == null || expr.getRight() == null) {
+            return;
+        }
+        Object left = getConstant(expr.getLeft());
+        Object right = getConstant(expr.getRight());
+        if (left == null || right == null) {
+            return;
+        }
+        boolean result;
+        try {
+            if (comp instanceof ValueComp) {
+                result = Xpath3Values.valueCompare(left, right,
+                        ((ValueComp) comp).getOperator());
+            } else if (comp instanceof GeneralComp) {
+                result = Xpath3Values.generalCompare(left, right,
+                        ((GeneralComp) comp).getOperator());
+            } else {
+                return;
+            }
+        } catch (Xpath3EvaluationException e) {
+            return;
+        }
+        replace(expr, createConstant(Boolean.valueOf(result)));
+    }
+
+    private static void foldRange(RangeExpr expr) {
+        if (expr.getTo() == null) {
+            return;
+        }
+        Object from = getConstant(expr.getFrom());
+        Object to = getConstant(expr.getTo());
+        if (!(from instanceof BigInteger) || !(to instanceof BigInteger)) {
+            return;
+        }
+        int comparison = ((BigInteger) from).compareTo((BigInteger) to);
+        if (comparison > 0) {
+            replace(expr, FACTORY.createParenthesizedExpr());
+        } else if (comparison == 0) {
+            replace(expr, createConstant(from));
+        }
+    }
+
+    private static void foldIf(IfExpr expr) {
+        EObject test = PostProcessor.unwrap(expr.getTest());
+        Boolean value;
+        if (test instanceof ParenthesizedExpr
+                && ((ParenthesizedExpr) test).getExpr() == null) {
+            value = Boolean.FALSE;
+        } else {
+            value = getEffectiveBooleanValue(getConstant(test));
+        }
+        if (value != null) {
+            replace(expr, value.booleanValue() ? expr.getThen() : expr
+                    .getElse());
+        }
+    }
+
+    private static void foldParenthesized(ParenthesizedExpr expr) {
+        EObject child = PostProcessor.unwrap(expr.getExpr());
+        EObject constant;
+        if (child instanceof Literal) {
+            if (getConstant(child) == null) {
+                // a double literal that overflows keeps its text
+                return;
+            }
+            // a copy, which is printed without the layout of the original
+            constant = EcoreUtil.copy(child);
+        } else {
+            Object value = getConstant(child);
+            if (!isRepresentable(value)) {
+                return;
+            }
+            constant = createConstant(value);
+        }
+        if (fits(expr, constant)) {
+            EcoreUtil.replace(expr, constant);
+        }
+    }
+
+    /**
+     * Returns the value of a literal, of a literal with signs or parentheses,
+     * or of <code>true()</code> or <code>false()</code>, or <code>null</code>
+     * if the expression isn't constant.
+     */
+    private static Object getConstant(EObject expr) {
+        expr = PostProcessor.unwrap(expr);
+        if (expr instanceof Literal) {
+            Object value = Xpath3Values.getLiteralValue((Literal) expr);
+            // a double literal that overflows keeps its text
+            return value instanceof Double && !isRepresentable(value) ? null
+                    : value;
+        }
+        if (expr instanceof ParenthesizedExpr) {
+            ParenthesizedExprChild child = ((ParenthesizedExpr) expr).getExpr();
+            return child == null ? null : getConstant(child);
+        }
+        if (expr instanceof UnaryExpr) {
+            Object value = getConstant(((UnaryExpr) expr).getOperand());
+            if (value == null || !Xpath3Values.isNumeric(value)) {
+                return null;
+            }
+            for (UnaryOp operator : ((UnaryExpr) expr).getOperator()) {
+                if (operator == UnaryOp.MINUS) {
+                    value = Xpath3Values.negate(value);
+                }
+            }
+            return value;
+        }
+        if (expr instanceof FunctionCall
+                && ((FunctionCall) expr).getArg().isEmpty()) {
+            QName name = ((FunctionCall) expr).getName();
+            if (TRUE.equals(name) && name.getPrefix().length() == 0) {
+                return Boolean.TRUE;
+            }
+            if (FALSE.equals(name) && name.getPrefix().length() == 0) {
+                return Boolean.FALSE;
+            }
+        }
+        return null;
+    }
+
+    private static Boolean getEffectiveBooleanValue(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        if (value instanceof String) {
+            return Boolean.valueOf(((String) value).length() > 0);
+        }
+        if (value instanceof BigInteger) {
+            return Boolean.valueOf(((BigInteger) value).signum() != 0);
+        }
+        if (value instanceof BigDecimal) {
+            return Boolean.valueOf(((BigDecimal) value).signum() != 0);
+        }
+        if (value instanceof Double) {
+            double doubleValue = ((Double) value).doubleValue();
+            return Boolean.valueOf(doubleValue != 0
+                    && !Double.isNaN(doubleValue));
+        }
+        return null;
+    }
+
+    private static boolean isRepresentable(Object value) {
+        if (value instanceof BigInteger) {
+            return ((BigInteger) value).abs().bitLength() < Integer.SIZE;
+        }
+        if (value instanceof BigDecimal) {
+            BigDecimal abs = ((BigDecimal) value).abs();
+            float floatValue = abs.floatValue();
+            return !Float.isInfinite(floatValue)
+                    && new BigDecimal(Float.toString(floatValue))
+                            .compareTo(abs) == 0;
+        }
+        if (value instanceof Double) {
+            double doubleValue = ((Double) value).doubleValue();
+            return !Double.isNaN(doubleValue)
+                    && !Double.isInfinite(doubleValue);
+        }
+        return value instanceof Boolean;
+    }
+
+    /**
+     * Creates a literal of a value that is representable. A negative number
+     * becomes a unary minus with a literal of its absolute value and a
+     * boolean a call of <code>true()</code> or <code>false()</code>.
+     */
+    private static EObject createConstant(Object value) {
+        if (value instanceof Boolean) {
+            FunctionCall functionCall = FACTORY.createFunctionCall();
+            functionCall.setName(((Boolean) value).booleanValue() ? TRUE
+                    : FALSE);
+            return functionCall;
+        }
+        NumericLiteral literal;
+        boolean negative;
+        if (value instanceof BigInteger) {
+            BigInteger integer = (BigInteger) value;
+            IntegerLiteral integerLiteral = FACTORY.createIntegerLiteral();
+            integerLiteral.setValue(integer.abs().intValue());
+            literal = integerLiteral;
+            negative = integer.signum() < 0;
+        } else if (value instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) value;
+            DecimalLiteral decimalLiteral = FACTORY.createDecimalLiteral();
+            decimalLiteral.setValue(decimal.abs().floatValue());
+            literal = decimalLiteral;
+            negative = decimal.signum() < 0;
+        } else {
+            double doubleValue = ((Double) value).doubleValue();
+            DoubleLiteral doubleLiteral = FACTORY.createDoubleLiteral();
+            doubleLiteral.setValue(Math.abs(doubleValue));
+            literal = doubleLiteral;
+            // -0e0 is negative as well
+            negative = Double.doubleToRawLongBits(doubleValue) < 0;
+        }
+        if (!negative) {
+            return literal;
+        }
+        UnaryExpr unaryExpr = FACTORY.createUnaryExpr();
+        unaryExpr.getOperator().add(UnaryOp.MINUS);
+        unaryExpr.setOperand((UnaryExprChild) literal);
+        return unaryExpr;
+    }
+
+    /**
+     * Returns whether the value of an expression is a number or the empty
+     * sequence, i.e. whether it is the result of an arithmetic expression or
+     * a numeric literal.
+     */
+    private static boolean isNumeric(EObject expr) {
+        expr = PostProcessor.unwrap(expr);
+        if (expr instanceof ParenthesizedExpr) {
+            ParenthesizedExprChild child = ((ParenthesizedExpr) expr).getExpr();
+            return child != null && isNumeric(child);
+        }
+        return expr instanceof NumericLiteral
+                || (expr instanceof AdditiveExpr && !((AdditiveExpr) expr)
+                        .getOperator().isEmpty())
+                || (expr instanceof MultiplicativeExpr && !((MultiplicativeExpr) expr)
+                        .getOperator().isEmpty())
+                || (expr instanceof UnaryExpr && !((UnaryExpr) expr)
+                        .getOperator().isEmpty());
+    }
+
+    private static boolean isIntegerLiteral(EObject expr, BigInteger value) {
+        expr = PostProcessor.unwrap(expr);
+        return expr instanceof IntegerLiteral
+                && value.equals(Xpath3Values.getLiteralValue((Literal) expr));
+    }
+
+    private static boolean isLiteral(EObject expr) {
+        return PostProcessor.unwrap(expr) instanceof Literal;
+    }
+
+    /**
+     * Replaces an expression, the replacement is put in parentheses if the
+     * container doesn't accept it directly, e.g. a negative number as the
+     * operand of a path.
+     */
+    private static void replace(EObject expr, EObject replacement) {
+        if (!fits(expr, replacement)) {
+            ParenthesizedExpr parenthesizedExpr = FACTORY
+                    .createParenthesizedExpr();
+            parenthesizedExpr
+                    .setExpr((ParenthesizedExprChild) replacement);
+            replacement = parenthesizedExpr;
+        }
+        EcoreUtil.replace(expr, replacement);
+    }
+
+    private static boolean fits(EObject expr, EObject replacement) {
+        EReference feature = expr.eContainmentFeature();
+        return feature == null || feature.getEType().isInstance(replacement);
+    }
+}
@@ -0,0 +1,452 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.post;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.namespace.QName;
+
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.emftext.language.xpath3.AbbrevForwardStep;
+import org.emftext.language.xpath3.AbbrevForwardStepKind;
+import org.emftext.language.xpath3.AbbrevReverseStep;
+import org.emftext.language.xpath3.AndExpr;
+import org.emftext.language.xpath3.AnyKindTest;
+import org.emftext.language.xpath3.AttributeTest;
+import org.emftext.language.xpath3.AxisStep;
+import org.emftext.language.xpath3.CastableExpr;
+import org.emftext.language.xpath3.ChildStepExpr;
+import org.emftext.language.xpath3.ComparisonExpr;
+import org.emftext.language.xpath3.ContextItemExpr;
+import org.emftext.language.xpath3.DescOrSelfStepExpr;
+import org.emftext.language.xpath3.FilterExpr;
+import org.emftext.language.xpath3.ForwardAxisKind;
+import org.emftext.language.xpath3.FunctionCall;
+import org.emftext.language.xpath3.GeneralForwardStep;
+import org.emftext.language.xpath3.GeneralReverseStep;
+import org.emftext.language.xpath3.InstanceofExpr;
+import org.emftext.language.xpath3.IntersectExceptExpr;
+import org.emftext.language.xpath3.KindTest;
+import org.emftext.language.xpath3.NodeKindTest;
+import org.emftext.language.xpath3.NodeTest;
+import org.emftext.language.xpath3.OrExpr;
+import org.emftext.language.xpath3.PathExpr;
+import org.emftext.language.xpath3.PathExprChild;
+import org.emftext.language.xpath3.Predicate;
+import org.emftext.language.xpath3.QuantifiedExpr;
+import org.emftext.language.xpath3.ReverseAxisKind;
+import org.emftext.language.xpath3.RootStepExpr;
+import org.emftext.language.xpath3.SchemaAttributeTest;
+import org.emftext.language.xpath3.SelfStepExpr;
+import org.emftext.language.xpath3.StringLiteral;
+import org.emftext.language.xpath3.UnionExpr;
+import org.emftext.language.xpath3.XPath3Factory;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3OptionProvider;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3Options;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3ResourcePostProcessor;
+import org.emftext.language.xpath3.resource.xpath3.IXpath3ResourcePostProcessorProvider;
+import org.emftext.language.xpath3.resource.xpath3.grammar.Xpath3GrammarInformationProvider;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3LayoutInformation;
+import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3Resource;
+import org.emftext.language.xpath3.resource.xpath3.util.Xpath3LayoutUtil;
+
+/**
+ * Rewrites path expressions into forms that select the same nodes with fewer
+ * intermediate results:
+ * <ul>
+ * <li><code>//name</code>, i.e.
+ * <code>descendant-or-self::node()/child::name</code>, becomes
+ * <code>/descendant::name</code>, so the descendants are enumerated once
+ * instead of the children of every descendant,</li>
+ * <li><code>child::x/parent::node()</code> becomes a predicate
+ * <code>[child::x]</code> of the step before, or
+ * <code>self::node()[child::x]</code> if there is no such step,</li>
+ * <li><code>.</code> and <code>self::node()</code> steps without predicates
+ * are removed if the step before already selects nodes.</li>
+ * </ul>
+ * A <code>//</code> step is only rewritten if its predicates don't depend on
+ * the position, e.g. <code>//a[1]</code> selects the first <code>a</code>
+ * child of every node, whereas <code>/descendant::a[1]</code> selects the
+ * first <code>a</code> of the document. A predicate is treated as positional
+ * unless its value is known to be a boolean, a string or a sequence of nodes
+ * and it doesn't call <code>position()</code> or <code>last()</code>.
+ * <p>
+ * The axis steps that are created are printed as <code>axis :: test</code>,
+ * since the lexer takes <code>axis::</code> for the start of a QName.
+ * <p>
+ * The processor works on both the plain parse tree and on the simplified tree
+ * of the {@link PostProcessor}. It is not a default load option, since the
+ * normalized paths are meant to be evaluated, not edited. Callers pass it in
+ * the {@link IXpath3Options#RESOURCE_POSTPROCESSOR_PROVIDER} option, e.g. in a
+ * list after the {@link PostProcessor}.
+ */
+public class PathNormalizer implements IXpath3OptionProvider,
+IXpath3ResourcePostProcessorProvider, IXpath3ResourcePostProcessor {
+
+    private static final XPath3Factory FACTORY = XPath3Factory.eINSTANCE;
+
+    /**
+     * The functions of the <code>fn</code> namespace that return a boolean.
+     */
+    private static final Set<String> BOOLEAN_FUNCTIONS = new HashSet<String>(
+            Arrays.asList("boolean", "contains", "deep-equal", "empty",
+                    "ends-with", "exists", "false", "lang", "matches", "not",
+                    "starts-with", "true"));
+
+    private static final Set<String> FOCUS_FUNCTIONS = new HashSet<String>(
+            Arrays.asList("last", "position"));
+
+    @Override
+    public void process(Xpath3Resource resource) {
+        normalizePaths(resource);
+    }
+
+    @Override
+    public void terminate() {
+    }
+
+    @Override
+    public IXpath3ResourcePostProcessor getResourcePostProcessor() {
+        return this;
+    }
+
+    @Override
+    public Map<?, ?> getOptions() {
+        return Collections.singletonMap(
+                IXpath3Options.RESOURCE_POSTPROCESSOR_PROVIDER, this);
+    }
+
+    public static void normalizePaths(Resource resource) {
+        normalizeDown(resource.getContents());
+    }
+
+    private static void normalizeDown(EList<EObject> parentList) {
+        for (EObject child : new BasicEList<EObject>(parentList)) {
+            normalizeDown(child.eContents());
+            if (child instanceof PathExpr) {
+                normalize(((PathExpr) child).getStep());
+            }
+        }
+    }
+
+    private static void normalize(EList<PathExprChild> steps) {
+        for (int i = 0; i < steps.size(); i++) {
+            if (steps.get(i) instanceof DescOrSelfStepExpr) {
+                replaceDescendantStep(steps, i);
+            }
+        }
+        for (int i = 0; i + 1 < steps.size();) {
+            if (mergeParentStep(steps, i)) {
+                i = Math.max(i - 1, 0);
+            } else {
+                i++;
+            }
+        }
+        removeSelfSteps(steps);
+    }
+
+    /**
+     * Replaces <code>//x</code> by <code>/descendant::x</code>,
+     * <code>//descendant::x</code> by <code>/descendant::x</code> and
+     * <code>//descendant-or-self::x</code> by
+     * <code>/descendant-or-self::x</code>.
+     */
+    private static void replaceDescendantStep(EList<PathExprChild> steps,
+            int index) {
+        EObject step = ((DescOrSelfStepExpr) steps.get(index)).getStep();
+        ForwardAxisKind axis = getForwardAxis(step);
+        if (axis == ForwardAxisKind.CHILD) {
+            axis = ForwardAxisKind.DESCENDANT;
+        } else if (axis != ForwardAxisKind.DESCENDANT
+                && axis != ForwardAxisKind.DESCENDANT_OR_SELF) {
+            return;
+        }
+        AxisStep axisStep = (AxisStep) step;
+        for (Predicate predicate : axisStep.getPredicate()) {
+            if (isPositional(predicate)) {
+                return;
+            }
+        }
+        GeneralForwardStep descendantStep = createForwardStep(axis);
+        descendantStep.setNodeTest(getNodeTest(axisStep));
+        descendantStep.getPredicate().addAll(axisStep.getPredicate());
+        ChildStepExpr childStepExpr = FACTORY.createChildStepExpr();
+        childStepExpr.setStep(descendantStep);
+        steps.set(index, childStepExpr);
+    }
+
+    /**
+     * Replaces <code>x/..</code> by a predicate <code>[x]</code>, since the
+     * parents of the children <code>x</code> are the nodes that have such a
+     * child.
+     */
+    private static boolean mergeParentStep(EList<PathExprChild> steps,
+            int index) {
+        PathExprChild first = steps.get(index);
+        PathExprChild second = steps.get(index + 1);
+        if (!(first instanceof ChildStepExpr || first instanceof SelfStepExpr)
+                || !(second instanceof ChildStepExpr)
+                || !isParentNodeStep(((ChildStepExpr) second).getStep())) {
+            return false;
+        }
+        EObject childStep = getStep(first);
+        if (getForwardAxis(childStep) != ForwardAxisKind.CHILD) {
+            return false;
+        }
+        SelfStepExpr selfStepExpr = FACTORY.createSelfStepExpr();
+        selfStepExpr.setStep((AxisStep) childStep);
+        PathExpr pathExpr = FACTORY.createPathExpr();
+        pathExpr.getStep().add(selfStepExpr);
+        Predicate predicate = FACTORY.createPredicate();
+        predicate.setExpr(pathExpr);
+
+        EObject previous = index > 0 ? getStep(steps.get(index - 1)) : null;
+        if (previous instanceof AxisStep) {
+            ((AxisStep) previous).getPredicate().add(predicate);
+            steps.remove(index + 1);
+            steps.remove(index);
+        } else {
+            GeneralForwardStep selfStep = createSelfNodeStep();
+            selfStep.getPredicate().add(predicate);
+            if (first instanceof SelfStepExpr) {
+                ((SelfStepExpr) first).setStep(selfStep);
+            } else {
+                ((ChildStepExpr) first).setStep(selfStep);
+            }
+            steps.remove(index + 1);
+        }
+        return true;
+    }
+
+    /**
+     * Removes <code>/.</code> and <code>/self::node()</code> after a step
+     * that selects nodes in document order, and a leading <code>./</code>
+     * before an axis step.
+     */
+    private static void removeSelfSteps(EList<PathExprChild> steps) {
+        for (int i = 1; i < steps.size();) {
+            PathExprChild step = steps.get(i);
+            if (step instanceof ChildStepExpr
+                    && isSelfNodeStep(((ChildStepExpr) step).getStep())
+                    && selectsNodes(steps.get(i - 1))) {
+                steps.remove(i);
+            } else {
+                i++;
+            }
+        }
+        if (steps.size() > 1
+                && !(steps.get(0) instanceof ChildStepExpr)
+                && !(steps.get(0) instanceof DescOrSelfStepExpr)
+                && isSelfNodeStep(getStep(steps.get(0)))
+                && steps.get(1) instanceof ChildStepExpr
+                && ((ChildStepExpr) steps.get(1)).getStep() instanceof AxisStep) {
+            SelfStepExpr selfStepExpr = FACTORY.createSelfStepExpr();
+            selfStepExpr.setStep(((ChildStepExpr) steps.get(1)).getStep());
+            steps.set(1, selfStepExpr);
+            steps.remove(0);
+        }
+    }
+
+    /**
+     * Returns whether the value of a predicate may be a number or depends on
+     * the context position or size.
+     */
+    private static boolean isPositional(Predicate predicate) {
+        EObject expr = PostProcessor.unwrap(predicate.getExpr());
+        if (!isBooleanOrNodes(expr)) {
+            return true;
+        }
+        if (isFocusFunction(expr)) {
+            return true;
+        }
+        for (TreeIterator<EObject> i = expr.eAllContents(); i.hasNext();) {
+            if (isFocusFunction(i.next())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isFocusFunction(EObject expr) {
+        return expr instanceof FunctionCall
+                && isFunction((FunctionCall) expr, FOCUS_FUNCTIONS);
+    }
+
+    private static boolean isBooleanOrNodes(EObject expr) {
+        if (expr instanceof ComparisonExpr) {
+            return ((ComparisonExpr) expr).getRight() != null;
+        }
+        if (expr instanceof OrExpr) {
+            return ((OrExpr) expr).getOperand().size() > 1;
+        }
+        if (expr instanceof AndExpr) {
+            return ((AndExpr) expr).getOperand().size() > 1;
+        }
+        if (expr instanceof UnionExpr) {
+            return ((UnionExpr) expr).getOperand().size() > 1;
+        }
+        if (expr instanceof IntersectExceptExpr) {
+            return ((IntersectExceptExpr) expr).getOperand().size() > 1;
+        }
+        if (expr instanceof InstanceofExpr) {
+            return ((InstanceofExpr) expr).getType() != null;
+        }
+        if (expr instanceof CastableExpr) {
+            return ((CastableExpr) expr).getType() != null;
+        }
+        if (expr instanceof FunctionCall) {
+            return isFunction((FunctionCall) expr, BOOLEAN_FUNCTIONS);
+        }
+        if (expr instanceof PathExpr) {
+            List<PathExprChild> steps = ((PathExpr) expr).getStep();
+            return selectsNodes(steps.get(steps.size() - 1));
+        }
+        return expr instanceof QuantifiedExpr || expr instanceof StringLiteral
+                || expr instanceof AxisStep || expr instanceof RootStepExpr;
+    }
+
+    private static boolean isFunction(FunctionCall functionCall,
+            Set<String> names) {
+        QName name = functionCall.getName();
+        String prefix = name.getPrefix();
+        return (prefix.length() == 0 || prefix.equals("fn"))
+                && names.contains(name.getLocalPart());
+    }
+
+    /**
+     * Returns whether a step of a path selects nodes in document order,
+     * i.e. whether it is an axis step or the root.
+     */
+    private static boolean selectsNodes(PathExprChild step) {
+        return step instanceof RootStepExpr || getStep(step) instanceof AxisStep;
+    }
+
+    private static EObject getStep(PathExprChild step) {
+        if (step instanceof ChildStepExpr) {
+            return ((ChildStepExpr) step).getStep();
+        }
+        if (step instanceof DescOrSelfStepExpr) {
+            return ((DescOrSelfStepExpr) step).getStep();
+        }
+        if (step instanceof SelfStepExpr) {
+            return ((SelfStepExpr) step).getStep();
+        }
+        return step;
+    }
+
+    /**
+     * Returns the axis of a forward step or <code>null</code>. The axis of an
+     * abbreviated step with an attribute test is the attribute axis.
+     */
+    private static ForwardAxisKind getForwardAxis(EObject step) {
+        if (step instanceof GeneralForwardStep) {
+            return ((GeneralForwardStep) step).getAxis();
+        }
+        if (!(step instanceof AbbrevForwardStep)) {
+            return null;
+        }
+        AbbrevForwardStep forwardStep = (AbbrevForwardStep) step;
+        if (forwardStep.getKind() == AbbrevForwardStepKind.ATTRIBUTE) {
+            return ForwardAxisKind.ATTRIBUTE;
+        }
+        NodeTest nodeTest = forwardStep.getNodeTest();
+        if (nodeTest instanceof NodeKindTest) {
+            KindTest kindTest = ((NodeKindTest) nodeTest).getTest();
+            if (kindTest instanceof AttributeTest
+                    || kindTest instanceof SchemaAttributeTest) {
+                return ForwardAxisKind.ATTRIBUTE;
+            }
+        }
+        return ForwardAxisKind.CHILD;
+    }
+
+    private static NodeTest getNodeTest(AxisStep step) {
+        if (step instanceof GeneralForwardStep) {
+            return ((GeneralForwardStep) step).getNodeTest();
+        }
+        return ((AbbrevForwardStep) step).getNodeTest();
+    }
+
+    /**
+     * Returns whether a step is <code>..</code> or
+     * <code>parent::node()</code> without predicates.
+     */
+    private static boolean isParentNodeStep(EObject step) {
+        if (step instanceof AbbrevReverseStep) {
+            return ((AbbrevReverseStep) step).getPredicate().isEmpty();
+        }
+        if (step instanceof GeneralReverseStep) {
+            GeneralReverseStep reverseStep = (GeneralReverseStep) step;
+            return reverseStep.getAxis() == ReverseAxisKind.PARENT
+                    && isAnyKindTest(reverseStep.getNodeTest())
+                    && reverseStep.getPredicate().isEmpty();
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether a step is <code>.</code> or <code>self::node()</code>
+     * without predicates.
+     */
+    private static boolean isSelfNodeStep(EObject step) {
+        while (step instanceof FilterExpr
+                && ((FilterExpr) step).getPredicate().isEmpty()) {
+            step = ((FilterExpr) step).getPrimaryExpr();
+        }
+        if (step instanceof ContextItemExpr) {
+            return true;
+        }
+        if (step instanceof GeneralForwardStep) {
+            GeneralForwardStep forwardStep = (GeneralForwardStep) step;
+            return forwardStep.getAxis() == ForwardAxisKind.SELF
+                    && isAnyKindTest(forwardStep.getNodeTest())
+                    && forwardStep.getPredicate().isEmpty();
+        }
+        return false;
+    }
+
+    private static boolean isAnyKindTest(NodeTest nodeTest) {
+        return nodeTest instanceof NodeKindTest
+                && ((NodeKindTest) nodeTest).getTest() instanceof AnyKindTest;
+    }
+
+    private static GeneralForwardStep createSelfNodeStep() {
+        NodeKindTest nodeTest = FACTORY.createNodeKindTest();
+        nodeTest.setTest(FACTORY.createAnyKindTest());
+        GeneralForwardStep selfStep = createForwardStep(ForwardAxisKind.SELF);
+        selfStep.setNodeTest(nodeTest);
+        return selfStep;
+    }
+
+    /**
+     * Creates a step with the layout of <code>axis :: test</code>. Without
+     * layout it would be printed as <code>axis::test</code>, which doesn't
+     * parse.
+     */
+    private static GeneralForwardStep createForwardStep(ForwardAxisKind axis) {
+        GeneralForwardStep step = FACTORY.createGeneralForwardStep();
+        step.setAxis(axis);
+        new Xpath3LayoutUtil().getLayoutInformationAdapter(step)
+                .addLayoutInformation(new Xpath3LayoutInformation(
+                        Xpath3GrammarInformationProvider.XPATH3_28_0_0_1,
+                        null, -1, " ", "::"));
+        return step;
+    }
+}
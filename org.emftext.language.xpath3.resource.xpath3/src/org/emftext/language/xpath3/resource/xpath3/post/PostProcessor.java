@@ -20,14 +20,18 @@ import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.emftext.language.xpath3.AnyExpr;
-import org.emftext.language.xpath3.AxisStep;
+import org.emftext.language.xpath3.ChildStepExpr;
+import org.emftext.language.xpath3.DescOrSelfStepExpr;
+import org.emftext.language.xpath3.FunctionCall;
 import org.emftext.language.xpath3.ParenthesizedExpr;
-import org.emftext.language.xpath3.PathExpr;
+import org.emftext.language.xpath3.SelfStepExpr;
+import org.emftext.language.xpath3.UnaryExpr;
 import org.emftext.language.xpath3.resource.xpath3.IXpath3OptionProvider;
 import org.emftext.language.xpath3.resource.xpath3.IXpath3Options;
 import org.emftext.language.xpath3.resource.xpath3.IXpath3ResourcePostProcessor;
 import org.emftext.language.xpath3.resource.xpath3.IXpath3ResourcePostProcessorProvider;
 import org.emftext.language.xpath3.resource.xpath3.mopp.Xpath3Resource;
+import org.emftext.language.xpath3.resource.xpath3.parser.Xpath3ExprParser;
 
 public class PostProcessor implements IXpath3OptionProvider,
 IXpath3ResourcePostProcessorProvider, IXpath3ResourcePostProcessor {
@@ -53,27 +57,25 @@ IXpath3ResourcePostProcessorProvider, IXpath3ResourcePostProcessor {
     }
 
     public static void simplifyExpressions(Resource resource) {
-        simplifyDown(resource.getContents());
+        EList<EObject> contents = resource.getContents();
+        if (contents.size() == 1
+                && Xpath3ExprParser.isCollapsed(contents.get(0))) {
+            // the parser did not create the chains in the first place
+            return;
+        }
+        simplifyDown(contents);
     }
 
     private static void simplifyDown(EList<EObject> parentList) {
         for (EObject child : new BasicEList<EObject>(parentList)) {
             EObject singleContained = getSingleContained(child);
             EObject next = singleContained;
-            EObject path = null;
             while (next != null) {
                 next = getSingleContained(singleContained);
                 if (next != null) {
                     singleContained = next;
-                    if (singleContained instanceof PathExpr) {
-                        path = singleContained;
-                    }
                 }
             }
-            // AxisStep must be contained in PathExpr
-            if (AxisStep.class.isInstance(singleContained)) {
-                singleContained = path;
-            }
             if (singleContained != null) {
                 EcoreUtil.replace(child, singleContained);
                 child = singleContained;
@@ -82,13 +84,36 @@ IXpath3ResourcePostProcessorProvider, IXpath3ResourcePostProcessor {
         }
     }
 
-    private static EObject getSingleContained(EObject parent) {
+    /**
+     * Skips the chain of expressions with a single operand of the plain parse
+     * tree. A function call with a single argument is not part of a chain.
+     */
+    static EObject unwrap(EObject expr) {
+        while (!(expr instanceof FunctionCall)) {
+            EObject next = getSingleContained(expr);
+            if (next == null) {
+                break;
+            }
+            expr = next;
+        }
+        return expr;
+    }
+
+    static EObject getSingleContained(EObject parent) {
         if (!(parent instanceof AnyExpr)) {
             return null;
         }
         if (parent instanceof ParenthesizedExpr) {
             return null;
         }
+        // Signs and slashes are not contained objects, but must be kept
+        if (parent instanceof UnaryExpr
+                && !((UnaryExpr) parent).getOperator().isEmpty()) {
+            return null;
+        }
+        if (isStep(parent)) {
+            return null;
+        }
 
         EObject singleContained = null;
         for (EObject contained : parent.eContents()) {
@@ -98,6 +123,11 @@ IXpath3ResourcePostProcessorProvider, IXpath3ResourcePostProcessor {
             singleContained = contained;
         }
 
+        // A step must be contained in a PathExpr
+        if (isStep(singleContained)) {
+            return null;
+        }
+
         EReference feature = parent.eContainmentFeature();
         if (feature != null && !feature.getEType().isInstance(singleContained)) {
             return null;
@@ -105,4 +135,10 @@ IXpath3ResourcePostProcessorProvider, IXpath3ResourcePostProcessor {
 
         return singleContained;
     }
+
+    private static boolean isStep(EObject object) {
+        return object instanceof SelfStepExpr
+                || object instanceof ChildStepExpr
+                || object instanceof DescOrSelfStepExpr;
+    }
 }
@@ -0,0 +1,643 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.util;
+
+import java.util.List;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.emftext.language.xpath3.AbbrevForwardStep;
+import org.emftext.language.xpath3.AbbrevReverseStep;
+import org.emftext.language.xpath3.AdditiveExpr;
+import org.emftext.language.xpath3.AndExpr;
+import org.emftext.language.xpath3.AnyItemType;
+import org.emftext.language.xpath3.AnyKindTest;
+import org.emftext.language.xpath3.AnyWildcard;
+import org.emftext.language.xpath3.AtomicItemType;
+import org.emftext.language.xpath3.AtomicType;
+import org.emftext.language.xpath3.AttributeTest;
+import org.emftext.language.xpath3.CastExpr;
+import org.emftext.language.xpath3.CastableExpr;
+import org.emftext.language.xpath3.ChildStepExpr;
+import org.emftext.language.xpath3.Comment;
+import org.emftext.language.xpath3.CommentTest;
+import org.emftext.language.xpath3.ComparisonExpr;
+import org.emftext.language.xpath3.ContextItemExpr;
+import org.emftext.language.xpath3.DecimalLiteral;
+import org.emftext.language.xpath3.DescOrSelfStepExpr;
+import org.emftext.language.xpath3.DocumentTest;
+import org.emftext.language.xpath3.DoubleLiteral;
+import org.emftext.language.xpath3.ElementTest;
+import org.emftext.language.xpath3.EmptySequenceType;
+import org.emftext.language.xpath3.Expr;
+import org.emftext.language.xpath3.FilterExpr;
+import org.emftext.language.xpath3.ForExpr;
+import org.emftext.language.xpath3.FunctionCall;
+import org.emftext.language.xpath3.GeneralComp;
+import org.emftext.language.xpath3.GeneralForwardStep;
+import org.emftext.language.xpath3.GeneralReverseStep;
+import org.emftext.language.xpath3.IfExpr;
+import org.emftext.language.xpath3.InstanceofExpr;
+import org.emftext.language.xpath3.IntegerLiteral;
+import org.emftext.language.xpath3.IntersectExceptExpr;
+import org.emftext.language.xpath3.ItemKindTest;
+import org.emftext.language.xpath3.ItemSequenceType;
+import org.emftext.language.xpath3.Iterator;
+import org.emftext.language.xpath3.LocalNameWildcard;
+import org.emftext.language.xpath3.MultiplicativeExpr;
+import org.emftext.language.xpath3.NCNamePITest;
+import org.emftext.language.xpath3.NameAttributeTest;
+import org.emftext.language.xpath3.NameElementTest;
+import org.emftext.language.xpath3.NamespaceWildcard;
+import org.emftext.language.xpath3.NodeComp;
+import org.emftext.language.xpath3.NodeKindTest;
+import org.emftext.language.xpath3.OptionalAtomicType;
+import org.emftext.language.xpath3.OrExpr;
+import org.emftext.language.xpath3.PITest;
+import org.emftext.language.xpath3.ParenthesizedExpr;
+import org.emftext.language.xpath3.PathExpr;
+import org.emftext.language.xpath3.Predicate;
+import org.emftext.language.xpath3.QNameTest;
+import org.emftext.language.xpath3.QuantifiedExpr;
+import org.emftext.language.xpath3.RangeExpr;
+import org.emftext.language.xpath3.RootStepExpr;
+import org.emftext.language.xpath3.SchemaAttributeTest;
+import org.emftext.language.xpath3.SchemaElementTest;
+import org.emftext.language.xpath3.SelfStepExpr;
+import org.emftext.language.xpath3.SingleType;
+import org.emftext.language.xpath3.StringLiteral;
+import org.emftext.language.xpath3.StringLiteralPITest;
+import org.emftext.language.xpath3.TextTest;
+import org.emftext.language.xpath3.TreatExpr;
+import org.emftext.language.xpath3.UnaryExpr;
+import org.emftext.language.xpath3.UnionExpr;
+import org.emftext.language.xpath3.ValueComp;
+import org.emftext.language.xpath3.VarRef;
+import org.emftext.language.xpath3.WildcardAttributeTest;
+import org.emftext.language.xpath3.WildcardElementTest;
+import org.emftext.language.xpath3.XPath3Package;
+
+/**
+ * A base class for visitors that dispatches nodes to the visit methods with a
+ * single <code>switch</code> over the classifier ID of their class, see
+ * {@link #visit(EObject, Object)}. All visit methods return
+ * {@link #defaultVisit(EObject, Object)} unless they are overridden.
+ *
+ * @param <R>
+ *            the result of the visit methods
+ * @param <C>
+ *            the context that is passed to the visit methods
+ */
+public abstract class AbstractXpath3Visitor<R, C> implements
+        Xpath3Visitor<R, C> {
+
+    /**
+     * Calls the visit method of the class of the given node. Nodes of
+     * classes of other packages are visited like their first super type, as
+     * <code>XPath3Switch</code> does, or with
+     * {@link #defaultVisit(EObject, Object)} if none of them is a concrete
+     * class of the metamodel.
+     */
+    public R visit(EObject object, C context) {
+        EClass eClass = object.eClass();
+        while (eClass.getEPackage() != XPath3Package.eINSTANCE) {
+            List<EClass> superTypes = eClass.getESuperTypes();
+            if (superTypes.isEmpty()) {
+                return defaultVisit(object, context);
+            }
+            eClass = superTypes.get(0);
+        }
+        switch (eClass.getClassifierID()) {
+        case XPath3Package.EXPR:
+            return visitExpr((Expr) object, context);
+        case XPath3Package.FOR_EXPR:
+            return visitForExpr((ForExpr) object, context);
+        case XPath3Package.QUANTIFIED_EXPR:
+            return visitQuantifiedExpr((QuantifiedExpr) object, context);
+        case XPath3Package.IF_EXPR:
+            return visitIfExpr((IfExpr) object, context);
+        case XPath3Package.ITERATOR:
+            return visitIterator((Iterator) object, context);
+        case XPath3Package.OR_EXPR:
+            return visitOrExpr((OrExpr) object, context);
+        case XPath3Package.AND_EXPR:
+            return visitAndExpr((AndExpr) object, context);
+        case XPath3Package.COMPARISON_EXPR:
+            return visitComparisonExpr((ComparisonExpr) object, context);
+        case XPath3Package.RANGE_EXPR:
+            return visitRangeExpr((RangeExpr) object, context);
+        case XPath3Package.ADDITIVE_EXPR:
+            return visitAdditiveExpr((AdditiveExpr) object, context);
+        case XPath3Package.MULTIPLICATIVE_EXPR:
+            return visitMultiplicativeExpr(
+                    (MultiplicativeExpr) object, context);
+        case XPath3Package.UNION_EXPR:
+            return visitUnionExpr((UnionExpr) object, context);
+        case XPath3Package.INTERSECT_EXCEPT_EXPR:
+            return visitIntersectExceptExpr(
+                    (IntersectExceptExpr) object, context);
+        case XPath3Package.INSTANCEOF_EXPR:
+            return visitInstanceofExpr((InstanceofExpr) object, context);
+        case XPath3Package.TREAT_EXPR:
+            return visitTreatExpr((TreatExpr) object, context);
+        case XPath3Package.CASTABLE_EXPR:
+            return visitCastableExpr((CastableExpr) object, context);
+        case XPath3Package.CAST_EXPR:
+            return visitCastExpr((CastExpr) object, context);
+        case XPath3Package.UNARY_EXPR:
+            return visitUnaryExpr((UnaryExpr) object, context);
+        case XPath3Package.PATH_EXPR:
+            return visitPathExpr((PathExpr) object, context);
+        case XPath3Package.ROOT_STEP_EXPR:
+            return visitRootStepExpr((RootStepExpr) object, context);
+        case XPath3Package.CHILD_STEP_EXPR:
+            return visitChildStepExpr((ChildStepExpr) object, context);
+        case XPath3Package.DESC_OR_SELF_STEP_EXPR:
+            return visitDescOrSelfStepExpr(
+                    (DescOrSelfStepExpr) object, context);
+        case XPath3Package.SELF_STEP_EXPR:
+            return visitSelfStepExpr((SelfStepExpr) object, context);
+        case XPath3Package.FILTER_EXPR:
+            return visitFilterExpr((FilterExpr) object, context);
+        case XPath3Package.GENERAL_FORWARD_STEP:
+            return visitGeneralForwardStep(
+                    (GeneralForwardStep) object, context);
+        case XPath3Package.ABBREV_FORWARD_STEP:
+            return visitAbbrevForwardStep((AbbrevForwardStep) object, context);
+        case XPath3Package.GENERAL_REVERSE_STEP:
+            return visitGeneralReverseStep(
+                    (GeneralReverseStep) object, context);
+        case XPath3Package.ABBREV_REVERSE_STEP:
+            return visitAbbrevReverseStep((AbbrevReverseStep) object, context);
+        case XPath3Package.NODE_KIND_TEST:
+            return visitNodeKindTest((NodeKindTest) object, context);
+        case XPath3Package.QNAME_TEST:
+            return visitQNameTest((QNameTest) object, context);
+        case XPath3Package.ANY_WILDCARD:
+            return visitAnyWildcard((AnyWildcard) object, context);
+        case XPath3Package.LOCAL_NAME_WILDCARD:
+            return visitLocalNameWildcard((LocalNameWildcard) object, context);
+        case XPath3Package.NAMESPACE_WILDCARD:
+            return visitNamespaceWildcard((NamespaceWildcard) object, context);
+        case XPath3Package.PREDICATE:
+            return visitPredicate((Predicate) object, context);
+        case XPath3Package.VAR_REF:
+            return visitVarRef((VarRef) object, context);
+        case XPath3Package.PARENTHESIZED_EXPR:
+            return visitParenthesizedExpr((ParenthesizedExpr) object, context);
+        case XPath3Package.CONTEXT_ITEM_EXPR:
+            return visitContextItemExpr((ContextItemExpr) object, context);
+        case XPath3Package.FUNCTION_CALL:
+            return visitFunctionCall((FunctionCall) object, context);
+        case XPath3Package.STRING_LITERAL:
+            return visitStringLiteral((StringLiteral) object, context);
+        case XPath3Package.INTEGER_LITERAL:
+            return visitIntegerLiteral((IntegerLiteral) object, context);
+        case XPath3Package.DECIMAL_LITERAL:
+            return visitDecimalLiteral((DecimalLiteral) object, context);
+        case XPath3Package.DOUBLE_LITERAL:
+            return visitDoubleLiteral((DoubleLiteral) object, context);
+        case XPath3Package.GENERAL_COMP:
+            return visitGeneralComp((GeneralComp) object, context);
+        case XPath3Package.VALUE_COMP:
+            return visitValueComp((ValueComp) object, context);
+        case XPath3Package.NODE_COMP:
+            return visitNodeComp((NodeComp) object, context);
+        case XPath3Package.SINGLE_TYPE:
+            return visitSingleType((SingleType) object, context);
+        case XPath3Package.ATOMIC_TYPE:
+            return visitAtomicType((AtomicType) object, context);
+        case XPath3Package.OPTIONAL_ATOMIC_TYPE:
+            return visitOptionalAtomicType(
+                    (OptionalAtomicType) object, context);
+        case XPath3Package.EMPTY_SEQUENCE_TYPE:
+            return visitEmptySequenceType((EmptySequenceType) object, context);
+        case XPath3Package.ITEM_SEQUENCE_TYPE:
+            return visitItemSequenceType((ItemSequenceType) object, context);
+        case XPath3Package.ITEM_KIND_TEST:
+            return visitItemKindTest((ItemKindTest) object, context);
+        case XPath3Package.ANY_ITEM_TYPE:
+            return visitAnyItemType((AnyItemType) object, context);
+        case XPath3Package.ATOMIC_ITEM_TYPE:
+            return visitAtomicItemType((AtomicItemType) object, context);
+        case XPath3Package.DOCUMENT_TEST:
+            return visitDocumentTest((DocumentTest) object, context);
+        case XPath3Package.ELEMENT_TEST:
+            return visitElementTest((ElementTest) object, context);
+        case XPath3Package.NAME_ELEMENT_TEST:
+            return visitNameElementTest((NameElementTest) object, context);
+        case XPath3Package.WILDCARD_ELEMENT_TEST:
+            return visitWildcardElementTest(
+                    (WildcardElementTest) object, context);
+        case XPath3Package.ATTRIBUTE_TEST:
+            return visitAttributeTest((AttributeTest) object, context);
+        case XPath3Package.NAME_ATTRIBUTE_TEST:
+            return visitNameAttributeTest((NameAttributeTest) object, context);
+        case XPath3Package.WILDCARD_ATTRIBUTE_TEST:
+            return visitWildcardAttributeTest(
+                    (WildcardAttributeTest) object, context);
+        case XPath3Package.SCHEMA_ELEMENT_TEST:
+            return visitSchemaElementTest((SchemaElementTest) object, context);
+        case XPath3Package.SCHEMA_ATTRIBUTE_TEST:
+            return visitSchemaAttributeTest(
+                    (SchemaAttributeTest) object, context);
+        case XPath3Package.PI_TEST:
+            return visitPITest((PITest) object, context);
+        case XPath3Package.NC_NAME_PI_TEST:
+            return visitNCNamePITest((NCNamePITest) object, context);
+        case XPath3Package.STRING_LITERAL_PI_TEST:
+            return visitStringLiteralPITest(
+                    (StringLiteralPITest) object, context);
+        case XPath3Package.COMMENT_TEST:
+            return visitCommentTest((CommentTest) object, context);
+        case XPath3Package.TEXT_TEST:
+            return visitTextTest((TextTest) object, context);
+        case XPath3Package.ANY_KIND_TEST:
+            return visitAnyKindTest((AnyKindTest) object, context);
+        case XPath3Package.COMMENT:
+            return visitComment((Comment) object, context);
+        default:
+            return defaultVisit(object, context);
+        }
+    }
+
+    /**
+     * Returns the result of the visit methods that aren't overridden, by
+     * default <code>null</code>.
+     */
+    protected R defaultVisit(EObject object, C context) {
+        return null;
+    }
+
+    @Override
+    public R visitExpr(Expr expr, C context) {
+        return defaultVisit(expr, context);
+    }
+
+    @Override
+    public R visitForExpr(ForExpr forExpr, C context) {
+        return defaultVisit(forExpr, context);
+    }
+
+    @Override
+    public R visitQuantifiedExpr(QuantifiedExpr quantifiedExpr, C context) {
+        return defaultVisit(quantifiedExpr, context);
+    }
+
+    @Override
+    public R visitIfExpr(IfExpr ifExpr, C context) {
+        return defaultVisit(ifExpr, context);
+    }
+
+    @Override
+    public R visitIterator(Iterator iterator, C context) {
+        return defaultVisit(iterator, context);
+    }
+
+    @Override
+    public R visitOrExpr(OrExpr orExpr, C context) {
+        return defaultVisit(orExpr, context);
+    }
+
+    @Override
+    public R visitAndExpr(AndExpr andExpr, C context) {
+        return defaultVisit(andExpr, context);
+    }
+
+    @Override
+    public R visitComparisonExpr(ComparisonExpr comparisonExpr, C context) {
+        return defaultVisit(comparisonExpr, context);
+    }
+
+    @Override
+    public R visitRangeExpr(RangeExpr rangeExpr, C context) {
+        return defaultVisit(rangeExpr, context);
+    }
+
+    @Override
+    public R visitAdditiveExpr(AdditiveExpr additiveExpr, C context) {
+        return defaultVisit(additiveExpr, context);
+    }
+
+    @Override
+    public R visitMultiplicativeExpr(
+            MultiplicativeExpr multiplicativeExpr, C context) {
+        return defaultVisit(multiplicativeExpr, context);
+    }
+
+    @Override
+    public R visitUnionExpr(UnionExpr unionExpr, C context) {
+        return defaultVisit(unionExpr, context);
+    }
+
+    @Override
+    public R visitIntersectExceptExpr(
+            IntersectExceptExpr intersectExceptExpr, C context) {
+        return defaultVisit(intersectExceptExpr, context);
+    }
+
+    @Override
+    public R visitInstanceofExpr(InstanceofExpr instanceofExpr, C context) {
+        return defaultVisit(instanceofExpr, context);
+    }
+
+    @Override
+    public R visitTreatExpr(TreatExpr treatExpr, C context) {
+        return defaultVisit(treatExpr, context);
+    }
+
+    @Override
+    public R visitCastableExpr(CastableExpr castableExpr, C context) {
+        return defaultVisit(castableExpr, context);
+    }
+
+    @Override
+    public R visitCastExpr(CastExpr castExpr, C context) {
+        return defaultVisit(castExpr, context);
+    }
+
+    @Override
+    public R visitUnaryExpr(UnaryExpr unaryExpr, C context) {
+        return defaultVisit(unaryExpr, context);
+    }
+
+    @Override
+    public R visitPathExpr(PathExpr pathExpr, C context) {
+        return defaultVisit(pathExpr, context);
+    }
+
+    @Override
+    public R visitRootStepExpr(RootStepExpr rootStepExpr, C context) {
+        return defaultVisit(rootStepExpr, context);
+    }
+
+    @Override
+    public R visitChildStepExpr(ChildStepExpr childStepExpr, C context) {
+        return defaultVisit(childStepExpr, context);
+    }
+
+    @Override
+    public R visitDescOrSelfStepExpr(
+            DescOrSelfStepExpr descOrSelfStepExpr, C context) {
+        return defaultVisit(descOrSelfStepExpr, context);
+    }
+
+    @Override
+    public R visitSelfStepExpr(SelfStepExpr selfStepExpr, C context) {
+        return defaultVisit(selfStepExpr, context);
+    }
+
+    @Override
+    public R visitFilterExpr(FilterExpr filterExpr, C context) {
+        return defaultVisit(filterExpr, context);
+    }
+
+    @Override
+    public R visitGeneralForwardStep(
+            GeneralForwardStep generalForwardStep, C context) {
+        return defaultVisit(generalForwardStep, context);
+    }
+
+    @Override
+    public R visitAbbrevForwardStep(
+            AbbrevForwardStep abbrevForwardStep, C context) {
+        return defaultVisit(abbrevForwardStep, context);
+    }
+
+    @Override
+    public R visitGeneralReverseStep(
+            GeneralReverseStep generalReverseStep, C context) {
+        return defaultVisit(generalReverseStep, context);
+    }
+
+    @Override
+    public R visitAbbrevReverseStep(
+            AbbrevReverseStep abbrevReverseStep, C context) {
+        return defaultVisit(abbrevReverseStep, context);
+    }
+
+    @Override
+    public R visitNodeKindTest(NodeKindTest nodeKindTest, C context) {
+        return defaultVisit(nodeKindTest, context);
+    }
+
+    @Override
+    public R visitQNameTest(QNameTest qNameTest, C context) {
+        return defaultVisit(qNameTest, context);
+    }
+
+    @Override
+    public R visitAnyWildcard(AnyWildcard anyWildcard, C context) {
+        return defaultVisit(anyWildcard, context);
+    }
+
+    @Override
+    public R visitLocalNameWildcard(
+            LocalNameWildcard localNameWildcard, C context) {
+        return defaultVisit(localNameWildcard, context);
+    }
+
+    @Override
+    public R visitNamespaceWildcard(
+            NamespaceWildcard namespaceWildcard, C context) {
+        return defaultVisit(namespaceWildcard, context);
+    }
+
+    @Override
+    public R visitPredicate(Predicate predicate, C context) {
+        return defaultVisit(predicate, context);
+    }
+
+    @Override
+    public R visitVarRef(VarRef varRef, C context) {
+        return defaultVisit(varRef, context);
+    }
+
+    @Override
+    public R visitParenthesizedExpr(
+            ParenthesizedExpr parenthesizedExpr, C context) {
+        return defaultVisit(parenthesizedExpr, context);
+    }
+
+    @Override
+    public R visitContextItemExpr(ContextItemExpr contextItemExpr, C context) {
+        return defaultVisit(contextItemExpr, context);
+    }
+
+    @Override
+    public R visitFunctionCall(FunctionCall functionCall, C context) {
+        return defaultVisit(functionCall, context);
+    }
+
+    @Override
+    public R visitStringLiteral(StringLiteral stringLiteral, C context) {
+        return defaultVisit(stringLiteral, context);
+    }
+
+    @Override
+    public R visitIntegerLiteral(IntegerLiteral integerLiteral, C context) {
+        return defaultVisit(integerLiteral, context);
+    }
+
+    @Override
+    public R visitDecimalLiteral(DecimalLiteral decimalLiteral, C context) {
+        return defaultVisit(decimalLiteral, context);
+    }
+
+    @Override
+    public R visitDoubleLiteral(DoubleLiteral doubleLiteral, C context) {
+        return defaultVisit(doubleLiteral, context);
+    }
+
+    @Override
+    public R visitGeneralComp(GeneralComp generalComp, C context) {
+        return defaultVisit(generalComp, context);
+    }
+
+    @Override
+    public R visitValueComp(ValueComp valueComp, C context) {
+        return defaultVisit(valueComp, context);
+    }
+
+    @Override
+    public R visitNodeComp(NodeComp nodeComp, C context) {
+        return defaultVisit(nodeComp, context);
+    }
+
+    @Override
+    public R visitSingleType(SingleType singleType, C context) {
+        return defaultVisit(singleType, context);
+    }
+
+    @Override
+    public R visitAtomicType(AtomicType atomicType, C context) {
+        return defaultVisit(atomicType, context);
+    }
+
+    @Override
+    public R visitOptionalAtomicType(
+            OptionalAtomicType optionalAtomicType, C context) {
+        return defaultVisit(optionalAtomicType, context);
+    }
+
+    @Override
+    public R visitEmptySequenceType(
+            EmptySequenceType emptySequenceType, C context) {
+        return defaultVisit(emptySequenceType, context);
+    }
+
+    @Override
+    public R visitItemSequenceType(
+            ItemSequenceType itemSequenceType, C context) {
+        return defaultVisit(itemSequenceType, context);
+    }
+
+    @Override
+    public R visitItemKindTest(ItemKindTest itemKindTest, C context) {
+        return defaultVisit(itemKindTest, context);
+    }
+
+    @Override
+    public R visitAnyItemType(AnyItemType anyItemType, C context) {
+        return defaultVisit(anyItemType, context);
+    }
+
+    @Override
+    public R visitAtomicItemType(AtomicItemType atomicItemType, C context) {
+        return defaultVisit(atomicItemType, context);
+    }
+
+    @Override
+    public R visitDocumentTest(DocumentTest documentTest, C context) {
+        return defaultVisit(documentTest, context);
+    }
+
+    @Override
+    public R visitElementTest(ElementTest elementTest, C context) {
+        return defaultVisit(elementTest, context);
+    }
+
+    @Override
+    public R visitNameElementTest(NameElementTest nameElementTest, C context) {
+        return defaultVisit(nameElementTest, context);
+    }
+
+    @Override
+    public R visitWildcardElementTest(
+            WildcardElementTest wildcardElementTest, C context) {
+        return defaultVisit(wildcardElementTest, context);
+    }
+
+    @Override
+    public R visitAttributeTest(AttributeTest attributeTest, C context) {
+        return defaultVisit(attributeTest, context);
+    }
+
+    @Override
+    public R visitNameAttributeTest(
+            NameAttributeTest nameAttributeTest, C context) {
+        return defaultVisit(nameAttributeTest, context);
+    }
+
+    @Override
+    public R visitWildcardAttributeTest(
+            WildcardAttributeTest wildcardAttributeTest, C context) {
+        return defaultVisit(wildcardAttributeTest, context);
+    }
+
+    @Override
+    public R visitSchemaElementTest(
+            SchemaElementTest schemaElementTest, C context) {
+        return defaultVisit(schemaElementTest, context);
+    }
+
+    @Override
+    public R visitSchemaAttributeTest(
+            SchemaAttributeTest schemaAttributeTest, C context) {
+        return defaultVisit(schemaAttributeTest, context);
+    }
+
+    @Override
+    public R visitPITest(PITest pITest, C context) {
+        return defaultVisit(pITest, context);
+    }
+
+    @Override
+    public R visitNCNamePITest(NCNamePITest nCNamePITest, C context) {
+        return defaultVisit(nCNamePITest, context);
+    }
+
+    @Override
+    public R visitStringLiteralPITest(
+            StringLiteralPITest stringLiteralPITest, C context) {
+        return defaultVisit(stringLiteralPITest, context);
+    }
+
+    @Override
+    public R visitCommentTest(CommentTest commentTest, C context) {
+        return defaultVisit(commentTest, context);
+    }
+
+    @Override
+    public R visitTextTest(TextTest textTest, C context) {
+        return defaultVisit(textTest, context);
+    }
+
+    @Override
+    public R visitAnyKindTest(AnyKindTest anyKindTest, C context) {
+        return defaultVisit(anyKindTest, context);
+    }
+
+    @Override
+    public R visitComment(Comment comment, C context) {
+        return defaultVisit(comment, context);
+    }
+}
@@ -0,0 +1,440 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.namespace.QName;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.emftext.language.xpath3.AnyExpr;
+import org.emftext.language.xpath3.AxisStep;
+import org.emftext.language.xpath3.ChildStepExpr;
+import org.emftext.language.xpath3.ContextItemExpr;
+import org.emftext.language.xpath3.DescOrSelfStepExpr;
+import org.emftext.language.xpath3.FilterExpr;
+import org.emftext.language.xpath3.ForExpr;
+import org.emftext.language.xpath3.FunctionCall;
+import org.emftext.language.xpath3.Iterator;
+import org.emftext.language.xpath3.PathExpr;
+import org.emftext.language.xpath3.PathExprChild;
+import org.emftext.language.xpath3.Predicate;
+import org.emftext.language.xpath3.QuantifiedExpr;
+import org.emftext.language.xpath3.RootStepExpr;
+import org.emftext.language.xpath3.StringLiteral;
+import org.emftext.language.xpath3.VarRef;
+
+/**
+ * The static dependencies of an expression: the free variables it reads,
+ * whether it depends on the focus, i.e. the context item, position and size,
+ * and the documents and collections it loads.
+ * <p>
+ * {@link #analyze(EObject)} attaches the dependencies to every
+ * {@link AnyExpr} of a tree, {@link #get(EObject)} returns them. They are a
+ * snapshot of the tree at the time of the analysis and must be recomputed if
+ * the tree is modified. {@link #analyze(EObject, Map)} records them in a map
+ * instead, e.g. for shared trees that must not be modified.
+ * <p>
+ * The focus of a step of a path or a predicate is the result of the step
+ * before, so their own focus dependencies don't propagate to the enclosing
+ * expression. A path that starts with <code>/</code> or <code>//</code>
+ * depends on the context item through the root of its tree.
+ * <p>
+ * The document URIs are the literal arguments of <code>fn:doc()</code>,
+ * <code>fn:doc-available()</code> and the <code>fn:unparsed-text</code>
+ * functions, the collection URIs those of <code>fn:collection()</code> and
+ * <code>fn:uri-collection()</code>. URIs are recorded as written, i.e. not
+ * resolved against the base URI. Any other argument, or a call of the default
+ * collection, is reported by {@link #hasUnknownDocuments()}.
+ */
+public final class Xpath3Dependencies extends AdapterImpl {
+
+    /**
+     * The functions of the <code>fn</code> namespace that use the context
+     * item if they are called without arguments.
+     */
+    private static final Set<String> CONTEXT_ITEM_FUNCTIONS =
+            new HashSet<String>(Arrays.asList("base-uri", "data",
+                    "document-uri", "generate-id", "has-children",
+                    "local-name", "name", "namespace-uri", "nilled",
+                    "node-name", "normalize-space", "number", "path", "root",
+                    "string", "string-length"));
+
+    /**
+     * The functions of the <code>fn</code> namespace that use the context
+     * item as their node argument if they are called with one argument.
+     */
+    private static final Set<String> CONTEXT_NODE_FUNCTIONS =
+            new HashSet<String>(Arrays.asList("element-with-id", "id",
+                    "idref", "lang"));
+
+    private static final Set<String> DOCUMENT_FUNCTIONS = new HashSet<String>(
+            Arrays.asList("doc", "doc-available", "unparsed-text",
+                    "unparsed-text-available", "unparsed-text-lines"));
+
+    private static final Set<String> COLLECTION_FUNCTIONS =
+            new HashSet<String>(Arrays.asList("collection", "uri-collection"));
+
+    /**
+     * The free variables by their lexical names. The prefixes aren't
+     * resolved yet, and {@link QName#equals(Object)} ignores them.
+     */
+    private Map<String, QName> freeVariables;
+
+    private boolean usesContextItem;
+
+    private boolean usesPosition;
+
+    private boolean usesSize;
+
+    private Set<String> documentURIs;
+
+    private Set<String> collectionURIs;
+
+    private boolean unknownDocuments;
+
+    private Xpath3Dependencies() {
+    }
+
+    /**
+     * Analyzes the tree of the given expression, attaches the dependencies to
+     * each of its {@link AnyExpr} nodes, replacing those of an earlier
+     * analysis, and returns the dependencies of the expression itself.
+     */
+    public static Xpath3Dependencies analyze(EObject expr) {
+        return analyze(expr, null);
+    }
+
+    /**
+     * Analyzes the tree of the given expression like
+     * {@link #analyze(EObject)}, but puts the dependencies of its
+     * {@link AnyExpr} nodes into the given map instead of attaching them. If
+     * the map is <code>null</code>, they are attached.
+     */
+    public static Xpath3Dependencies analyze(EObject expr,
+            Map<EObject, Xpath3Dependencies> results) {
+        Xpath3Dependencies dependencies = new Xpath3Dependencies();
+        if (expr instanceof VarRef) {
+            dependencies.addVariable(((VarRef) expr).getVarName());
+        } else if (expr instanceof ContextItemExpr
+                || expr instanceof RootStepExpr) {
+            dependencies.usesContextItem = true;
+        } else if (expr instanceof AxisStep) {
+            dependencies.usesContextItem = true;
+            dependencies.addContents(expr, results);
+        } else if (expr instanceof PathExpr) {
+            dependencies.addPath((PathExpr) expr, results);
+        } else if (expr instanceof FilterExpr) {
+            dependencies.addContents(expr, results);
+        } else if (expr instanceof ForExpr) {
+            ForExpr forExpr = (ForExpr) expr;
+            dependencies.addBindings(forExpr.getIterator(),
+                    forExpr.getReturn(), results);
+        } else if (expr instanceof QuantifiedExpr) {
+            QuantifiedExpr quantifiedExpr = (QuantifiedExpr) expr;
+            dependencies.addBindings(quantifiedExpr.getIterator(),
+                    quantifiedExpr.getSatisfies(), results);
+        } else if (expr instanceof FunctionCall) {
+            dependencies.addFunctionCall((FunctionCall) expr, results);
+        } else {
+            dependencies.addContents(expr, results);
+        }
+        if (expr instanceof AnyExpr && results != null) {
+            results.put(expr, dependencies);
+        } else if (expr instanceof AnyExpr) {
+            Adapter previous = get(expr);
+            if (previous != null) {
+                expr.eAdapters().remove(previous);
+            }
+            expr.eAdapters().add(dependencies);
+        }
+        return dependencies;
+    }
+
+    /**
+     * Returns the dependencies that {@link #analyze(EObject)} has attached to
+     * the given expression, or <code>null</code> if it hasn't been analyzed.
+     */
+    public static Xpath3Dependencies get(EObject expr) {
+        return (Xpath3Dependencies) EcoreUtil.getExistingAdapter(expr,
+                Xpath3Dependencies.class);
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == Xpath3Dependencies.class;
+    }
+
+    /**
+     * Returns the names of the variables that are read but not bound by the
+     * expression, in the order of their first reference.
+     */
+    public List<QName> getFreeVariables() {
+        if (freeVariables == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(new ArrayList<QName>(
+                freeVariables.values()));
+    }
+
+    public boolean hasFreeVariables() {
+        return freeVariables != null;
+    }
+
+    public boolean usesContextItem() {
+        return usesContextItem;
+    }
+
+    /**
+     * Returns whether the expression calls <code>fn:position()</code>.
+     */
+    public boolean usesPosition() {
+        return usesPosition;
+    }
+
+    /**
+     * Returns whether the expression calls <code>fn:last()</code>.
+     */
+    public boolean usesSize() {
+        return usesSize;
+    }
+
+    /**
+     * Returns whether the expression depends on any part of the focus. If it
+     * doesn't and has no free variables, its value is the same for all
+     * evaluations within one evaluation of the enclosing expression.
+     */
+    public boolean usesFocus() {
+        return usesContextItem || usesPosition || usesSize;
+    }
+
+    public Set<String> getDocumentURIs() {
+        if (documentURIs == null) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(documentURIs);
+    }
+
+    public Set<String> getCollectionURIs() {
+        if (collectionURIs == null) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(collectionURIs);
+    }
+
+    /**
+     * Returns whether the expression loads a document or collection whose URI
+     * isn't known statically, in which case {@link #getDocumentURIs()} and
+     * {@link #getCollectionURIs()} are incomplete.
+     */
+    public boolean hasUnknownDocuments() {
+        return unknownDocuments;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("Xpath3Dependencies(");
+        result.append("variables=").append(freeVariables == null
+                ? "[]" : freeVariables.keySet().toString());
+        result.append(", contextItem=").append(usesContextItem);
+        result.append(", position=").append(usesPosition);
+        result.append(", size=").append(usesSize);
+        result.append(", documents=").append(getDocumentURIs());
+        result.append(", collections=").append(getCollectionURIs());
+        if (unknownDocuments) {
+            result.append(", unknownDocuments");
+        }
+        return result.append(')').toString();
+    }
+
+    private void addContents(EObject expr,
+            Map<EObject, Xpath3Dependencies> results) {
+        for (EObject child : expr.eContents()) {
+            add(analyze(child, results), !(child instanceof Predicate), null);
+        }
+    }
+
+    private void addPath(PathExpr pathExpr,
+            Map<EObject, Xpath3Dependencies> results) {
+        List<PathExprChild> steps = pathExpr.getStep();
+        for (int i = 0; i < steps.size(); i++) {
+            PathExprChild step = steps.get(i);
+            Xpath3Dependencies stepDependencies = analyze(step, results);
+            if (i > 0) {
+                add(stepDependencies, false, null);
+            } else if (step instanceof ChildStepExpr
+                    || step instanceof DescOrSelfStepExpr) {
+                usesContextItem = true;
+                add(stepDependencies, false, null);
+            } else {
+                add(stepDependencies, true, null);
+            }
+        }
+    }
+
+    /**
+     * Adds the dependencies of the iterators and of the body of a
+     * <code>for</code> or quantified expression. A variable is bound in the
+     * iterators after its own and in the body.
+     */
+    private void addBindings(List<Iterator> iterators, EObject body,
+            Map<EObject, Xpath3Dependencies> results) {
+        Set<String> bound = new HashSet<String>();
+        for (Iterator iterator : iterators) {
+            add(analyze(iterator, results), true, bound);
+            bound.add(getLexicalName(iterator.getVarName()));
+        }
+        if (body != null) {
+            add(analyze(body, results), true, bound);
+        }
+    }
+
+    private void addFunctionCall(FunctionCall functionCall,
+            Map<EObject, Xpath3Dependencies> results) {
+        addContents(functionCall, results);
+        QName name = functionCall.getName();
+        String prefix = name.getPrefix();
+        if (prefix.length() > 0 && !prefix.equals("fn")) {
+            return;
+        }
+        String localName = name.getLocalPart();
+        List<? extends EObject> args = functionCall.getArg();
+        if (args.isEmpty()) {
+            if (localName.equals("position")) {
+                usesPosition = true;
+            } else if (localName.equals("last")) {
+                usesSize = true;
+            } else if (CONTEXT_ITEM_FUNCTIONS.contains(localName)) {
+                usesContextItem = true;
+            } else if (COLLECTION_FUNCTIONS.contains(localName)) {
+                unknownDocuments = true;
+            }
+        } else if (args.size() == 1
+                && CONTEXT_NODE_FUNCTIONS.contains(localName)) {
+            usesContextItem = true;
+        } else if (DOCUMENT_FUNCTIONS.contains(localName)) {
+            documentURIs = addURI(documentURIs, args.get(0));
+        } else if (COLLECTION_FUNCTIONS.contains(localName)) {
+            collectionURIs = addURI(collectionURIs, args.get(0));
+        }
+    }
+
+    private Set<String> addURI(Set<String> uris, EObject arg) {
+        String uri = getStringLiteralValue(arg);
+        if (uri == null) {
+            unknownDocuments = true;
+            return uris;
+        }
+        if (uris == null) {
+            uris = new LinkedHashSet<String>();
+        }
+        uris.add(uri);
+        return uris;
+    }
+
+    private void addVariable(QName name) {
+        if (freeVariables == null) {
+            freeVariables = new LinkedHashMap<String, QName>();
+        }
+        String lexicalName = getLexicalName(name);
+        if (!freeVariables.containsKey(lexicalName)) {
+            freeVariables.put(lexicalName, name);
+        }
+    }
+
+    /**
+     * Adds the dependencies of a subexpression.
+     *
+     * @param focus
+     *            whether the subexpression is evaluated with the same focus
+     * @param bound
+     *            the lexical names of the variables that are bound at the
+     *            subexpression, or <code>null</code>
+     */
+    private void add(Xpath3Dependencies other, boolean focus,
+            Set<String> bound) {
+        if (other.freeVariables != null) {
+            for (Map.Entry<String, QName> entry
+                    : other.freeVariables.entrySet()) {
+                if (bound == null || !bound.contains(entry.getKey())) {
+                    addVariable(entry.getValue());
+                }
+            }
+        }
+        if (focus) {
+            usesContextItem |= other.usesContextItem;
+            usesPosition |= other.usesPosition;
+            usesSize |= other.usesSize;
+        }
+        if (other.documentURIs != null) {
+            if (documentURIs == null) {
+                documentURIs = new LinkedHashSet<String>();
+            }
+            documentURIs.addAll(other.documentURIs);
+        }
+        if (other.collectionURIs != null) {
+            if (collectionURIs == null) {
+                collectionURIs = new LinkedHashSet<String>();
+            }
+            collectionURIs.addAll(other.collectionURIs);
+        }
+        unknownDocuments |= other.unknownDocuments;
+    }
+
+    /**
+     * Returns the value of the given argument if it is a string literal,
+     * possibly wrapped in chain nodes, or <code>null</code> otherwise.
+     */
+    private static String getStringLiteralValue(EObject expr) {
+        while (!(expr instanceof StringLiteral)) {
+            if (expr instanceof FunctionCall || expr instanceof AxisStep) {
+                return null;
+            }
+            List<EObject> contents = expr.eContents();
+            if (contents.size() != 1) {
+                return null;
+            }
+            expr = contents.get(0);
+        }
+        return unquote(((StringLiteral) expr).getValue());
+    }
+
+    private static String unquote(String literal) {
+        if (literal.length() < 2) {
+            return literal;
+        }
+        char quote = literal.charAt(0);
+        if ((quote != '"' && quote != '\'')
+                || literal.charAt(literal.length() - 1) != quote) {
+            return literal;
+        }
+        String value = literal.substring(1, literal.length() - 1);
+        return value.replace(new String(new char[] { quote, quote }),
+                String.valueOf(quote));
+    }
+
+    private static String getLexicalName(QName name) {
+        String prefix = name.getPrefix();
+        return prefix.length() == 0 ? name.getLocalPart() : prefix + ":"
+                + name.getLocalPart();
+    }
+}
@@ -0,0 +1,247 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.emftext.language.xpath3.AnyExpr;
+
+/**
+ * A bounded, thread-safe cache of parsed expressions. Entries are keyed by the
+ * expression text and the load options and are evicted in least recently used
+ * order once {@link #getMaximumSize()} is exceeded.
+ * <p>
+ * A miss parses the text exactly like
+ * {@link Xpath3ResourceUtil#getResourceContent(String)} does, using the given
+ * load options. Concurrent misses for the same key parse the text only once.
+ * <p>
+ * {@link #getShared(String, Map)} returns the cached tree itself. It is shared
+ * between all callers and threads and must be treated as read-only.
+ * {@link #getCopy(String, Map)} returns a detached copy that may be modified
+ * freely.
+ * <p>
+ * The root is an {@link AnyExpr} rather than an <code>Expr</code> because
+ * resource post-processors (e.g. <code>PostProcessor</code>) may replace the
+ * root of the parsed tree.
+ */
+public class Xpath3ExpressionCache {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 4096;
+
+    private final int maximumSize;
+
+    private final Map<Key, FutureTask<AnyExpr>> entries;
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    public Xpath3ExpressionCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public Xpath3ExpressionCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException(
+                    "Maximum size must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.entries = new LinkedHashMap<Key, FutureTask<AnyExpr>>(16, 0.75f,
+                true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(
+                    Map.Entry<Key, FutureTask<AnyExpr>> eldest) {
+                return size() > Xpath3ExpressionCache.this.maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the shared, read-only tree for the given text parsed without
+     * load options.
+     */
+    public AnyExpr getShared(String text) {
+        return getShared(text, null);
+    }
+
+    /**
+     * Returns the shared, read-only tree for the given text and load options,
+     * parsing the text if it is not cached yet. Returns <code>null</code> if
+     * the text cannot be parsed into an expression, i.e. if loading it
+     * reports an error. The tree is not contained in a resource.
+     */
+    public AnyExpr getShared(String text, Map<?, ?> options) {
+        final Key key = new Key(text, options);
+        FutureTask<AnyExpr> task;
+        boolean created = false;
+        synchronized (entries) {
+            task = entries.get(key);
+            if (task == null) {
+                task = new FutureTask<AnyExpr>(new Callable<AnyExpr>() {
+                    @Override
+                    public AnyExpr call() {
+                        return parse(key.text, key.options);
+                    }
+                });
+                entries.put(key, task);
+                created = true;
+            }
+        }
+        if (created) {
+            missCount.incrementAndGet();
+            task.run();
+        } else {
+            hitCount.incrementAndGet();
+        }
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            synchronized (entries) {
+                if (entries.get(key) == task) {
+                    entries.remove(key);
+                }
+            }
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Returns a copy of the tree for the given text parsed without load
+     * options.
+     */
+    public AnyExpr getCopy(String text) {
+        return getCopy(text, null);
+    }
+
+    /**
+     * Returns a copy of the tree for the given text and load options. The copy
+     * is not contained in a resource and may be modified by the caller.
+     */
+    public AnyExpr getCopy(String text, Map<?, ?> options) {
+        AnyExpr shared = getShared(text, options);
+        if (shared == null) {
+            return null;
+        }
+        return EcoreUtil.copy(shared);
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Removes all entries. The hit and miss counters are not reset.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private static AnyExpr parse(String text, Map<?, ?> options) {
+        Resource resource = Xpath3ResourceUtil.getResource(text,
+                new ResourceSetImpl(), options);
+        if (resource == null || !resource.getErrors().isEmpty()) {
+            // the parser recovers from syntax errors, so the tree may be
+            // incomplete
+            return null;
+        }
+        List<EObject> contents = resource.getContents();
+        if (contents.isEmpty() || !(contents.get(0) instanceof AnyExpr)) {
+            return null;
+        }
+        // the references must be resolved while the tree is in the resource
+        EcoreUtil.resolveAll(resource);
+        AnyExpr root = (AnyExpr) contents.get(0);
+        // the resource would keep the text, the location map and the
+        // resource set alive as long as the tree is cached
+        contents.clear();
+        return root;
+    }
+
+    private static final class Key {
+
+        private final String text;
+
+        private final Map<?, ?> options;
+
+        private final int hashCode;
+
+        Key(String text, Map<?, ?> options) {
+            if (text == null) {
+                throw new IllegalArgumentException("Text must not be null");
+            }
+            this.text = text;
+            this.options = options == null || options.isEmpty()
+                    ? Collections.<Object, Object> emptyMap()
+                    : Collections.unmodifiableMap(
+                            new HashMap<Object, Object>(options));
+            this.hashCode = 31 * text.hashCode() + this.options.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return hashCode == other.hashCode && text.equals(other.text)
+                    && options.equals(other.options);
+        }
+    }
+}
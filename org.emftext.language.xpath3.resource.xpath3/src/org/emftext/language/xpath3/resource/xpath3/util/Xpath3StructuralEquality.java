@@ -0,0 +1,582 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.util;
+
+import java.util.List;
+
+import javax.xml.namespace.QName;
+
+import org.eclipse.emf.common.util.Enumerator;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EEnum;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.emftext.language.xpath3.DecimalLiteral;
+import org.emftext.language.xpath3.DoubleLiteral;
+import org.emftext.language.xpath3.IntegerLiteral;
+import org.emftext.language.xpath3.Iterator;
+import org.emftext.language.xpath3.StringLiteral;
+import org.emftext.language.xpath3.VarRef;
+import org.emftext.language.xpath3.XPath3Package;
+
+/**
+ * Compares expression trees by structure, e.g. to deduplicate expressions
+ * or to use them as keys of a map, see {@link #key(EObject)}.
+ * <p>
+ * Two trees are equal if their nodes have the same classes, attribute values
+ * and children. Layout information and locations are not part of the tree and
+ * are ignored. Operators and axes are compared by their enumeration values,
+ * names by namespace, local name and prefix, string literals by their value
+ * regardless of the quotes, and numeric literals by their value. A reference
+ * to an unresolved object, e.g. the literal of a
+ * <code>processing-instruction()</code> test of an unresolved tree, is
+ * compared by the fragment of its proxy URI.
+ * <p>
+ * With {@link #ALPHA_RENAMING} the names of the variables bound by the
+ * iterators of <code>for</code> and quantified expressions are ignored,
+ * i.e. <code>for $x in a return $x</code> equals
+ * <code>for $y in a return $y</code>. References to variables that aren't
+ * bound in the tree are still compared by name.
+ * <p>
+ * The trees aren't normalized, so both should be parsed and post-processed
+ * the same way, e.g. a collapsed tree doesn't equal an unprocessed tree of
+ * the same text. Comparing and hashing walk the trees without allocating,
+ * except for a small binding table in alpha-renaming mode. Instances are
+ * immutable and thread-safe.
+ */
+public final class Xpath3StructuralEquality {
+
+    /**
+     * Compares variable names like all other names.
+     */
+    public static final Xpath3StructuralEquality EXACT =
+            new Xpath3StructuralEquality(false);
+
+    /**
+     * Ignores the names of the variables that are bound in the tree.
+     */
+    public static final Xpath3StructuralEquality ALPHA_RENAMING =
+            new Xpath3StructuralEquality(true);
+
+    private static final byte ATTRIBUTE = 0;
+
+    private static final byte ENUM_ATTRIBUTE = 1;
+
+    private static final byte NAME_ATTRIBUTE = 2;
+
+    private static final byte CONTAINMENT = 3;
+
+    private static final byte CONTAINMENT_MANY = 4;
+
+    private static final byte REFERENCE = 5;
+
+    private static final byte ATTRIBUTE_MANY = 6;
+
+    private static final byte ENUM_ATTRIBUTE_MANY = 7;
+
+    /**
+     * The kinds of the features of the classes of the metamodel by classifier
+     * ID and feature ID, so that nodes can be compared without looking at the
+     * features.
+     */
+    private static final byte[][] FEATURE_KINDS = createFeatureKinds();
+
+    private final boolean alphaRenaming;
+
+    private Xpath3StructuralEquality(boolean alphaRenaming) {
+        this.alphaRenaming = alphaRenaming;
+    }
+
+    public boolean isAlphaRenaming() {
+        return alphaRenaming;
+    }
+
+    /**
+     * Returns whether the trees are structurally equal. Either tree may be
+     * <code>null</code>.
+     */
+    public boolean equal(EObject expr1, EObject expr2) {
+        return equal(expr1, expr2, alphaRenaming ? new Bindings() : null);
+    }
+
+    /**
+     * Returns a hash code of the tree that is consistent with
+     * {@link #equal(EObject, EObject)}.
+     */
+    public int hash(EObject expr) {
+        return hash(expr, alphaRenaming ? new Bindings() : null);
+    }
+
+    /**
+     * Returns a key for maps whose <code>equals()</code> and
+     * <code>hashCode()</code> compare the tree by structure. The hash code is
+     * computed once. The tree must not be modified while the key is in use.
+     */
+    public Key key(EObject expr) {
+        return new Key(this, expr);
+    }
+
+    private boolean equal(EObject expr1, EObject expr2, Bindings bindings) {
+        if (expr1 == expr2 && bindings == null) {
+            return true;
+        }
+        if (expr1 == null || expr2 == null) {
+            return expr1 == expr2;
+        }
+        EClass eClass = expr1.eClass();
+        if (eClass != expr2.eClass()) {
+            return false;
+        }
+        if (eClass.getEPackage() == XPath3Package.eINSTANCE) {
+            switch (eClass.getClassifierID()) {
+            case XPath3Package.INTEGER_LITERAL:
+                int int1 = ((IntegerLiteral) expr1).getValue();
+                int int2 = ((IntegerLiteral) expr2).getValue();
+                return int1 == int2;
+            case XPath3Package.DECIMAL_LITERAL:
+                float float1 = ((DecimalLiteral) expr1).getValue();
+                float float2 = ((DecimalLiteral) expr2).getValue();
+                return Float.floatToIntBits(float1) == Float
+                        .floatToIntBits(float2);
+            case XPath3Package.DOUBLE_LITERAL:
+                double double1 = ((DoubleLiteral) expr1).getValue();
+                double double2 = ((DoubleLiteral) expr2).getValue();
+                return Double.doubleToLongBits(double1) == Double
+                        .doubleToLongBits(double2);
+            case XPath3Package.STRING_LITERAL:
+                return equalStringLiterals(
+                        ((StringLiteral) expr1).getValue(),
+                        ((StringLiteral) expr2).getValue());
+            case XPath3Package.VAR_REF:
+                if (bindings != null) {
+                    QName name1 = ((VarRef) expr1).getVarName();
+                    QName name2 = ((VarRef) expr2).getVarName();
+                    int index = bindings.indexOf(name1);
+                    if (index != bindings.otherIndexOf(name2)) {
+                        return false;
+                    }
+                    return index >= 0 || equalNames(name1, name2);
+                }
+                break;
+            case XPath3Package.ITERATOR:
+                if (bindings != null) {
+                    // The variable is in scope after the list, up to the end
+                    // of the expression that contains the iterator
+                    if (!equal(((Iterator) expr1).getList(),
+                            ((Iterator) expr2).getList(), bindings)) {
+                        return false;
+                    }
+                    bindings.push(((Iterator) expr1).getVarName(),
+                            ((Iterator) expr2).getVarName());
+                    return true;
+                }
+                break;
+            }
+        }
+        int size = bindings == null ? 0 : bindings.size;
+        InternalEObject object1 = (InternalEObject) expr1;
+        InternalEObject object2 = (InternalEObject) expr2;
+        byte[] kinds = getFeatureKinds(eClass);
+        for (int i = 0; i < kinds.length; i++) {
+            Object value1 = object1.eGet(i, false, true);
+            Object value2 = object2.eGet(i, false, true);
+            switch (kinds[i]) {
+            case CONTAINMENT:
+                if (!equal((EObject) value1, (EObject) value2, bindings)) {
+                    return false;
+                }
+                break;
+            case CONTAINMENT_MANY:
+                List<?> children1 = (List<?>) value1;
+                List<?> children2 = (List<?>) value2;
+                if (children1.size() != children2.size()) {
+                    return false;
+                }
+                for (int j = 0; j < children1.size(); j++) {
+                    if (!equal((EObject) children1.get(j),
+                            (EObject) children2.get(j), bindings)) {
+                        return false;
+                    }
+                }
+                break;
+            case REFERENCE:
+                if (!equalReferences((EObject) value1, (EObject) value2)) {
+                    return false;
+                }
+                break;
+            case ENUM_ATTRIBUTE:
+                if (value1 != value2) {
+                    return false;
+                }
+                break;
+            case ENUM_ATTRIBUTE_MANY:
+                List<?> literals1 = (List<?>) value1;
+                List<?> literals2 = (List<?>) value2;
+                if (literals1.size() != literals2.size()) {
+                    return false;
+                }
+                for (int j = 0; j < literals1.size(); j++) {
+                    if (literals1.get(j) != literals2.get(j)) {
+                        return false;
+                    }
+                }
+                break;
+            case NAME_ATTRIBUTE:
+                if (!equalNames((QName) value1, (QName) value2)) {
+                    return false;
+                }
+                break;
+            default:
+                // Lists of values compare their elements
+                if (value1 == null ? value2 != null : !value1.equals(value2)) {
+                    return false;
+                }
+            }
+        }
+        if (bindings != null) {
+            bindings.size = size;
+        }
+        return true;
+    }
+
+    private int hash(EObject expr, Bindings bindings) {
+        if (expr == null) {
+            return 0;
+        }
+        EClass eClass = expr.eClass();
+        int hash = eClass.getClassifierID() + 1;
+        if (eClass.getEPackage() == XPath3Package.eINSTANCE) {
+            switch (eClass.getClassifierID()) {
+            case XPath3Package.INTEGER_LITERAL:
+                return hash * 31 + ((IntegerLiteral) expr).getValue();
+            case XPath3Package.DECIMAL_LITERAL:
+                return hash * 31
+                        + Float.floatToIntBits(((DecimalLiteral) expr)
+                                .getValue());
+            case XPath3Package.DOUBLE_LITERAL:
+                long bits = Double.doubleToLongBits(((DoubleLiteral) expr)
+                        .getValue());
+                return hash * 31 + (int) (bits ^ (bits >>> 32));
+            case XPath3Package.STRING_LITERAL:
+                return hash * 31
+                        + hashStringLiteral(((StringLiteral) expr).getValue());
+            case XPath3Package.VAR_REF:
+                if (bindings != null) {
+                    QName name = ((VarRef) expr).getVarName();
+                    int index = bindings.indexOf(name);
+                    return hash * 31
+                            + (index >= 0 ? index : hashName(name) * 31 - 1);
+                }
+                break;
+            case XPath3Package.ITERATOR:
+                if (bindings != null) {
+                    hash = hash * 31
+                            + hash(((Iterator) expr).getList(), bindings);
+                    bindings.push(((Iterator) expr).getVarName(), null);
+                    return hash;
+                }
+                break;
+            }
+        }
+        int size = bindings == null ? 0 : bindings.size;
+        InternalEObject object = (InternalEObject) expr;
+        byte[] kinds = getFeatureKinds(eClass);
+        for (int i = 0; i < kinds.length; i++) {
+            Object value = object.eGet(i, false, true);
+            switch (kinds[i]) {
+            case CONTAINMENT:
+                hash = hash * 31 + hash((EObject) value, bindings);
+                break;
+            case CONTAINMENT_MANY:
+                List<?> children = (List<?>) value;
+                for (int j = 0; j < children.size(); j++) {
+                    hash = hash * 31
+                            + hash((EObject) children.get(j), bindings);
+                }
+                hash = hash * 31 + children.size();
+                break;
+            case REFERENCE:
+                hash = hash * 31 + hashReference((EObject) value);
+                break;
+            case ENUM_ATTRIBUTE:
+                hash = hash * 31 + hashLiteral((Enumerator) value);
+                break;
+            case ENUM_ATTRIBUTE_MANY:
+                List<?> literals = (List<?>) value;
+                for (int j = 0; j < literals.size(); j++) {
+                    hash = hash * 31
+                            + hashLiteral((Enumerator) literals.get(j));
+                }
+                hash = hash * 31 + literals.size();
+                break;
+            case NAME_ATTRIBUTE:
+                hash = hash * 31 + hashName((QName) value);
+                break;
+            default:
+                // Lists of values hash their elements
+                hash = hash * 31 + (value == null ? 0 : value.hashCode());
+            }
+        }
+        if (bindings != null) {
+            bindings.size = size;
+        }
+        return hash;
+    }
+
+    private static int hashLiteral(Enumerator literal) {
+        // The hash code of an enumeration literal is its identity
+        return literal == null ? 0 : literal.getValue() + 1;
+    }
+
+    private static int hashName(QName name) {
+        return name == null ? 0 : name.hashCode() * 31
+                + name.getPrefix().hashCode();
+    }
+
+    private static boolean equalNames(QName name1, QName name2) {
+        // QName.equals() ignores the prefix, which isn't resolved yet
+        return name1 == name2 || name1 != null && name1.equals(name2)
+                && name1.getPrefix().equals(name2.getPrefix());
+    }
+
+    private boolean equalReferences(EObject object1, EObject object2) {
+        if (object1 == object2) {
+            return true;
+        }
+        if (object1 == null || object2 == null) {
+            return false;
+        }
+        if (object1.eIsProxy() || object2.eIsProxy()) {
+            return object1.eIsProxy()
+                    && object2.eIsProxy()
+                    && getProxyFragment(object1).equals(
+                            getProxyFragment(object2));
+        }
+        return equal(object1, object2, null);
+    }
+
+    private int hashReference(EObject object) {
+        if (object == null) {
+            return 0;
+        }
+        if (object.eIsProxy()) {
+            return getProxyFragment(object).hashCode();
+        }
+        return hash(object, null);
+    }
+
+    private static String getProxyFragment(EObject proxy) {
+        return ((InternalEObject) proxy).eProxyURI().fragment();
+    }
+
+    /**
+     * Compares the values of two quoted string literals, i.e. without the
+     * quotes and with doubled quotes counted once.
+     */
+    private static boolean equalStringLiterals(String literal1,
+            String literal2) {
+        if (literal1 == null || literal2 == null) {
+            return literal1 == literal2;
+        }
+        int end1 = getValueEnd(literal1);
+        int end2 = getValueEnd(literal2);
+        int i = getValueStart(literal1);
+        int j = getValueStart(literal2);
+        while (i < end1 && j < end2) {
+            char c = literal1.charAt(i);
+            if (c != literal2.charAt(j)) {
+                return false;
+            }
+            i += isDoubledQuote(literal1, i, end1) ? 2 : 1;
+            j += isDoubledQuote(literal2, j, end2) ? 2 : 1;
+        }
+        return i >= end1 && j >= end2;
+    }
+
+    private static int hashStringLiteral(String literal) {
+        if (literal == null) {
+            return 0;
+        }
+        int hash = 0;
+        int end = getValueEnd(literal);
+        for (int i = getValueStart(literal); i < end; i++) {
+            hash = hash * 31 + literal.charAt(i);
+            if (isDoubledQuote(literal, i, end)) {
+                i++;
+            }
+        }
+        return hash;
+    }
+
+    private static boolean isQuoted(String literal) {
+        int length = literal.length();
+        if (length < 2) {
+            return false;
+        }
+        char quote = literal.charAt(0);
+        return (quote == '"' || quote == '\'')
+                && literal.charAt(length - 1) == quote;
+    }
+
+    private static int getValueStart(String literal) {
+        return isQuoted(literal) ? 1 : 0;
+    }
+
+    private static int getValueEnd(String literal) {
+        return isQuoted(literal) ? literal.length() - 1 : literal.length();
+    }
+
+    private static boolean isDoubledQuote(String literal, int index, int end) {
+        char c = literal.charAt(index);
+        return index + 1 < end && c == literal.charAt(index + 1)
+                && isQuoted(literal) && c == literal.charAt(0);
+    }
+
+    private static byte[][] createFeatureKinds() {
+        List<EClassifier> classifiers = XPath3Package.eINSTANCE
+                .getEClassifiers();
+        byte[][] featureKinds = new byte[classifiers.size()][];
+        for (EClassifier classifier : classifiers) {
+            if (classifier instanceof EClass) {
+                featureKinds[classifier.getClassifierID()] =
+                        createFeatureKinds((EClass) classifier);
+            }
+        }
+        return featureKinds;
+    }
+
+    private static byte[] getFeatureKinds(EClass eClass) {
+        if (eClass.getEPackage() == XPath3Package.eINSTANCE) {
+            return FEATURE_KINDS[eClass.getClassifierID()];
+        }
+        return createFeatureKinds(eClass);
+    }
+
+    private static byte[] createFeatureKinds(EClass eClass) {
+        List<EStructuralFeature> features = eClass.getEAllStructuralFeatures();
+        byte[] kinds = new byte[features.size()];
+        for (int i = 0; i < kinds.length; i++) {
+            EStructuralFeature feature = features.get(i);
+            if (feature instanceof EReference) {
+                if (!((EReference) feature).isContainment()) {
+                    kinds[i] = REFERENCE;
+                } else if (feature.isMany()) {
+                    kinds[i] = CONTAINMENT_MANY;
+                } else {
+                    kinds[i] = CONTAINMENT;
+                }
+            } else if (feature.getEType() instanceof EEnum) {
+                kinds[i] = feature.isMany() ? ENUM_ATTRIBUTE_MANY
+                        : ENUM_ATTRIBUTE;
+            } else if (feature.isMany()) {
+                kinds[i] = ATTRIBUTE_MANY;
+            } else if (feature.getEType().getInstanceClass() == QName.class) {
+                kinds[i] = NAME_ATTRIBUTE;
+            } else {
+                kinds[i] = ATTRIBUTE;
+            }
+        }
+        return kinds;
+    }
+
+    /**
+     * The variables bound by the enclosing iterators of the nodes that are
+     * being compared or hashed, innermost last.
+     */
+    private static final class Bindings {
+
+        private QName[] names = new QName[8];
+
+        private QName[] otherNames = new QName[8];
+
+        private int size;
+
+        void push(QName name, QName otherName) {
+            if (size == names.length) {
+                QName[] newNames = new QName[size * 2];
+                System.arraycopy(names, 0, newNames, 0, size);
+                names = newNames;
+                QName[] newOtherNames = new QName[size * 2];
+                System.arraycopy(otherNames, 0, newOtherNames, 0, size);
+                otherNames = newOtherNames;
+            }
+            names[size] = name;
+            otherNames[size] = otherName;
+            size++;
+        }
+
+        /**
+         * Returns the position of the innermost binding of the name, or -1 if
+         * the variable is free.
+         */
+        int indexOf(QName name) {
+            return indexOf(names, name);
+        }
+
+        int otherIndexOf(QName name) {
+            return indexOf(otherNames, name);
+        }
+
+        private int indexOf(QName[] names, QName name) {
+            for (int i = size - 1; i >= 0; i--) {
+                if (equalNames(names[i], name)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * A tree as a key of a map, see
+     * {@link Xpath3StructuralEquality#key(EObject)}.
+     */
+    public static final class Key {
+
+        private final Xpath3StructuralEquality equality;
+
+        private final EObject expr;
+
+        private final int hashCode;
+
+        Key(Xpath3StructuralEquality equality, EObject expr) {
+            this.equality = equality;
+            this.expr = expr;
+            this.hashCode = equality.hash(expr);
+        }
+
+        public EObject getExpression() {
+            return expr;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) object;
+            return hashCode == other.hashCode
+                    && equality == other.equality
+                    && equality.equal(expr, other.expr);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
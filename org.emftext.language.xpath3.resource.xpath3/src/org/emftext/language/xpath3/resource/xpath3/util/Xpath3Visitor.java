@@ -0,0 +1,243 @@
+/**
+ * Copyright (c) 2013, 2015 Denis Nikiforov.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Denis Nikiforov - initial API and implementation
+ */
+package org.emftext.language.xpath3.resource.xpath3.util;
+
+import org.emftext.language.xpath3.AbbrevForwardStep;
+import org.emftext.language.xpath3.AbbrevReverseStep;
+import org.emftext.language.xpath3.AdditiveExpr;
+import org.emftext.language.xpath3.AndExpr;
+import org.emftext.language.xpath3.AnyItemType;
+import org.emftext.language.xpath3.AnyKindTest;
+import org.emftext.language.xpath3.AnyWildcard;
+import org.emftext.language.xpath3.AtomicItemType;
+import org.emftext.language.xpath3.AtomicType;
+import org.emftext.language.xpath3.AttributeTest;
+import org.emftext.language.xpath3.CastExpr;
+import org.emftext.language.xpath3.CastableExpr;
+import org.emftext.language.xpath3.ChildStepExpr;
+import org.emftext.language.xpath3.Comment;
+import org.emftext.language.xpath3.CommentTest;
+import org.emftext.language.xpath3.ComparisonExpr;
+import org.emftext.language.xpath3.ContextItemExpr;
+import org.emftext.language.xpath3.DecimalLiteral;
+import org.emftext.language.xpath3.DescOrSelfStepExpr;
+import org.emftext.language.xpath3.DocumentTest;
+import org.emftext.language.xpath3.DoubleLiteral;
+import org.emftext.language.xpath3.ElementTest;
+import org.emftext.language.xpath3.EmptySequenceType;
+import org.emftext.language.xpath3.Expr;
+import org.emftext.language.xpath3.FilterExpr;
+import org.emftext.language.xpath3.ForExpr;
+import org.emftext.language.xpath3.FunctionCall;
+import org.emftext.language.xpath3.GeneralComp;
+import org.emftext.language.xpath3.GeneralForwardStep;
+import org.emftext.language.xpath3.GeneralReverseStep;
+import org.emftext.language.xpath3.IfExpr;
+import org.emftext.language.xpath3.InstanceofExpr;
+import org.emftext.language.xpath3.IntegerLiteral;
+import org.emftext.language.xpath3.IntersectExceptExpr;
+import org.emftext.language.xpath3.ItemKindTest;
+import org.emftext.language.xpath3.ItemSequenceType;
+import org.emftext.language.xpath3.Iterator;
+import org.emftext.language.xpath3.LocalNameWildcard;
+import org.emftext.language.xpath3.MultiplicativeExpr;
+import org.emftext.language.xpath3.NCNamePITest;
+import org.emftext.language.xpath3.NameAttributeTest;
+import org.emftext.language.xpath3.NameElementTest;
+import org.emftext.language.xpath3.NamespaceWildcard;
+import org.emftext.language.xpath3.NodeComp;
+import org.emftext.language.xpath3.NodeKindTest;
+import org.emftext.language.xpath3.OptionalAtomicType;
+import org.emftext.language.xpath3.OrExpr;
+import org.emftext.language.xpath3.PITest;
+import org.emftext.language.xpath3.ParenthesizedExpr;
+import org.emftext.language.xpath3.PathExpr;
+import org.emftext.language.xpath3.Predicate;
+import org.emftext.language.xpath3.QNameTest;
+import org.emftext.language.xpath3.QuantifiedExpr;
+import org.emftext.language.xpath3.RangeExpr;
+import org.emftext.language.xpath3.RootStepExpr;
+import org.emftext.language.xpath3.SchemaAttributeTest;
+import org.emftext.language.xpath3.SchemaElementTest;
+import org.emftext.language.xpath3.SelfStepExpr;
+import org.emftext.language.xpath3.SingleType;
+import org.emftext.language.xpath3.StringLiteral;
+import org.emftext.language.xpath3.StringLiteralPITest;
+import org.emftext.language.xpath3.TextTest;
+import org.emftext.language.xpath3.TreatExpr;
+import org.emftext.language.xpath3.UnaryExpr;
+import org.emftext.language.xpath3.UnionExpr;
+import org.emftext.language.xpath3.ValueComp;
+import org.emftext.language.xpath3.VarRef;
+import org.emftext.language.xpath3.WildcardAttributeTest;
+import org.emftext.language.xpath3.WildcardElementTest;
+
+/**
+ * A visitor with a method for each concrete class of the metamodel. The
+ * methods get the node with its static type and a context of type
+ * <code>C</code> and return a result of type <code>R</code>.
+ * <p>
+ * {@link AbstractXpath3Visitor#visit(org.eclipse.emf.ecore.EObject, Object)}
+ * dispatches a node to its method by the classifier ID of its class.
+ * Children are visited by the methods themselves, so the traversal order and
+ * the context of each child are up to the visitor and no interpretation
+ * stack is needed.
+ *
+ * @param <R>
+ *            the result of the visit methods
+ * @param <C>
+ *            the context that is passed to the visit methods
+ */
+public interface Xpath3Visitor<R, C> {
+
+    R visitExpr(Expr expr, C context);
+
+    R visitForExpr(ForExpr forExpr, C context);
+
+    R visitQuantifiedExpr(QuantifiedExpr quantifiedExpr, C context);
+
+    R visitIfExpr(IfExpr ifExpr, C context);
+
+    R visitIterator(Iterator iterator, C context);
+
+    R visitOrExpr(OrExpr orExpr, C context);
+
+    R visitAndExpr(AndExpr andExpr, C context);
+
+    R visitComparisonExpr(ComparisonExpr comparisonExpr, C context);
+
+    R visitRangeExpr(RangeExpr rangeExpr, C context);
+
+    R visitAdditiveExpr(AdditiveExpr additiveExpr, C context);
+
+    R visitMultiplicativeExpr(MultiplicativeExpr multiplicativeExpr, C context);
+
+    R visitUnionExpr(UnionExpr unionExpr, C context);
+
+    R visitIntersectExceptExpr(
+            IntersectExceptExpr intersectExceptExpr, C context);
+
+    R visitInstanceofExpr(InstanceofExpr instanceofExpr, C context);
+
+    R visitTreatExpr(TreatExpr treatExpr, C context);
+
+    R visitCastableExpr(CastableExpr castableExpr, C context);
+
+    R visitCastExpr(CastExpr castExpr, C context);
+
+    R visitUnaryExpr(UnaryExpr unaryExpr, C context);
+
+    R visitPathExpr(PathExpr pathExpr, C context);
+
+    R visitRootStepExpr(RootStepExpr rootStepExpr, C context);
+
+    R visitChildStepExpr(ChildStepExpr childStepExpr, C context);
+
+    R visitDescOrSelfStepExpr(DescOrSelfStepExpr descOrSelfStepExpr, C context);
+
+    R visitSelfStepExpr(SelfStepExpr selfStepExpr, C context);
+
+    R visitFilterExpr(FilterExpr filterExpr, C context);
+
+    R visitGeneralForwardStep(GeneralForwardStep generalForwardStep, C context);
+
+    R visitAbbrevForwardStep(AbbrevForwardStep abbrevForwardStep, C context);
+
+    R visitGeneralReverseStep(GeneralReverseStep generalReverseStep, C context);
+
+    R visitAbbrevReverseStep(AbbrevReverseStep abbrevReverseStep, C context);
+
+    R visitNodeKindTest(NodeKindTest nodeKindTest, C context);
+
+    R visitQNameTest(QNameTest qNameTest, C context);
+
+    R visitAnyWildcard(AnyWildcard anyWildcard, C context);
+
+    R visitLocalNameWildcard(LocalNameWildcard localNameWildcard, C context);
+
+    R visitNamespaceWildcard(NamespaceWildcard namespaceWildcard, C context);
+
+    R visitPredicate(Predicate predicate, C context);
+
+    R visitVarRef(VarRef varRef, C context);
+
+    R visitParenthesizedExpr(ParenthesizedExpr parenthesizedExpr, C context);
+
+    R visitContextItemExpr(ContextItemExpr contextItemExpr, C context);
+
+    R visitFunctionCall(FunctionCall functionCall, C context);
+
+    R visitStringLiteral(StringLiteral stringLiteral, C context);
+
+    R visitIntegerLiteral(IntegerLiteral integerLiteral, C context);
+
+    R visitDecimalLiteral(DecimalLiteral decimalLiteral, C context);
+
+    R visitDoubleLiteral(DoubleLiteral doubleLiteral, C context);
+
+    R visitGeneralComp(GeneralComp generalComp, C context);
+
+    R visitValueComp(ValueComp valueComp, C context);
+
+    R visitNodeComp(NodeComp nodeComp, C context);
+
+    R visitSingleType(SingleType singleType, C context);
+
+    R visitAtomicType(AtomicType atomicType, C context);
+
+    R visitOptionalAtomicType(OptionalAtomicType optionalAtomicType, C context);
+
+    R visitEmptySequenceType(EmptySequenceType emptySequenceType, C context);
+
+    R visitItemSequenceType(ItemSequenceType itemSequenceType, C context);
+
+    R visitItemKindTest(ItemKindTest itemKindTest, C context);
+
+    R visitAnyItemType(AnyItemType anyItemType, C context);
+
+    R visitAtomicItemType(AtomicItemType atomicItemType, C context);
+
+    R visitDocumentTest(DocumentTest documentTest, C context);
+
+    R visitElementTest(ElementTest elementTest, C context);
+
+    R visitNameElementTest(NameElementTest nameElementTest, C context);
+
+    R visitWildcardElementTest(
+            WildcardElementTest wildcardElementTest, C context);
+
+    R visitAttributeTest(AttributeTest attributeTest, C context);
+
+    R visitNameAttributeTest(NameAttributeTest nameAttributeTest, C context);
+
+    R visitWildcardAttributeTest(
+            WildcardAttributeTest wildcardAttributeTest, C context);
+
+    R visitSchemaElementTest(SchemaElementTest schemaElementTest, C context);
+
+    R visitSchemaAttributeTest(
+            SchemaAttributeTest schemaAttributeTest, C context);
+
+    R visitPITest(PITest pITest, C context);
+
+    R visitNCNamePITest(NCNamePITest nCNamePITest, C context);
+
+    R visitStringLiteralPITest(
+            StringLiteralPITest stringLiteralPITest, C context);
+
+    R visitCommentTest(CommentTest commentTest, C context);
+
+    R visitTextTest(TextTest textTest, C context);
+
+    R visitAnyKindTest(AnyKindTest anyKindTest, C context);
+
+    R visitComment(Comment comment, C context);
+}
@@ -17,6 +17,14 @@ START Expr
     generateCodeFromGeneratorModel = "true";
     usePredefinedTokens = "false";
     overridePluginXML = "false";
+    overrideMetaInformation = "false";
+    overrideLocationMap = "false";
+    overrideResourceUtil = "false";
+    overrideDefaultTokenResolver = "false";
+    overrideGrammarInformationProvider = "false";
+    overrideExpectationConstants = "false";
+    overrideFollowSetProvider = "false";
+    overrideAbstractInterpreter = "false";
     ignoreTypeRestrictionsForPrinting = "true";
     licenceHeader = "licenceHeader.txt";
     editorName = "EMFText XPath 2.0 Editor";
@@ -17,7 +17,7 @@ import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.ecore.EClass;
 
 import org.eclipse.emf.ecore.impl.ENotificationImpl;
-import org.eclipse.emf.ecore.impl.EObjectImpl;
+import org.eclipse.emf.ecore.impl.MinimalEObjectImpl;
 
 import org.emftext.language.xpath3.AtomicType;
 import org.emftext.language.xpath3.XPath3Package;
@@ -35,7 +35,7 @@ import org.emftext.language.xpath3.XPath3Package;
  *
  * @generated
  */
-public class AtomicTypeImpl extends EObjectImpl implements AtomicType {
+public class AtomicTypeImpl extends MinimalEObjectImpl.Container implements AtomicType {
     /**
      * The default value of the '{@link #getName() <em>Name</em>}' attribute.
      * <!-- begin-user-doc -->
@@ -12,7 +12,7 @@ package org.emftext.language.xpath3.impl;
 
 import org.eclipse.emf.ecore.EClass;
 
-import org.eclipse.emf.ecore.impl.EObjectImpl;
+import org.eclipse.emf.ecore.impl.MinimalEObjectImpl;
 
 import org.emftext.language.xpath3.Comp;
 import org.emftext.language.xpath3.XPath3Package;
@@ -24,7 +24,7 @@ import org.emftext.language.xpath3.XPath3Package;
  *
  * @generated
  */
-public abstract class CompImpl extends EObjectImpl implements Comp {
+public abstract class CompImpl extends MinimalEObjectImpl.Container implements Comp {
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
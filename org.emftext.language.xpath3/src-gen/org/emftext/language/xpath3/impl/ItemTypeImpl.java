@@ -12,7 +12,7 @@ package org.emftext.language.xpath3.impl;
 
 import org.eclipse.emf.ecore.EClass;
 
-import org.eclipse.emf.ecore.impl.EObjectImpl;
+import org.eclipse.emf.ecore.impl.MinimalEObjectImpl;
 
 import org.emftext.language.xpath3.ItemType;
 import org.emftext.language.xpath3.XPath3Package;
@@ -24,7 +24,7 @@ import org.emftext.language.xpath3.XPath3Package;
  *
  * @generated
  */
-public abstract class ItemTypeImpl extends EObjectImpl implements ItemType {
+public abstract class ItemTypeImpl extends MinimalEObjectImpl.Container implements ItemType {
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
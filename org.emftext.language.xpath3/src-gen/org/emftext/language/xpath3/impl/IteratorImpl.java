@@ -19,7 +19,7 @@ import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.InternalEObject;
 
 import org.eclipse.emf.ecore.impl.ENotificationImpl;
-import org.eclipse.emf.ecore.impl.EObjectImpl;
+import org.eclipse.emf.ecore.impl.MinimalEObjectImpl;
 
 import org.emftext.language.xpath3.ExprSingle;
 import org.emftext.language.xpath3.Iterator;
@@ -39,7 +39,7 @@ import org.emftext.language.xpath3.XPath3Package;
  *
  * @generated
  */
-public class IteratorImpl extends EObjectImpl implements Iterator {
+public class IteratorImpl extends MinimalEObjectImpl.Container implements Iterator {
     /**
      * The default value of the '{@link #getVarName() <em>Var Name</em>}' attribute.
      * <!-- begin-user-doc -->
@@ -12,7 +12,7 @@ package org.emftext.language.xpath3.impl;
 
 import org.eclipse.emf.ecore.EClass;
 
-import org.eclipse.emf.ecore.impl.EObjectImpl;
+import org.eclipse.emf.ecore.impl.MinimalEObjectImpl;
 
 import org.emftext.language.xpath3.NodeTest;
 import org.emftext.language.xpath3.XPath3Package;
@@ -24,7 +24,7 @@ import org.emftext.language.xpath3.XPath3Package;
  *
  * @generated
  */
-public abstract class NodeTestImpl extends EObjectImpl implements NodeTest {
+public abstract class NodeTestImpl extends MinimalEObjectImpl.Container implements NodeTest {
     /**
      * <!-- begin-user-doc -->
      * <!-- end-user-doc -->
@@ -17,7 +17,7 @@ import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.ecore.EClass;
 
 import org.eclipse.emf.ecore.impl.ENotificationImpl;
-import org.eclipse.emf.ecore.impl.EObjectImpl;
+import org.eclipse.emf.ecore.impl.MinimalEObjectImpl;
 
 import org.emftext.language.xpath3.OptionalAtomicType;
 import org.emftext.language.xpath3.XPath3Package;
@@ -36,7 +36,7 @@ import org.emftext.language.xpath3.XPath3Package;
  *
  * @generated
  */
-public class OptionalAtomicTypeImpl extends EObjectImpl implements OptionalAtomicType {
+public class OptionalAtomicTypeImpl extends MinimalEObjectImpl.Container implements OptionalAtomicType {
     /**
      * The default value of the '{@link #getName() <em>Name</em>}' attribute.
      * <!-- begin-user-doc -->
@@ -17,7 +17,7 @@ import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.InternalEObject;
 
 import org.eclipse.emf.ecore.impl.ENotificationImpl;
-import org.eclipse.emf.ecore.impl.EObjectImpl;
+import org.eclipse.emf.ecore.impl.MinimalEObjectImpl;
 
 import org.emftext.language.xpath3.AnyExpr;
 import org.emftext.language.xpath3.Predicate;
@@ -36,7 +36,7 @@ import org.emftext.language.xpath3.XPath3Package;
  *
  * @generated
  */
-public class PredicateImpl extends EObjectImpl implements Predicate {
+public class PredicateImpl extends MinimalEObjectImpl.Container implements Predicate {
     /**
      * The cached value of the '{@link #getExpr() <em>Expr</em>}' containment reference.
      * <!-- begin-user-doc -->
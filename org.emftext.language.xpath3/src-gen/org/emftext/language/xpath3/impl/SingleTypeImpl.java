@@ -17,7 +17,7 @@ import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.InternalEObject;
 
 import org.eclipse.emf.ecore.impl.ENotificationImpl;
-import org.eclipse.emf.ecore.impl.EObjectImpl;
+import org.eclipse.emf.ecore.impl.MinimalEObjectImpl;
 
 import org.emftext.language.xpath3.AtomicType;
 import org.emftext.language.xpath3.SingleType;
@@ -37,7 +37,7 @@ import org.emftext.language.xpath3.XPath3Package;
  *
  * @generated
  */
-public class SingleTypeImpl extends EObjectImpl implements SingleType {
+public class SingleTypeImpl extends MinimalEObjectImpl.Container implements SingleType {
     /**
      * The cached value of the '{@link #getType() <em>Type</em>}' containment reference.
      * <!-- begin-user-doc -->